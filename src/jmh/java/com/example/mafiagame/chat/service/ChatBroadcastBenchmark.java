@@ -0,0 +1,77 @@
+package com.example.mafiagame.chat.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.web.socket.messaging.DefaultSimpUserRegistry;
+
+import com.example.mafiagame.chat.dto.ChatMessage;
+import com.example.mafiagame.chat.dto.MessageType;
+import com.example.mafiagame.game.domain.state.GamePlayerState;
+import com.example.mafiagame.game.domain.state.GameState;
+import com.example.mafiagame.game.domain.state.GameStateFixtures;
+import com.example.mafiagame.game.domain.state.PlayerRole;
+import com.example.mafiagame.global.metrics.GameMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 채팅 전송 경로 (메시지마다 호출)
+ * - 방 전체 브로드캐스트: ChatMessage → JSON 변환 → 채널 전송 (브로커 전달 비용은 제외)
+ * - 밤 마피아 채팅: 생존 마피아 필터 + 개별 전송
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatBroadcastBenchmark {
+
+    private WebSocketMessageBroadcaster broadcaster;
+    private GameState gameState;
+    private ChatMessage chatMessage;
+
+    @Setup
+    public void setUp() {
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> true);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+        broadcaster = new WebSocketMessageBroadcaster(messagingTemplate,
+                new DefaultSimpUserRegistry(), new GameMetrics(new SimpleMeterRegistry()));
+        gameState = GameStateFixtures.inProgress(12);
+        chatMessage = ChatMessage.builder()
+                .type(MessageType.CHAT)
+                .roomId("room-benchmark")
+                .roomName("벤치마크 방")
+                .senderId("user-0")
+                .senderName("플레이어0")
+                .content("3번 좀 수상한데 다들 어떻게 생각해?")
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    @Benchmark
+    public void broadcastToRoom() {
+        broadcaster.broadcastToRoom(chatMessage.getRoomId(), chatMessage);
+    }
+
+    @Benchmark
+    public void mafiaChat() {
+        for (GamePlayerState player : gameState.getPlayers()) {
+            if (player.isAlive() && player.getRole() == PlayerRole.MAFIA) {
+                broadcaster.sendPrivateMessage(player.getPlayerId(), chatMessage);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.mafiagame.game.domain.state;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * GameState 조회 헬퍼 (액션/페이즈 전환마다 호출)
+ * - findPlayer/findActivePlayer: 마지막 플레이어 조회 (인덱스 vs 선형 탐색 최악)
+ * - countAliveMafia/checkWinner: 비트셋 popcount vs 스트림 집계
+ * - getTopVotedPlayerIds: 전체 순회 + 집계
+ * - stream* 는 인덱스 도입 전 구현 (비교 기준, -PjmhProfiler=gc 로 할당량까지 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameStateBenchmark {
+
+    @Param({ "6", "12" })
+    private int players;
+
+    private GameState gameState;
+    private String lastPlayerId;
+
+    @Setup
+    public void setUp() {
+        gameState = GameStateFixtures.inProgress(players);
+        lastPlayerId = GameStateFixtures.playerId(players - 1);
+    }
+
+    @Benchmark
+    public GamePlayerState findPlayer() {
+        return gameState.findPlayer(lastPlayerId);
+    }
+
+    @Benchmark
+    public GamePlayerState findActivePlayer() {
+        return gameState.findActivePlayer(lastPlayerId);
+    }
+
+    @Benchmark
+    public long countAliveMafia() {
+        return gameState.countAliveMafia();
+    }
+
+    @Benchmark
+    public Team checkWinner() {
+        return gameState.checkWinner();
+    }
+
+    @Benchmark
+    public List<String> getTopVotedPlayerIds() {
+        return gameState.getTopVotedPlayerIds();
+    }
+
+    // ================== 인덱스 도입 전 구현 ================== //
+
+    @Benchmark
+    public GamePlayerState streamFindPlayer() {
+        return gameState.getPlayers().stream()
+                .filter(p -> p.getPlayerId().equals(lastPlayerId))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Benchmark
+    public long streamCountAliveMafia() {
+        return gameState.getPlayers().stream()
+                .filter(p -> p.isAlive() && p.getRole() == PlayerRole.MAFIA)
+                .count();
+    }
+
+    @Benchmark
+    public Team streamCheckWinner() {
+        long mafia = streamCountAliveMafia();
+        long citizen = gameState.getPlayers().stream()
+                .filter(p -> p.isAlive() && p.getRole() != PlayerRole.MAFIA)
+                .count();
+
+        if (mafia >= citizen) {
+            return Team.MAFIA;
+        }
+        if (mafia == 0) {
+            return Team.CITIZEN;
+        }
+        return null;
+    }
+}
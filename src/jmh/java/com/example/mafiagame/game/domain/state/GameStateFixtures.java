@@ -0,0 +1,71 @@
+package com.example.mafiagame.game.domain.state;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 게임 상태 생성기
+ * - 플레이어 수에 맞춰 마피아(1/4), 의사/경찰 각 1명, 나머지 시민으로 배정
+ * - 모든 생존자가 한 번씩 투표, 밤 행동은 역할별 1건씩
+ */
+public final class GameStateFixtures {
+
+    private GameStateFixtures() {
+    }
+
+    public static GameState inProgress(int playerCount) {
+        int mafiaCount = Math.max(1, playerCount / 4);
+        List<GamePlayerState> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            PlayerRole role = i < mafiaCount ? PlayerRole.MAFIA
+                    : i == mafiaCount ? PlayerRole.DOCTOR
+                    : i == mafiaCount + 1 ? PlayerRole.POLICE
+                    : PlayerRole.CITIZEN;
+            players.add(GamePlayerState.builder()
+                    .playerId(playerId(i))
+                    .playerName("플레이어" + i)
+                    .role(role)
+                    .team(role == PlayerRole.MAFIA ? Team.MAFIA : Team.CITIZEN)
+                    .build());
+        }
+
+        GameState gameState = GameState.builder()
+                .gameId("game-benchmark")
+                .roomId("room-benchmark")
+                .roomName("벤치마크 방")
+                .gamePhase(GamePhase.DAY_VOTING)
+                .currentPhase(3)
+                .phaseEndTime(System.currentTimeMillis() + 60_000)
+                .players(players)
+                .build();
+
+        for (int i = 0; i < playerCount; i++) {
+            gameState.getVotes().put(playerId(i), playerId((i * 7 + 3) % playerCount));
+        }
+        resetNight(gameState);
+        return gameState;
+    }
+
+    /**
+     * 모두 살리고 밤 행동을 다시 채움 (processNightActions 가 사망 처리하므로 호출마다 초기화)
+     */
+    public static void resetNight(GameState gameState) {
+        List<GamePlayerState> players = gameState.getPlayers();
+        gameState.getNightActions().clear();
+        for (GamePlayerState player : players) {
+            player.setAlive(true);
+            player.setDeathPhase(null);
+        }
+        gameState.reindexPlayers();
+        int target = players.size() - 1;
+        for (GamePlayerState player : players) {
+            if (player.getRole() != PlayerRole.CITIZEN) {
+                gameState.getNightActions().put(player.getPlayerId(), players.get(target).getPlayerId());
+            }
+        }
+    }
+
+    public static String playerId(int index) {
+        return "user-" + index;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.mafiagame.game.domain.state;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 낮 투표 집계 (DAY_VOTING 종료마다 호출)
+ * - 기본 방(12명)과 커스텀 대형 방 크기
+ * - tallyVotes: int[] 단일 순회 / streamTopVoted: 집계 엔진 도입 전 groupingBy 구현
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VoteTallyBenchmark {
+
+    @Param({ "12", "24", "48" })
+    private int players;
+
+    private GameState gameState;
+
+    @Setup
+    public void setUp() {
+        gameState = GameStateFixtures.inProgress(players);
+    }
+
+    @Benchmark
+    public int tallyVotes() {
+        return gameState.tallyVotes().winner();
+    }
+
+    @Benchmark
+    public List<String> topVotedPlayerIds() {
+        return gameState.getTopVotedPlayerIds();
+    }
+
+    @Benchmark
+    public List<String> streamTopVoted() {
+        Map<String, Long> counts = gameState.getVotes().values().stream()
+                .collect(Collectors.groupingBy(targetId -> targetId, Collectors.counting()));
+        long max = Collections.max(counts.values());
+        return counts.entrySet().stream()
+                .filter(e -> e.getValue() == max)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.mafiagame.game.repository;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import com.example.mafiagame.game.domain.state.GameState;
+import com.example.mafiagame.game.domain.state.GameStateFixtures;
+import com.example.mafiagame.global.config.RedisConfig;
+
+/**
+ * GameState Redis 값 직렬화 (GameStateRepository.save/findById 마다 호출)
+ * - coreRedisTemplate 과 같은 타입 정보 포함 Jackson 설정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameStateSerializationBenchmark {
+
+    @Param({ "6", "12" })
+    private int players;
+
+    private Jackson2JsonRedisSerializer<Object> serializer;
+    private GameState gameState;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        serializer = RedisConfig.typedJsonRedisSerializer();
+        gameState = GameStateFixtures.inProgress(players);
+        serialized = serializer.serialize(gameState);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(gameState);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+}
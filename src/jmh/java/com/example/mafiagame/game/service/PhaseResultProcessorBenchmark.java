@@ -0,0 +1,71 @@
+package com.example.mafiagame.game.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.web.socket.messaging.DefaultSimpUserRegistry;
+
+import com.example.mafiagame.chat.service.WebSocketMessageBroadcaster;
+import com.example.mafiagame.game.domain.state.GameState;
+import com.example.mafiagame.game.domain.state.GameStateFixtures;
+import com.example.mafiagame.game.strategy.DoctorAction;
+import com.example.mafiagame.game.strategy.MafiaAction;
+import com.example.mafiagame.game.strategy.PoliceAction;
+import com.example.mafiagame.game.strategy.RoleActionFactory;
+import com.example.mafiagame.global.metrics.GameMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 밤 행동 결과 계산 (NIGHT_ACTION 종료마다 호출)
+ * - Redis 동기화는 제외하고 전략 실행 + 마피아 대상 집계(VoteTally) + 결과 메시지 변환(JSON)까지 측정
+ * - 사망 처리로 상태가 바뀌므로 호출마다 밤 행동을 다시 채운다 (Level.Invocation)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhaseResultProcessorBenchmark {
+
+    @Param({ "6", "12" })
+    private int players;
+
+    private PhaseResultProcessor processor;
+    private GameState gameState;
+
+    @Setup
+    public void setUp() {
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate((message, timeout) -> true);
+        messagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+        processor = new PhaseResultProcessor(null, new WebSocketMessageBroadcaster(messagingTemplate,
+                new DefaultSimpUserRegistry(), new GameMetrics(new SimpleMeterRegistry())),
+                new RoleActionFactory(new MafiaAction(), new DoctorAction(), new PoliceAction()));
+        gameState = GameStateFixtures.inProgress(players);
+    }
+
+    @Setup(Level.Invocation)
+    public void resetNight() {
+        GameStateFixtures.resetNight(gameState);
+    }
+
+    @Benchmark
+    public GameState processNightActions() {
+        processor.processNightActions(gameState);
+        return gameState;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.mafiagame.game.timer;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.mafiagame.game.domain.state.GamePhase;
+
+/**
+ * 타이머 ZSET 멤버 변환 (타이머 등록/폴링마다 호출)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameTimerJobBenchmark {
+
+    private GameTimerJob job;
+    private String member;
+
+    @Setup
+    public void setUp() {
+        job = new GameTimerJob(UUID.randomUUID().toString(), GamePhase.DAY_DISCUSSION, 7,
+                UUID.randomUUID().toString());
+        member = job.toMember();
+    }
+
+    @Benchmark
+    public String toMember() {
+        return job.toMember();
+    }
+
+    @Benchmark
+    public GameTimerJob fromMember() {
+        return GameTimerJob.fromMember(member);
+    }
+}
@@ -42,7 +42,7 @@ public class ChatRoomController {
             log.error("sendMessage 실패: Principal 객체를 찾을 수 없습니다.");
             return;
         }
-        chatRoomService.processAndBroadcastMessage(chatMessage, principal.getName());
+        chatRoomService.processAndBroadcastMessage(chatMessage, principal.getName(), accessor.getSessionId());
     }
 
     /*
@@ -55,7 +55,7 @@ public class ChatRoomController {
             log.error("sendPrivateMessage 실패: Principal 객체를 찾을 수 없습니다.");
             return;
         }
-        chatRoomService.processAndPrivateMessage(chatMessage, principal.getName());
+        chatRoomService.processAndPrivateMessage(chatMessage, principal.getName(), accessor.getSessionId());
     }
 
     /*
@@ -97,7 +97,7 @@ public class ChatRoomController {
             Principal principal = (Principal) sessionAttributes.get("user");
             String userId = principal.getName();
             // log.info("WebSocket 연결 해제됨: {}", userId);
-            chatRoomService.handleDisconnect(userId);
+            chatRoomService.handleDisconnect(userId, event.getSessionId());
         }
     }
 }
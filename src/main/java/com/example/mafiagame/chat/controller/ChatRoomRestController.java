@@ -90,13 +90,15 @@ public class ChatRoomRestController {
     }
 
     @GetMapping("/search")
-    @Operation(summary = "채팅방 검색", description = "특정 키워드를 포함하는 채팅방의 목록을 조회합니다.")
+    @Operation(summary = "채팅방 검색", description = "특정 키워드를 포함하는 채팅방의 목록을 관련도 순으로 페이지 단위 조회합니다. (초성 검색 지원)")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "채팅방 검색 성공"),
             @ApiResponse(responseCode = "404", description = "채팅방 검색 실패")
     })
-    public List<RoomListResponse> searchRooms(@RequestParam String keyword) {
-        List<ChatRoom> rooms = chatRoomService.searchRooms(keyword);
+    public List<RoomListResponse> searchRooms(@RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<ChatRoom> rooms = chatRoomService.searchRooms(keyword, page, size);
         return rooms.stream().map(RoomListResponse::from).toList();
     }
 }
@@ -1,6 +1,7 @@
 package com.example.mafiagame.chat.service;
 
 import com.example.mafiagame.chat.domain.ChatRoom;
+import com.example.mafiagame.chat.domain.ChatUser;
 import com.example.mafiagame.chat.dto.ChatMessage;
 import com.example.mafiagame.chat.dto.MessageType;
 import com.example.mafiagame.chat.dto.request.CreateRoomRequest;
@@ -8,6 +9,7 @@ import com.example.mafiagame.chat.dto.request.JoinRoomRequest;
 import com.example.mafiagame.chat.dto.request.LeaveRoomRequest;
 import com.example.mafiagame.game.domain.entity.Game;
 import com.example.mafiagame.game.domain.state.GamePhase;
+import com.example.mafiagame.game.domain.state.GamePlayerState;
 import com.example.mafiagame.game.domain.state.GameState;
 import com.example.mafiagame.game.domain.state.PlayerRole;
 import com.example.mafiagame.game.repository.GameStateRepository;
@@ -15,22 +17,25 @@ import com.example.mafiagame.game.service.GameQueryService;
 import com.example.mafiagame.game.service.SuggestionService;
 import com.example.mafiagame.global.error.CommonException;
 import com.example.mafiagame.global.error.ErrorCode;
+import com.example.mafiagame.global.lock.DistributedLocks;
+import com.example.mafiagame.global.lock.LockContentionTracker;
+import com.example.mafiagame.global.lock.LockFamily;
+import com.example.mafiagame.global.metrics.GameMetrics;
 import com.example.mafiagame.global.service.RedisService;
 import com.example.mafiagame.user.domain.Users;
 import com.example.mafiagame.user.service.UserService;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
-import java.util.concurrent.TimeUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Service
@@ -43,12 +48,12 @@ public class ChatRoomService {
     private final SuggestionService suggestionService;
     private final GameStateRepository gameStateRepository;
     private final StringRedisTemplate stringRedisTemplate;
-    private final RedissonClient redissonClient;
+    private final DistributedLocks locks;
     private final RedisService redisService;
+    private final RoomSearchService roomSearchService;
+    private final GameMetrics gameMetrics;
 
     private static final String CHAT_LOG_PREFIX = "chat:logs:";
-    private static final String ROOM_LOCK_PREFIX = "lock:room:";
-    private static final String USER_ROOM_LOCK_PREFIX = "lock:user-room:";
     private static final int AI_GENERATION_MSG_COUNT = 10;
     private static final int MAX_MESSAGE_LENGTH = 500;
 
@@ -64,27 +69,39 @@ public class ChatRoomService {
             GameStateRepository gameStateRepository,
             @Qualifier("supportStringRedisTemplate") StringRedisTemplate stringRedisTemplate,
             @Qualifier("supportRedissonClient") RedissonClient redissonClient,
-            RedisService redisService) {
+            RedisService redisService,
+            RoomSearchService roomSearchService,
+            GameMetrics gameMetrics,
+            LockContentionTracker lockContentionTracker) {
         this.userService = userService;
         this.gameQueryService = gameQueryService;
         this.messageBroadcaster = messageBroadcaster;
         this.suggestionService = suggestionService;
         this.gameStateRepository = gameStateRepository;
         this.stringRedisTemplate = stringRedisTemplate;
-        this.redissonClient = redissonClient;
+        this.locks = new DistributedLocks(redissonClient, lockContentionTracker);
         this.redisService = redisService;
+        this.roomSearchService = roomSearchService;
+        this.gameMetrics = gameMetrics;
     }
 
     // ================== 메시지 처리 ================== //
 
     public void processAndBroadcastMessage(ChatMessage chatMessage, String senderId) {
+        processAndBroadcastMessage(chatMessage, senderId, null);
+    }
+
+    /**
+     * sessionId 가 있으면 세션 로컬 캐시로 방을 확인 (메시지마다 user_session HGET 생략)
+     */
+    public void processAndBroadcastMessage(ChatMessage chatMessage, String senderId, String sessionId) {
         if (chatMessage == null) {
             log.warn("[sendMessage] payload is null: userId={}", senderId);
             sendErrorMessageToUser(senderId, "메시지 형식이 올바르지 않습니다.");
             return;
         }
 
-        ChatRoom room = resolveRoomForUser(chatMessage.getRoomId(), senderId, "메시지 전송");
+        ChatRoom room = resolveRoomForUser(chatMessage.getRoomId(), senderId, sessionId, "메시지 전송");
         if (room == null) {
             return;
         }
@@ -122,14 +139,20 @@ public class ChatRoomService {
                 chatMessage.setType(MessageType.MAFIA_CHAT);
 
                 // 생존한 마피아들에게만 개별 전송
-                gameState.getPlayers().stream()
-                        .filter(p -> p.isAlive() && p.getRole() == PlayerRole.MAFIA)
-                        .forEach(mafia -> messageBroadcaster.sendPrivateMessage(mafia.getPlayerId(), chatMessage));
+                int recipients = 0;
+                for (GamePlayerState player : gameState.getPlayers()) {
+                    if (player.isAlive() && player.getRole() == PlayerRole.MAFIA) {
+                        messageBroadcaster.sendPrivateMessage(player.getPlayerId(), chatMessage);
+                        recipients++;
+                    }
+                }
+                gameMetrics.recordBroadcastFanout("mafia", recipients);
                 return;
             }
         }
 
         messageBroadcaster.broadcastToRoom(chatMessage.getRoomId(), chatMessage);
+        gameMetrics.recordBroadcastFanout("room", room.getParticipants().size());
 
         // 채팅 로그 버퍼에 추가 (10개 모이면 Redis에 일괄 저장 + AI 호출)
         bufferAndFlushChatLog(chatMessage.getRoomId(), chatMessage.getSenderName(), chatMessage.getContent());
@@ -197,13 +220,17 @@ public class ChatRoomService {
     }
 
     public void processAndPrivateMessage(ChatMessage chatMessage, String senderId) {
+        processAndPrivateMessage(chatMessage, senderId, null);
+    }
+
+    public void processAndPrivateMessage(ChatMessage chatMessage, String senderId, String sessionId) {
         if (chatMessage == null) {
             log.warn("[sendPrivateMessage] payload is null: userId={}", senderId);
             sendErrorMessageToUser(senderId, "메시지 형식이 올바르지 않습니다.");
             return;
         }
 
-        ChatRoom room = resolveRoomForUser(chatMessage.getRoomId(), senderId, "개인 메시지 전송");
+        ChatRoom room = resolveRoomForUser(chatMessage.getRoomId(), senderId, sessionId, "개인 메시지 전송");
         if (room == null) {
             return;
         }
@@ -272,13 +299,8 @@ public class ChatRoomService {
             return;
         }
 
-        String userLockKey = USER_ROOM_LOCK_PREFIX + request.userId();
-        String lockKey = ROOM_LOCK_PREFIX + roomId;
-        RLock userLock = redissonClient.getLock(userLockKey);
-        RLock lock = redissonClient.getLock(lockKey);
-
-        try {
-            if (!userLock.tryLock(5, 10, TimeUnit.SECONDS)) {
+        try (DistributedLocks.Handle userLock = locks.tryLock(LockFamily.USER_ROOM, request.userId())) {
+            if (userLock == null) {
                 log.warn("[userJoin] 유저 락 획득 실패: roomId={}, userId={}", roomId, request.userId());
                 sendErrorMessageToUser(request.userId(), "잠시 후 다시 시도해주세요.");
                 return;
@@ -290,51 +312,45 @@ public class ChatRoomService {
                 return;
             }
 
-            if (!lock.tryLock(5, 10, TimeUnit.SECONDS)) {
-                log.warn("[userJoin] 락 획득 실패: roomId={}, userId={}", roomId, request.userId());
-                sendErrorMessageToUser(request.userId(), "잠시 후 다시 시도해주세요.");
-                return;
-            }
-
-            ChatRoom room = getRoom(roomId);
-            if (room == null) {
-                sendErrorMessageToUser(request.userId(), "채팅방이 존재하지 않습니다.");
-                return;
-            }
+            try (DistributedLocks.Handle lock = locks.tryLock(LockFamily.ROOM, roomId)) {
+                if (lock == null) {
+                    log.warn("[userJoin] 락 획득 실패: roomId={}, userId={}", roomId, request.userId());
+                    sendErrorMessageToUser(request.userId(), "잠시 후 다시 시도해주세요.");
+                    return;
+                }
 
-            if (room.isParticipant(request.userId())) {
-                redisService.saveUserSession(request.userId(), roomId, null);
-                return;
-            }
+                ChatRoom room = getRoom(roomId);
+                if (room == null) {
+                    sendErrorMessageToUser(request.userId(), "채팅방이 존재하지 않습니다.");
+                    return;
+                }
 
-            Users user = userService.getUserByLoginId(request.userId());
-            boolean added = room.addParticipant(request.toParticipant(user));
-            if (!added) {
-                sendErrorMessageToUser(request.userId(), "채팅방이 가득 찼거나 이미 참여 중입니다.");
-                return;
-            }
+                if (room.isParticipant(request.userId())) {
+                    redisService.saveUserSession(request.userId(), roomId, null);
+                    return;
+                }
 
-            saveRoom(room);
+                Users user = userService.getUserByLoginId(request.userId());
+                boolean added = room.addParticipant(request.toParticipant(user));
+                if (!added) {
+                    sendErrorMessageToUser(request.userId(), "채팅방이 가득 찼거나 이미 참여 중입니다.");
+                    return;
+                }
 
-            // 유저 세션 정보 업데이트
-            redisService.saveUserSession(request.userId(), roomId, null);
+                saveRoom(room);
 
-            String content = createJoinMessage(user, room.getHostId().equals(user.getUserLoginId()));
-            ChatMessage joinMessage = ChatMessage.userJoined(room, content);
+                // 유저 세션 정보 업데이트
+                redisService.saveUserSession(request.userId(), roomId, null);
 
-            messageBroadcaster.broadcastToRoom(roomId, joinMessage);
-            messageBroadcaster.notifyRoomListUpdated();
+                String content = createJoinMessage(user, room.getHostId().equals(user.getUserLoginId()));
+                ChatMessage joinMessage = ChatMessage.userJoined(room, content);
 
+                messageBroadcaster.broadcastToRoom(roomId, joinMessage);
+                messageBroadcaster.notifyRoomListUpdated();
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("[userJoin] 인터럽트 발생: roomId={}", roomId, e);
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
-            if (userLock.isHeldByCurrentThread()) {
-                userLock.unlock();
-            }
         }
     }
 
@@ -352,11 +368,8 @@ public class ChatRoomService {
             return;
         }
 
-        String lockKey = ROOM_LOCK_PREFIX + roomId;
-        RLock lock = redissonClient.getLock(lockKey);
-
-        try {
-            if (!lock.tryLock(5, 10, TimeUnit.SECONDS)) {
+        try (DistributedLocks.Handle lock = locks.tryLock(LockFamily.ROOM, roomId)) {
+            if (lock == null) {
                 log.warn("[userLeave] 락 획득 실패: roomId={}, userId={}", roomId, request.userId());
                 sendErrorMessageToUser(request.userId(), "잠시 후 다시 시도해주세요.");
                 return;
@@ -400,28 +413,111 @@ public class ChatRoomService {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("[userLeave] 인터럽트 발생: roomId={}", roomId, e);
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
+        }
+    }
+
+    // ================== 매칭 ================== //
+
+    /**
+     * 매칭된 플레이어로 새 방 생성 (첫 번째 플레이어가 방장)
+     * 이미 다른 방에 있는 플레이어는 제외하며, 남은 플레이어가 없으면 null
+     */
+    public ChatRoom createMatchedRoom(String roomName, List<ChatUser> players, int maxPlayers) {
+        List<ChatUser> available = players.stream()
+                .filter(player -> redisService.getUserRoomId(player.getUserId()) == null)
+                .toList();
+        if (available.isEmpty()) {
+            return null;
+        }
+
+        ChatUser host = available.get(0);
+        host.assignAsHost();
+        ChatRoom room = ChatRoom.builder()
+                .roomId(UUID.randomUUID().toString())
+                .roomName(roomName)
+                .hostId(host.getUserId())
+                .hostName(host.getUserName())
+                .maxPlayers(maxPlayers)
+                .build();
+        available.forEach(room::addParticipant);
+        saveRoom(room);
+
+        available.forEach(player -> redisService.saveUserSession(player.getUserId(), room.getRoomId(), null));
+        messageBroadcaster.notifyRoomListUpdated();
+        return room;
+    }
+
+    /**
+     * 매칭된 플레이어를 기존 방에 일괄 추가 (방 저장 1회)
+     *
+     * @return 정원 초과/방 없음/게임 진행 중으로 입장하지 못한 플레이어 (재대기 대상)
+     */
+    public List<ChatUser> addMatchedPlayers(String roomId, List<ChatUser> players) {
+        try (DistributedLocks.Handle lock = locks.tryLock(LockFamily.ROOM, roomId)) {
+            if (lock == null) {
+                log.warn("[addMatchedPlayers] 락 획득 실패: roomId={}", roomId);
+                return players;
+            }
+
+            ChatRoom room = getRoom(roomId);
+            if (room == null || gameQueryService.getActiveGameByRoomId(roomId) != null) {
+                return players;
             }
+
+            List<ChatUser> joined = new ArrayList<>();
+            List<ChatUser> rejected = new ArrayList<>();
+            for (ChatUser player : players) {
+                String currentRoomId = redisService.getUserRoomId(player.getUserId());
+                if (currentRoomId != null && !currentRoomId.equals(roomId)) {
+                    continue; // 대기 중 직접 다른 방에 입장한 경우 매칭 제외
+                }
+                if (room.addParticipant(player)) {
+                    joined.add(player);
+                } else if (!room.isParticipant(player.getUserId())) {
+                    rejected.add(player);
+                }
+            }
+
+            if (!joined.isEmpty()) {
+                saveRoom(room);
+                for (ChatUser player : joined) {
+                    redisService.saveUserSession(player.getUserId(), roomId, null);
+                    messageBroadcaster.broadcastToRoom(roomId,
+                            ChatMessage.userJoined(room, player.getUserName() + "님이 입장하였습니다."));
+                }
+                messageBroadcaster.notifyRoomListUpdated();
+            }
+            return rejected;
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[addMatchedPlayers] 인터럽트 발생: roomId={}", roomId, e);
+            return players;
         }
     }
 
     // 방 저장
     private void saveRoom(ChatRoom room) {
         redisService.saveChatRoom(room);
+        roomSearchService.indexRoom(room);
     }
 
     // 방 삭제
     private void deleteRoom(String roomId) {
         redisService.deleteChatRoom(roomId);
+        roomSearchService.removeRoom(roomId);
         // 채팅 로그도 함께 삭제
         stringRedisTemplate.delete(CHAT_LOG_PREFIX + roomId);
         clearChatLogBuffer(roomId);
     }
 
     public void handleDisconnect(String userId) {
-        // 효율적인 세션 기반 조회로 변경 (keys 전수 조사 제거)
+        handleDisconnect(userId, null);
+    }
+
+    public void handleDisconnect(String userId, String sessionId) {
+        // 퇴장 여부를 결정하므로 세션 로컬 캐시 대신 Redis 에서 직접 조회 (keys 전수 조사 없이 user_session HGET)
+        redisService.releaseWebSocketSession(sessionId);
         String roomId = redisService.getUserRoomId(userId);
         if (roomId == null)
             return;
@@ -463,16 +559,12 @@ public class ChatRoomService {
     // ================== 헬퍼 메소드 ================== //
 
     /**
-     * 키워드로 채팅방 검색
+     * 키워드로 채팅방 검색 (로컬 n-gram 색인 → 해당 페이지 방만 MGET)
      */
-    public List<ChatRoom> searchRooms(String keyword) {
-        if (keyword == null || keyword.trim().isEmpty()) {
-            return getAllRooms();
-        }
-
-        String lowerKeyword = keyword.toLowerCase();
-        return getAllRooms().stream()
-                .filter(room -> room.getRoomName().toLowerCase().contains(lowerKeyword))
+    public List<ChatRoom> searchRooms(String keyword, int page, int size) {
+        List<String> roomIds = roomSearchService.search(keyword, page, size);
+        return redisService.getChatRooms(roomIds).stream()
+                .filter(Objects::nonNull)
                 .toList();
     }
 
@@ -500,9 +592,9 @@ public class ChatRoomService {
         return true;
     }
 
-    private ChatRoom resolveRoomForUser(String requestedRoomId, String userId, String action) {
+    private ChatRoom resolveRoomForUser(String requestedRoomId, String userId, String sessionId, String action) {
         String normalizedRequest = normalizeValue(requestedRoomId);
-        String sessionRoomId = redisService.getUserRoomId(userId);
+        String sessionRoomId = redisService.getUserRoomId(userId, sessionId);
         String resolvedRoomId = sessionRoomId != null ? sessionRoomId : normalizedRequest;
 
         if (resolvedRoomId == null) {
@@ -0,0 +1,293 @@
+package com.example.mafiagame.chat.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 방 이름 n-gram 역색인 (노드 로컬 메모리)
+ * - 정규화: NFC + 소문자 + 공백 제거 ("마피아 게임" == "마피아게임")
+ * - 1-gram/2-gram 포스팅으로 후보를 좁힌 뒤 indexOf 로 최종 확인
+ * - 초성만 입력한 경우("ㅁㅍㅇ") 초성 문자열 색인으로 검색
+ */
+public class RoomNameIndex {
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_FIRST = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSEONG_JONGSEONG_COUNT = 21 * 28;
+    private static final char JAMO_CONSONANT_FIRST = 'ㄱ';
+    private static final char JAMO_CONSONANT_LAST = 'ㅎ';
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final int INITIAL_HEAP_CAPACITY = 256;
+
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_CONTAINS = 2;
+
+    private static final Comparator<Match> MATCH_ORDER = Comparator
+            .comparingInt(Match::rank)
+            .thenComparingInt(Match::position)
+            .thenComparingInt(Match::length)
+            .thenComparing(Match::roomId);
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<String, Set<String>> gramIndex = new HashMap<>();
+    private final Map<String, Set<String>> choseongIndex = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private record Entry(String roomId, String normalized, String choseong) {
+    }
+
+    private record Match(String roomId, int rank, int position, int length) {
+    }
+
+    /**
+     * 방 추가/이름 변경
+     *
+     * @return 색인 내용이 바뀌었으면 true (같은 이름으로 재저장하면 false)
+     */
+    public boolean upsert(String roomId, String roomName) {
+        String normalized = normalize(roomName);
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.get(roomId);
+            if (previous != null && previous.normalized().equals(normalized)) {
+                return false;
+            }
+            if (previous != null) {
+                unindex(previous);
+            }
+            Entry entry = new Entry(roomId, normalized, toChoseong(normalized));
+            entries.put(roomId, entry);
+            addPostings(gramIndex, entry.normalized(), roomId);
+            addPostings(choseongIndex, entry.choseong(), roomId);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 방 제거
+     *
+     * @return 색인에 있던 방이면 true
+     */
+    public boolean remove(String roomId) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(roomId);
+            if (previous == null) {
+                return false;
+            }
+            unindex(previous);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Set<String> roomIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(entries.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드 검색 (정확히 일치 > 접두 일치 > 부분 일치, 이후 일치 위치/이름 길이 순)
+     * 전체 정렬 대신 offset + limit 크기의 힙으로 상위 K개만 유지
+     */
+    public List<String> search(String keyword, int offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            return List.of();
+        }
+
+        String query = normalize(keyword);
+        boolean choseongQuery = isChoseongOnly(query);
+        int topK = offset + limit;
+        PriorityQueue<Match> top = new PriorityQueue<>(Math.min(topK, INITIAL_HEAP_CAPACITY),
+                MATCH_ORDER.reversed());
+
+        lock.readLock().lock();
+        try {
+            for (Entry entry : candidates(query, choseongQuery)) {
+                String target = choseongQuery ? entry.choseong() : entry.normalized();
+                int position = target.indexOf(query);
+                if (position < 0) {
+                    continue;
+                }
+                Match match = new Match(entry.roomId(), rank(target, query, position), position, target.length());
+                if (top.size() < topK) {
+                    top.offer(match);
+                } else if (MATCH_ORDER.compare(match, top.peek()) < 0) {
+                    top.poll();
+                    top.offer(match);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> ranked = new ArrayList<>(top);
+        ranked.sort(MATCH_ORDER);
+        if (offset >= ranked.size()) {
+            return List.of();
+        }
+        return ranked.subList(offset, ranked.size()).stream()
+                .map(Match::roomId)
+                .toList();
+    }
+
+    // ================== 내부 구현 ================== //
+
+    /**
+     * 쿼리 n-gram 중 포스팅이 가장 작은 집합을 후보로 사용 (호출자가 read lock 보유)
+     */
+    private Collection<Entry> candidates(String query, boolean choseongQuery) {
+        if (query.isEmpty()) {
+            return entries.values();
+        }
+
+        Map<String, Set<String>> postings = choseongQuery ? choseongIndex : gramIndex;
+        Set<String> smallest = null;
+        for (String gram : queryGrams(query)) {
+            Set<String> roomIds = postings.get(gram);
+            if (roomIds == null) {
+                return List.of();
+            }
+            if (smallest == null || roomIds.size() < smallest.size()) {
+                smallest = roomIds;
+            }
+        }
+
+        List<Entry> result = new ArrayList<>(smallest.size());
+        for (String roomId : smallest) {
+            result.add(entries.get(roomId));
+        }
+        return result;
+    }
+
+    private void unindex(Entry entry) {
+        removePostings(gramIndex, entry.normalized(), entry.roomId());
+        removePostings(choseongIndex, entry.choseong(), entry.roomId());
+    }
+
+    private static void addPostings(Map<String, Set<String>> postings, String value, String roomId) {
+        for (String gram : indexGrams(value)) {
+            postings.computeIfAbsent(gram, k -> new HashSet<>()).add(roomId);
+        }
+    }
+
+    private static void removePostings(Map<String, Set<String>> postings, String value, String roomId) {
+        for (String gram : indexGrams(value)) {
+            Set<String> roomIds = postings.get(gram);
+            if (roomIds == null) {
+                continue;
+            }
+            roomIds.remove(roomId);
+            if (roomIds.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * 색인용 n-gram: 모든 1-gram + 2-gram (한 글자 검색도 포스팅으로 처리)
+     */
+    private static Set<String> indexGrams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < value.length(); i++) {
+            grams.add(value.substring(i, i + 1));
+            if (i + 1 < value.length()) {
+                grams.add(value.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색용 n-gram: 한 글자면 1-gram, 그 외에는 2-gram 만 사용
+     */
+    private static Set<String> queryGrams(String query) {
+        if (query.length() == 1) {
+            return Set.of(query);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static int rank(String target, String query, int position) {
+        if (position == 0 && target.length() == query.length()) {
+            return RANK_EXACT;
+        }
+        return position == 0 ? RANK_PREFIX : RANK_CONTAINS;
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(value, Normalizer.Form.NFC);
+        return WHITESPACE.matcher(composed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 완성형 한글 음절을 초성으로 치환 (그 외 문자는 그대로 유지)
+     */
+    static String toChoseong(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+                builder.append(CHOSEONG[(c - HANGUL_FIRST) / JUNGSEONG_JONGSEONG_COUNT]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isChoseongOnly(String query) {
+        if (query.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c < JAMO_CONSONANT_FIRST || c > JAMO_CONSONANT_LAST) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.mafiagame.chat.service;
+
+import com.example.mafiagame.chat.domain.ChatRoom;
+import com.example.mafiagame.global.service.RedisService;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 방 이름 검색 서비스
+ * - 검색은 노드 로컬 RoomNameIndex 로 처리 (키 입력마다 전체 방 GET 제거)
+ * - 방 생성/이름 변경/삭제는 support Redis Pub/Sub 으로 다른 노드 색인에 전파
+ * - Pub/Sub 유실은 room_list 기준 주기적 재동기화로 보정
+ */
+@Service
+@Slf4j
+public class RoomSearchService implements MessageListener {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private static final String INDEX_CHANNEL = "chatroom:index:events";
+    private static final String EVENT_UPSERT = "U";
+    private static final String EVENT_REMOVE = "D";
+    private static final String DELIMITER = "|";
+
+    private final RoomNameIndex index = new RoomNameIndex();
+    private final RedisService redisService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    public RoomSearchService(
+            RedisService redisService,
+            @Qualifier("supportStringRedisTemplate") StringRedisTemplate stringRedisTemplate,
+            @Qualifier("supportRedisMessageListenerContainer") RedisMessageListenerContainer listenerContainer) {
+        this.redisService = redisService;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INDEX_CHANNEL));
+    }
+
+    // ================== 색인 갱신 ================== //
+
+    /**
+     * 방 저장 시 호출 (이름이 바뀐 경우에만 전파)
+     */
+    public void indexRoom(ChatRoom room) {
+        if (index.upsert(room.getRoomId(), room.getRoomName())) {
+            publish(EVENT_UPSERT + DELIMITER + room.getRoomId() + DELIMITER + room.getRoomName());
+        }
+    }
+
+    /**
+     * 방 삭제 시 호출
+     */
+    public void removeRoom(String roomId) {
+        if (index.remove(roomId)) {
+            publish(EVENT_REMOVE + DELIMITER + roomId);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 3);
+        if (EVENT_UPSERT.equals(parts[0]) && parts.length == 3) {
+            index.upsert(parts[1], parts[2]);
+        } else if (EVENT_REMOVE.equals(parts[0]) && parts.length >= 2) {
+            index.remove(parts[1]);
+        } else {
+            log.warn("[RoomSearch] 알 수 없는 색인 이벤트: {}", body);
+        }
+    }
+
+    /**
+     * room_list 기준으로 로컬 색인 재동기화 (기동 시 + 주기적)
+     * - 전체 방을 multiGet 으로 읽어 누락된 방 추가 + 유실된 이름 변경 반영 (같은 이름이면 upsert 가 무시)
+     * - 제거는 Redis 조회 전에 찍어 둔 로컬 스냅샷에 있던 방만 대상으로 해, 조회 도중 생성된 방을 지우지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${mafiagame.chat.search.reconcile-interval-ms:60000}",
+            initialDelayString = "${mafiagame.chat.search.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            Set<String> localRoomIds = index.roomIds();
+            Set<String> redisRoomIds = redisService.getAllRoomIds();
+
+            long upserted = redisService.getChatRooms(List.copyOf(redisRoomIds)).stream()
+                    .filter(Objects::nonNull)
+                    .filter(room -> index.upsert(room.getRoomId(), room.getRoomName()))
+                    .count();
+
+            long removed = localRoomIds.stream()
+                    .filter(roomId -> !redisRoomIds.contains(roomId))
+                    .filter(index::remove)
+                    .count();
+
+            if (upserted > 0 || removed > 0) {
+                log.info("[RoomSearch] 색인 재동기화: upserted={}, removed={}, total={}", upserted, removed,
+                        index.size());
+            }
+        } catch (Exception e) {
+            log.error("[RoomSearch] 색인 재동기화 실패", e);
+        }
+    }
+
+    // ================== 검색 ================== //
+
+    /**
+     * 키워드 검색 결과의 roomId 목록 (랭킹순, 페이지 단위)
+     */
+    public List<String> search(String keyword, int page, int size) {
+        int safePage = Math.max(page, 0);
+        int safeSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return index.search(keyword, safePage * safeSize, safeSize);
+    }
+
+    private void publish(String event) {
+        try {
+            stringRedisTemplate.convertAndSend(INDEX_CHANNEL, event);
+        } catch (Exception e) {
+            // 다른 노드는 다음 재동기화 주기에 반영됨
+            log.warn("[RoomSearch] 색인 이벤트 발행 실패: {}", event, e);
+        }
+    }
+}
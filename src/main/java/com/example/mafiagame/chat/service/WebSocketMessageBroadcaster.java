@@ -2,26 +2,44 @@ package com.example.mafiagame.chat.service;
 
 import com.example.mafiagame.chat.dto.ChatMessage;
 import com.example.mafiagame.game.domain.state.Team;
+import com.example.mafiagame.global.metrics.GameMetrics;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class WebSocketMessageBroadcaster {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final GameMetrics gameMetrics;
+
+    public WebSocketMessageBroadcaster(SimpMessagingTemplate messagingTemplate, SimpUserRegistry userRegistry,
+            GameMetrics gameMetrics) {
+        this.messagingTemplate = messagingTemplate;
+        this.gameMetrics = gameMetrics;
+        gameMetrics.gaugeWebSocketSessions(() -> countSessions(userRegistry));
+    }
+
+    private static int countSessions(SimpUserRegistry userRegistry) {
+        int sessions = 0;
+        for (SimpUser user : userRegistry.getUsers()) {
+            sessions += user.getSessions().size();
+        }
+        return sessions;
+    }
 
     /**
      * 특정 방의 모든 사용자에게 메시지 전송
      */
     public void broadcastToRoom(String roomId, Object message) {
         messagingTemplate.convertAndSend("/topic/room." + roomId, message);
+        gameMetrics.recordMessage("room");
     }
 
     /**
@@ -29,6 +47,7 @@ public class WebSocketMessageBroadcaster {
      */
     public void notifyRoomListUpdated() {
         messagingTemplate.convertAndSend("/topic/rooms", Map.of("type", "ROOM_LIST_UPDATED"));
+        gameMetrics.recordMessage("rooms");
     }
 
     /**
@@ -48,6 +67,7 @@ public class WebSocketMessageBroadcaster {
         try {
             String destination = "/topic/private." + userId;
             messagingTemplate.convertAndSend(destination, message);
+            gameMetrics.recordMessage("user");
             log.info("[sendToUser] 전송 완료: userId={}, dest={}", userId, destination);
         } catch (Exception e) {
             log.error("개인 메시지 전송 실패: userId={}, error: {}", userId, e.getMessage());
@@ -0,0 +1,67 @@
+package com.example.mafiagame.game.actor;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게임 하나의 명령 메일박스 (넣은 순서대로 한 번에 하나씩 실행)
+ * - 게임마다 스레드를 두지 않고 공유 executor 에서 메일박스가 빌 때까지 이어서 실행
+ * - 한 번에 MAX_BATCH 개까지만 실행한 뒤 다시 제출해 한 게임이 실행 스레드를 오래 붙잡지 않게 함
+ */
+@Slf4j
+final class GameActor {
+
+    private static final int MAX_BATCH = 32;
+
+    private final Executor executor;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    GameActor(Executor executor) {
+        this.executor = executor;
+    }
+
+    void tell(Runnable command) {
+        mailbox.add(command);
+        schedule();
+    }
+
+    /**
+     * 대기 중이거나 실행 중인 명령이 없음
+     */
+    boolean isIdle() {
+        return !scheduled.get() && mailbox.isEmpty();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < MAX_BATCH; i++) {
+                Runnable command = mailbox.poll();
+                if (command == null) {
+                    break;
+                }
+                try {
+                    command.run();
+                } catch (Exception e) {
+                    log.error("[GameActor] 명령 실행 실패", e);
+                }
+            }
+        } finally {
+            scheduled.set(false);
+            // 내려놓는 사이 들어온 명령이 있으면 이어서 실행
+            if (!mailbox.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.mafiagame.game.actor;
+
+/**
+ * 소유 노드의 GameActor 에서 실행할 게임 명령 (다른 노드로 전달할 때 JSON 으로 직렬화)
+ *
+ * @param playerId 투표/행동/시간 조절을 요청한 플레이어
+ * @param targetId 투표/행동 대상 또는 최종 투표 선택값
+ * @param seconds  시간 조절 초 (UPDATE_TIME)
+ */
+public record GameCommand(Type type, String gameId, String playerId, String targetId, int seconds) {
+
+    public enum Type {
+        ADVANCE_PHASE,
+        VOTE,
+        FINAL_VOTE,
+        NIGHT_ACTION,
+        UPDATE_TIME,
+        RECOVER_TIMER
+    }
+
+    public static GameCommand advancePhase(String gameId) {
+        return new GameCommand(Type.ADVANCE_PHASE, gameId, null, null, 0);
+    }
+
+    public static GameCommand vote(String gameId, String voterId, String targetId) {
+        return new GameCommand(Type.VOTE, gameId, voterId, targetId, 0);
+    }
+
+    public static GameCommand finalVote(String gameId, String voterId, String voteChoice) {
+        return new GameCommand(Type.FINAL_VOTE, gameId, voterId, voteChoice, 0);
+    }
+
+    public static GameCommand nightAction(String gameId, String actorId, String targetId) {
+        return new GameCommand(Type.NIGHT_ACTION, gameId, actorId, targetId, 0);
+    }
+
+    public static GameCommand updateTime(String gameId, String playerId, int seconds) {
+        return new GameCommand(Type.UPDATE_TIME, gameId, playerId, null, seconds);
+    }
+
+    public static GameCommand recoverTimer(String gameId) {
+        return new GameCommand(Type.RECOVER_TIMER, gameId, null, null, 0);
+    }
+}
@@ -0,0 +1,339 @@
+package com.example.mafiagame.game.actor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.mafiagame.chat.service.WebSocketMessageBroadcaster;
+import com.example.mafiagame.game.service.GameService;
+import com.example.mafiagame.game.service.RedisTimerService;
+import com.example.mafiagame.global.metrics.GameMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게임 명령 라우터 (진행 중 게임의 상태 변경은 모두 여기를 거친다)
+ * - 게임 ID 의 소유 노드(GameOwnership)에서 게임별 GameActor 가 명령을 하나씩 순서대로 실행
+ * - 이 노드가 소유자면 로컬 메일박스에 넣고, 아니면 support Redis Pub/Sub 으로 소유 노드에 보내 응답을 기다림
+ * - 같은 게임의 명령이 동시에 실행되지 않으므로 페이즈 전환/투표/시간 조절에 게임 단위 분산 락을 잡지 않는다
+ *
+ * <p>소유 노드가 죽으면 임대(lease-ms)가 끝날 때까지 그 게임 명령은 실패한다.
+ * 타이머는 processing lease 만료 후 다시 실행되고, 투표/행동은 플레이어에게 ERROR 를 보내 다시 보내게 한다.</p>
+ *
+ * <p>게임 상태 저장 직전에 소유권을 다시 확인하지만 펜싱 토큰은 아니다.
+ * 확인과 저장 사이에 clock-skew-ms 보다 긴 정지가 있으면 새 소유 노드의 쓰기와 겹칠 수 있다.</p>
+ */
+@Service
+@Slf4j
+public class GameCommandRouter implements MessageListener {
+
+    private static final String COMMAND_CHANNEL_PREFIX = "game:commands:";
+    private static final String REPLY_CHANNEL_PREFIX = "game:replies:";
+    private static final int MAX_ROUTE_ATTEMPTS = 3;
+    private static final long ROUTE_RETRY_DELAY_MILLIS = 200;
+    private static final String UNDELIVERED_MESSAGE = "요청이 반영되지 않았습니다. 잠시 후 다시 시도해주세요.";
+
+    /**
+     * APPLIED/REJECTED 는 명령의 결과, 나머지는 실행하지 못한 이유
+     */
+    enum Result {
+        APPLIED, REJECTED, NOT_OWNER, UNREACHABLE, FAILED
+    }
+
+    record CommandRequest(String requestId, String replyTo, GameCommand command) {
+    }
+
+    record CommandReply(String requestId, Result result) {
+    }
+
+    private final GameService gameService;
+    private final RedisTimerService redisTimerService;
+    private final GameOwnership gameOwnership;
+    private final GameMetrics gameMetrics;
+    private final WebSocketMessageBroadcaster messageBroadcaster;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Duration askTimeout;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("game-actor-", 0).factory());
+    private final Map<String, GameActor> actors = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Result>> pendingReplies = new ConcurrentHashMap<>();
+
+    public GameCommandRouter(
+            GameService gameService,
+            RedisTimerService redisTimerService,
+            GameOwnership gameOwnership,
+            GameMetrics gameMetrics,
+            WebSocketMessageBroadcaster messageBroadcaster,
+            @Qualifier("supportStringRedisTemplate") StringRedisTemplate stringRedisTemplate,
+            @Qualifier("supportRedisMessageListenerContainer") RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${mafiagame.game.actor.ask-timeout-ms:10000}") long askTimeoutMillis) {
+        this.gameService = gameService;
+        this.redisTimerService = redisTimerService;
+        this.gameOwnership = gameOwnership;
+        this.gameMetrics = gameMetrics;
+        this.messageBroadcaster = messageBroadcaster;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.askTimeout = Duration.ofMillis(askTimeoutMillis);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        String nodeId = gameOwnership.nodeId();
+        listenerContainer.addMessageListener(this, List.of(
+                new ChannelTopic(COMMAND_CHANNEL_PREFIX + nodeId),
+                new ChannelTopic(REPLY_CHANNEL_PREFIX + nodeId)));
+    }
+
+    // ================== 명령 ================== //
+
+    /**
+     * @return 처리되어 타이머를 ack 해도 되면 true (소유 노드에 닿지 못하면 false 로 재시도)
+     */
+    public boolean advancePhase(String gameId) {
+        return ask(GameCommand.advancePhase(gameId));
+    }
+
+    public boolean updateTime(String gameId, String playerId, int seconds) {
+        return ask(GameCommand.updateTime(gameId, playerId, seconds));
+    }
+
+    /**
+     * @return 누락된 타이머를 복구해 등록한 경우에만 true
+     */
+    public boolean recoverTimer(String gameId) {
+        return ask(GameCommand.recoverTimer(gameId));
+    }
+
+    public void vote(String gameId, String voterId, String targetId) {
+        tell(GameCommand.vote(gameId, voterId, targetId));
+    }
+
+    public void finalVote(String gameId, String voterId, String voteChoice) {
+        tell(GameCommand.finalVote(gameId, voterId, voteChoice));
+    }
+
+    public void nightAction(String gameId, String actorId, String targetId) {
+        tell(GameCommand.nightAction(gameId, actorId, targetId));
+    }
+
+    private boolean ask(GameCommand command) {
+        try {
+            return route(command, 1).get(askTimeout.toMillis(), TimeUnit.MILLISECONDS) == Result.APPLIED;
+        } catch (TimeoutException e) {
+            log.warn("[GameCommandRouter] 명령 응답 시간 초과: type={}, gameId={}", command.type(), command.gameId());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            log.error("[GameCommandRouter] 명령 처리 실패: type={}, gameId={}", command.type(), command.gameId(),
+                    e.getCause());
+            return false;
+        }
+    }
+
+    /**
+     * 투표/행동처럼 응답을 기다리지 않는 명령 (결과는 소유 노드가 WebSocket 으로 알림)
+     * - 소유 노드에 닿지 못했거나 처리 중 실패하면 보낸 플레이어에게 ERROR 를 보내 다시 보내게 함
+     */
+    private void tell(GameCommand command) {
+        route(command, 1).whenComplete((result, e) -> {
+            if (e == null && (result == Result.APPLIED || result == Result.REJECTED)) {
+                return;
+            }
+            log.warn("[GameCommandRouter] 명령 전달 실패: type={}, gameId={}, result={}",
+                    command.type(), command.gameId(), result, e);
+            try {
+                messageBroadcaster.sendError(command.playerId(), UNDELIVERED_MESSAGE);
+            } catch (Exception sendFailure) {
+                log.warn("[GameCommandRouter] 실패 알림 전송 실패: playerId={}", command.playerId(), sendFailure);
+            }
+        });
+    }
+
+    private CompletableFuture<Result> route(GameCommand command, int attempt) {
+        long start = System.nanoTime();
+        String owner;
+        try {
+            owner = gameOwnership.ownerOf(command.gameId());
+        } catch (Exception e) {
+            log.warn("[GameCommandRouter] 소유 노드 조회 실패: gameId={}", command.gameId(), e);
+            return CompletableFuture.completedFuture(Result.UNREACHABLE);
+        }
+
+        boolean local = gameOwnership.nodeId().equals(owner);
+        CompletableFuture<Result> result = local ? applyLocally(command) : sendToOwner(owner, command);
+        return result.thenCompose(r -> {
+            gameMetrics.recordGameCommand(command.type().name(), local ? "local" : "remote",
+                    r.name().toLowerCase(), System.nanoTime() - start);
+            if (r != Result.NOT_OWNER || attempt >= MAX_ROUTE_ATTEMPTS) {
+                return CompletableFuture.completedFuture(r);
+            }
+            // 소유권이 막 옮겨간 경우: 잠시 후 소유 노드를 다시 조회
+            return CompletableFuture.runAsync(() -> {
+            }, CompletableFuture.delayedExecutor(ROUTE_RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS, executor))
+                    .thenCompose(ignored -> route(command, attempt + 1));
+        });
+    }
+
+    // ================== 로컬 실행 ================== //
+
+    private CompletableFuture<Result> applyLocally(GameCommand command) {
+        String gameId = command.gameId();
+        try {
+            if (!gameOwnership.acquire(gameId)) {
+                return CompletableFuture.completedFuture(Result.NOT_OWNER);
+            }
+        } catch (Exception e) {
+            log.warn("[GameCommandRouter] 소유권 획득 실패: gameId={}", gameId, e);
+            return CompletableFuture.completedFuture(Result.UNREACHABLE);
+        }
+
+        CompletableFuture<Result> result = new CompletableFuture<>();
+        // 액터 생성/정리와 메일박스 넣기를 같은 map 연산 안에서 해 한 게임에 액터가 둘 생기지 않게 함
+        actors.compute(gameId, (id, actor) -> {
+            GameActor target = actor != null ? actor : new GameActor(executor);
+            target.tell(() -> result.complete(apply(command)));
+            return target;
+        });
+        return result;
+    }
+
+    private Result apply(GameCommand command) {
+        String gameId = command.gameId();
+        // 임대가 끊긴 뒤 메일박스에 남아 있던 명령은 새 소유 노드가 처리하도록 돌려보냄
+        if (!gameOwnership.isOwnedLocally(gameId)) {
+            return Result.NOT_OWNER;
+        }
+        try {
+            boolean applied = switch (command.type()) {
+                case ADVANCE_PHASE -> gameService.advancePhase(gameId);
+                case VOTE -> {
+                    gameService.vote(gameId, command.playerId(), command.targetId());
+                    yield true;
+                }
+                case FINAL_VOTE -> {
+                    gameService.finalVote(gameId, command.playerId(), command.targetId());
+                    yield true;
+                }
+                case NIGHT_ACTION -> {
+                    gameService.nightAction(gameId, command.playerId(), command.targetId());
+                    yield true;
+                }
+                case UPDATE_TIME -> gameService.updateTime(gameId, command.playerId(), command.seconds());
+                case RECOVER_TIMER -> redisTimerService.recoverMissingTimer(gameService.getGameState(gameId));
+            };
+            return applied ? Result.APPLIED : Result.REJECTED;
+        } catch (Exception e) {
+            log.error("[GameActor] 명령 처리 실패: type={}, gameId={}", command.type(), gameId, e);
+            return Result.FAILED;
+        }
+    }
+
+    /**
+     * 소유권이 없는 게임의 한가한 액터 정리
+     */
+    @Scheduled(fixedDelayString = "${mafiagame.game.actor.evict-delay-ms:30000}")
+    public void evictIdleActors() {
+        for (String gameId : actors.keySet()) {
+            if (!gameOwnership.isOwnedLocally(gameId)) {
+                actors.computeIfPresent(gameId, (id, actor) -> actor.isIdle() ? null : actor);
+            }
+        }
+    }
+
+    // ================== 노드 간 전달 ================== //
+
+    private CompletableFuture<Result> sendToOwner(String owner, GameCommand command) {
+        String requestId = UUID.randomUUID().toString();
+        CompletableFuture<Result> reply = new CompletableFuture<>();
+        pendingReplies.put(requestId, reply);
+        try {
+            String body = objectMapper.writeValueAsString(
+                    new CommandRequest(requestId, gameOwnership.nodeId(), command));
+            Long receivers = stringRedisTemplate.convertAndSend(COMMAND_CHANNEL_PREFIX + owner, body);
+            if (receivers == null || receivers == 0) {
+                // 구독자가 없으면 하트비트가 아직 만료되지 않은 죽은 노드
+                pendingReplies.remove(requestId);
+                return CompletableFuture.completedFuture(Result.UNREACHABLE);
+            }
+        } catch (Exception e) {
+            pendingReplies.remove(requestId);
+            log.warn("[GameCommandRouter] 명령 전달 실패: owner={}, gameId={}", owner, command.gameId(), e);
+            return CompletableFuture.completedFuture(Result.UNREACHABLE);
+        }
+        return reply.orTimeout(askTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> Result.UNREACHABLE)
+                .whenComplete((result, e) -> pendingReplies.remove(requestId));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        try {
+            if (channel.startsWith(REPLY_CHANNEL_PREFIX)) {
+                CommandReply reply = objectMapper.readValue(message.getBody(), CommandReply.class);
+                CompletableFuture<Result> pending = pendingReplies.remove(reply.requestId());
+                if (pending != null) {
+                    pending.complete(reply.result());
+                }
+                return;
+            }
+
+            CommandRequest request = objectMapper.readValue(message.getBody(), CommandRequest.class);
+            applyLocally(request.command()).whenComplete((result, e) -> reply(request,
+                    e != null ? Result.FAILED : result));
+        } catch (Exception e) {
+            log.warn("[GameCommandRouter] 메시지 처리 실패: channel={}", channel, e);
+        }
+    }
+
+    private void reply(CommandRequest request, Result result) {
+        try {
+            stringRedisTemplate.convertAndSend(REPLY_CHANNEL_PREFIX + request.replyTo(),
+                    objectMapper.writeValueAsString(new CommandReply(request.requestId(), result)));
+        } catch (Exception e) {
+            // 요청한 노드는 ask-timeout-ms 후 실패로 처리
+            log.warn("[GameCommandRouter] 응답 전송 실패: requestId={}", request.requestId(), e);
+        }
+    }
+
+    /**
+     * 실행 중인 명령을 마친 뒤 GameOwnership 이 임대를 반납하도록 먼저 종료
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+}
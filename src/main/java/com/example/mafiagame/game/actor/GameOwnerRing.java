@@ -0,0 +1,76 @@
+package com.example.mafiagame.game.actor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 게임 ID -> 소유 노드 일관 해시 링 (불변, 멤버가 바뀌면 새로 만든다)
+ * - 노드마다 virtualNodes 개의 점을 찍어 게임이 고르게 나뉘도록 함
+ * - 노드 하나가 빠지면 그 노드의 게임만 링의 다음 노드로 옮겨가고 나머지 게임의 소유자는 그대로
+ */
+final class GameOwnerRing {
+
+    private static final GameOwnerRing EMPTY = new GameOwnerRing(new TreeMap<>(), Set.of());
+
+    private final NavigableMap<Long, String> points;
+    private final Set<String> nodes;
+
+    private GameOwnerRing(NavigableMap<Long, String> points, Set<String> nodes) {
+        this.points = points;
+        this.nodes = nodes;
+    }
+
+    static GameOwnerRing of(Collection<String> nodeIds, int virtualNodes) {
+        if (nodeIds.isEmpty()) {
+            return EMPTY;
+        }
+        NavigableMap<Long, String> points = new TreeMap<>();
+        for (String nodeId : nodeIds) {
+            for (int i = 0; i < virtualNodes; i++) {
+                // 해시 충돌 시 ID 가 작은 노드가 점을 가져가도록 해 노드마다 같은 링이 만들어지게 함
+                points.merge(hash(nodeId + "#" + i), nodeId, (a, b) -> a.compareTo(b) <= 0 ? a : b);
+            }
+        }
+        return new GameOwnerRing(points, Set.copyOf(nodeIds));
+    }
+
+    /**
+     * @return 게임을 맡을 노드, 링이 비어 있으면 null
+     */
+    String ownerOf(String gameId) {
+        if (points.isEmpty()) {
+            return null;
+        }
+        Map.Entry<Long, String> entry = points.ceilingEntry(hash(gameId));
+        return entry != null ? entry.getValue() : points.firstEntry().getValue();
+    }
+
+    boolean contains(String nodeId) {
+        return nodes.contains(nodeId);
+    }
+
+    boolean hasSameNodes(Collection<String> nodeIds) {
+        return nodes.size() == nodeIds.size() && nodes.containsAll(nodeIds);
+    }
+
+    /**
+     * FNV-1a 64 + murmur3 finalizer (String.hashCode 는 비슷한 UUID 끼리 값이 몰림)
+     */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.mafiagame.game.actor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.mafiagame.global.metrics.GameMetrics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게임 소유 노드 관리 (core Redis)
+ * - game:nodes ZSET 에 노드별 마지막 하트비트 시각을 기록하고, node-ttl-ms 안에 하트비트한 노드로 일관 해시 링을 만든다
+ * - 소유권은 game:owner:{gameId} 임대 키 (값 = nodeId, lease-ms 마다 만료)로 표시하고 하트비트마다 연장
+ * - 이미 살아 있는 노드가 가진 게임은 링이 바뀌어도 옮기지 않는다 (새 노드는 새 게임부터 맡음)
+ * - 소유 노드가 죽으면 임대가 만료된 뒤 링의 다음 노드가 첫 명령에서 가져간다
+ *
+ * <p>로컬 소유 여부는 임대 연장 요청을 보낸 시각 + lease-ms - clock-skew-ms 까지로 본다.
+ * 연장이 끊긴 노드는 Redis 임대보다 먼저 명령 처리를 멈추므로 두 노드가 같은 게임을 동시에 처리하지 않는다.
+ * 단, 펜싱 토큰이 없으므로 확인 뒤 clock-skew-ms 보다 오래 멈춘 쓰기까지 막지는 못한다.</p>
+ */
+@Component
+@Slf4j
+public class GameOwnership {
+
+    private static final String NODES_KEY = "game:nodes";
+    private static final String LEASE_KEY_PREFIX = "game:owner:";
+
+    // 비어 있으면 가져가고, 이미 내 임대면 연장
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local owner = redis.call('GET', KEYS[1]) "
+                    + "if not owner then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1 end "
+                    + "if owner == ARGV[1] then redis.call('PEXPIRE', KEYS[1], ARGV[2]) return 1 end "
+                    + "return 0",
+            Long.class);
+    private static final String RENEW_LUA = "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0";
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long leaseMillis;
+    private final long nodeTtlMillis;
+    private final long clockSkewMillis;
+    private final int virtualNodes;
+
+    /** 게임 ID -> 이 노드 기준 소유 만료 시각 */
+    private final Map<String, Long> leases = new ConcurrentHashMap<>();
+    private volatile GameOwnerRing ring;
+
+    public GameOwnership(
+            @Qualifier("coreStringRedisTemplate") StringRedisTemplate stringRedisTemplate,
+            @Value("${mafiagame.game.owner.lease-ms:6000}") long leaseMillis,
+            @Value("${mafiagame.game.owner.node-ttl-ms:6000}") long nodeTtlMillis,
+            @Value("${mafiagame.game.owner.clock-skew-ms:500}") long clockSkewMillis,
+            @Value("${mafiagame.game.owner.virtual-nodes:64}") int virtualNodes,
+            GameMetrics gameMetrics) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.leaseMillis = leaseMillis;
+        this.nodeTtlMillis = nodeTtlMillis;
+        this.clockSkewMillis = clockSkewMillis;
+        this.virtualNodes = virtualNodes;
+        // 첫 하트비트 전에는 자기 자신만 있는 링
+        this.ring = GameOwnerRing.of(List.of(nodeId), virtualNodes);
+        gameMetrics.gaugeOwnedGames(leases::size);
+    }
+
+    @PostConstruct
+    void join() {
+        heartbeat();
+    }
+
+    /**
+     * 하트비트 + 멤버 갱신 + 소유 게임 임대 연장 (heartbeat-ms 는 lease-ms 의 1/3 이하로 둔다)
+     */
+    @Scheduled(fixedDelayString = "${mafiagame.game.owner.heartbeat-ms:2000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            stringRedisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+            stringRedisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, Double.NEGATIVE_INFINITY,
+                    now - nodeTtlMillis);
+            Set<String> liveNodes = stringRedisTemplate.opsForZSet().rangeByScore(NODES_KEY, now - nodeTtlMillis,
+                    Double.POSITIVE_INFINITY);
+            if (liveNodes != null && !liveNodes.isEmpty() && !ring.hasSameNodes(liveNodes)) {
+                ring = GameOwnerRing.of(liveNodes, virtualNodes);
+                log.info("[GameOwnership] 노드 구성 변경: nodes={}, self={}", liveNodes.size(), nodeId);
+            }
+        } catch (Exception e) {
+            log.warn("[GameOwnership] 하트비트 실패: nodeId={}", nodeId, e);
+        }
+        renewLeases();
+    }
+
+    /**
+     * 명령을 보낼 노드: 살아 있는 노드의 임대가 있으면 그 노드, 없으면 링이 정한 노드
+     */
+    public String ownerOf(String gameId) {
+        if (isOwnedLocally(gameId)) {
+            return nodeId;
+        }
+        GameOwnerRing current = ring;
+        String owner = stringRedisTemplate.opsForValue().get(leaseKey(gameId));
+        if (owner != null && current.contains(owner)) {
+            return owner;
+        }
+        String preferred = current.ownerOf(gameId);
+        return preferred != null ? preferred : nodeId;
+    }
+
+    /**
+     * 이 노드가 게임을 맡는다 (임대가 비어 있거나 이미 이 노드 것일 때만)
+     *
+     * @return 이 노드가 소유자이면 true, 다른 노드의 임대가 남아 있으면 false
+     */
+    public boolean acquire(String gameId) {
+        if (isOwnedLocally(gameId)) {
+            return true;
+        }
+        long requestedAt = System.currentTimeMillis();
+        Long claimed = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(leaseKey(gameId)),
+                nodeId, String.valueOf(leaseMillis));
+        if (!Long.valueOf(1).equals(claimed)) {
+            return false;
+        }
+        leases.put(gameId, localDeadline(requestedAt));
+        log.info("[GameOwnership] 게임 소유 시작: gameId={}, nodeId={}", gameId, nodeId);
+        return true;
+    }
+
+    public boolean isOwnedLocally(String gameId) {
+        Long deadline = leases.get(gameId);
+        return deadline != null && deadline > System.currentTimeMillis();
+    }
+
+    /**
+     * 게임 종료 시 임대 반납
+     */
+    public void release(String gameId) {
+        if (leases.remove(gameId) == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(gameId)), nodeId);
+        } catch (Exception e) {
+            // 반납에 실패해도 lease-ms 후 만료됨
+            log.warn("[GameOwnership] 임대 반납 실패: gameId={}", gameId, e);
+        }
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 정상 종료 시 임대와 멤버십을 바로 내려놓아 다른 노드가 만료를 기다리지 않고 이어받게 함
+     */
+    @PreDestroy
+    void leave() {
+        for (String gameId : new ArrayList<>(leases.keySet())) {
+            release(gameId);
+        }
+        try {
+            stringRedisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        } catch (Exception e) {
+            log.warn("[GameOwnership] 노드 제거 실패: nodeId={}", nodeId, e);
+        }
+    }
+
+    private void renewLeases() {
+        if (leases.isEmpty()) {
+            return;
+        }
+        List<String> gameIds = new ArrayList<>(leases.keySet());
+        byte[] script = RENEW_LUA.getBytes(StandardCharsets.UTF_8);
+        byte[] owner = nodeId.getBytes(StandardCharsets.UTF_8);
+        byte[] lease = String.valueOf(leaseMillis).getBytes(StandardCharsets.UTF_8);
+        long requestedAt = System.currentTimeMillis();
+
+        List<Object> results;
+        try {
+            // 게임 수만큼 왕복하지 않도록 한 번에 파이프라인으로 연장
+            results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String gameId : gameIds) {
+                    evalRenew(connection, script, leaseKey(gameId).getBytes(StandardCharsets.UTF_8), owner, lease);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            // 연장하지 못한 게임은 로컬 만료 시각이 지나면 명령을 받지 않음
+            log.warn("[GameOwnership] 임대 연장 실패: games={}", gameIds.size(), e);
+            return;
+        }
+
+        long deadline = localDeadline(requestedAt);
+        for (int i = 0; i < gameIds.size(); i++) {
+            String gameId = gameIds.get(i);
+            if (Long.valueOf(1).equals(results.get(i))) {
+                leases.computeIfPresent(gameId, (id, current) -> deadline);
+            } else if (leases.remove(gameId) != null) {
+                log.warn("[GameOwnership] 게임 소유권 상실: gameId={}, nodeId={}", gameId, nodeId);
+            }
+        }
+    }
+
+    private static void evalRenew(RedisConnection connection, byte[] script, byte[] key, byte[] owner,
+            byte[] lease) {
+        connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1, key, owner, lease);
+    }
+
+    private long localDeadline(long requestedAt) {
+        return requestedAt + leaseMillis - clockSkewMillis;
+    }
+
+    private static String leaseKey(String gameId) {
+        return LEASE_KEY_PREFIX + gameId;
+    }
+}
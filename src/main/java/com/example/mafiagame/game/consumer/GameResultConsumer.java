@@ -0,0 +1,64 @@
+package com.example.mafiagame.game.consumer;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.example.mafiagame.game.service.GameResultWriter;
+import com.example.mafiagame.kafka.config.KafkaTopics;
+import com.example.mafiagame.kafka.event.GameEndedEvent;
+import com.example.mafiagame.kafka.support.BatchTransactionExecutor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게임 종료 Kafka Consumer.
+ *
+ * <p>
+ * game.ended 이벤트를 배치 단위로 받아 게임 종료 표시와 유저 전적을 한 트랜잭션으로 반영한다.
+ * 게임 종료 시점에는 DB 를 건드리지 않고 아웃박스에 이벤트만 기록한다 (GameService#endGame).
+ * </p>
+ */
+@Component
+@Profile("!test")
+@Slf4j
+@RequiredArgsConstructor
+public class GameResultConsumer {
+
+    private static final String GROUP_ID = "game-result-group";
+
+    private final GameResultWriter gameResultWriter;
+    private final BatchTransactionExecutor batchTransactionExecutor;
+
+    /**
+     * 게임 종료 이벤트 배치 처리.
+     *
+     * <p>
+     * 실패 시 배치 전체가 재시도되며, 이미 반영된 게임은 Writer 에서 건너뛴다.
+     * </p>
+     */
+    @KafkaListener(topics = KafkaTopics.GAME_ENDED, groupId = GROUP_ID,
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleGameEnded(List<ConsumerRecord<String, GameEndedEvent>> records, Acknowledgment ack) {
+        List<GameEndedEvent> events = records.stream()
+                .map(ConsumerRecord::value)
+                .filter(Objects::nonNull)
+                .toList();
+
+        try {
+            int applied = batchTransactionExecutor.executeBatchOnce(GROUP_ID, events,
+                    GameEndedEvent::getEventId, gameResultWriter::apply);
+            ack.acknowledge();
+            log.debug("[Consumer] 게임 종료 배치 처리: records={}, applied={}", records.size(), applied);
+        } catch (Exception e) {
+            log.error("[Consumer] 게임 종료 배치 처리 실패: records={}", records.size(), e);
+            throw e;
+        }
+    }
+}
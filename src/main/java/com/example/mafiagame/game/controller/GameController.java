@@ -1,5 +1,6 @@
 package com.example.mafiagame.game.controller;
 
+import com.example.mafiagame.game.actor.GameCommandRouter;
 import com.example.mafiagame.game.domain.entity.Game;
 import com.example.mafiagame.game.domain.state.GamePhase;
 import com.example.mafiagame.game.domain.state.GameState;
@@ -44,6 +45,7 @@ import java.util.Map;
 public class GameController {
 
     private final GameService gameService;
+    private final GameCommandRouter gameCommandRouter;
     private final SuggestionService suggestionService;
     private final ChatRoomService chatRoomService;
 
@@ -108,7 +110,7 @@ public class GameController {
         Principal principal = getPrincipal(accessor);
         if (principal == null)
             return;
-        gameService.vote(payload.get("gameId"), principal.getName(), payload.get("targetId"));
+        gameCommandRouter.vote(payload.get("gameId"), principal.getName(), payload.get("targetId"));
     }
 
     @MessageMapping("/game.finalVote")
@@ -122,7 +124,7 @@ public class GameController {
         Principal principal = getPrincipal(accessor);
         if (principal == null)
             return;
-        gameService.finalVote(payload.get("gameId"), principal.getName(), payload.get("voteChoice"));
+        gameCommandRouter.finalVote(payload.get("gameId"), principal.getName(), payload.get("voteChoice"));
     }
 
     @MessageMapping("/game.nightAction")
@@ -136,7 +138,7 @@ public class GameController {
         Principal principal = getPrincipal(accessor);
         if (principal == null)
             return;
-        gameService.nightAction(payload.get("gameId"), principal.getName(), payload.get("targetId"));
+        gameCommandRouter.nightAction(payload.get("gameId"), principal.getName(), payload.get("targetId"));
     }
 
     @GetMapping("/{gameId}/status")
@@ -192,7 +194,7 @@ public class GameController {
             return ResponseEntity.badRequest().body(Map.of("success", false, "message", "요청 값이 올바르지 않습니다."));
         }
 
-        boolean success = gameService.updateTime(gameId, principal.getName(), secondsNumber.intValue());
+        boolean success = gameCommandRouter.updateTime(gameId, principal.getName(), secondsNumber.intValue());
         if (success) {
             return ResponseEntity.ok(Map.of("success", true, "message", "시간이 조절되었습니다."));
         }
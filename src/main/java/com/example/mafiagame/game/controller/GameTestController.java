@@ -1,6 +1,6 @@
 package com.example.mafiagame.game.controller;
 
-import com.example.mafiagame.game.service.GameService;
+import com.example.mafiagame.game.actor.GameCommandRouter;
 import com.example.mafiagame.game.service.RedisTimerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -17,14 +17,14 @@ import java.util.Map;
 @Slf4j
 public class GameTestController {
 
-    private final GameService gameService;
+    private final GameCommandRouter gameCommandRouter;
     private final RedisTimerService timerService;
 
     @PostMapping("/{gameId}/advance")
     @Operation(summary = "강제 페이즈 진행", description = "[테스트] 게임 페이즈를 강제로 다음으로 진행시킵니다.")
     public void advancePhase(@PathVariable String gameId) {
         log.info("[테스트] 강제 페이즈 진행 요청: gameId={}", gameId);
-        gameService.advancePhase(gameId);
+        gameCommandRouter.advancePhase(gameId);
     }
 
     @PostMapping("/timer/start")
@@ -1,21 +1,35 @@
 package com.example.mafiagame.game.domain.entity;
 
 import com.example.mafiagame.game.domain.state.PlayerRole;
+import com.example.mafiagame.game.domain.state.Team;
 import com.example.mafiagame.user.domain.Users;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * 게임 참가자 이력
+ * - 생성 시 참가자만 저장하고, 역할/팀/사망 페이즈/승패는 게임 종료 시 일괄 반영
+ *   (GamePlayerJdbcRepository, multi-row INSERT)
+ */
 @Entity
+@Table(name = "game_player",
+        uniqueConstraints = @UniqueConstraint(name = "uk_game_player_game_user", columnNames = { "game_id", "user_id" }),
+        indexes = @Index(name = "idx_game_player_user_game", columnList = "user_id, game_id"))
 @Getter
 @Setter
 @Builder
@@ -36,9 +50,18 @@ public class GamePlayer {
 
     private PlayerRole role;
 
+    @Enumerated(EnumType.STRING)
+    private Team team;
+
     @Builder.Default
     private boolean isAlive = true;
 
+    // 사망한 페이즈 번호 (생존 시 null)
+    private Integer deathPhase;
+
+    // 게임 종료 전에는 null
+    private Boolean isWinner;
+
     public String getPlayerName() {
         return this.user != null ? this.user.getNickname() : "Unknown";
     }
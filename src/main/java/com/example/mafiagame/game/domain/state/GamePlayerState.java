@@ -4,6 +4,7 @@ import java.io.Serializable;
 
 import com.example.mafiagame.chat.domain.ChatUser;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,14 +22,21 @@ public class GamePlayerState implements Serializable {
     private String playerId;
     private String playerName;
 
+    // 마피아 비트셋과 함께 바뀌어야 하므로 GameState#assignRole 로만 변경
     @Builder.Default
+    @Setter(AccessLevel.PACKAGE)
     private PlayerRole role = null;
     @Builder.Default
     private Team team = null;
 
+    // 생존 비트셋과 함께 바뀌어야 하므로 GameState#killPlayer 로만 변경
     @Builder.Default
+    @Setter(AccessLevel.PACKAGE)
     private boolean isAlive = true;
 
+    // 사망한 페이즈 번호 (생존 시 null)
+    private Integer deathPhase;
+
     public static GamePlayerState from(ChatUser chatUser) {
         return GamePlayerState.builder()
                 .playerId(chatUser.getUserId())
@@ -36,4 +44,9 @@ public class GamePlayerState implements Serializable {
                 .isAlive(true)
                 .build();
     }
+
+    void die(int currentPhase) {
+        this.isAlive = false;
+        this.deathPhase = currentPhase;
+    }
 }
@@ -5,12 +5,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Collections;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -18,9 +16,7 @@ import lombok.Setter;
 
 @Getter
 @Setter
-@Builder
 @NoArgsConstructor
-@AllArgsConstructor
 public class GameState implements Serializable {
     private static final long serialVersionUID = 1L;
 
@@ -28,49 +24,129 @@ public class GameState implements Serializable {
     private String roomId;
     private String roomName;
 
-    @Builder.Default
     private GameStatus status = GameStatus.IN_PROGRESS;
 
-    @Builder.Default
     private GamePhase gamePhase = GamePhase.NIGHT_ACTION;
 
-    @Builder.Default
     private int currentPhase = 1;
 
     private Long phaseEndTime;
 
     private String votedPlayerId;
 
-    @Builder.Default
     private List<GamePlayerState> players = new ArrayList<>();
 
     // 투표: voterId → targetId
-    @Builder.Default
     private Map<String, String> votes = new HashMap<>();
 
     // 최종 투표: voterId → "AGREE" or "DISAGREE"
-    @Builder.Default
     private Map<String, String> finalVotes = new HashMap<>();
 
     // 밤 행동: actorId → targetId
-    @Builder.Default
     private Map<String, String> nightActions = new HashMap<>();
 
-    @Builder.Default
     private Map<String, Boolean> votingTimeExtensionsUsed = new HashMap<>();
 
+    // 조회 인덱스 (playerId → 위치, 생존/마피아 비트셋)
+    // 저장하지 않음 → 역직렬화 후 첫 조회 때 players 로부터 다시 생성
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient PlayerIndex playerIndex;
+
+    /**
+     * 빌더 전용 생성자 (조회 인덱스는 받지 않음, 지정하지 않은 값은 필드 기본값 유지)
+     */
+    @Builder
+    private GameState(String gameId, String roomId, String roomName, GameStatus status, GamePhase gamePhase,
+            Integer currentPhase, Long phaseEndTime, String votedPlayerId, List<GamePlayerState> players,
+            Map<String, String> votes, Map<String, String> finalVotes, Map<String, String> nightActions,
+            Map<String, Boolean> votingTimeExtensionsUsed) {
+        this.gameId = gameId;
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.phaseEndTime = phaseEndTime;
+        this.votedPlayerId = votedPlayerId;
+        if (status != null) {
+            this.status = status;
+        }
+        if (gamePhase != null) {
+            this.gamePhase = gamePhase;
+        }
+        if (currentPhase != null) {
+            this.currentPhase = currentPhase;
+        }
+        if (players != null) {
+            this.players = players;
+        }
+        if (votes != null) {
+            this.votes = votes;
+        }
+        if (finalVotes != null) {
+            this.finalVotes = finalVotes;
+        }
+        if (nightActions != null) {
+            this.nightActions = nightActions;
+        }
+        if (votingTimeExtensionsUsed != null) {
+            this.votingTimeExtensionsUsed = votingTimeExtensionsUsed;
+        }
+    }
+
+    public void setPlayers(List<GamePlayerState> players) {
+        this.players = players;
+        this.playerIndex = null;
+    }
+
+    // ================== 상태 변경 ================== //
+
+    /**
+     * 플레이어 사망 처리 (생존 비트셋 함께 갱신)
+     */
+    public void killPlayer(GamePlayerState player, int phase) {
+        player.die(phase);
+        int index = index().indexOf(player.getPlayerId());
+        if (index >= 0) {
+            playerIndex.setAlive(index, false);
+        }
+    }
+
+    /**
+     * 직업 배정 (마피아 비트셋 함께 갱신)
+     */
+    public void assignRole(GamePlayerState player, PlayerRole role) {
+        player.setRole(role);
+        int index = index().indexOf(player.getPlayerId());
+        if (index >= 0) {
+            playerIndex.setMafia(index, role == PlayerRole.MAFIA);
+        }
+    }
+
+    /**
+     * 같은 패키지에서 killPlayer/assignRole 을 거치지 않고 플레이어 상태를 직접 바꾼 뒤 호출 (벤치마크 초기화 등)
+     */
+    public void reindexPlayers() {
+        playerIndex = null;
+    }
+
+    private PlayerIndex index() {
+        if (playerIndex == null || !playerIndex.isFor(players)) {
+            playerIndex = PlayerIndex.of(players);
+        }
+        return playerIndex;
+    }
+
     // ================== 헬퍼 메서드 ================== //
 
     public boolean isPlayerAlive(String playerId) {
-        return players.stream()
-                .anyMatch(p -> p.getPlayerId().equals(playerId) && p.isAlive());
+        PlayerIndex index = index();
+        int position = index.indexOf(playerId);
+        return position >= 0 && index.isAlive(position);
     }
 
     public GamePlayerState findPlayer(String playerId) {
-        return players.stream()
-                .filter(p -> p.getPlayerId().equals(playerId))
-                .findFirst()
-                .orElse(null);
+        int position = index().indexOf(playerId);
+        return position >= 0 ? players.get(position) : null;
     }
 
     public boolean canPlayerChat(String playerId) {
@@ -101,20 +177,18 @@ public class GameState implements Serializable {
     }
 
     public long countAliveMafia() {
-        return players.stream()
-                .filter(p -> p.isAlive() && p.getRole() == PlayerRole.MAFIA)
-                .count();
+        return index().aliveMafiaCount();
     }
 
     public long countAliveCitizen() {
-        return players.stream()
-                .filter(p -> p.isAlive() && p.getRole() != PlayerRole.MAFIA)
-                .count();
+        PlayerIndex index = index();
+        return index.aliveCount() - index.aliveMafiaCount();
     }
 
     public Team checkWinner() {
-        long mafia = countAliveMafia();
-        long citizen = countAliveCitizen();
+        PlayerIndex index = index();
+        int mafia = index.aliveMafiaCount();
+        int citizen = index.aliveCount() - mafia;
 
         if (mafia >= citizen) {
             return Team.MAFIA;
@@ -125,24 +199,44 @@ public class GameState implements Serializable {
         return null;
     }
 
-    @JsonIgnore
-    public List<String> getTopVotedPlayerIds() {
-        if (votes == null || votes.isEmpty()) {
-            return new ArrayList<>();
-        }
+    public int indexOfPlayer(String playerId) {
+        return index().indexOf(playerId);
+    }
 
-        Map<String, Long> counts = votes.values().stream()
-                .collect(Collectors.groupingBy(targetId -> targetId, Collectors.counting()));
+    public GamePlayerState playerAt(int index) {
+        return players.get(index);
+    }
 
-        if (counts.isEmpty()) {
-            return new ArrayList<>();
+    /**
+     * 투표자 한 표의 가중치 (직업 배정 전이거나 목록에 없으면 1)
+     */
+    public int voteWeightOf(String voterId) {
+        GamePlayerState voter = findPlayer(voterId);
+        return voter != null && voter.getRole() != null ? voter.getRole().getVoteWeight() : 1;
+    }
+
+    /**
+     * 낮 투표 집계 (후보 = 플레이어 인덱스, 목록에 없는 대상은 무시)
+     */
+    public VoteTally tallyVotes() {
+        VoteTally tally = new VoteTally(players.size());
+        if (votes == null) {
+            return tally;
+        }
+        for (Map.Entry<String, String> vote : votes.entrySet()) {
+            tally.add(indexOfPlayer(vote.getValue()), voteWeightOf(vote.getKey()));
         }
+        return tally;
+    }
 
-        long max = Collections.max(counts.values());
-        return counts.entrySet().stream()
-                .filter(e -> e.getValue() == max)
-                .map(Map.Entry::getKey)
-                .toList();
+    @JsonIgnore
+    public List<String> getTopVotedPlayerIds() {
+        int[] top = tallyVotes().topCandidates();
+        List<String> topVoted = new ArrayList<>(top.length);
+        for (int index : top) {
+            topVoted.add(players.get(index).getPlayerId());
+        }
+        return topVoted;
     }
 
     public boolean canExtendVotingTime(String playerId) {
@@ -0,0 +1,92 @@
+package com.example.mafiagame.game.domain.state;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GameState 플레이어 조회 인덱스
+ * - playerId → players 목록 위치
+ * - 생존/마피아 비트셋 (64명 단위 long 워드)
+ *
+ * <p>조회/집계는 스트림·람다 없이 Map 조회와 비트 연산만 사용한다.
+ * players 목록 자체(참조, 크기)가 바뀌면 GameState 가 다시 만든다.</p>
+ */
+final class PlayerIndex {
+
+    private final List<GamePlayerState> players;
+    private final int size;
+    private final Map<String, Integer> positions;
+    private final long[] alive;
+    private final long[] mafia;
+
+    private PlayerIndex(List<GamePlayerState> players) {
+        this.players = players;
+        this.size = players != null ? players.size() : 0;
+        this.positions = new HashMap<>(Math.max(16, size * 2));
+        this.alive = new long[(size + 63) >>> 6];
+        this.mafia = new long[(size + 63) >>> 6];
+
+        for (int i = 0; i < size; i++) {
+            GamePlayerState player = players.get(i);
+            positions.putIfAbsent(player.getPlayerId(), i); // 중복 ID 는 첫 번째 (기존 findFirst 와 동일)
+            setAlive(i, player.isAlive());
+            setMafia(i, player.getRole() == PlayerRole.MAFIA);
+        }
+    }
+
+    static PlayerIndex of(List<GamePlayerState> players) {
+        return new PlayerIndex(players);
+    }
+
+    /**
+     * 같은 목록(참조/크기)으로 만든 인덱스인지
+     */
+    boolean isFor(List<GamePlayerState> players) {
+        return this.players == players && size == (players != null ? players.size() : 0);
+    }
+
+    int indexOf(String playerId) {
+        if (playerId == null) {
+            return -1;
+        }
+        Integer position = positions.get(playerId);
+        return position != null ? position : -1;
+    }
+
+    boolean isAlive(int index) {
+        return (alive[index >>> 6] & (1L << index)) != 0;
+    }
+
+    void setAlive(int index, boolean value) {
+        if (value) {
+            alive[index >>> 6] |= 1L << index;
+        } else {
+            alive[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    void setMafia(int index, boolean value) {
+        if (value) {
+            mafia[index >>> 6] |= 1L << index;
+        } else {
+            mafia[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    int aliveCount() {
+        int count = 0;
+        for (long word : alive) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    int aliveMafiaCount() {
+        int count = 0;
+        for (int w = 0; w < alive.length; w++) {
+            count += Long.bitCount(alive[w] & mafia[w]);
+        }
+        return count;
+    }
+}
@@ -1,8 +1,16 @@
 package com.example.mafiagame.game.domain.state;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
 public enum PlayerRole {
-    CITIZEN, // 시민
-    MAFIA, // 마피아
-    DOCTOR, // 의사
-    POLICE // 경찰
+    CITIZEN(1), // 시민
+    MAFIA(1), // 마피아
+    DOCTOR(1), // 의사
+    POLICE(1); // 경찰
+
+    // 낮 투표/최종 투표 한 표의 가중치 (정치인 등 추가 직업 대비)
+    private final int voteWeight;
 }
@@ -0,0 +1,95 @@
+package com.example.mafiagame.game.domain.state;
+
+import java.util.Arrays;
+
+/**
+ * 득표 집계기 (플레이어 인덱스 기반)
+ * - 후보별 득표는 int[] 에 누적 (박싱/Map 없음)
+ * - 최다 득표자와 동률 여부는 표를 넣는 동안 한 번에 갱신
+ * - 가중치 투표 지원 (PlayerRole.voteWeight)
+ *
+ * <p>후보 번호는 GameState.indexOfPlayer 의 위치를 그대로 쓰고,
+ * 찬반 투표처럼 후보가 고정된 경우 0..n-1 을 직접 지정한다.</p>
+ */
+public final class VoteTally {
+
+    private final int[] counts;
+    private int maxVotes;
+    private int leader = -1;
+    private boolean tied;
+
+    public VoteTally(int candidates) {
+        this.counts = new int[candidates];
+    }
+
+    /**
+     * 표 추가 (범위 밖 후보는 무시)
+     *
+     * @param candidate 후보 번호 (없는 플레이어면 -1)
+     * @param weight 1 이상 가중치
+     */
+    public void add(int candidate, int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("투표 가중치는 1 이상이어야 합니다: " + weight);
+        }
+        if (candidate < 0 || candidate >= counts.length) {
+            return;
+        }
+
+        int count = counts[candidate] += weight;
+        if (count > maxVotes) {
+            maxVotes = count;
+            leader = candidate;
+            tied = false;
+        } else if (count == maxVotes && candidate != leader) {
+            tied = true;
+        }
+    }
+
+    public int countOf(int candidate) {
+        return counts[candidate];
+    }
+
+    public int maxVotes() {
+        return maxVotes;
+    }
+
+    public boolean isTied() {
+        return tied;
+    }
+
+    /**
+     * 단독 최다 득표자 (표가 없거나 동률이면 -1)
+     */
+    public int winner() {
+        return tied ? -1 : leader;
+    }
+
+    /**
+     * 최다 득표에 가장 먼저 도달한 후보 (동률이어도 반환, 표가 없으면 -1)
+     */
+    public int leader() {
+        return leader;
+    }
+
+    /**
+     * 최다 득표 후보 번호 전체 (동률 포함, 표가 없으면 빈 배열)
+     */
+    public int[] topCandidates() {
+        if (leader < 0) {
+            return new int[0];
+        }
+        if (!tied) {
+            return new int[] { leader };
+        }
+
+        int size = 0;
+        int[] top = new int[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == maxVotes) {
+                top[size++] = i;
+            }
+        }
+        return Arrays.copyOf(top, size);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.mafiagame.game.repository;
+
+import com.example.mafiagame.game.domain.state.PlayerRole;
+import com.example.mafiagame.global.jdbc.MultiRowSql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * game_player 일괄 저장 (JDBC multi-row INSERT)
+ * GamePlayer 는 IDENTITY 전략이라 Hibernate 배치 INSERT 가 비활성화되어 플레이어마다 INSERT 가 나가므로,
+ * 참가자 등록과 종료 결과 반영을 각각 VALUES (...),(...) 한 문장으로 처리
+ */
+@Repository
+@RequiredArgsConstructor
+public class GamePlayerJdbcRepository {
+
+    private static final String INSERT_PLAYERS_PREFIX = "INSERT INTO game_player (game_id, user_id, is_alive) VALUES ";
+    private static final String INSERT_PLAYERS_ROW = "(?, ?, true)";
+
+    private static final String UPSERT_RESULTS_PREFIX = "INSERT INTO game_player "
+            + "(game_id, user_id, role, team, is_alive, death_phase, is_winner) VALUES ";
+    private static final String UPSERT_RESULTS_ROW = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_RESULTS_SUFFIX = " ON DUPLICATE KEY UPDATE "
+            + "role = VALUES(role), team = VALUES(team), is_alive = VALUES(is_alive), "
+            + "death_phase = VALUES(death_phase), is_winner = VALUES(is_winner)";
+
+    private static final String SELECT_USER_IDS = "SELECT user_id, user_login_id FROM users "
+            + "WHERE user_login_id IN (:loginIds)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 게임 종료 시 반영할 플레이어 결과 한 행
+     */
+    public record PlayerResultRow(String gameId, Long userId, PlayerRole role, String team, boolean alive,
+            Integer deathPhase, boolean winner) {
+    }
+
+    /**
+     * 게임 생성 시 참가자 등록 (역할은 아직 배정 전)
+     */
+    public void insertPlayers(String gameId, List<Long> userIds) {
+        for (List<Long> chunk : MultiRowSql.chunks(userIds)) {
+            List<Object> args = new ArrayList<>(chunk.size() * 2);
+            for (Long userId : chunk) {
+                args.add(gameId);
+                args.add(userId);
+            }
+            jdbcTemplate.update(MultiRowSql.of(INSERT_PLAYERS_PREFIX, INSERT_PLAYERS_ROW, chunk.size(), ""),
+                    args.toArray());
+        }
+    }
+
+    /**
+     * 게임 종료 결과 반영 (생성 시 등록된 행은 갱신, 없으면 추가)
+     */
+    public void upsertResults(List<PlayerResultRow> rows) {
+        for (List<PlayerResultRow> chunk : MultiRowSql.chunks(rows)) {
+            String sql = MultiRowSql.of(UPSERT_RESULTS_PREFIX, UPSERT_RESULTS_ROW, chunk.size(), UPSERT_RESULTS_SUFFIX);
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (PlayerResultRow row : chunk) {
+                    ps.setString(index++, row.gameId());
+                    ps.setLong(index++, row.userId());
+                    // GamePlayer.role 은 @Enumerated 미지정(ORDINAL) 매핑
+                    if (row.role() != null) {
+                        ps.setInt(index++, row.role().ordinal());
+                    } else {
+                        ps.setNull(index++, Types.INTEGER);
+                    }
+                    ps.setString(index++, row.team());
+                    ps.setBoolean(index++, row.alive());
+                    if (row.deathPhase() != null) {
+                        ps.setInt(index++, row.deathPhase());
+                    } else {
+                        ps.setNull(index++, Types.INTEGER);
+                    }
+                    ps.setBoolean(index++, row.winner());
+                }
+            });
+        }
+    }
+
+    /**
+     * 로그인 ID → users.user_id 일괄 조회
+     */
+    public Map<String, Long> findUserIds(Collection<String> loginIds) {
+        Map<String, Long> result = new HashMap<>();
+        if (loginIds.isEmpty()) {
+            return result;
+        }
+        namedParameterJdbcTemplate.query(SELECT_USER_IDS, Map.of("loginIds", loginIds),
+                rs -> {
+                    result.put(rs.getString("user_login_id"), rs.getLong("user_id"));
+                });
+        return result;
+    }
+}
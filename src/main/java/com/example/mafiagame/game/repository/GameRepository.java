@@ -13,4 +13,7 @@ public interface GameRepository extends JpaRepository<Game, String> {
     // 가장 최근 게임 반환 (중복 방지)
     Optional<Game> findFirstByRoomIdAndStatusOrderByStartTimeDesc(String roomId,
             GameStatus status);
+
+    // 종료된 게임 참가 여부 (players 컬렉션 로딩 없이 EXISTS 쿼리 한 번)
+    boolean existsByGameIdAndPlayers_User_UserLoginId(String gameId, String userLoginId);
 }
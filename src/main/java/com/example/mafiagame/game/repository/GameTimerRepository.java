@@ -1,18 +1,22 @@
 package com.example.mafiagame.game.repository;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
 
-import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.stereotype.Repository;
 
 import com.example.mafiagame.game.timer.GameTimerJob;
+import com.example.mafiagame.global.lock.DistributedLocks;
+import com.example.mafiagame.global.lock.LockContentionTracker;
+import com.example.mafiagame.global.lock.LockFamily;
+import com.example.mafiagame.global.metrics.GameMetrics;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -31,22 +35,26 @@ public class GameTimerRepository {
     private static final String TIMER_TOKEN_FIELD = "timerToken";
     private static final Duration CURRENT_TIMER_TTL = Duration.ofMinutes(30);
 
-    private static final String TIMER_LOCK_KEY = "lock:timer:global";
-
     private final StringRedisTemplate stringRedisTemplate;
-    private final RedissonClient redissonClient;
+    private final DistributedLocks locks;
+    private final GameMetrics gameMetrics;
 
     public GameTimerRepository(
             @Qualifier("coreStringRedisTemplate") StringRedisTemplate stringRedisTemplate,
-            @Qualifier("coreRedissonClient") RedissonClient redissonClient) {
+            @Qualifier("coreRedissonClient") RedissonClient redissonClient,
+            GameMetrics gameMetrics,
+            LockContentionTracker lockContentionTracker) {
         this.stringRedisTemplate = stringRedisTemplate;
-        this.redissonClient = redissonClient;
+        this.locks = new DistributedLocks(redissonClient, lockContentionTracker);
+        this.gameMetrics = gameMetrics;
+        // 진행 중인 게임은 waiting/processing 중 한 곳에 현재 타이머를 하나씩 가진다
+        gameMetrics.gaugeActiveGames(this::countScheduledTimers);
     }
 
     /**
      * 타이머를 스케줄링한다. 기존 타이머가 있으면 제거 후 새로 등록.
-     * 호출자(advancePhase, startGame 등)가 이미 게임별 Redisson Lock을 보유하므로
-     * 별도 Lock 없이 순차 Redis 명령으로 처리한다.
+     * 호출자(게임 생성 락을 잡은 startGame, 소유 노드 GameActor 의 advancePhase 등)가
+     * 게임 단위로 직렬화되어 있으므로 별도 Lock 없이 순차 Redis 명령으로 처리한다.
      */
     public void schedule(GameTimerJob timerJob, long executeAtMillis) {
         String currentTimerKey = currentTimerKey(timerJob.gameId());
@@ -70,7 +78,7 @@ public class GameTimerRepository {
     }
 
     /**
-     * 타이머를 중지한다. 호출자가 이미 게임별 Lock을 보유.
+     * 타이머를 중지한다. 호출자(소유 노드 GameActor)가 게임 단위로 직렬화되어 있음.
      */
     public void stop(String gameId) {
         String currentTimerKey = currentTimerKey(gameId);
@@ -92,10 +100,8 @@ public class GameTimerRepository {
      * Worker에서 호출되므로 글로벌 타이머 Lock 사용.
      */
     public void ack(GameTimerJob timerJob) {
-        RLock lock = redissonClient.getLock(TIMER_LOCK_KEY);
-
-        try {
-            if (!lock.tryLock(3, 5, TimeUnit.SECONDS)) {
+        try (DistributedLocks.Handle lock = locks.tryLock(LockFamily.TIMER_GLOBAL, null)) {
+            if (lock == null) {
                 log.warn("[ack] 타이머 락 획득 실패: gameId={}", timerJob.gameId());
                 return;
             }
@@ -110,10 +116,6 @@ public class GameTimerRepository {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("[ack] 타이머 락 인터럽트: gameId={}", timerJob.gameId(), e);
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
         }
     }
 
@@ -122,10 +124,8 @@ public class GameTimerRepository {
      * Worker에서 호출되므로 글로벌 타이머 Lock 사용.
      */
     public boolean requeueIfCurrent(GameTimerJob timerJob, long executeAtMillis) {
-        RLock lock = redissonClient.getLock(TIMER_LOCK_KEY);
-
-        try {
-            if (!lock.tryLock(3, 5, TimeUnit.SECONDS)) {
+        try (DistributedLocks.Handle lock = locks.tryLock(LockFamily.TIMER_GLOBAL, null)) {
+            if (lock == null) {
                 log.warn("[requeue] 타이머 락 획득 실패: gameId={}", timerJob.gameId());
                 return false;
             }
@@ -143,10 +143,6 @@ public class GameTimerRepository {
             Thread.currentThread().interrupt();
             log.error("[requeue] 타이머 락 인터럽트: gameId={}", timerJob.gameId(), e);
             return false;
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
         }
     }
 
@@ -156,36 +152,33 @@ public class GameTimerRepository {
      */
     public List<GameTimerJob> claimDueTimers(long nowMillis, int batchSize, long leaseMillis) {
         long leaseUntil = nowMillis + leaseMillis;
-        RLock lock = redissonClient.getLock(TIMER_LOCK_KEY);
-
-        try {
-            if (!lock.tryLock(3, 5, TimeUnit.SECONDS)) {
+        try (DistributedLocks.Handle lock = locks.tryLock(LockFamily.TIMER_GLOBAL, null)) {
+            if (lock == null) {
                 log.warn("[claimDueTimers] 타이머 락 획득 실패");
                 return Collections.emptyList();
             }
 
-            Set<String> due = stringRedisTemplate.opsForZSet()
-                    .rangeByScore(WAITING_KEY, Double.NEGATIVE_INFINITY, nowMillis, 0, batchSize);
+            Set<TypedTuple<String>> due = stringRedisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(WAITING_KEY, Double.NEGATIVE_INFINITY, nowMillis, 0, batchSize);
             if (due == null || due.isEmpty()) {
                 return Collections.emptyList();
             }
 
-            for (String member : due) {
+            List<GameTimerJob> claimed = new ArrayList<>(due.size());
+            for (TypedTuple<String> tuple : due) {
+                String member = tuple.getValue();
                 stringRedisTemplate.opsForZSet().remove(WAITING_KEY, member);
                 stringRedisTemplate.opsForZSet().add(PROCESSING_KEY, member, leaseUntil);
+                if (tuple.getScore() != null) {
+                    gameMetrics.recordTimerLateness(nowMillis - tuple.getScore().longValue());
+                }
+                claimed.add(GameTimerJob.fromMember(member));
             }
-
-            return due.stream()
-                    .map(GameTimerJob::fromMember)
-                    .toList();
+            return claimed;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("[claimDueTimers] 타이머 락 인터럽트", e);
             return Collections.emptyList();
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
         }
     }
 
@@ -194,10 +187,8 @@ public class GameTimerRepository {
      * Worker에서 호출되므로 글로벌 타이머 Lock 사용.
      */
     public List<GameTimerJob> claimExpiredProcessing(long nowMillis, int batchSize) {
-        RLock lock = redissonClient.getLock(TIMER_LOCK_KEY);
-
-        try {
-            if (!lock.tryLock(3, 5, TimeUnit.SECONDS)) {
+        try (DistributedLocks.Handle lock = locks.tryLock(LockFamily.TIMER_GLOBAL, null)) {
+            if (lock == null) {
                 log.warn("[claimExpiredProcessing] 타이머 락 획득 실패");
                 return Collections.emptyList();
             }
@@ -219,10 +210,6 @@ public class GameTimerRepository {
             Thread.currentThread().interrupt();
             log.error("[claimExpiredProcessing] 타이머 락 인터럽트", e);
             return Collections.emptyList();
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
         }
     }
 
@@ -252,6 +239,17 @@ public class GameTimerRepository {
         return processingScore != null;
     }
 
+    private Number countScheduledTimers() {
+        try {
+            Long waiting = stringRedisTemplate.opsForZSet().zCard(WAITING_KEY);
+            Long processing = stringRedisTemplate.opsForZSet().zCard(PROCESSING_KEY);
+            return (waiting != null ? waiting : 0) + (processing != null ? processing : 0);
+        } catch (Exception e) {
+            log.debug("[metrics] 타이머 수 조회 실패", e);
+            return Double.NaN;
+        }
+    }
+
     private String currentTimerKey(String gameId) {
         return CURRENT_TIMER_KEY_PREFIX + gameId;
     }
@@ -10,7 +10,6 @@ import com.example.mafiagame.game.repository.GameQueryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.Set;
@@ -51,17 +50,13 @@ public class GameQueryService {
         return gameQueryRepository.findByPlayerId(playerId).orElse(null);
     }
 
-    @Transactional(readOnly = true)
     public boolean isGameParticipant(String gameId, String playerId) {
         GameState gameState = getGameState(gameId);
         if (gameState != null) {
             return gameState.findPlayer(playerId) != null;
         }
 
-        return gameRepository.findById(gameId)
-                .map(game -> game.getPlayers().stream()
-                        .anyMatch(player -> playerId.equals(player.getPlayerId())))
-                .orElse(false);
+        return gameRepository.existsByGameIdAndPlayers_User_UserLoginId(gameId, playerId);
     }
 
     /**
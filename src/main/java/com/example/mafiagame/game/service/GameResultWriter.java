@@ -0,0 +1,210 @@
+package com.example.mafiagame.game.service;
+
+import com.example.mafiagame.game.domain.state.PlayerRole;
+import com.example.mafiagame.game.repository.GamePlayerJdbcRepository;
+import com.example.mafiagame.game.repository.GamePlayerJdbcRepository.PlayerResultRow;
+import com.example.mafiagame.kafka.event.GameEndedEvent;
+import com.example.mafiagame.leaderboard.domain.LeaderboardRow;
+import com.example.mafiagame.leaderboard.service.LeaderboardService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * game.ended 이벤트 묶음을 DB 에 반영하는 write-behind 저장소
+ * - 배치 하나를 트랜잭션 하나로 처리 (게임마다 커넥션을 잡지 않음)
+ * - 여러 게임의 전적 증감을 유저별로 합산해 JDBC 배치 UPDATE 한 번으로 반영
+ * - 플레이어별 역할/팀/사망 페이즈/승패는 game_player 에 multi-row INSERT 로 반영
+ * - games.status 가 IN_PROGRESS 인 게임만 반영하므로 재전달된 이벤트는 전적에 중복 합산되지 않음
+ * - 커밋 후 반영된 누적 전적/증감으로 Redis 리더보드 갱신
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GameResultWriter {
+
+    private static final String SELECT_PENDING_GAMES = "SELECT game_id FROM games "
+            + "WHERE game_id IN (:gameIds) AND status = 'IN_PROGRESS' FOR UPDATE";
+
+    private static final String UPDATE_GAME_ENDED = "UPDATE games SET status = 'ENDED', winner = ?, end_time = ? "
+            + "WHERE game_id = ?";
+
+    // win_rate 를 먼저 계산해 MySQL 의 좌→우 SET 평가에서도 갱신 전 값을 사용
+    private static final String UPDATE_USER_STATS = "UPDATE users SET "
+            + "win_rate = (win_count + ?) / (play_count + ?), "
+            + "play_count = play_count + ?, "
+            + "win_count = win_count + ? "
+            + "WHERE user_login_id = ?";
+
+    private static final String SELECT_USER_TOTALS = "SELECT user_login_id, nickname, play_count, win_count "
+            + "FROM users WHERE user_login_id IN (:loginIds)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final GamePlayerJdbcRepository gamePlayerJdbcRepository;
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * 유저별 전적 증감 (여러 게임 합산)
+     */
+    record StatsDelta(int plays, int wins) {
+
+        StatsDelta plus(boolean win) {
+            return new StatsDelta(plays + 1, wins + (win ? 1 : 0));
+        }
+    }
+
+    /**
+     * 종료 이벤트 묶음 반영
+     *
+     * @return 이번 호출에서 새로 반영된 게임 수
+     */
+    @Transactional
+    public int apply(List<GameEndedEvent> events) {
+        Map<String, GameEndedEvent> byGameId = new LinkedHashMap<>();
+        for (GameEndedEvent event : events) {
+            if (event != null && event.getGameId() != null) {
+                byGameId.putIfAbsent(event.getGameId(), event);
+            }
+        }
+        if (byGameId.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> pendingIds = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                SELECT_PENDING_GAMES, Map.of("gameIds", byGameId.keySet()), String.class));
+        List<GameEndedEvent> pending = byGameId.values().stream()
+                .filter(event -> pendingIds.contains(event.getGameId()))
+                .toList();
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_GAME_ENDED, pending, pending.size(), (ps, event) -> {
+            LocalDateTime endTime = event.getOccurredAt() != null ? event.getOccurredAt() : LocalDateTime.now();
+            ps.setString(1, event.getWinnerTeam());
+            ps.setTimestamp(2, Timestamp.valueOf(endTime));
+            ps.setString(3, event.getGameId());
+        });
+
+        gamePlayerJdbcRepository.upsertResults(toPlayerRows(pending));
+
+        List<Map.Entry<String, StatsDelta>> deltas = new ArrayList<>(aggregate(pending).entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_USER_STATS, deltas, deltas.size(), (ps, entry) -> {
+            StatsDelta delta = entry.getValue();
+            ps.setInt(1, delta.wins());
+            ps.setInt(2, delta.plays());
+            ps.setInt(3, delta.plays());
+            ps.setInt(4, delta.wins());
+            ps.setString(5, entry.getKey());
+        });
+
+        publishLeaderboardAfterCommit(deltas);
+
+        log.info("[GameResult] 게임 결과 반영: games={}, users={}, skipped={}",
+                pending.size(), deltas.size(), byGameId.size() - pending.size());
+        return pending.size();
+    }
+
+    /**
+     * 갱신된 누적 전적을 같은 트랜잭션에서 읽어두고, 커밋이 확정된 뒤에만 리더보드에 반영
+     */
+    private void publishLeaderboardAfterCommit(List<Map.Entry<String, StatsDelta>> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Map<String, String> nicknames = new HashMap<>();
+        List<LeaderboardRow> totals = namedParameterJdbcTemplate.query(SELECT_USER_TOTALS,
+                Map.of("loginIds", deltas.stream().map(Map.Entry::getKey).toList()),
+                (rs, rowNum) -> {
+                    LeaderboardRow row = new LeaderboardRow(rs.getString("user_login_id"), rs.getString("nickname"),
+                            rs.getInt("play_count"), rs.getInt("win_count"));
+                    nicknames.put(row.userId(), row.nickname());
+                    return row;
+                });
+        List<LeaderboardRow> increments = deltas.stream()
+                .map(entry -> new LeaderboardRow(entry.getKey(), nicknames.get(entry.getKey()),
+                        entry.getValue().plays(), entry.getValue().wins()))
+                .toList();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            leaderboardService.recordGameResults(totals, increments);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                leaderboardService.recordGameResults(totals, increments);
+            }
+        });
+    }
+
+    private List<PlayerResultRow> toPlayerRows(List<GameEndedEvent> events) {
+        Set<String> loginIds = new HashSet<>();
+        events.stream()
+                .filter(event -> event.getPlayers() != null)
+                .forEach(event -> event.getPlayers().forEach(player -> loginIds.add(player.getPlayerId())));
+        loginIds.remove(null);
+        Map<String, Long> userIds = gamePlayerJdbcRepository.findUserIds(loginIds);
+
+        List<PlayerResultRow> rows = new ArrayList<>();
+        for (GameEndedEvent event : events) {
+            if (event.getPlayers() == null) {
+                continue;
+            }
+            Set<String> winners = event.getWinnerIds() != null ? new HashSet<>(event.getWinnerIds()) : Set.of();
+            for (GameEndedEvent.PlayerResult player : event.getPlayers()) {
+                Long userId = userIds.get(player.getPlayerId());
+                if (userId == null) {
+                    log.warn("[GameResult] 존재하지 않는 유저 건너뜀: gameId={}, playerId={}",
+                            event.getGameId(), player.getPlayerId());
+                    continue;
+                }
+                rows.add(new PlayerResultRow(event.getGameId(), userId,
+                        player.getRole() != null ? PlayerRole.valueOf(player.getRole()) : null,
+                        player.getTeam(), player.isAlive(), player.getDeathPhase(),
+                        winners.contains(player.getPlayerId())));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 게임별 결과를 유저별 증감으로 합산 (userId 정렬 → 동시 배치 간 행 잠금 순서 고정)
+     */
+    static SortedMap<String, StatsDelta> aggregate(List<GameEndedEvent> events) {
+        SortedMap<String, StatsDelta> deltas = new TreeMap<>();
+        for (GameEndedEvent event : events) {
+            if (event.getPlayerIds() == null) {
+                continue;
+            }
+            Set<String> winners = event.getWinnerIds() != null ? new HashSet<>(event.getWinnerIds()) : Set.of();
+            for (String playerId : new HashSet<>(event.getPlayerIds())) {
+                if (playerId == null) {
+                    continue;
+                }
+                deltas.merge(playerId, new StatsDelta(1, winners.contains(playerId) ? 1 : 0),
+                        (current, added) -> current.plus(added.wins() > 0));
+            }
+        }
+        return deltas;
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.mafiagame.game.service;
 
 import com.example.mafiagame.game.domain.entity.Game;
-import com.example.mafiagame.game.domain.entity.GamePlayer;
 import com.example.mafiagame.chat.domain.ChatRoom;
 import com.example.mafiagame.game.domain.state.GamePhase;
 import com.example.mafiagame.game.domain.state.GamePlayerState;
@@ -14,37 +13,42 @@ import com.example.mafiagame.game.state.GamePhaseFactory;
 import com.example.mafiagame.game.state.GamePhaseState;
 import com.example.mafiagame.kafka.config.KafkaTopics;
 import com.example.mafiagame.kafka.event.GameEndedEvent;
+import com.example.mafiagame.kafka.outbox.OutboxEventPublisher;
 import com.example.mafiagame.user.domain.Users;
 import com.example.mafiagame.user.repository.UsersRepository;
 
-import java.util.concurrent.TimeUnit;
 import java.util.UUID;
 
+import com.example.mafiagame.game.actor.GameOwnership;
+import com.example.mafiagame.game.repository.GamePlayerJdbcRepository;
 import com.example.mafiagame.game.repository.GameRepository;
 import com.example.mafiagame.game.repository.GameStateRepository;
 import com.example.mafiagame.game.repository.GameQueryRepository;
 import com.example.mafiagame.global.error.ErrorCode;
+import com.example.mafiagame.global.lock.DistributedLocks;
+import com.example.mafiagame.global.lock.LockContentionTracker;
+import com.example.mafiagame.global.lock.LockFamily;
+import com.example.mafiagame.global.metrics.GameMetrics;
+import com.example.mafiagame.matchmaking.repository.MatchmakingQueueRepository;
 
 import lombok.extern.slf4j.Slf4j;
 
-import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
-import org.springframework.transaction.support.TransactionTemplate;
 import com.example.mafiagame.chat.service.WebSocketMessageBroadcaster;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Random;
 
 import java.util.stream.Collectors;
@@ -54,69 +58,73 @@ import java.util.stream.Collectors;
 public class GameService {
 
     private final GameRepository gameRepository;
+    private final GamePlayerJdbcRepository gamePlayerJdbcRepository;
     private final GameStateRepository gameStateRepository;
     private final GameQueryRepository gameQueryRepository;
     private final UsersRepository userRepository;
     private final WebSocketMessageBroadcaster messageBroadcaster;
     private final StringRedisTemplate stringRedisTemplate;
-    private final RedissonClient redissonClient;
-    private final TransactionTemplate transactionTemplate;
+    private final DistributedLocks locks;
 
     private final RedisTimerService timerService;
     private final GamePhaseFactory gamePhaseFactory;
     private final PhaseResultProcessor phaseResultProcessor;
 
     private final RedisTemplate<String, ChatRoom> chatRoomRedisTemplate;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final GameMetrics gameMetrics;
+    private final GameOwnership gameOwnership;
+    private final MatchmakingQueueRepository matchmakingQueueRepository;
 
     public GameService(
             GameRepository gameRepository,
+            GamePlayerJdbcRepository gamePlayerJdbcRepository,
             GameStateRepository gameStateRepository,
             GameQueryRepository gameQueryRepository,
             UsersRepository userRepository,
             WebSocketMessageBroadcaster messageBroadcaster,
             @Qualifier("coreStringRedisTemplate") StringRedisTemplate stringRedisTemplate,
             @Qualifier("coreRedissonClient") RedissonClient redissonClient,
-            TransactionTemplate transactionTemplate,
             RedisTimerService timerService,
             GamePhaseFactory gamePhaseFactory,
             PhaseResultProcessor phaseResultProcessor,
             @Qualifier("chatRoomRedisTemplate") RedisTemplate<String, ChatRoom> chatRoomRedisTemplate,
-            KafkaTemplate<String, Object> kafkaTemplate) {
+            OutboxEventPublisher outboxEventPublisher,
+            GameMetrics gameMetrics,
+            LockContentionTracker lockContentionTracker,
+            GameOwnership gameOwnership,
+            MatchmakingQueueRepository matchmakingQueueRepository) {
         this.gameRepository = gameRepository;
+        this.gamePlayerJdbcRepository = gamePlayerJdbcRepository;
         this.gameStateRepository = gameStateRepository;
         this.gameQueryRepository = gameQueryRepository;
         this.userRepository = userRepository;
         this.messageBroadcaster = messageBroadcaster;
         this.stringRedisTemplate = stringRedisTemplate;
-        this.redissonClient = redissonClient;
-        this.transactionTemplate = transactionTemplate;
+        this.locks = new DistributedLocks(redissonClient, lockContentionTracker);
         this.timerService = timerService;
         this.gamePhaseFactory = gamePhaseFactory;
         this.phaseResultProcessor = phaseResultProcessor;
         this.chatRoomRedisTemplate = chatRoomRedisTemplate;
-        this.kafkaTemplate = kafkaTemplate;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.gameMetrics = gameMetrics;
+        this.gameOwnership = gameOwnership;
+        this.matchmakingQueueRepository = matchmakingQueueRepository;
     }
 
     private static final String ROOM_KEY_PREFIX = "chatroom:";
     private static final String VOTE_KEY_PREFIX = "game:votes:";
     private static final String FINAL_VOTE_KEY_PREFIX = "game:finalvotes:";
     private static final String NIGHT_ACTION_KEY_PREFIX = "game:nightactions:";
-    private static final String GAME_META_KEY_PREFIX = "game:meta:";
-    private static final String GAME_CREATE_LOCK_PREFIX = "lock:game:create:";
-    private static final String GAME_END_LOCK_PREFIX = "lock:game:end:";
-    private static final String GAME_ADVANCE_LOCK_PREFIX = "lock:game:advance:";
-    private static final String GAME_ACTION_LOCK_PREFIX = "lock:game:action:";
+    private static final String GAME_ENDED_KEY_PREFIX = "game:ended:";
+    private static final Duration GAME_ENDED_MARKER_TTL = Duration.ofHours(1);
 
     @Transactional
     public GameState createGame(String roomId) {
         // 분산 락을 사용하여 동시 게임 생성 방지
-        String lockKey = GAME_CREATE_LOCK_PREFIX + roomId;
-        RLock lock = redissonClient.getLock(lockKey);
-
-        try {
+        try (DistributedLocks.Handle lock = locks.tryLock(LockFamily.GAME_CREATE, roomId)) {
             // 5초 동안 락 획득 시도, 락 획득 시 10초간 유지
-            if (!lock.tryLock(5, 10, TimeUnit.SECONDS)) {
+            if (lock == null) {
                 log.warn("[게임 생성] 락 획득 실패: roomId={}", roomId);
                 // 이미 게임이 생성 중이므로 기존 게임 반환 시도
                 GameState existingGame = getActiveGameByRoomId(roomId);
@@ -165,20 +173,17 @@ public class GameService {
                     .startTime(LocalDateTime.now())
                     .build();
 
-            List<GamePlayer> dbPlayers = participants.stream().map(participant -> {
+            List<Long> dbUserIds = participants.stream().map(participant -> {
                 Users user = userMap.get(participant.getUserId());
                 if (user == null) {
                     throw ErrorCode.USER_NOT_FOUND.commonException();
                 }
-                return GamePlayer.builder()
-                        .game(game)
-                        .user(user)
-                        .isAlive(true)
-                        .build();
-            }).collect(Collectors.toList());
+                return user.getUserId();
+            }).toList();
 
-            game.setPlayers(dbPlayers);
-            gameRepository.save(game);
+            // GamePlayer 는 cascade 대신 multi-row INSERT 한 번으로 저장 (FK 를 위해 games 먼저 flush)
+            gameRepository.saveAndFlush(game);
+            gamePlayerJdbcRepository.insertPlayers(gameId, dbUserIds);
 
             // Redis: 게임 상태 저장
             // ChatUser -> GamePlayerState 변환 (factory method 활용)
@@ -204,6 +209,8 @@ public class GameService {
                     .build();
 
             gameStateRepository.save(gameState);
+            // 방장이 직접 시작한 빠른 매칭 방에도 매칭기가 더 이상 플레이어를 넣지 않도록 제거
+            matchmakingQueueRepository.removeOpenRooms(List.of(roomId));
 
             assignRoles(gameId);
             startGame(gameId);
@@ -218,11 +225,6 @@ public class GameService {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw ErrorCode.GAME_CREATE_INTERRUPTED.commonException();
-        } finally {
-            // 락 해제
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
         }
     }
 
@@ -250,7 +252,7 @@ public class GameService {
         for (int i = 0; i < playerCount; i++) {
             GamePlayerState player = players.get(i);
             PlayerRole assignedRole = roles.get(i);
-            player.setRole(assignedRole);
+            gameState.assignRole(player, assignedRole);
 
             // 개인 메시지 전송
             sendRoleAssignmentMessage(player.getPlayerId(), assignedRole);
@@ -269,10 +271,8 @@ public class GameService {
             }
         }
 
-        // 변경된 역할 정보 Redis 저장
+        // 변경된 역할 정보 Redis 저장 (MySQL 에는 게임 종료 시 GameResultWriter 가 결과와 함께 기록)
         gameStateRepository.save(gameState);
-
-        // DB에도 역할 정보 업데이트하고 싶다면 여기서 GameRepository 호출 필요 (선택사항)
     }
 
     /**
@@ -310,112 +310,88 @@ public class GameService {
         timerService.startTimer(gameState);
     }
 
+    /**
+     * 게임 종료 (소유 노드의 GameActor 안에서 advancePhase 를 통해 호출)
+     * - game.ended 아웃박스 기록이 커밋 지점: 기록 전 실패는 예외로 전파해 타이머가 재시도하게 하고,
+     *   게임 상태(ENDED)는 남겨 두어 재시도 시 같은 결과로 다시 기록한다
+     * - 기록에 성공한 뒤에만 종료 마커를 남기고 게임 상태 삭제/타이머 중지/알림을 수행
+     * - games 종료 표시와 전적(playCount/winCount/winRate) 반영은 game.ended 컨슈머가 배치로 처리
+     */
     public void endGame(String gameId, Team winnerTeam) {
-        // [수정] 게임 상태 변경은 하나의 통합된 락(GAME_ADVANCE_LOCK)을 사용하는 것이 안전합니다.
-        // endGame이 advancePhase 내부에서 호출되든, 외부(강제종료 등)에서 호출되든 동일한 자원을 보호해야 하기 때문입니다.
-        String lockKey = GAME_ADVANCE_LOCK_PREFIX + gameId;
-        RLock lock = redissonClient.getLock(lockKey);
-
-        try {
-            // 락 획득 시도 (이미 advancePhase에서 획득한 경우 재진입 가능)
-            if (!lock.tryLock(5, 10, TimeUnit.SECONDS)) {
-                log.warn("[endGame] 락 획득 실패: gameId={}", gameId);
-                return;
-            }
-
-            transactionTemplate.execute(status -> {
-                // 1단계: 상태 검증
-                GameState gameState = getGameState(gameId);
-                if (gameState == null) {
-                    log.info("[endGame] 이미 삭제된 게임 상태: gameId={}", gameId);
-                    return null;
-                }
-
-                Game game = gameRepository.findById(gameId)
-                        .orElseThrow(ErrorCode.GAME_NOT_FOUND::commonException);
-                if (game.getStatus() == GameStatus.ENDED) {
-                    log.info("[endGame] 이미 종료 처리된 게임: gameId={}", gameId);
-                    return null;
-                }
+        GameState gameState = getGameState(gameId);
+        if (gameState == null) {
+            log.info("[endGame] 이미 삭제된 게임 상태: gameId={}", gameId);
+            return;
+        }
 
-                // 2단계: DB 데이터 원자적 업데이트
-                game.endGame(winnerTeam);
-                gameRepository.save(game); // 명시적 저장 (변경 감지로도 되지만 명확성 위해)
-
-                // [최적화] N개의 쿼리를 2개의 배치 쿼리로 개선 (승리팀/패배팀)
-                List<String> winners = new ArrayList<>();
-                List<String> losers = new ArrayList<>();
-
-                boolean isCitizenWin = winnerTeam == Team.CITIZEN;
-                for (GamePlayerState gp : gameState.getPlayers()) {
-                    if (gp.getPlayerId() == null)
-                        continue;
-                    boolean isMafia = gp.getTeam() == Team.MAFIA;
-                    boolean isWin = (isCitizenWin && !isMafia) || (!isCitizenWin && isMafia);
-
-                    if (isWin)
-                        winners.add(gp.getPlayerId());
-                    else
-                        losers.add(gp.getPlayerId());
-                }
+        List<GamePlayerState> playersSnapshot = new ArrayList<>(gameState.getPlayers());
+        String endedKey = GAME_ENDED_KEY_PREFIX + gameId;
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(endedKey))) {
+            log.info("[endGame] 결과 기록 완료된 게임, 정리만 다시 수행: gameId={}", gameId);
+        } else {
+            recordGameEnded(gameId, gameState.getRoomId(), winnerTeam, playersSnapshot);
+            stringRedisTemplate.opsForValue().set(endedKey, winnerTeam.name(), GAME_ENDED_MARKER_TTL);
+        }
 
-                if (!winners.isEmpty())
-                    userRepository.updateStatsBatch(winners, true);
-                if (!losers.isEmpty())
-                    userRepository.updateStatsBatch(losers, false);
-
-                // 3단계: 부수 효과 (Redis 삭제, 타이머 중지, 메시지 전송)
-                // DB 트랜잭션이 성공적으로 커밋된 후에만 실행되도록 보장
-                String roomId = gameState.getRoomId();
-                List<GamePlayerState> playersSnapshot = new ArrayList<>(gameState.getPlayers());
-
-                if (TransactionSynchronizationManager.isSynchronizationActive()) {
-                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-                        @Override
-                        public void afterCommit() {
-                            finalizeGameEnd(gameId, roomId, winnerTeam, playersSnapshot);
-                        }
-                    });
-                } else {
-                    // 트랜잭션 비활성 환경(테스트 등)에서는 즉시 실행
-                    finalizeGameEnd(gameId, roomId, winnerTeam, playersSnapshot);
-                }
+        finalizeGameEnd(gameId, gameState.getRoomId(), winnerTeam, playersSnapshot);
+        gameOwnership.release(gameId);
+    }
 
-                return null;
-            });
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("[endGame] 락 획득 중 인터럽트 발생: gameId={}", gameId, e);
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
-        }
+    /**
+     * game.ended 이벤트를 아웃박스에 기록 (게임 결과의 유일한 영속 기록, 실패 시 예외 전파)
+     * eventId 를 gameId 로 고정해 재시도로 중복 기록되어도 컨슈머가 한 번만 반영한다
+     */
+    private void recordGameEnded(String gameId, String roomId, Team winnerTeam, List<GamePlayerState> players) {
+        List<String> winnerIds = players.stream()
+                .filter(player -> player.getPlayerId() != null)
+                .filter(player -> (player.getTeam() == Team.MAFIA) == (winnerTeam == Team.MAFIA))
+                .map(GamePlayerState::getPlayerId)
+                .toList();
+
+        GameEndedEvent event = GameEndedEvent.builder()
+                .eventId(UUID.nameUUIDFromBytes((KafkaTopics.GAME_ENDED + ":" + gameId)
+                        .getBytes(StandardCharsets.UTF_8)).toString())
+                .gameId(gameId)
+                .roomId(roomId)
+                .winnerTeam(winnerTeam.name())
+                .playerIds(players.stream()
+                        .map(GamePlayerState::getPlayerId)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .winnerIds(winnerIds)
+                .players(players.stream()
+                        .filter(player -> player.getPlayerId() != null)
+                        .map(player -> GameEndedEvent.PlayerResult.builder()
+                                .playerId(player.getPlayerId())
+                                .role(player.getRole() != null ? player.getRole().name() : null)
+                                .team(player.getTeam() != null ? player.getTeam().name() : null)
+                                .alive(player.isAlive())
+                                .deathPhase(player.getDeathPhase())
+                                .build())
+                        .toList())
+                .build();
+        // 이 노드에서는 INSERT 한 번만 수행하고 브로커 전송은 OutboxRelay 가 담당
+        outboxEventPublisher.publish(KafkaTopics.GAME_ENDED, gameId, event);
     }
 
     /**
-     * 게임 종료 후 부수 효과 처리 (Redis 삭제, 타이머 중지, 알림 발송, Kafka 이벤트 발행)
+     * 결과 기록 이후 정리 (게임 상태 삭제, 타이머 중지, 종료 알림)
+     * 상태 삭제가 실패하면 예외를 전파해 재시도하고, 삭제 이후 단계는 재시도할 상태가 없으므로 로그만 남김
      */
     private void finalizeGameEnd(String gameId, String roomId, Team winnerTeam, List<GamePlayerState> players) {
+        // 메타도 함께 삭제되므로 남아 있던 타이머는 stale 로 ack 된다
+        gameStateRepository.delete(gameId);
         try {
             timerService.stopTimer(gameId);
+        } catch (Exception e) {
+            log.warn("[endGame] 타이머 중지 실패 (stale 타이머로 정리됨): gameId={}", gameId, e);
+        }
+        try {
             messageBroadcaster.sendGameEnded(roomId, winnerTeam, players);
-            gameStateRepository.delete(gameId);
-
-            // Kafka: 게임 종료 이벤트 발행 (부스트 소진, 통계 집계 등 후속 처리용)
-            GameEndedEvent event = GameEndedEvent.builder()
-                    .eventId(UUID.randomUUID().toString())
-                    .gameId(gameId)
-                    .roomId(roomId)
-                    .winnerTeam(winnerTeam.name())
-                    .playerIds(players.stream().map(GamePlayerState::getPlayerId).toList())
-                    .build();
-            kafkaTemplate.send(KafkaTopics.GAME_ENDED, gameId, event);
-
-            log.info("[endGame] 게임 종료 처리 완료: gameId={}, winner={}", gameId, winnerTeam);
         } catch (Exception e) {
-            log.error("[endGame] 후속 처리 중 오류 발생 (DB는 커밋됨): gameId={}", gameId, e);
+            log.error("[endGame] 종료 알림 실패: gameId={}", gameId, e);
         }
+        log.info("[endGame] 게임 종료 처리 완료: gameId={}, winner={}", gameId, winnerTeam);
     }
 
     /**
@@ -423,25 +399,38 @@ public class GameService {
      * transition to and process the next phase, persist the updated state,
      * broadcast the phase switch, and start the phase timer.
      *
+     * <p>
+     * Must run on the owning node's GameActor (see GameCommandRouter), which
+     * applies a game's commands one at a time, so no distributed lock is taken.
+     * </p>
+     *
      * @param gameId the identifier of the game to advance; if the game is not found
      *               or not in progress this method is a no-op
+     * @return {@code true} once the timer that triggered the advance can be acked
      */
     public boolean advancePhase(String gameId) {
-        String lockKey = GAME_ADVANCE_LOCK_PREFIX + gameId;
-        RLock lock = redissonClient.getLock(lockKey);
+        long advanceStartNanos = System.nanoTime();
+        GamePhase exitedPhase = null;
+        String outcome = "skipped";
 
         try {
-            if (!lock.tryLock(5, 10, TimeUnit.SECONDS)) {
-                log.warn("[advancePhase] 락 획득 실패: gameId={}", gameId);
-                return false;
-            }
-
             GameState gameState = getGameState(gameId);
-            if (gameState == null || gameState.getStatus() != GameStatus.IN_PROGRESS)
+            if (gameState == null)
+                return true;
+
+            // 종료가 결정됐지만 결과 기록/정리가 실패했던 게임: 저장된 결과로 종료 처리만 재시도
+            if (gameState.getStatus() == GameStatus.ENDED) {
+                exitedPhase = gameState.getGamePhase();
+                resumeEndGame(gameState);
+                outcome = "ended";
+                return true;
+            }
+            if (gameState.getStatus() != GameStatus.IN_PROGRESS)
                 return true;
 
             // State Pattern: 현재 페이즈 상태 객체
-            GamePhaseState currentState = gamePhaseFactory.getState(gameState.getGamePhase());
+            exitedPhase = gameState.getGamePhase();
+            GamePhaseState currentState = gamePhaseFactory.getState(exitedPhase);
 
             // 1단계: 현재 페이즈 결과 처리 (State Pattern의 onExit에 위임)
             currentState.onExit(gameState, phaseResultProcessor);
@@ -450,8 +439,9 @@ public class GameService {
             Team winnerTeam = phaseResultProcessor.getWinnerIfGameEnded(gameState);
             if (winnerTeam != null) {
                 gameState.setStatus(GameStatus.ENDED);
-                gameStateRepository.save(gameState);
+                saveOwnedState(gameState);
                 endGame(gameId, winnerTeam);
+                outcome = "ended";
                 return true;
             }
 
@@ -461,23 +451,28 @@ public class GameService {
 
             // 3단계: 페이즈 종료 시간 설정 + 저장 + 타이머 시작
             gameState.setPhaseEndTime(System.currentTimeMillis() + (nextState.getDurationSeconds() * 1000L));
-            gameStateRepository.save(gameState);
+            saveOwnedState(gameState);
             sendPhaseSwitchMessage(gameState);
             timerService.startTimer(gameState);
+            outcome = "advanced";
             return true;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("[advancePhase] 락 획득 중 인터럽트: gameId={}", gameId, e);
-            return false;
         } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
+            gameMetrics.recordPhaseAdvance(exitedPhase, outcome, System.nanoTime() - advanceStartNanos);
         }
     }
 
+    private void resumeEndGame(GameState gameState) {
+        Team winnerTeam = gameState.checkWinner();
+        if (winnerTeam == null) {
+            log.error("[endGame] 종료 상태지만 승리 팀을 판정할 수 없음: gameId={}", gameState.getGameId());
+            return;
+        }
+        endGame(gameState.getGameId(), winnerTeam);
+    }
+
     /**
      * 투표 (Redis Hash 저장)
+     * - 같은 게임의 명령은 GameActor 가 순서대로 실행하므로 페이즈 확인과 저장 사이에 페이즈가 바뀌지 않는다
      */
     public void vote(String gameId, String voterId, String targetId) {
         GameState gameState = getGameState(gameId);
@@ -489,18 +484,9 @@ public class GameService {
 
         String votesKey = VOTE_KEY_PREFIX + gameId;
         try {
-            boolean stored = putHashIfPhaseMatches(
-                    gameId,
-                    votesKey,
-                    GamePhase.DAY_VOTING,
-                    gameState.getCurrentPhase(),
-                    voterId,
-                    targetId);
-            if (stored) {
-                log.debug("[투표] 성공: gameId={}, voterId={}, targetId={}", gameId, voterId, targetId);
-            } else {
-                log.warn("[투표] 무시됨(페이즈 변경/메타 없음): gameId={}, voterId={}", gameId, voterId);
-            }
+            stringRedisTemplate.opsForHash().put(votesKey, voterId, targetId);
+            gameMetrics.recordVote(GamePhase.DAY_VOTING);
+            log.debug("[투표] 성공: gameId={}, voterId={}, targetId={}", gameId, voterId, targetId);
         } catch (Exception e) {
             log.error("[투표] 오류: gameId={}", gameId, e);
         }
@@ -519,18 +505,9 @@ public class GameService {
 
         String finalVotesKey = FINAL_VOTE_KEY_PREFIX + gameId;
         try {
-            boolean stored = putHashIfPhaseMatches(
-                    gameId,
-                    finalVotesKey,
-                    GamePhase.DAY_FINAL_VOTING,
-                    gameState.getCurrentPhase(),
-                    voterId,
-                    voteChoice);
-            if (stored) {
-                log.debug("[최종투표] 성공: gameId={}, voterId={}, choice={}", gameId, voterId, voteChoice);
-            } else {
-                log.warn("[최종투표] 무시됨(페이즈 변경/메타 없음): gameId={}, voterId={}", gameId, voterId);
-            }
+            stringRedisTemplate.opsForHash().put(finalVotesKey, voterId, voteChoice);
+            gameMetrics.recordVote(GamePhase.DAY_FINAL_VOTING);
+            log.debug("[최종투표] 성공: gameId={}, voterId={}, choice={}", gameId, voterId, voteChoice);
         } catch (Exception e) {
             log.error("[최종투표] 오류: gameId={}", gameId, e);
         }
@@ -557,24 +534,15 @@ public class GameService {
 
         String nightActionsKey = NIGHT_ACTION_KEY_PREFIX + gameId;
         try {
-            boolean stored = putHashIfPhaseMatches(
-                    gameId,
-                    nightActionsKey,
-                    GamePhase.NIGHT_ACTION,
-                    gameState.getCurrentPhase(),
-                    actorId,
-                    targetId);
-            if (stored) {
-                log.debug("[밤행동] 성공: gameId={}, actorId={}, targetId={}", gameId, actorId, targetId);
-
-                // 경찰은 즉시 결과 확인
-                if (actor.getRole() == PlayerRole.POLICE) {
-                    GamePlayerState target = findPlayerById(gameState, targetId);
-                    if (target != null)
-                        sendPoliceInvestigationResult(actor, target);
-                }
-            } else {
-                log.warn("[밤행동] 무시됨(페이즈 변경/메타 없음): gameId={}, actorId={}", gameId, actorId);
+            stringRedisTemplate.opsForHash().put(nightActionsKey, actorId, targetId);
+            gameMetrics.recordVote(GamePhase.NIGHT_ACTION);
+            log.debug("[밤행동] 성공: gameId={}, actorId={}, targetId={}", gameId, actorId, targetId);
+
+            // 경찰은 즉시 결과 확인
+            if (actor.getRole() == PlayerRole.POLICE) {
+                GamePlayerState target = findPlayerById(gameState, targetId);
+                if (target != null)
+                    sendPoliceInvestigationResult(actor, target);
             }
         } catch (Exception e) {
             log.error("[밤행동] 오류: gameId={}", gameId, e);
@@ -598,48 +566,43 @@ public class GameService {
      *         found or not in the day discussion phase
      */
     public boolean updateTime(String gameId, String playerId, int seconds) {
-        String lockKey = GAME_ADVANCE_LOCK_PREFIX + gameId;
-        RLock lock = redissonClient.getLock(lockKey);
-
-        try {
-            if (!lock.tryLock(5, 10, TimeUnit.SECONDS)) {
-                log.warn("[updateTime] 락 획득 실패: gameId={}", gameId);
-                return false;
-            }
+        GameState gameState = getGameState(gameId);
+        if (gameState == null)
+            return false;
 
-            GameState gameState = getGameState(gameId);
-            if (gameState == null)
-                return false;
+        GamePlayerState player = findPlayerById(gameState, playerId);
+        if (player == null) {
+            return false;
+        }
 
-            GamePlayerState player = findPlayerById(gameState, playerId);
-            if (player == null) {
-                return false;
-            }
+        if (gameState.getGamePhase() != GamePhase.DAY_DISCUSSION) {
+            return false;
+        }
 
-            if (gameState.getGamePhase() != GamePhase.DAY_DISCUSSION) {
-                return false;
-            }
+        if (gameState.getPhaseEndTime() != null) {
+            gameState.setPhaseEndTime(gameState.getPhaseEndTime() + (seconds * 1000L));
+        }
 
-            if (gameState.getPhaseEndTime() != null) {
-                gameState.setPhaseEndTime(gameState.getPhaseEndTime() + (seconds * 1000L));
-            }
+        saveOwnedState(gameState);
+        sendTimerUpdate(gameState);
+        timerService.startTimer(gameState);
 
-            gameStateRepository.save(gameState);
-            sendTimerUpdate(gameState);
-            timerService.startTimer(gameState);
+        sendSystemMessage(gameState.getRoomId(), String.format("%s님이 시간을 %d초 %s했습니다.",
+                player.getPlayerName(), Math.abs(seconds), seconds > 0 ? "연장" : "단축"));
+        return true;
+    }
 
-            sendSystemMessage(gameState.getRoomId(), String.format("%s님이 시간을 %d초 %s했습니다.",
-                    player.getPlayerName(), Math.abs(seconds), seconds > 0 ? "연장" : "단축"));
-            return true;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("[updateTime] 락 획득 중 인터럽트: gameId={}", gameId, e);
-            return false;
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
+    /**
+     * GameActor 명령의 게임 상태 저장 (저장 직전에 소유권을 다시 확인)
+     * - 명령 실행 중 임대가 끊겼으면 새 소유 노드의 상태를 덮어쓰지 않도록 저장하지 않고 실패시킨다
+     * - 펜싱 토큰이 아니므로 확인과 저장 사이에 clock-skew-ms 보다 긴 정지(GC 등)가 있으면 겹칠 수 있다
+     */
+    private void saveOwnedState(GameState gameState) {
+        if (!gameOwnership.isOwnedLocally(gameState.getGameId())) {
+            log.warn("[GameActor] 소유권 상실로 게임 상태 저장 중단: gameId={}", gameState.getGameId());
+            throw ErrorCode.GAME_NOT_OWNER.commonException();
         }
+        gameStateRepository.save(gameState);
     }
 
     // --- Query Methods ---
@@ -684,50 +647,6 @@ public class GameService {
         return gameState.findPlayer(playerId);
     }
 
-    /**
-     * 페이즈 일치 확인 후 Hash에 값을 저장 (Redisson Lock으로 원자성 보장)
-     */
-    private boolean putHashIfPhaseMatches(String gameId, String hashKey, GamePhase expectedPhase,
-            int expectedCurrentPhase, String field, String value) {
-        String lockKey = GAME_ACTION_LOCK_PREFIX + gameId;
-        RLock lock = redissonClient.getLock(lockKey);
-
-        try {
-            if (!lock.tryLock(3, 5, TimeUnit.SECONDS)) {
-                log.warn("[putHashIfPhaseMatches] 락 획득 실패: gameId={}", gameId);
-                return false;
-            }
-
-            String metaKey = GAME_META_KEY_PREFIX + gameId;
-            List<Object> values = stringRedisTemplate.opsForHash().multiGet(metaKey,
-                    List.of("phase", "currentPhase", "status"));
-            Object phase = values.get(0);
-            Object current = values.get(1);
-            Object status = values.get(2);
-
-            if (phase == null || current == null || status == null) {
-                return false;
-            }
-
-            if (!expectedPhase.name().equals(phase.toString())
-                    || !String.valueOf(expectedCurrentPhase).equals(current.toString())
-                    || !"IN_PROGRESS".equals(status.toString())) {
-                return false;
-            }
-
-            stringRedisTemplate.opsForHash().put(hashKey, field, value);
-            return true;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("[putHashIfPhaseMatches] 락 획득 중 인터럽트: gameId={}", gameId, e);
-            return false;
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
-        }
-    }
-
     // --- Message Sending ---
 
     public void sendTimerUpdate(GameState gameState) {
@@ -4,6 +4,7 @@ import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import com.example.mafiagame.game.actor.GameCommandRouter;
 import com.example.mafiagame.game.domain.state.GameState;
 import com.example.mafiagame.game.repository.GameQueryRepository;
 
@@ -16,13 +17,13 @@ import lombok.extern.slf4j.Slf4j;
 public class GameTimerRecoveryService {
 
     private final GameQueryRepository gameQueryRepository;
-    private final RedisTimerService redisTimerService;
+    private final GameCommandRouter gameCommandRouter;
 
     @EventListener(ApplicationReadyEvent.class)
     public void recoverTimers() {
         for (GameState gameState : gameQueryRepository.findInProgressGames()) {
             try {
-                boolean recovered = redisTimerService.recoverMissingTimer(gameState);
+                boolean recovered = gameCommandRouter.recoverTimer(gameState.getGameId());
                 if (!recovered) {
                     continue;
                 }
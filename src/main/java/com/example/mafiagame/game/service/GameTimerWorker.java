@@ -7,11 +7,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.example.mafiagame.game.actor.GameCommandRouter;
 import com.example.mafiagame.game.domain.state.GameStatus;
 import com.example.mafiagame.game.repository.GameStateRepository;
 import com.example.mafiagame.game.repository.GameTimerRepository;
 import com.example.mafiagame.game.timer.GameTimerJob;
 import com.example.mafiagame.game.timer.GameTimerMeta;
+import com.example.mafiagame.global.metrics.GameMetrics;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,7 +27,8 @@ public class GameTimerWorker implements DisposableBean {
 
     private final GameTimerRepository gameTimerRepository;
     private final GameStateRepository gameStateRepository;
-    private final GameService gameService;
+    private final GameCommandRouter gameCommandRouter;
+    private final GameMetrics gameMetrics;
 
     @Value("${game.timer.worker.batch-size:20}")
     private int batchSize;
@@ -82,24 +85,29 @@ public class GameTimerWorker implements DisposableBean {
     }
 
     private void process(GameTimerJob timerJob) {
+        long start = System.nanoTime();
+        String result = "failed";
         boolean ackRequired = false;
         try {
             if (!isProcessable(timerJob)) {
                 log.debug("[GameTimerWorker] stale timer skipped: gameId={}, phase={}, currentPhase={}",
                         timerJob.gameId(), timerJob.phase(), timerJob.currentPhase());
                 ackRequired = true;
+                result = "stale";
                 return;
             }
 
             log.info("[GameTimerWorker] due timer claimed: gameId={}, phase={}, currentPhase={}",
                     timerJob.gameId(), timerJob.phase(), timerJob.currentPhase());
-            ackRequired = gameService.advancePhase(timerJob.gameId());
+            ackRequired = gameCommandRouter.advancePhase(timerJob.gameId());
+            result = ackRequired ? "advanced" : "retry";
         } catch (Exception e) {
             log.error("[GameTimerWorker] timer processing failed: gameId={}", timerJob.gameId(), e);
         } finally {
             if (ackRequired) {
                 gameTimerRepository.ack(timerJob);
             }
+            gameMetrics.recordTimerProcess(result, System.nanoTime() - start);
         }
     }
 
@@ -113,7 +121,8 @@ public class GameTimerWorker implements DisposableBean {
             return false;
         }
 
-        if (meta.status() != GameStatus.IN_PROGRESS) {
+        // ENDED 는 결과 기록 전에 실패한 종료 처리 (advancePhase 가 종료만 재시도)
+        if (meta.status() != GameStatus.IN_PROGRESS && meta.status() != GameStatus.ENDED) {
             return false;
         }
 
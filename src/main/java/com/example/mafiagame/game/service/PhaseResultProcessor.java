@@ -5,7 +5,7 @@ import com.example.mafiagame.game.domain.state.GameState;
 import com.example.mafiagame.game.domain.state.GameStatus;
 import com.example.mafiagame.game.domain.state.PlayerRole;
 import com.example.mafiagame.game.domain.state.Team;
-import com.example.mafiagame.game.repository.GameStateRepository;
+import com.example.mafiagame.game.domain.state.VoteTally;
 import com.example.mafiagame.game.strategy.NightActionResult;
 import com.example.mafiagame.game.strategy.RoleActionFactory;
 import com.example.mafiagame.game.strategy.RoleActionStrategy;
@@ -20,7 +20,6 @@ import java.util.ArrayList;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 페이즈 종료 시 결과 처리를 담당하는 서비스
@@ -30,17 +29,14 @@ import java.util.stream.Collectors;
 @Slf4j
 public class PhaseResultProcessor {
 
-    private final GameStateRepository gameStateRepository;
     private final StringRedisTemplate stringRedisTemplate;
     private final WebSocketMessageBroadcaster messageBroadcaster;
     private final RoleActionFactory roleActionFactory;
 
     public PhaseResultProcessor(
-            GameStateRepository gameStateRepository,
             @Qualifier("coreStringRedisTemplate") StringRedisTemplate stringRedisTemplate,
             WebSocketMessageBroadcaster messageBroadcaster,
             RoleActionFactory roleActionFactory) {
-        this.gameStateRepository = gameStateRepository;
         this.stringRedisTemplate = stringRedisTemplate;
         this.messageBroadcaster = messageBroadcaster;
         this.roleActionFactory = roleActionFactory;
@@ -50,14 +46,18 @@ public class PhaseResultProcessor {
     private static final String FINAL_VOTE_KEY_PREFIX = "game:finalvotes:";
     private static final String NIGHT_ACTION_KEY_PREFIX = "game:nightactions:";
 
+    private static final String FINAL_VOTE_AGREE = "AGREE";
+    private static final String FINAL_VOTE_DISAGREE = "DISAGREE";
+    private static final int AGREE = 0;
+    private static final int DISAGREE = 1;
+
     // ==================== 페이즈 결과 처리 ====================
 
     /**
-     * DAY_DISCUSSION 종료 시: 투표 시간 연장 리스트 초기화
+     * DAY_DISCUSSION 종료 시: 투표 시간 연장 리스트 초기화 (저장은 advancePhase 가 소유 확인 후 수행)
      */
     public void flushExtendVotingList(GameState gameState) {
         gameState.getVotingTimeExtensionsUsed().clear();
-        gameStateRepository.save(gameState);
     }
 
     /**
@@ -66,19 +66,15 @@ public class PhaseResultProcessor {
     public void processDayVoting(GameState gameState) {
         syncVotesFromRedis(gameState);
 
-        List<String> topVotedIds = gameState.getTopVotedPlayerIds();
-        if (topVotedIds.size() != 1) {
+        int winner = gameState.tallyVotes().winner();
+        if (winner < 0) {
             sendSystemMessage(gameState.getRoomId(), "투표가 무효 처리되어 밤으로 넘어갑니다.");
             gameState.setVotedPlayerId(null);
         } else {
-            String votedId = topVotedIds.get(0);
-            gameState.setVotedPlayerId(votedId);
-
-            GamePlayerState player = gameState.findPlayer(votedId);
-            if (player != null) {
-                sendSystemMessage(gameState.getRoomId(),
-                        String.format("투표 결과 %s님이 최다 득표자가 되었습니다. 최후 변론을 시작합니다.", player.getPlayerName()));
-            }
+            GamePlayerState player = gameState.playerAt(winner);
+            gameState.setVotedPlayerId(player.getPlayerId());
+            sendSystemMessage(gameState.getRoomId(),
+                    String.format("투표 결과 %s님이 최다 득표자가 되었습니다. 최후 변론을 시작합니다.", player.getPlayerName()));
         }
         gameState.getVotes().clear();
         clearVotesFromRedis(gameState.getGameId());
@@ -90,15 +86,10 @@ public class PhaseResultProcessor {
     public void processFinalVoting(GameState gameState) {
         syncFinalVotesFromRedis(gameState);
 
-        long agree = gameState.getFinalVotes().values().stream()
-                .filter(vote -> "AGREE".equals(vote)).count();
-        long disagree = gameState.getFinalVotes().values().stream()
-                .filter(vote -> "DISAGREE".equals(vote)).count();
-
-        if (agree > disagree) {
+        if (isExecutionApproved(gameState)) {
             GamePlayerState player = gameState.findPlayer(gameState.getVotedPlayerId());
             if (player != null) {
-                player.setAlive(false);
+                gameState.killPlayer(player, gameState.getCurrentPhase());
                 sendSystemMessage(gameState.getRoomId(),
                         String.format("최종 투표 결과, %s님이 처형되었습니다.", player.getPlayerName()));
             }
@@ -107,6 +98,21 @@ public class PhaseResultProcessor {
         checkGameEnd(gameState);
     }
 
+    /**
+     * 찬성 가중 득표가 반대보다 많으면 처형
+     */
+    private static boolean isExecutionApproved(GameState gameState) {
+        VoteTally tally = new VoteTally(2);
+        for (Map.Entry<String, String> vote : gameState.getFinalVotes().entrySet()) {
+            if (FINAL_VOTE_AGREE.equals(vote.getValue())) {
+                tally.add(AGREE, gameState.voteWeightOf(vote.getKey()));
+            } else if (FINAL_VOTE_DISAGREE.equals(vote.getValue())) {
+                tally.add(DISAGREE, gameState.voteWeightOf(vote.getKey()));
+            }
+        }
+        return tally.countOf(AGREE) > tally.countOf(DISAGREE);
+    }
+
     /**
      * NIGHT_ACTION 종료 시: 밤 행동 결과 처리
      */
@@ -119,7 +125,8 @@ public class PhaseResultProcessor {
 
     // ==================== 밤 행동 결과 계산 ====================
 
-    private void processNightActions(GameState gameState) {
+    // package-private: JMH 벤치마크(src/jmh)에서 Redis 동기화 없이 직접 호출
+    void processNightActions(GameState gameState) {
         List<NightActionResult> results = new ArrayList<>();
 
         for (Map.Entry<String, String> action : gameState.getNightActions().entrySet()) {
@@ -143,29 +150,24 @@ public class PhaseResultProcessor {
             }
         }
 
-        // 마피아 공격 결과 계산
-        String mafiaTargetId = results.stream()
-                .filter(r -> r.getActorRole() == PlayerRole.MAFIA)
-                .collect(Collectors.groupingBy(NightActionResult::getTargetId, Collectors.counting()))
-                .entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
-
-        // 의사 보호 대상 확인
-        String doctorTargetId = results.stream()
-                .filter(r -> r.getActorRole() == PlayerRole.DOCTOR)
-                .map(NightActionResult::getTargetId)
-                .findFirst()
-                .orElse(null);
+        // 마피아 공격 대상 집계 + 의사 보호 대상 확인 (한 번 순회)
+        // 마피아끼리 표가 갈리면 최다 득표에 먼저 도달한 대상
+        VoteTally mafiaTally = new VoteTally(gameState.getPlayers().size());
+        int doctorTarget = -1;
+        for (NightActionResult result : results) {
+            if (result.getActorRole() == PlayerRole.MAFIA) {
+                mafiaTally.add(gameState.indexOfPlayer(result.getTargetId()), 1);
+            } else if (result.getActorRole() == PlayerRole.DOCTOR && doctorTarget < 0) {
+                doctorTarget = gameState.indexOfPlayer(result.getTargetId());
+            }
+        }
 
         // 결과 처리
-        if (mafiaTargetId != null && !mafiaTargetId.equals(doctorTargetId)) {
-            GamePlayerState killed = gameState.findPlayer(mafiaTargetId);
-            if (killed != null) {
-                killed.setAlive(false);
-                sendSystemMessage(gameState.getRoomId(), "지난 밤, " + killed.getPlayerName() + "님이 마피아의 공격으로 사망했습니다.");
-            }
+        int mafiaTarget = mafiaTally.leader();
+        if (mafiaTarget >= 0 && mafiaTarget != doctorTarget) {
+            GamePlayerState killed = gameState.playerAt(mafiaTarget);
+            gameState.killPlayer(killed, gameState.getCurrentPhase());
+            sendSystemMessage(gameState.getRoomId(), "지난 밤, " + killed.getPlayerName() + "님이 마피아의 공격으로 사망했습니다.");
         } else {
             sendSystemMessage(gameState.getRoomId(), "지난 밤, 아무 일도 일어나지 않았습니다.");
         }
@@ -1,11 +1,7 @@
 package com.example.mafiagame.game.service;
 
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import com.example.mafiagame.game.domain.state.GameState;
@@ -20,19 +16,14 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class RedisTimerService {
 
-    private static final String GAME_ADVANCE_LOCK_PREFIX = "lock:game:advance:";
-
     private final GameStateRepository gameStateRepository;
     private final GameTimerRepository gameTimerRepository;
-    private final RedissonClient redissonClient;
 
     public RedisTimerService(
             GameStateRepository gameStateRepository,
-            GameTimerRepository gameTimerRepository,
-            @Qualifier("coreRedissonClient") RedissonClient redissonClient) {
+            GameTimerRepository gameTimerRepository) {
         this.gameStateRepository = gameStateRepository;
         this.gameTimerRepository = gameTimerRepository;
-        this.redissonClient = redissonClient;
     }
 
     /**
@@ -59,9 +50,9 @@ public class RedisTimerService {
     }
 
     /**
-     * 서버 재기동 복구용.
-     * 같은 게임 단위 락 안에서 최신 상태 재조회, hasScheduledTimer 체크, 타이머 등록을 수행해
-     * 클러스터 동시 기동 시에도 중복 복구를 방지한다.
+     * 서버 재기동/소유 노드 변경 후 복구용.
+     * 소유 노드의 GameActor 안에서 최신 상태로 호출되므로(GameCommandRouter.recoverTimer)
+     * hasScheduledTimer 체크와 타이머 등록 사이에 같은 게임의 다른 명령이 끼어들지 않는다.
      *
      * @return 실제로 누락된 타이머를 복구해 등록한 경우에만 true
      */
@@ -71,42 +62,24 @@ public class RedisTimerService {
         }
 
         String gameId = gameState.getGameId();
-        RLock lock = redissonClient.getLock(GAME_ADVANCE_LOCK_PREFIX + gameId);
-
-        try {
-            if (!lock.tryLock(3, 5, TimeUnit.SECONDS)) {
-                log.warn("[recoverMissingTimer] 게임 락 획득 실패: gameId={}", gameId);
-                return false;
-            }
-
-            GameState latestGameState = gameStateRepository.findById(gameId).orElse(null);
-            if (latestGameState == null || latestGameState.getStatus() != GameStatus.IN_PROGRESS) {
-                log.debug("[recoverMissingTimer] 복구 스킵: 게임이 없거나 진행 중이 아님. gameId={}, status={}", gameId,
-                        latestGameState != null ? latestGameState.getStatus() : null);
-                return false;
-            }
-
-            if (latestGameState.getPhaseEndTime() == null || latestGameState.getPhaseEndTime() <= 0) {
-                log.warn("[recoverMissingTimer] 복구 스킵: 종료 시간이 유효하지 않음. gameId={}", gameId);
-                return false;
-            }
-
-            if (gameTimerRepository.hasScheduledTimer(gameId)) {
-                log.debug("[recoverMissingTimer] 복구 스킵: 이미 타이머가 등록됨. gameId={}", gameId);
-                return false;
-            }
-
-            startTimer(latestGameState);
-            return true;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("[recoverMissingTimer] 게임 락 획득 중 인터럽트: gameId={}", gameId, e);
+        if (gameState.getStatus() != GameStatus.IN_PROGRESS) {
+            log.debug("[recoverMissingTimer] 복구 스킵: 게임이 진행 중이 아님. gameId={}, status={}", gameId,
+                    gameState.getStatus());
             return false;
-        } finally {
-            if (lock.isHeldByCurrentThread()) {
-                lock.unlock();
-            }
         }
+
+        if (gameState.getPhaseEndTime() == null || gameState.getPhaseEndTime() <= 0) {
+            log.warn("[recoverMissingTimer] 복구 스킵: 종료 시간이 유효하지 않음. gameId={}", gameId);
+            return false;
+        }
+
+        if (gameTimerRepository.hasScheduledTimer(gameId)) {
+            log.debug("[recoverMissingTimer] 복구 스킵: 이미 타이머가 등록됨. gameId={}", gameId);
+            return false;
+        }
+
+        startTimer(gameState);
+        return true;
     }
 
     /**
@@ -0,0 +1,96 @@
+package com.example.mafiagame.game.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.mafiagame.game.domain.state.GamePhase;
+import com.example.mafiagame.game.domain.state.PlayerRole;
+
+/**
+ * 채팅 추천 문구 로컬 카탈로그
+ * - 역할/페이즈별 기본 문구: 서버 시작 시 한 번 불변 Map 으로 적재 (조회 시 Redis 왕복 없음)
+ * - 게임별 AI 문구: 버전(생성 시각 ms)과 만료 시각을 함께 보관, 더 새 버전만 덮어씀
+ * - 만료 항목은 조회 시 제거하고, 끝난 게임처럼 다시 조회되지 않는 항목은 주기 정리로 제거
+ */
+@Component
+public class SuggestionCatalog {
+
+    private final LongSupplier clock;
+    private final Map<String, GameSuggestions> gameSuggestions = new ConcurrentHashMap<>();
+
+    private volatile Map<Slot, List<String>> baseSuggestions = Map.of();
+
+    public SuggestionCatalog() {
+        this(System::currentTimeMillis);
+    }
+
+    SuggestionCatalog(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * 기본 문구 전체 교체 (불변 사본으로 보관)
+     */
+    public void loadBase(Map<Slot, List<String>> suggestions) {
+        Map<Slot, List<String>> copy = new HashMap<>();
+        suggestions.forEach((slot, list) -> copy.put(slot, List.copyOf(list)));
+        this.baseSuggestions = Map.copyOf(copy);
+    }
+
+    public List<String> base(PlayerRole role, GamePhase phase) {
+        return baseSuggestions.getOrDefault(new Slot(role, phase), List.of());
+    }
+
+    /**
+     * 게임별 문구 조회
+     *
+     * @return 만료되지 않은 문구, 없으면 null
+     */
+    public GameSuggestions game(String key) {
+        GameSuggestions cached = gameSuggestions.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAtMillis() <= clock.getAsLong()) {
+            gameSuggestions.remove(key, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * 게임별 문구 저장 (이미 더 새 버전이 있으면 무시)
+     *
+     * @return 저장했으면 true
+     */
+    public boolean putGame(String key, List<String> suggestions, long version, long ttlMillis) {
+        long now = clock.getAsLong();
+        GameSuggestions candidate = new GameSuggestions(List.copyOf(suggestions), version, now + ttlMillis);
+        GameSuggestions stored = gameSuggestions.merge(key, candidate,
+                (current, incoming) -> incoming.version() >= current.version() || current.expiresAtMillis() <= now
+                        ? incoming
+                        : current);
+        return stored == candidate;
+    }
+
+    /**
+     * 끝난 게임 항목이 쌓이지 않도록 만료 항목 정리 (저장할 때마다 전체를 훑지 않도록 주기 실행)
+     */
+    @Scheduled(fixedDelayString = "${mafiagame.suggestion.evict-delay-ms:60000}")
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        gameSuggestions.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+    }
+
+    public record Slot(PlayerRole role, GamePhase phase) {
+    }
+
+    public record GameSuggestions(List<String> suggestions, long version, long expiresAtMillis) {
+    }
+}
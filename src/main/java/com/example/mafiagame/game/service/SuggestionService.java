@@ -4,23 +4,34 @@ import com.example.mafiagame.game.domain.state.GamePhase;
 import com.example.mafiagame.game.domain.state.GameState;
 import com.example.mafiagame.game.domain.state.PlayerRole;
 import com.example.mafiagame.game.repository.GameStateRepository;
+import com.example.mafiagame.global.client.AiRequestScheduler;
+import com.example.mafiagame.global.client.AiResponseCache;
 import com.example.mafiagame.global.client.GeminiApiClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * 채팅 추천 문구 서비스
- * - 역할/페이즈별 추천 문구 관리
+ * - 역할/페이즈별 추천 문구 관리 (SuggestionCatalog 에서 메모리 조회)
  * - AI 기반 실시간/문맥 기반 추천 생성
+ * - AI 호출은 AiRequestScheduler 로 게임별 병합/전역 요청 제한 후 가상 스레드에서 실행
+ * - 같은 프롬프트 지문의 응답은 AiResponseCache 에서 재사용, 요청 한도 초과 시 기본 추천으로 대체
  */
 @Service
 @RequiredArgsConstructor
@@ -29,6 +40,9 @@ public class SuggestionService {
 
     private final StringRedisTemplate stringRedisTemplate;
     private final GeminiApiClient geminiApiClient;
+    private final AiRequestScheduler aiRequestScheduler;
+    private final AiResponseCache aiResponseCache;
+    private final SuggestionCatalog suggestionCatalog;
     private final GameStateRepository gameStateRepository;
     private final org.springframework.messaging.simp.SimpMessagingTemplate messagingTemplate;
 
@@ -36,47 +50,59 @@ public class SuggestionService {
     private static final String GAME_SUGGESTION_PREFIX = "suggestion:game:";
     private static final String CHAT_LOG_PREFIX = "chat:logs:";
     private static final long AI_SUGGESTION_TTL_SECONDS = 60;
+    private static final int AI_CONTEXT_LINES = 5;
+    // Redis 에서 읽어 온 게임별 추천(다른 노드 생성분)은 버전 0, 짧게만 보관 (새로 생성된 버전이 항상 우선)
+    private static final long REMOTE_VERSION = 0;
+    private static final long REMOTE_REFRESH_MILLIS = 5_000;
 
     /**
      * 역할별/페이즈별 기본 추천 문구 초기화 (서버 시작 시 1회 호출)
+     * - 로컬 카탈로그에 불변 Map 으로 적재하고, Redis 에는 파이프라인 한 번으로 기록
      */
     public void initAllSuggestions() {
+        Map<SuggestionCatalog.Slot, List<String>> suggestions = new LinkedHashMap<>();
+
         // ==================== 밤 액션 ====================
         List<String> MafiaNightSuggestion = List.of("누구 죽일까요?", "의사 같은 사람 죽여요", "경찰 같은 사람 죽여요", "조용한 사람 노려요",
                 "말 많은 사람 죽여요");
-        initSuggestions(PlayerRole.MAFIA, GamePhase.NIGHT_ACTION, MafiaNightSuggestion);
+        suggestions.put(new SuggestionCatalog.Slot(PlayerRole.MAFIA, GamePhase.NIGHT_ACTION), MafiaNightSuggestion);
 
         // ==================== 낮 토론 ====================
         List<String> dayDiscussionSuggestions = List.of(
                 "경찰 조사 결과 누구야??", "저는 시민이에요.", "스킵할까요?");
 
         for (PlayerRole role : PlayerRole.values()) {
-            initSuggestions(role, GamePhase.DAY_DISCUSSION, dayDiscussionSuggestions);
+            suggestions.put(new SuggestionCatalog.Slot(role, GamePhase.DAY_DISCUSSION), dayDiscussionSuggestions);
         }
 
         // ==================== 낮 투표 ====================
         List<String> dayVotingSuggestions = List.of(
                 "1번 투표해요", "2번 수상해요", "3번 찍어요", "스킵할까요?");
         for (PlayerRole role : PlayerRole.values()) {
-            initSuggestions(role, GamePhase.DAY_VOTING, dayVotingSuggestions);
+            suggestions.put(new SuggestionCatalog.Slot(role, GamePhase.DAY_VOTING), dayVotingSuggestions);
         }
-        log.info("채팅 추천 문구 초기화 완료");
-    }
 
-    public void initSuggestions(PlayerRole role, GamePhase phase, List<String> suggestions) {
-        String key = buildGlobalSuggestionKey(role, phase);
+        suggestionCatalog.loadBase(suggestions);
+        initSuggestions(suggestions);
+        log.info("채팅 추천 문구 초기화 완료: slots={}", suggestions.size());
+    }
 
+    private void initSuggestions(Map<SuggestionCatalog.Slot, List<String>> suggestions) {
         // 기존 데이터가 있다면 삭제하고 새로 등록 (항상 최신 상태 유지)
-        stringRedisTemplate.delete(key);
-
-        log.info("추천 문구 초기화 저장: key={}, count={}", key, suggestions.size());
-        for (String suggestion : suggestions) {
-            stringRedisTemplate.opsForList().rightPush(key, suggestion);
-        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            suggestions.forEach((slot, list) -> {
+                String key = buildGlobalSuggestionKey(slot.role(), slot.phase());
+                stringConnection.del(key);
+                stringConnection.rPush(key, list.toArray(new String[0]));
+            });
+            return null;
+        });
     }
 
     /**
      * 역할과 페이즈에 따른 추천 문구 조회
+     * - 게임별 AI 추천은 로컬 카탈로그 우선, 없으면 다른 노드가 만든 Redis 값을 한 번 읽어 잠깐 보관
      */
     // 오버로딩: gameId가 있는 경우
     public List<String> getSuggestions(PlayerRole role, GamePhase phase, String gameId) {
@@ -85,31 +111,38 @@ public class SuggestionService {
 
         if (gameId != null) {
             String gameKey = buildGameSuggestionKey(gameId, effectiveRole, phase);
-            List<String> aiSuggestions = stringRedisTemplate.opsForList().range(gameKey, 0, -1);
-            if (aiSuggestions != null && !aiSuggestions.isEmpty()) {
-                log.info("게임별 AI 추천(Redis) 발견: key={}, size={}", gameKey, aiSuggestions.size());
-                return aiSuggestions;
-            } else {
-                log.info("게임별 AI 추천 없음: key={}", gameKey);
+            SuggestionCatalog.GameSuggestions cached = suggestionCatalog.game(gameKey);
+            if (cached == null) {
+                List<String> remote = stringRedisTemplate.opsForList().range(gameKey, 0, -1);
+                List<String> aiSuggestions = remote != null ? remote : List.of();
+                suggestionCatalog.putGame(gameKey, aiSuggestions, REMOTE_VERSION, REMOTE_REFRESH_MILLIS);
+                cached = suggestionCatalog.game(gameKey);
+            }
+            if (cached != null && !cached.suggestions().isEmpty()) {
+                return cached.suggestions();
             }
         }
         return getSuggestions(effectiveRole, phase); // Fallback to global
     }
 
     public List<String> getSuggestions(PlayerRole role, GamePhase phase) {
-        String key = buildGlobalSuggestionKey(role, phase);
-        List<String> suggestions = stringRedisTemplate.opsForList().range(key, 0, -1);
-        log.info("전역 기본 추천(Redis) 조회: key={}, size={}", key, suggestions != null ? suggestions.size() : "null");
-        return suggestions != null ? suggestions : List.of();
+        return suggestionCatalog.base(role, phase);
     }
 
     // 밤 페이즈에서 AI 추천을 받을 역할 목록 (마피아끼리만 대화)
     private static final Set<PlayerRole> NIGHT_SUGGESTION_ROLES = Set.of(
             PlayerRole.MAFIA);
 
-    // AI 문구 생성 및 캐싱
-    @Async
+    /**
+     * AI 문구 생성 요청 (호출 스레드를 막지 않음)
+     * - 같은 게임의 생성이 진행 중이면 마지막 요청만 이어서 실행 (실행 시점의 최신 채팅 로그 사용)
+     */
     public void generateAiSuggestionsAsync(String gameId, GamePhase phase) {
+        aiRequestScheduler.submit(gameId, () -> generateAiSuggestions(gameId, phase));
+    }
+
+    // AI 문구 생성 및 캐싱
+    private void generateAiSuggestions(String gameId, GamePhase phase) {
         // 1. 게임 상태 조회
         GameState gameState = gameStateRepository.findById(gameId).orElse(null);
         if (gameState == null)
@@ -117,88 +150,160 @@ public class SuggestionService {
 
         String roomId = gameState.getRoomId();
 
-        // 2. 최근 채팅 로그 조회 (Redis 직접 조회)
+        // 2. 최근 채팅 로그 조회 (Redis 직접 조회, 마지막 AI_CONTEXT_LINES 줄만 사용)
         String chatLogKey = CHAT_LOG_PREFIX + roomId;
-        List<String> chatLogs = stringRedisTemplate.opsForList().range(chatLogKey, 0, -1);
-        String chatContext = (chatLogs != null) ? String.join("\n", chatLogs) : "";
+        List<String> chatLogs = stringRedisTemplate.opsForList().range(chatLogKey, -AI_CONTEXT_LINES, -1);
+        List<String> recentLogs = (chatLogs != null) ? chatLogs : List.of();
 
         // 3. 페이즈별 추천 대상 역할 결정
         if (isDayPhase(phase)) {
             // DAY: 모든 역할이 동일한 추천 공유 (CITIZEN 키 사용)
-            generateAndCacheForRole(gameId, phase, PlayerRole.CITIZEN, chatContext);
+            generateAndCacheForRole(gameId, phase, PlayerRole.CITIZEN, recentLogs);
         } else {
             // NIGHT: 설정된 역할만 추천 생성 (현재는 MAFIA만)
             for (PlayerRole role : NIGHT_SUGGESTION_ROLES) {
-                generateAndCacheForRole(gameId, phase, role, chatContext);
+                generateAndCacheForRole(gameId, phase, role, recentLogs);
             }
         }
     }
 
-    private void generateAndCacheForRole(String gameId, GamePhase phase, PlayerRole role, String chatContext) {
+    private void generateAndCacheForRole(String gameId, GamePhase phase, PlayerRole role, List<String> recentLogs) {
         log.info("AI 추천 생성 시작: gameId={}, role={}, phase={}", gameId, role, phase);
         try {
-            String prompt = String.format("""
-                    Context: Mafia Game (Social Deduction Game)
-                    Current Phase: %s
-                    Role: %s
-                    Language: Korean (Casual, Chat-style)
-                    Recent Chat Logs:
-                    %s
-
-                    Task: Suggest 3 short, natural chat messages for this role to say in this situation.
-                    - If Mafia: Try to blend in or mislead nicely.
-                    - If Police/Doctor: Act like a citizen or give subtle hints.
-                    - If Citizen: Try to find the Mafia.
-                    - Keep it under 20 characters per message.
-                    - Return ONLY the messages, separated by specific delimiter '|||'.
-                    Example: 나 진짜 시민임|||누가 마피아 같아?|||3번 좀 수상한데
-                    """, phase.name(), role.name(), chatContext.isEmpty() ? "(No chat yet)" : chatContext);
-
-            String response = geminiApiClient.generateContent(prompt);
-
-            if (response != null && !response.isBlank()) {
-                List<String> cleanedSuggestions = new ArrayList<>();
-                for (String s : response.split("\\|\\|\\|")) {
-                    if (s != null && !s.isBlank()) {
-                        cleanedSuggestions.add(s.trim());
+            // 같은 지문(페이즈/역할/정규화한 최근 채팅)의 응답이 캐시에 있으면 API 호출 생략
+            String fingerprint = promptFingerprint(phase, role, recentLogs);
+            List<String> cleanedSuggestions = aiResponseCache.get(fingerprint);
+            if (cleanedSuggestions == null) {
+                try (AiRequestScheduler.Permit permit = aiRequestScheduler.tryAcquire(gameId)) {
+                    if (permit == null) {
+                        // 요청 한도 초과: 푸시하지 않음 (클라이언트는 페이즈 시작 시 받은 기본 추천을 그대로 사용)
+                        log.info("AI 추천 생략(요청 한도): gameId={}, role={}, phase={}", gameId, role, phase);
+                        return;
                     }
+                    cleanedSuggestions = requestSuggestions(phase, role, recentLogs);
                 }
-
-                String key = buildGameSuggestionKey(gameId, role, phase);
-                if (key == null) {
-                    log.error("AI 추천 키 생성 실패 (null): gameId={}, role={}, phase={}", gameId, role, phase);
+                if (cleanedSuggestions == null) {
+                    log.warn("AI 응답이 비어있음: gameId={}, role={}", gameId, role);
                     return;
                 }
-                if (cleanedSuggestions.isEmpty()) {
-                    log.warn("AI 추천 결과가 비어있음: gameId={}, role={}", gameId, role);
-                    stringRedisTemplate.delete(key);
-                    return;
+                if (!cleanedSuggestions.isEmpty()) {
+                    aiResponseCache.put(fingerprint, cleanedSuggestions);
                 }
-
-                cacheSuggestionsAtomically(key, cleanedSuggestions);
-                log.info("AI 추천 생성 성공 및 Redis 저장: key={}, count={}", key, cleanedSuggestions.size());
-
-                // WebSocket 알림 전송 (해당 역할을 가진 플레이어들에게만)
-                notifyPlayers(gameId, role, cleanedSuggestions.toArray(new String[0]));
             } else {
-                log.warn("AI 응답이 비어있음: gameId={}, role={}", gameId, role);
+                log.info("AI 추천 캐시 적중: gameId={}, role={}, phase={}", gameId, role, phase);
+            }
+
+            String key = buildGameSuggestionKey(gameId, role, phase);
+            if (key == null) {
+                log.error("AI 추천 키 생성 실패 (null): gameId={}, role={}, phase={}", gameId, role, phase);
+                return;
+            }
+            if (cleanedSuggestions.isEmpty()) {
+                log.warn("AI 추천 결과가 비어있음: gameId={}, role={}", gameId, role);
+                stringRedisTemplate.delete(key);
+                return;
             }
+
+            long version = System.currentTimeMillis();
+            suggestionCatalog.putGame(key, cleanedSuggestions, version,
+                    Duration.ofSeconds(AI_SUGGESTION_TTL_SECONDS).toMillis());
+            cacheSuggestionsAtomically(key, cleanedSuggestions);
+            log.info("AI 추천 생성 성공 및 저장: key={}, count={}, version={}", key, cleanedSuggestions.size(), version);
+
+            // WebSocket 알림 전송 (해당 역할을 가진 플레이어들에게만, 클라이언트는 더 새 버전만 반영)
+            notifyPlayers(gameId, role, phase, cleanedSuggestions, version);
         } catch (Exception e) {
             log.error("AI 생성 실패", e);
         }
     }
 
-    private void notifyPlayers(String gameId, PlayerRole role, String[] suggestions) {
+    /**
+     * Gemini 호출 후 응답을 문구 목록으로 분리
+     *
+     * @return 문구 목록, 응답이 없으면 null
+     */
+    private List<String> requestSuggestions(GamePhase phase, PlayerRole role, List<String> recentLogs) {
+        String chatContext = String.join("\n", recentLogs);
+        String prompt = String.format("""
+                Context: Mafia Game (Social Deduction Game)
+                Current Phase: %s
+                Role: %s
+                Language: Korean (Casual, Chat-style)
+                Recent Chat Logs:
+                %s
+
+                Task: Suggest 3 short, natural chat messages for this role to say in this situation.
+                - If Mafia: Try to blend in or mislead nicely.
+                - If Police/Doctor: Act like a citizen or give subtle hints.
+                - If Citizen: Try to find the Mafia.
+                - Keep it under 20 characters per message.
+                - Return ONLY the messages, separated by specific delimiter '|||'.
+                Example: 나 진짜 시민임|||누가 마피아 같아?|||3번 좀 수상한데
+                """, phase.name(), role.name(), chatContext.isEmpty() ? "(No chat yet)" : chatContext);
+
+        String response = geminiApiClient.generateContent(prompt);
+        if (response == null || response.isBlank()) {
+            return null;
+        }
+
+        List<String> cleanedSuggestions = new ArrayList<>();
+        for (String s : response.split("\\|\\|\\|")) {
+            if (s != null && !s.isBlank()) {
+                cleanedSuggestions.add(s.trim());
+            }
+        }
+        return cleanedSuggestions;
+    }
+
+    /**
+     * 프롬프트 지문: 페이즈 + 역할 + 정규화한 최근 채팅의 SHA-256
+     * - 닉네임/대소문자/문장부호/반복 문자(ㅋㅋㅋㅋ)/공백 차이는 같은 지문으로 본다
+     */
+    static String promptFingerprint(GamePhase phase, PlayerRole role, List<String> recentLogs) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String line : recentLogs) {
+                String normalized = normalizeChatLine(line);
+                if (!normalized.isEmpty()) {
+                    digest.update(normalized.getBytes(StandardCharsets.UTF_8));
+                    digest.update((byte) '\n');
+                }
+            }
+            return phase.name() + ":" + role.name() + ":" + HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String normalizeChatLine(String line) {
+        if (line == null) {
+            return "";
+        }
+        // "닉네임: 내용" 형식이면 닉네임 제거
+        int separator = line.indexOf(": ");
+        String content = separator >= 0 ? line.substring(separator + 2) : line;
+        return content.toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}\\s]", "")
+                .replaceAll("(.)\\1{2,}", "$1$1")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private void notifyPlayers(String gameId, PlayerRole role, GamePhase phase, List<String> suggestions,
+            long version) {
         GameState gameState = gameStateRepository.findById(gameId).orElse(null);
         if (gameState == null || gameState.getPlayers() == null)
             return;
 
         Map<String, Object> message = Map.of(
                 "type", "AI_SUGGESTION",
-                "suggestions", List.of(suggestions));
+                "phase", phase.name(),
+                "version", version,
+                "suggestions", suggestions);
 
         gameState.getPlayers().forEach(player -> {
-            if (player.getRole() == role && player.isAlive()) {
+            // DAY 추천은 모든 역할 공유 (CITIZEN 키로 생성)
+            if ((isDayPhase(phase) || player.getRole() == role) && player.isAlive()) {
                 try {
                     // /topic/private/{userId} 로 전송
                     messagingTemplate.convertAndSend("/topic/private/" + player.getPlayerId(), message);
@@ -0,0 +1,193 @@
+package com.example.mafiagame.global.client;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI(Gemini) 요청 스케줄러.
+ *
+ * <p>
+ * 요청 스레드를 막지 않도록 가상 스레드에서 실행하되 아래 규칙으로 외부 API 호출량을 제한한다.
+ * </p>
+ * <ul>
+ *   <li>키(게임 ID)별 병합: 같은 키의 요청이 실행 중이면 대기 요청은 하나만 두고 최신 요청으로 덮어쓴다.
+ *       실행 중인 요청이 끝나면 마지막 대기 요청만 실행된다.</li>
+ *   <li>전역 토큰 버킷: API 할당량(분당 요청 수)을 넘지 않게 한다.</li>
+ *   <li>동시 실행 상한: 동시에 나가는 API 호출 수를 max-concurrent 로 제한한다.</li>
+ * </ul>
+ *
+ * <p>
+ * 토큰 버킷/동시 실행 상한은 실제 API 를 호출하는 구간에만 tryAcquire 로 적용한다.
+ * (캐시 적중처럼 API 를 부르지 않는 요청은 할당량을 쓰지 않음)
+ * acquire-timeout 안에 허가를 얻지 못하면 null 을 돌려주고, 호출하는 쪽이 대체 응답을 쓴다.
+ * </p>
+ *
+ * <p>버리거나 병합한 요청 수는 ai.requests 카운터(result 태그)로 확인한다.</p>
+ *
+ * <p>
+ * 이전에는 @Async 로 기본 비동기 실행기(스레드 8개, 무제한 큐)에서 로그 버퍼를 비울 때마다 호출했다.
+ * 호출 스레드는 막지 않았지만 같은 게임의 요청이 큐에 그대로 쌓이고 할당량 제한이 없어,
+ * 채팅이 몰리면 이미 지난 로그로 API 를 연달아 불렀다.
+ * </p>
+ */
+@Component
+@Slf4j
+public class AiRequestScheduler {
+
+    /** 실행 중이고 대기 요청은 없음 */
+    private static final Runnable NO_PENDING = () -> {
+    };
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ai-request-", 0).factory());
+    private final ConcurrentHashMap<String, Runnable> pendingTasks = new ConcurrentHashMap<>();
+    private final Semaphore concurrency;
+    private final TokenBucket rateLimiter;
+    private final Duration acquireTimeout;
+
+    private final Counter completedCounter;
+    private final Counter coalescedCounter;
+    private final Counter rateLimitedCounter;
+    private final Counter failedCounter;
+
+    public AiRequestScheduler(
+            @Value("${gemini.scheduler.max-concurrent:8}") int maxConcurrent,
+            @Value("${gemini.scheduler.rate-per-minute:60}") int ratePerMinute,
+            @Value("${gemini.scheduler.burst:10}") int burst,
+            @Value("${gemini.scheduler.acquire-timeout-ms:5000}") long acquireTimeoutMs,
+            MeterRegistry meterRegistry) {
+        this.concurrency = new Semaphore(maxConcurrent);
+        this.rateLimiter = new TokenBucket(burst, ratePerMinute / 60.0);
+        this.acquireTimeout = Duration.ofMillis(acquireTimeoutMs);
+        this.completedCounter = requestCounter(meterRegistry, "completed");
+        this.coalescedCounter = requestCounter(meterRegistry, "coalesced");
+        this.rateLimitedCounter = requestCounter(meterRegistry, "rate_limited");
+        this.failedCounter = requestCounter(meterRegistry, "failed");
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.requests")
+                .description("AI 요청 스케줄러 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 요청 제출 (같은 키가 실행 중이면 최신 요청 하나만 남겨 실행 후 이어서 처리)
+     */
+    public void submit(String key, Runnable task) {
+        boolean[] idle = new boolean[1];
+        pendingTasks.compute(key, (k, pending) -> {
+            if (pending == null) {
+                idle[0] = true;
+                return NO_PENDING;
+            }
+            if (pending != NO_PENDING) {
+                coalescedCounter.increment();
+            }
+            return task;
+        });
+
+        if (idle[0]) {
+            try {
+                executor.execute(() -> drain(key, task));
+            } catch (RejectedExecutionException e) {
+                pendingTasks.remove(key);
+                log.warn("[AI] 스케줄러 종료로 요청 무시: key={}", key);
+            }
+        }
+    }
+
+    private void drain(String key, Runnable task) {
+        Runnable next = task;
+        while (next != null) {
+            run(key, next);
+            next = takePending(key);
+        }
+    }
+
+    /**
+     * 대기 요청을 꺼내고, 없으면 키를 비워 다음 제출이 새로 실행되게 한다.
+     */
+    private Runnable takePending(String key) {
+        Runnable[] next = new Runnable[1];
+        pendingTasks.compute(key, (k, pending) -> {
+            if (pending == null || pending == NO_PENDING) {
+                return null;
+            }
+            next[0] = pending;
+            return NO_PENDING;
+        });
+        return next[0];
+    }
+
+    private void run(String key, Runnable task) {
+        try {
+            task.run();
+            completedCounter.increment();
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.error("[AI] 요청 처리 실패: key={}", key, e);
+        }
+    }
+
+    /**
+     * API 호출 허가 (동시 실행 슬롯 하나 + 토큰 하나)
+     * 슬롯을 먼저 얻어, 슬롯을 못 얻어 호출하지 않는 요청이 토큰(할당량)을 쓰지 않게 한다.
+     *
+     * @return 허가, acquire-timeout 안에 얻지 못하면 null (try-with-resources 로 반납)
+     */
+    public Permit tryAcquire(String key) {
+        try {
+            if (!concurrency.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                rateLimitedCounter.increment();
+                log.warn("[AI] 동시 실행 한도 초과로 호출 생략: key={}", key);
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        try {
+            if (!rateLimiter.tryAcquire(acquireTimeout)) {
+                concurrency.release();
+                rateLimitedCounter.increment();
+                log.warn("[AI] 요청 한도 초과로 호출 생략: key={}", key);
+                return null;
+            }
+        } catch (InterruptedException e) {
+            concurrency.release();
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        return concurrency::release;
+    }
+
+    /**
+     * API 호출 허가 (close 시 동시 실행 슬롯 반납)
+     */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
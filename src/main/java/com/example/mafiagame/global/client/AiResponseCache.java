@@ -0,0 +1,98 @@
+package com.example.mafiagame.global.client;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * AI 응답 캐시 (프롬프트 지문 → 파싱된 응답).
+ *
+ * <p>
+ * 여러 방에서 거의 같은 프롬프트("(No chat yet)", 짧은 일반 토론 등)를 보내므로
+ * 같은 지문이면 API 를 다시 부르지 않고 캐시된 응답을 쓴다.
+ * 노드 로컬 LRU(access-order LinkedHashMap) + TTL 이며, 최대 max-entries 개를 넘으면 가장 오래 안 쓴 항목부터 버린다.
+ * </p>
+ *
+ * <p>적중/미스는 ai.response.cache{result=hit|miss} 카운터, 크기는 ai.response.cache.size 게이지로 확인한다.</p>
+ */
+@Component
+public class AiResponseCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry> entries;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public AiResponseCache(
+            @Value("${gemini.cache.max-entries:1000}") int maxEntries,
+            @Value("${gemini.cache.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        this(maxEntries, Duration.ofSeconds(ttlSeconds), meterRegistry, System::nanoTime);
+    }
+
+    AiResponseCache(int maxEntries, Duration ttl, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > AiResponseCache.this.maxEntries;
+            }
+        };
+        this.hitCounter = cacheCounter(meterRegistry, "hit");
+        this.missCounter = cacheCounter(meterRegistry, "miss");
+        Gauge.builder("ai.response.cache.size", this, AiResponseCache::size)
+                .description("AI 응답 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.response.cache")
+                .description("AI 응답 캐시 조회 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 (만료된 항목은 지우고 미스로 센다)
+     *
+     * @return 캐시된 응답, 없으면 null
+     */
+    public synchronized List<String> get(String fingerprint) {
+        Entry entry = entries.get(fingerprint);
+        if (entry != null && entry.expiresAtNanos - nanoClock.getAsLong() <= 0) {
+            entries.remove(fingerprint);
+            entry = null;
+        }
+        if (entry == null) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return entry.response;
+    }
+
+    public synchronized void put(String fingerprint, List<String> response) {
+        entries.put(fingerprint, new Entry(List.copyOf(response), nanoClock.getAsLong() + ttlNanos));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry(List<String> response, long expiresAtNanos) {
+    }
+}
@@ -1,26 +1,47 @@
 package com.example.mafiagame.global.client;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
 import java.util.List;
 
+/**
+ * Gemini API 클라이언트.
+ *
+ * <p>블로킹 호출이므로 AiRequestScheduler 의 가상 스레드에서 호출한다.
+ * 연결/응답 타임아웃을 두어 API 지연 시 스레드와 동시 실행 슬롯이 묶이지 않게 한다.</p>
+ */
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class GeminiApiClient {
 
-    @Value("${gemini.api-key:}")
-    private String apiKey;
+    private final String apiKey;
+    private final String apiUrl;
+    private final RestClient restClient;
 
-    @Value("${gemini.url:https://generativelanguage.googleapis.com/v1beta/models/gemini-2.5-flash:generateContent}")
-    private String apiUrl;
+    public GeminiApiClient(
+            @Value("${gemini.api-key:}") String apiKey,
+            @Value("${gemini.url:https://generativelanguage.googleapis.com/v1beta/models/gemini-2.5-flash:generateContent}") String apiUrl,
+            @Value("${gemini.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${gemini.read-timeout-ms:10000}") long readTimeoutMs) {
+        this.apiKey = apiKey;
+        this.apiUrl = apiUrl;
 
-    private final RestClient restClient = RestClient.create();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        this.restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .build();
+    }
 
     public String generateContent(String prompt) {
         if (apiKey == null || apiKey.isBlank()) {
@@ -39,7 +60,7 @@ public class GeminiApiClient {
                     .retrieve()
                     .body(GeminiResponse.class);
 
-            if (response != null && !response.candidates().isEmpty()) {
+            if (response != null && response.candidates() != null && !response.candidates().isEmpty()) {
                 return response.candidates().get(0).content().parts().get(0).text();
             } else {
                 log.warn("Gemini API returned empty response: {}", response);
@@ -0,0 +1,79 @@
+package com.example.mafiagame.global.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 요청 제한기.
+ *
+ * <p>초당 refillPerSecond 개씩 토큰이 차고(최대 capacity 개), 요청 하나가 토큰 하나를 쓴다.
+ * capacity 만큼의 순간 버스트는 허용하고 장기 평균은 refillPerSecond 로 제한한다.</p>
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(int capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    TokenBucket(int capacity, double refillPerSecond, LongSupplier nanoClock) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity 와 refillPerSecond 는 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰이 있으면 하나 쓰고 true (대기하지 않음)
+     */
+    public synchronized boolean tryAcquire() {
+        return nanosUntilToken() == 0;
+    }
+
+    /**
+     * 토큰이 찰 때까지 최대 maxWait 동안 기다린다.
+     *
+     * @return 토큰을 얻었으면 true, maxWait 안에 얻을 수 없으면 기다리지 않고 false
+     */
+    public boolean tryAcquire(Duration maxWait) throws InterruptedException {
+        long deadline = nanoClock.getAsLong() + maxWait.toNanos();
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                waitNanos = nanosUntilToken();
+            }
+            if (waitNanos == 0) {
+                return true;
+            }
+            if (nanoClock.getAsLong() + waitNanos > deadline) {
+                return false;
+            }
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * 토큰을 채운 뒤 하나를 쓸 수 있으면 쓰고 0, 아니면 다음 토큰까지 남은 시간(ns)
+     */
+    private long nanosUntilToken() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / tokensPerNano));
+    }
+}
@@ -26,6 +26,7 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -133,14 +134,7 @@ public class RedisConfig {
         redisTemplate.setConnectionFactory(connectionFactory);
         redisTemplate.setKeySerializer(new StringRedisSerializer());
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.activateDefaultTyping(
-                LaissezFaireSubTypeValidator.instance,
-                ObjectMapper.DefaultTyping.NON_FINAL,
-                JsonTypeInfo.As.PROPERTY);
-
-        Jackson2JsonRedisSerializer<Object> jsonSerializer = new Jackson2JsonRedisSerializer<>(objectMapper,
-                Object.class);
+        Jackson2JsonRedisSerializer<Object> jsonSerializer = typedJsonRedisSerializer();
         redisTemplate.setValueSerializer(jsonSerializer);
         redisTemplate.setHashKeySerializer(new StringRedisSerializer());
         redisTemplate.setHashValueSerializer(jsonSerializer);
@@ -148,6 +142,18 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    /**
+     * 타입 정보(@class)를 함께 저장하는 값 직렬화기 (GameState 등, JMH 벤치마크도 같은 설정 사용)
+     */
+    public static Jackson2JsonRedisSerializer<Object> typedJsonRedisSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+        return new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
+    }
+
     @Bean
     public RedisTemplate<String, ChatRoom> chatRoomRedisTemplate(
             @Qualifier("supportRedisConnectionFactory") RedisConnectionFactory connectionFactory) {
@@ -168,6 +174,14 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    @Bean
+    public RedisMessageListenerContainer supportRedisMessageListenerContainer(
+            @Qualifier("supportRedisConnectionFactory") RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     @Bean
     public CacheManager cacheManager(
             @Qualifier("supportRedisConnectionFactory") RedisConnectionFactory connectionFactory) {
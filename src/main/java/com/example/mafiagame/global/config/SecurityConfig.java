@@ -3,6 +3,7 @@ package com.example.mafiagame.global.config;
 import com.example.mafiagame.global.jwt.JwtRequestFilter;
 import com.example.mafiagame.global.oauth2.CustomOAuth2UserService;
 import com.example.mafiagame.global.oauth2.OAuth2SuccessHandler;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -56,6 +57,8 @@ public class SecurityConfig {
                                 // 요청에 대한 접근 권한 설정
                                 .authorizeHttpRequests(auth -> {
                                         auth
+                                                // 비동기 응답(Mono 반환 컨트롤러) 재디스패치는 최초 요청에서 이미 인가됨
+                                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                                 // 정적 리소스 허용
                                                 .requestMatchers("/", "/index.html", "/css/**", "/js/**", "/webjars/**",
                                                                 "/favicon.ico")
@@ -85,6 +88,9 @@ public class SecurityConfig {
                                                 .requestMatchers("/api/orders/**").authenticated()
                                                 .requestMatchers("/api/payments/**").authenticated()
                                                 .requestMatchers("/api/chat/**").authenticated()
+                                                // 운영 도구 (DLT 재처리, 락 경합 조회 등)
+                                                .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                                                .requestMatchers("/actuator/locks").hasRole("ADMIN")
                                                 // 나머지 모든 요청은 인증 필요
                                                 .anyRequest().authenticated();
                                 })
@@ -23,9 +23,25 @@ public enum ErrorCode {
     INSUFFICIENT_PLAYERS(HttpStatus.BAD_REQUEST, "INSUFFICIENT_PLAYERS", "게임을 시작하려면 최소 4명이 필요합니다."),
     GAME_CREATE_IN_PROGRESS(HttpStatus.CONFLICT, "GAME_CREATE_IN_PROGRESS", "게임 생성 중입니다. 잠시 후 다시 시도해주세요."),
     GAME_CREATE_INTERRUPTED(HttpStatus.INTERNAL_SERVER_ERROR, "GAME_CREATE_INTERRUPTED", "게임 생성 중 인터럽트가 발생했습니다."),
+    GAME_NOT_OWNER(HttpStatus.CONFLICT, "GAME_NOT_OWNER", "게임을 처리하는 서버가 바뀌었습니다. 잠시 후 다시 시도해주세요."),
 
     // CHAT
     CHAT_ROOM_CREATE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "CHAT_ROOM_CREATE_FAILED", "채팅방 생성 중 오류가 발생했습니다."),
+
+    // MATCHMAKING
+    MATCHMAKING_ALREADY_QUEUED(HttpStatus.CONFLICT, "MATCHMAKING_ALREADY_QUEUED", "이미 매칭 대기 중입니다."),
+    MATCHMAKING_ALREADY_IN_ROOM(HttpStatus.BAD_REQUEST, "MATCHMAKING_ALREADY_IN_ROOM", "이미 참여 중인 방이 있습니다."),
+
+    // PAYMENT
+    PAYMENT_ALREADY_PROCESSED(HttpStatus.CONFLICT, "PAYMENT_ALREADY_PROCESSED", "이미 결제가 진행되었거나 완료된 주문입니다."),
+    PAYMENT_NOT_CANCELLABLE(HttpStatus.CONFLICT, "PAYMENT_NOT_CANCELLABLE", "취소할 수 없는 결제 상태입니다."),
+    PAYMENT_DECLINED(HttpStatus.BAD_REQUEST, "PAYMENT_DECLINED", "결제가 거절되었습니다."),
+    PAYMENT_GATEWAY_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "PAYMENT_GATEWAY_UNAVAILABLE",
+            "결제 서비스가 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요."),
+
+    // KAFKA
+    DLT_TOPIC_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "DLT_TOPIC_NOT_SUPPORTED", "DLT 재처리를 지원하지 않는 토픽입니다."),
+    DLT_REPLAY_IN_PROGRESS(HttpStatus.CONFLICT, "DLT_REPLAY_IN_PROGRESS", "DLT 재처리가 이미 진행 중입니다."),
     ;
 
     private final String code;
@@ -0,0 +1,43 @@
+package com.example.mafiagame.global.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * multi-row INSERT/UPSERT 문장 생성 도우미
+ * - VALUES 튜플을 행 수만큼 이어 붙여 한 문장으로 전송 (행마다 왕복하지 않음)
+ * - 한 문장의 행 수는 MAX_ROWS_PER_STATEMENT 이하로 나눔 (max_allowed_packet 여유 확보)
+ */
+public final class MultiRowSql {
+
+    public static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private MultiRowSql() {
+    }
+
+    /**
+     * prefix + row 를 rowCount 번 ", " 로 이은 것 + suffix
+     */
+    public static String of(String prefix, String row, int rowCount, String suffix) {
+        StringBuilder sql = new StringBuilder(prefix.length() + (row.length() + 2) * rowCount + suffix.length());
+        sql.append(prefix);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.append(suffix).toString();
+    }
+
+    /**
+     * 한 문장에 담을 만큼씩 나눈 목록 (원본 리스트의 view)
+     */
+    public static <T> List<List<T>> chunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += MAX_ROWS_PER_STATEMENT) {
+            chunks.add(values.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, values.size())));
+        }
+        return chunks;
+    }
+}
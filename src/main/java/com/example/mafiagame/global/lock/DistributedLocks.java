@@ -0,0 +1,88 @@
+package com.example.mafiagame.global.lock;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+/**
+ * Redisson 락 파사드 (RedissonClient 마다 하나)
+ * - 획득 대기 시간, 보유 시간, 타임아웃, 대기자 수를 LockContentionTracker 에 기록
+ * - try-with-resources 로 사용하고, 획득 실패 시 null 을 돌려준다
+ *
+ * <pre>
+ * try (DistributedLocks.Handle lock = locks.tryLock(LockFamily.ROOM, roomId)) {
+ *     if (lock == null) { ... return; }
+ *     ...
+ * }
+ * </pre>
+ */
+public class DistributedLocks {
+
+    private final RedissonClient redissonClient;
+    private final LockContentionTracker tracker;
+
+    public DistributedLocks(RedissonClient redissonClient, LockContentionTracker tracker) {
+        this.redissonClient = redissonClient;
+        this.tracker = tracker;
+    }
+
+    public Handle tryLock(LockFamily family, String id) throws InterruptedException {
+        return tryLock(family, id, family.getWaitTime(), family.getLeaseTime());
+    }
+
+    /**
+     * 기본값과 다른 대기/임대 시간이 필요한 경우 (예: 서버 기동 복구)
+     *
+     * @return 획득한 락 핸들, 대기 시간 안에 획득하지 못하면 null
+     */
+    public Handle tryLock(LockFamily family, String id, Duration waitTime, Duration leaseTime)
+            throws InterruptedException {
+        String key = family.key(id);
+        RLock lock = redissonClient.getLock(key);
+
+        tracker.onWaitStart(family, key);
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            acquired = lock.tryLock(waitTime.toMillis(), leaseTime.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+            tracker.onWaitEnd(family, key, System.nanoTime() - start, acquired);
+        }
+        return acquired ? new Handle(lock, family, key, System.nanoTime()) : null;
+    }
+
+    /**
+     * 획득한 락 (close 시 현재 스레드가 보유 중이면 해제, 보유 시간은 임대 만료 여부와 관계없이 기록)
+     */
+    public final class Handle implements AutoCloseable {
+
+        private final RLock lock;
+        private final LockFamily family;
+        private final String key;
+        private final long acquiredAtNanos;
+
+        private Handle(RLock lock, LockFamily family, String key, long acquiredAtNanos) {
+            this.lock = lock;
+            this.family = family;
+            this.key = key;
+            this.acquiredAtNanos = acquiredAtNanos;
+        }
+
+        @Override
+        public void close() {
+            long holdNanos = System.nanoTime() - acquiredAtNanos;
+            boolean released = false;
+            if (lock.isHeldByCurrentThread()) {
+                try {
+                    lock.unlock();
+                    released = true;
+                } catch (IllegalMonitorStateException e) {
+                    // 확인 직후 임대 시간이 끝남
+                }
+            }
+            tracker.onRelease(family, key, holdNanos, !released);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.mafiagame.global.lock;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * /actuator/locks - 락 종류별 요약과 경합이 심한 키 목록 (이 인스턴스 기준)
+ * - ?limit=N 으로 키 개수 조절 (기본 20)
+ */
+@Component
+@Endpoint(id = "locks")
+@RequiredArgsConstructor
+public class LockContentionEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final LockContentionTracker tracker;
+
+    @ReadOperation
+    public Map<String, Object> locks(@Nullable Integer limit) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("families", tracker.families());
+        body.put("topContended", tracker.topContended(limit != null && limit > 0 ? limit : DEFAULT_LIMIT));
+        body.put("untrackedKeys", tracker.untrackedKeys());
+        return body;
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.mafiagame.global.lock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 분산 락 경합 기록 (DistributedLocks 에서 호출, /actuator/locks 에서 조회)
+ * - 락 종류별 메트릭: game.lock.wait{lock,result}, game.lock.hold{lock}, game.lock.waiters{lock},
+ *   game.lock.lease.expired{lock} (해제 전에 임대 시간이 끝나 다른 노드가 들어올 수 있었던 횟수)
+ * - 키별 통계: 대기가 contended-wait-ms 이상이었거나 타임아웃 난 키만 최대 max-tracked-keys 개 보관
+ *   (꽉 차면 가장 오래전에 경합한 키를 밀어냄)
+ *
+ * <p>대기자 수는 이 인스턴스에서 tryLock 중인 스레드 수다.</p>
+ */
+@Component
+public class LockContentionTracker {
+
+    // watchdog 락(임대 시간 없음)의 보유 시간 히스토그램 상한
+    private static final Duration WATCHDOG_MAX_EXPECTED_HOLD = Duration.ofHours(1);
+
+    private final long contendedWaitNanos;
+    private final int maxTrackedKeys;
+    private final LongSupplier clock;
+
+    private final Map<LockFamily, FamilyMeters> families = new EnumMap<>(LockFamily.class);
+    private final Map<String, AtomicInteger> waitersByKey = new ConcurrentHashMap<>();
+    private final Map<String, KeyStats> keyStats = new ConcurrentHashMap<>();
+    private final AtomicLong untrackedKeys = new AtomicLong();
+
+    public LockContentionTracker(
+            @Value("${mafiagame.lock.contended-wait-ms:5}") long contendedWaitMillis,
+            @Value("${mafiagame.lock.max-tracked-keys:500}") int maxTrackedKeys,
+            MeterRegistry meterRegistry) {
+        this(Duration.ofMillis(contendedWaitMillis), maxTrackedKeys, meterRegistry, System::currentTimeMillis);
+    }
+
+    LockContentionTracker(Duration contendedWait, int maxTrackedKeys, MeterRegistry meterRegistry,
+            LongSupplier clock) {
+        this.contendedWaitNanos = contendedWait.toNanos();
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.clock = clock;
+        for (LockFamily family : LockFamily.values()) {
+            families.put(family, new FamilyMeters(family, meterRegistry));
+        }
+    }
+
+    void onWaitStart(LockFamily family, String key) {
+        families.get(family).waiters.incrementAndGet();
+        int waiters = waitersByKey.compute(key, (k, count) -> {
+            AtomicInteger current = count != null ? count : new AtomicInteger();
+            current.incrementAndGet();
+            return current;
+        }).get();
+
+        // 같은 키를 먼저 기다리는 스레드가 있으면 경합
+        if (waiters > 1) {
+            KeyStats stats = statsFor(family, key);
+            if (stats != null) {
+                stats.observeWaiters(waiters, clock.getAsLong());
+            }
+        }
+    }
+
+    void onWaitEnd(LockFamily family, String key, long waitNanos, boolean acquired) {
+        FamilyMeters meters = families.get(family);
+        meters.waiters.decrementAndGet();
+        waitersByKey.computeIfPresent(key, (k, count) -> count.decrementAndGet() > 0 ? count : null);
+        (acquired ? meters.acquired : meters.timeout).record(waitNanos, TimeUnit.NANOSECONDS);
+
+        if (!acquired || waitNanos >= contendedWaitNanos) {
+            KeyStats stats = statsFor(family, key);
+            if (stats != null) {
+                stats.recordWait(waitNanos, acquired, clock.getAsLong());
+            }
+        }
+    }
+
+    /**
+     * @param leaseExpired 해제 시점에 이미 임대 시간이 끝나 락을 잃은 경우 (보유 시간은 그대로 기록)
+     */
+    void onRelease(LockFamily family, String key, long holdNanos, boolean leaseExpired) {
+        FamilyMeters meters = families.get(family);
+        meters.hold.record(holdNanos, TimeUnit.NANOSECONDS);
+        if (leaseExpired) {
+            meters.leaseExpired.increment();
+        }
+        KeyStats stats = leaseExpired ? statsFor(family, key) : keyStats.get(key);
+        if (stats != null) {
+            stats.recordHold(holdNanos, leaseExpired, clock.getAsLong());
+        }
+    }
+
+    /**
+     * 경합이 심한 키 (타임아웃 수, 누적 대기 시간 순)
+     */
+    public List<KeyContention> topContended(int limit) {
+        List<KeyContention> snapshot = new ArrayList<>(keyStats.size());
+        for (Map.Entry<String, KeyStats> entry : keyStats.entrySet()) {
+            snapshot.add(entry.getValue().snapshot(entry.getKey()));
+        }
+        snapshot.sort(Comparator.comparingLong(KeyContention::timeouts)
+                .thenComparingDouble(KeyContention::totalWaitMs)
+                .reversed());
+        return snapshot.size() > limit ? new ArrayList<>(snapshot.subList(0, limit)) : snapshot;
+    }
+
+    /**
+     * 락 종류별 요약 (설정된 대기/임대 시간과 최근 최대 보유 시간 비교용)
+     * - maxWaitMs/maxHoldMs 는 Micrometer 최대값이라 최근 몇 분 구간 기준
+     */
+    public List<FamilyContention> families() {
+        List<FamilyContention> summaries = new ArrayList<>(families.size());
+        for (FamilyMeters meters : families.values()) {
+            summaries.add(meters.snapshot());
+        }
+        return summaries;
+    }
+
+    /**
+     * 보관 한도 때문에 기록하지 못한 경합 키 수
+     */
+    public long untrackedKeys() {
+        return untrackedKeys.get();
+    }
+
+    private KeyStats statsFor(LockFamily family, String key) {
+        KeyStats stats = keyStats.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        if (keyStats.size() >= maxTrackedKeys) {
+            evictOldest();
+            if (keyStats.size() >= maxTrackedKeys) {
+                untrackedKeys.incrementAndGet();
+                return null;
+            }
+        }
+        return keyStats.computeIfAbsent(key, k -> new KeyStats(family));
+    }
+
+    private void evictOldest() {
+        String oldestKey = null;
+        long oldest = Long.MAX_VALUE;
+        for (Map.Entry<String, KeyStats> entry : keyStats.entrySet()) {
+            long lastContended = entry.getValue().lastContendedAt();
+            if (lastContended < oldest) {
+                oldest = lastContended;
+                oldestKey = entry.getKey();
+            }
+        }
+        if (oldestKey != null) {
+            keyStats.remove(oldestKey);
+        }
+    }
+
+    public record KeyContention(
+            String key,
+            String family,
+            long contended,
+            long timeouts,
+            double totalWaitMs,
+            double maxWaitMs,
+            double maxHoldMs,
+            long leaseExpired,
+            int peakWaiters,
+            long lastContendedAt) {
+    }
+
+    public record FamilyContention(
+            String family,
+            long waitTimeMs,
+            long leaseTimeMs,
+            long acquired,
+            long timeouts,
+            double maxWaitMs,
+            double maxHoldMs,
+            long leaseExpired,
+            int waiting) {
+    }
+
+    private static final class FamilyMeters {
+
+        private final LockFamily family;
+        private final AtomicInteger waiters = new AtomicInteger();
+        private final Timer acquired;
+        private final Timer timeout;
+        private final Timer hold;
+        private final Counter leaseExpired;
+
+        private FamilyMeters(LockFamily family, MeterRegistry meterRegistry) {
+            this.family = family;
+            this.acquired = waitTimer(family, "acquired", meterRegistry);
+            this.timeout = waitTimer(family, "timeout", meterRegistry);
+            this.hold = Timer.builder("game.lock.hold")
+                    .description("분산 락 보유 시간 (임대 시간 조정 기준)")
+                    .tag("lock", family.getTag())
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(family.usesWatchdog() ? WATCHDOG_MAX_EXPECTED_HOLD : family.getLeaseTime())
+                    .register(meterRegistry);
+            this.leaseExpired = Counter.builder("game.lock.lease.expired")
+                    .description("해제 전에 임대 시간이 끝난 분산 락 수 (작업이 임대 시간보다 길었음)")
+                    .tag("lock", family.getTag())
+                    .register(meterRegistry);
+            Gauge.builder("game.lock.waiters", waiters, AtomicInteger::get)
+                    .description("이 인스턴스에서 락을 기다리는 스레드 수")
+                    .tag("lock", family.getTag())
+                    .register(meterRegistry);
+        }
+
+        private static Timer waitTimer(LockFamily family, String result, MeterRegistry meterRegistry) {
+            return Timer.builder("game.lock.wait")
+                    .description("분산 락 대기 시간")
+                    .tag("lock", family.getTag())
+                    .tag("result", result)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry);
+        }
+
+        private FamilyContention snapshot() {
+            return new FamilyContention(
+                    family.getTag(),
+                    family.getWaitTime().toMillis(),
+                    family.getLeaseTime().toMillis(),
+                    acquired.count(),
+                    timeout.count(),
+                    Math.max(acquired.max(TimeUnit.MILLISECONDS), timeout.max(TimeUnit.MILLISECONDS)),
+                    hold.max(TimeUnit.MILLISECONDS),
+                    (long) leaseExpired.count(),
+                    waiters.get());
+        }
+    }
+
+    private static final class KeyStats {
+
+        private final LockFamily family;
+        private long contended;
+        private long timeouts;
+        private long totalWaitNanos;
+        private long maxWaitNanos;
+        private long maxHoldNanos;
+        private long leaseExpired;
+        private int peakWaiters;
+        private long lastContendedAt;
+
+        private KeyStats(LockFamily family) {
+            this.family = family;
+        }
+
+        synchronized void observeWaiters(int waiters, long now) {
+            peakWaiters = Math.max(peakWaiters, waiters);
+            lastContendedAt = now;
+        }
+
+        synchronized void recordWait(long waitNanos, boolean acquired, long now) {
+            contended++;
+            if (!acquired) {
+                timeouts++;
+            }
+            totalWaitNanos += waitNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+            lastContendedAt = now;
+        }
+
+        synchronized void recordHold(long holdNanos, boolean expired, long now) {
+            maxHoldNanos = Math.max(maxHoldNanos, holdNanos);
+            if (expired) {
+                leaseExpired++;
+                lastContendedAt = now;
+            }
+        }
+
+        synchronized long lastContendedAt() {
+            return lastContendedAt;
+        }
+
+        synchronized KeyContention snapshot(String key) {
+            return new KeyContention(key, family.getTag(), contended, timeouts,
+                    totalWaitNanos / 1_000_000.0, maxWaitNanos / 1_000_000.0, maxHoldNanos / 1_000_000.0,
+                    leaseExpired, peakWaiters, lastContendedAt);
+        }
+    }
+}
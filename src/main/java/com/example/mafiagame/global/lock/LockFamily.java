@@ -0,0 +1,42 @@
+package com.example.mafiagame.global.lock;
+
+import java.time.Duration;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 분산 락 종류 (키 접두사 + 기본 대기/임대 시간)
+ * - tag 는 메트릭/엔드포인트에서 락 종류를 구분하는 값 (게임 ID 등 식별자는 넣지 않음)
+ * - 대기/임대 시간 조정은 이 enum 한 곳에서 한다
+ * - 게임 진행 중 명령(페이즈 전환, 투표, 시간 조절)은 락 대신 소유 노드의 GameActor 가 직렬화한다
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LockFamily {
+    GAME_CREATE("game:create", "lock:game:create:", Duration.ofSeconds(5), Duration.ofSeconds(10)),
+    TIMER_GLOBAL("timer:global", "lock:timer:global", Duration.ofSeconds(3), Duration.ofSeconds(5)),
+    ROOM("room", "lock:room:", Duration.ofSeconds(5), Duration.ofSeconds(10)),
+    USER_ROOM("user-room", "lock:user-room:", Duration.ofSeconds(5), Duration.ofSeconds(10)),
+    // 실행 시간이 정해지지 않은 단일 실행 작업: 기다리지 않고, 임대 시간 -1 로 보유 중 watchdog 이 계속 연장
+    LEADERBOARD_REBUILD("leaderboard:rebuild", "lock:leaderboard:rebuild", Duration.ZERO, Duration.ofMillis(-1));
+
+    private final String tag;
+    private final String keyPrefix;
+    private final Duration waitTime;
+    private final Duration leaseTime;
+
+    /**
+     * 임대 시간 대신 Redisson watchdog 이 보유 중 계속 연장하는 락 (임대 시간 음수)
+     */
+    public boolean usesWatchdog() {
+        return leaseTime.isNegative();
+    }
+
+    /**
+     * @param id 게임/방/유저 ID (전역 락이면 null)
+     */
+    public String key(String id) {
+        return id != null ? keyPrefix + id : keyPrefix;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.mafiagame.global.metrics;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.example.mafiagame.game.domain.state.GamePhase;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 게임 라이프사이클 메트릭 (ops/grafana/mafia-game-dashboard.json 에서 사용)
+ * - game.timer.lateness: 타이머 실행 지연 (claim 시각 - 예약 시각)
+ * - game.timer.process{result}: 워커의 타이머 한 건 처리 시간
+ * - game.phase.advance{phase,outcome}: advancePhase 처리 시간 (GameActor 안에서 실행된 시간)
+ * - game.command{type,route,result}: GameCommandRouter 명령 처리 시간 (전달/대기 포함)
+ * - game.owned: 이 노드가 소유한 게임 수
+ * - game.lock.*: 분산 락 대기/보유 시간은 LockContentionTracker 에서 기록
+ * - game.votes{phase}: 저장된 투표/밤 행동 수 (rate 로 초당 투표)
+ * - game.active, websocket.sessions: 진행 중 게임 수, 연결된 STOMP 세션 수
+ * - websocket.messages{destination}, websocket.broadcast.fanout{kind}: 전송 수, 메시지당 수신자 수
+ *
+ * <p>태그는 고정된 값(페이즈, 결과 등)만 쓰고 gameId/roomId 같은 식별자는 넣지 않는다.
+ * 호출이 잦은 미터는 미리 만들어 두고 요청마다 registry 조회를 하지 않는다.</p>
+ */
+@Component
+public class GameMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Timer timerLateness;
+    private final Map<String, Timer> timerProcessTimers = new ConcurrentHashMap<>();
+    private final Map<GamePhase, Counter> voteCounters = new EnumMap<>(GamePhase.class);
+    private final Map<String, Counter> messageCounters = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> fanoutSummaries = new ConcurrentHashMap<>();
+    private final Map<String, Timer> commandTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> phaseAdvanceTimers = new ConcurrentHashMap<>();
+
+    public GameMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.timerLateness = Timer.builder("game.timer.lateness")
+                .description("타이머 실행 지연 (claim 시각 - 예약 시각)")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(meterRegistry);
+        for (GamePhase phase : GamePhase.values()) {
+            voteCounters.put(phase, Counter.builder("game.votes")
+                    .description("저장된 투표/최종 투표/밤 행동 수")
+                    .tag("phase", phase.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    public void recordTimerLateness(long lateMillis) {
+        timerLateness.record(Math.max(0, lateMillis), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param result advanced, stale(지난 타이머), retry(소유 노드에 닿지 못해 lease 만료 후 재시도), failed
+     */
+    public void recordTimerProcess(String result, long elapsedNanos) {
+        timerProcessTimers.computeIfAbsent(result, name -> Timer.builder("game.timer.process")
+                .description("타이머 워커의 타이머 한 건 처리 시간")
+                .tag("result", name)
+                .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param phase   종료 처리한 페이즈
+     * @param outcome advanced(다음 페이즈), ended(게임 종료), skipped(종료/없는 게임)
+     */
+    public void recordPhaseAdvance(GamePhase phase, String outcome, long elapsedNanos) {
+        String phaseName = phase != null ? phase.name() : "NONE";
+        phaseAdvanceTimers.computeIfAbsent(phaseName + ':' + outcome, name -> Timer.builder("game.phase.advance")
+                .description("advancePhase 처리 시간 (GameActor 안에서 실행된 시간)")
+                .tag("phase", phaseName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param type   GameCommand.Type
+     * @param route  local(이 노드의 액터), remote(소유 노드로 전달)
+     * @param result applied, rejected, not_owner, unreachable, failed
+     */
+    public void recordGameCommand(String type, String route, String result, long elapsedNanos) {
+        commandTimers.computeIfAbsent(type + ':' + route + ':' + result, name -> Timer.builder("game.command")
+                .description("게임 명령 처리 시간 (소유 노드 전달/메일박스 대기 포함)")
+                .tag("type", type)
+                .tag("route", route)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordVote(GamePhase phase) {
+        voteCounters.get(phase).increment();
+    }
+
+    /**
+     * @param destination room, user, rooms
+     */
+    public void recordMessage(String destination) {
+        messageCounters.computeIfAbsent(destination, name -> Counter.builder("websocket.messages")
+                .description("STOMP 전송 메시지 수")
+                .tag("destination", name)
+                .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * @param kind      room(방 전체), mafia(밤 마피아 채팅)
+     * @param recipients 메시지 한 건의 수신자 수
+     */
+    public void recordBroadcastFanout(String kind, int recipients) {
+        fanoutSummaries.computeIfAbsent(kind, name -> DistributionSummary.builder("websocket.broadcast.fanout")
+                .description("메시지 한 건의 수신자 수")
+                .tag("kind", name)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(64.0)
+                .register(meterRegistry))
+                .record(recipients);
+    }
+
+    public void gaugeActiveGames(Supplier<Number> activeGames) {
+        Gauge.builder("game.active", activeGames)
+                .description("진행 중인 게임 수 (예약된 페이즈 타이머 기준)")
+                .register(meterRegistry);
+    }
+
+    public void gaugeOwnedGames(Supplier<Number> ownedGames) {
+        Gauge.builder("game.owned", ownedGames)
+                .description("이 인스턴스가 소유한 게임 수 (게임 명령을 처리하는 노드)")
+                .register(meterRegistry);
+    }
+
+    public void gaugeWebSocketSessions(Supplier<Number> sessions) {
+        Gauge.builder("websocket.sessions", sessions)
+                .description("이 인스턴스에 연결된 STOMP 세션 수")
+                .register(meterRegistry);
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.HashSet;
 import java.util.Set;
@@ -27,6 +28,7 @@ public class RedisService {
     private final RedisTemplate<String, Game> gameRedisTemplate;
     private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final SessionAffinityCache sessionAffinityCache;
 
     // Redis 키 상수
     private static final String CHAT_ROOM_PREFIX = "chatroom:";
@@ -79,6 +81,20 @@ public class RedisService {
         return new HashSet<>(rawMembers);
     }
 
+    /**
+     * 여러 채팅방 일괄 조회 (MGET 1회, 없는 방은 null)
+     */
+    public List<ChatRoom> getChatRooms(List<String> roomIds) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+        List<String> keys = roomIds.stream()
+                .map(roomId -> CHAT_ROOM_PREFIX + roomId)
+                .toList();
+        List<ChatRoom> rooms = chatRoomRedisTemplate.opsForValue().multiGet(keys);
+        return rooms != null ? rooms : List.of();
+    }
+
     // ========== 게임 관련 ==========
 
     /**
@@ -143,6 +159,7 @@ public class RedisService {
 
         if (roomId == null && gameId == null) {
             redisTemplate.delete(key);
+            sessionAffinityCache.onSessionChanged(userId, null);
             return;
         }
 
@@ -150,6 +167,7 @@ public class RedisService {
         String safeGameId = nullToEmpty(gameId);
         stringRedisTemplate.opsForHash().putAll(key, Map.of("roomId", safeRoomId, "gameId", safeGameId));
         stringRedisTemplate.expire(key, USER_SESSION_TTL);
+        sessionAffinityCache.onSessionChanged(userId, roomId);
 
         // log.info("사용자 세션 저장: {} -> roomId: {}, gameId: {}", userId, roomId, gameId);
     }
@@ -163,6 +181,17 @@ public class RedisService {
         return emptyToNull(roomId != null ? roomId.toString() : null);
     }
 
+    /**
+     * 사용자 세션 조회 (WebSocket 세션 로컬 캐시 우선, 미스 시 Redis)
+     * 멤버십을 결정하는 입장/퇴장 경로는 캐시 없이 getUserRoomId(userId) 사용
+     */
+    public String getUserRoomId(String userId, String sessionId) {
+        if (sessionId == null) {
+            return getUserRoomId(userId);
+        }
+        return sessionAffinityCache.getOrLoad(sessionId, userId, () -> getUserRoomId(userId));
+    }
+
     /**
      * 사용자 게임 ID 조회
      */
@@ -178,10 +207,20 @@ public class RedisService {
     public void deleteUserSession(String userId) {
         String key = USER_SESSION_PREFIX + userId;
         redisTemplate.delete(key);
+        sessionAffinityCache.onSessionChanged(userId, null);
 
         // log.info("사용자 세션 삭제: {}", userId);
     }
 
+    /**
+     * WebSocket 세션 종료 시 로컬 캐시 정리
+     */
+    public void releaseWebSocketSession(String sessionId) {
+        if (sessionId != null) {
+            sessionAffinityCache.unbind(sessionId);
+        }
+    }
+
     // ========== 유틸리티 ==========
 
     /**
@@ -0,0 +1,175 @@
+package com.example.mafiagame.global.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * WebSocket 세션 단위 user_session roomId 로컬 캐시 (노드 로컬 메모리)
+ * - 채팅 메시지마다 발생하던 HGET user_session:{userId} 제거
+ * - 이 노드의 입장/퇴장은 write-through 로 즉시 반영
+ * - 다른 노드의 변경은 support Redis Pub/Sub 무효화 이벤트로 반영, 미스 시 Redis 조회
+ */
+@Component
+@Slf4j
+public class SessionAffinityCache implements MessageListener {
+
+    // user_session TTL 만료는 이벤트가 없으므로 캐시 보존 시간을 제한
+    private static final long MAX_AGE_MILLIS = 5 * 60 * 1000L;
+
+    private static final String INVALIDATE_CHANNEL = "user_session:invalidate";
+    private static final String DELIMITER = "|";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Entry> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * version 은 변경/무효화마다 증가하며, 조회 중 변경이 끼어든 경우 오래된 값 저장을 막음
+     */
+    private record Entry(String userId, String roomId, boolean loaded, long loadedAt, long version) {
+
+        static Entry unloaded(String userId) {
+            return new Entry(userId, null, false, 0L, 0L);
+        }
+
+        Entry load(String newRoomId, long now) {
+            return new Entry(userId, newRoomId, true, now, version);
+        }
+
+        Entry next(String newRoomId, boolean newLoaded, long now) {
+            return new Entry(userId, newRoomId, newLoaded, now, version + 1);
+        }
+    }
+
+    public SessionAffinityCache(
+            @Qualifier("supportStringRedisTemplate") StringRedisTemplate stringRedisTemplate,
+            @Qualifier("supportRedisMessageListenerContainer") RedisMessageListenerContainer listenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    // ================== 조회 ================== //
+
+    /**
+     * 세션의 roomId 조회 (캐시 미스 시 loader 로 Redis 조회 후 저장)
+     */
+    public String getOrLoad(String sessionId, String userId, Supplier<String> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = sessions.computeIfAbsent(sessionId, id -> {
+            bindUser(userId, id);
+            return Entry.unloaded(userId);
+        });
+        if (!entry.userId().equals(userId)) {
+            return loader.get();
+        }
+        if (entry.loaded() && now - entry.loadedAt() < MAX_AGE_MILLIS) {
+            return entry.roomId();
+        }
+
+        String roomId = loader.get();
+        sessions.computeIfPresent(sessionId,
+                (id, current) -> current.version() == entry.version() ? current.load(roomId, now) : current);
+        return roomId;
+    }
+
+    // ================== 갱신 ================== //
+
+    /**
+     * 이 노드에서 user_session 을 변경한 직후 호출 (로컬 반영 + 다른 노드 무효화)
+     */
+    public void onSessionChanged(String userId, String roomId) {
+        long now = System.currentTimeMillis();
+        forEachSession(userId, sessionId -> sessions.computeIfPresent(sessionId,
+                (id, current) -> current.next(roomId, true, now)));
+        publish(nodeId + DELIMITER + userId);
+    }
+
+    /**
+     * WebSocket 연결 해제 시 호출
+     */
+    public void unbind(String sessionId) {
+        Entry removed = sessions.remove(sessionId);
+        if (removed == null) {
+            return;
+        }
+        sessionsByUser.computeIfPresent(removed.userId(), (userId, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 2);
+        if (parts.length != 2) {
+            log.warn("[SessionCache] 알 수 없는 무효화 이벤트: {}", body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return; // 자신이 발행한 이벤트는 이미 write-through 로 반영됨
+        }
+        invalidate(parts[1]);
+    }
+
+    void invalidate(String userId) {
+        long now = System.currentTimeMillis();
+        forEachSession(userId, sessionId -> sessions.computeIfPresent(sessionId,
+                (id, current) -> current.next(null, false, now)));
+    }
+
+    int size() {
+        return sessions.size();
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    private void bindUser(String userId, String sessionId) {
+        sessionsByUser.compute(userId, (id, sessionIds) -> {
+            Set<String> result = sessionIds != null ? sessionIds : ConcurrentHashMap.newKeySet();
+            result.add(sessionId);
+            return result;
+        });
+    }
+
+    private void forEachSession(String userId, Consumer<String> action) {
+        Set<String> sessionIds = sessionsByUser.get(userId);
+        if (sessionIds != null) {
+            sessionIds.forEach(action);
+        }
+    }
+
+    private void publish(String event) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, event);
+        } catch (Exception e) {
+            // 다른 노드는 최대 MAX_AGE_MILLIS 이후 Redis 재조회로 보정됨
+            log.warn("[SessionCache] 무효화 이벤트 발행 실패: {}", event, e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.mafiagame.history.consumer;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.example.mafiagame.history.service.MatchHistoryWriter;
+import com.example.mafiagame.kafka.config.KafkaTopics;
+import com.example.mafiagame.kafka.event.GameEndedEvent;
+import com.example.mafiagame.kafka.support.BatchTransactionExecutor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 전적 이력 Kafka Consumer.
+ *
+ * <p>
+ * game.ended 이벤트를 별도 컨슈머 그룹으로 받아 유저별 이력/역할 요약을 기록한다.
+ * 전적 반영(game-result-group)과 독립적으로 커밋되므로 한쪽 장애가 다른 쪽을 막지 않는다.
+ * </p>
+ */
+@Component
+@Profile("!test")
+@Slf4j
+@RequiredArgsConstructor
+public class MatchHistoryConsumer {
+
+    private static final String GROUP_ID = "match-history-group";
+
+    private final MatchHistoryWriter matchHistoryWriter;
+    private final BatchTransactionExecutor batchTransactionExecutor;
+
+    /**
+     * 게임 종료 이벤트 배치 처리 (실패 시 배치 전체 재시도, 기록된 게임은 Writer 에서 건너뜀).
+     */
+    @KafkaListener(topics = KafkaTopics.GAME_ENDED, groupId = GROUP_ID,
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleGameEnded(List<ConsumerRecord<String, GameEndedEvent>> records, Acknowledgment ack) {
+        List<GameEndedEvent> events = records.stream()
+                .map(ConsumerRecord::value)
+                .filter(Objects::nonNull)
+                .toList();
+
+        try {
+            int applied = batchTransactionExecutor.executeBatchOnce(GROUP_ID, events,
+                    GameEndedEvent::getEventId, matchHistoryWriter::apply);
+            ack.acknowledge();
+            log.debug("[Consumer] 전적 이력 배치 처리: records={}, applied={}", records.size(), applied);
+        } catch (Exception e) {
+            log.error("[Consumer] 전적 이력 배치 처리 실패: records={}", records.size(), e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.mafiagame.history.controller;
+
+import java.security.Principal;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.mafiagame.global.dto.CommonResponse;
+import com.example.mafiagame.history.dto.MatchHistoryPageResponse;
+import com.example.mafiagame.history.dto.MatchSummaryResponse;
+import com.example.mafiagame.history.service.MatchHistoryService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전적 이력 REST API 컨트롤러.
+ * 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회한다.
+ */
+@RestController
+@RequestMapping("/api/match-history")
+@RequiredArgsConstructor
+@Tag(name = "전적", description = "전적 이력/요약 API")
+public class MatchHistoryController {
+
+    private final MatchHistoryService matchHistoryService;
+
+    @GetMapping("/me")
+    @Operation(summary = "내 전적 이력 조회", description = "최근 게임부터 커서 기반으로 조회합니다.")
+    public ResponseEntity<CommonResponse<MatchHistoryPageResponse>> getMyHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Principal principal) {
+        return ResponseEntity.ok(CommonResponse.success(
+                matchHistoryService.getHistory(principal.getName(), cursor, size), null));
+    }
+
+    @GetMapping("/me/summary")
+    @Operation(summary = "내 전적 요약 조회", description = "전체 및 역할별 판수/승리 수를 조회합니다.")
+    public ResponseEntity<CommonResponse<MatchSummaryResponse>> getMySummary(Principal principal) {
+        return ResponseEntity.ok(CommonResponse.success(matchHistoryService.getSummary(principal.getName()), null));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.mafiagame.history.domain;
+
+import java.time.LocalDateTime;
+
+import com.example.mafiagame.game.domain.state.PlayerRole;
+import com.example.mafiagame.game.domain.state.Team;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 전적 이력 (game.ended 이벤트로 채우는 비정규화 테이블)
+ * - 프로필 조회 시 games/game_player/users 조인 없이 유저 한 명의 행만 읽음
+ * - (user_login_id, end_time, game_id) 인덱스로 최신순 keyset 페이지네이션
+ * - game_id 인덱스로 이미 반영된 게임을 골라내 중복 적재 방지 (MatchHistoryJdbcRepository#findRecordedGameIds)
+ */
+@Entity
+@Table(name = "match_history",
+        uniqueConstraints = @UniqueConstraint(name = "uk_match_history_user_game",
+                columnNames = { "user_login_id", "game_id" }),
+        indexes = {
+                @Index(name = "idx_match_history_user_end", columnList = "user_login_id, end_time, game_id"),
+                @Index(name = "idx_match_history_game", columnList = "game_id") })
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_login_id", nullable = false)
+    private String userLoginId;
+
+    @Column(name = "game_id", nullable = false)
+    private String gameId;
+
+    @Column(name = "room_id")
+    private String roomId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", length = 20)
+    private PlayerRole role;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "team", length = 20)
+    private Team team;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "winner_team", length = 20)
+    private Team winnerTeam;
+
+    @Column(name = "is_winner", nullable = false)
+    private boolean winner;
+
+    @Column(name = "is_alive", nullable = false)
+    private boolean alive;
+
+    // 사망한 페이즈 번호 (생존 시 null)
+    @Column(name = "death_phase")
+    private Integer deathPhase;
+
+    @Column(name = "player_count", nullable = false)
+    private int playerCount;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,49 @@
+package com.example.mafiagame.history.domain;
+
+import com.example.mafiagame.game.domain.state.PlayerRole;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 역할 전적 요약 (match_history 와 같은 트랜잭션에서 증분 갱신)
+ * - 요약 조회는 유저당 역할 수만큼의 행만 읽음 (COUNT/GROUP BY 없음)
+ */
+@Entity
+@Table(name = "match_role_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uk_match_role_summary_user_role",
+                columnNames = { "user_login_id", "role" }))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchRoleSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_login_id", nullable = false)
+    private String userLoginId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "role", nullable = false, length = 20)
+    private PlayerRole role;
+
+    @Column(name = "games", nullable = false)
+    private int games;
+
+    @Column(name = "wins", nullable = false)
+    private int wins;
+}
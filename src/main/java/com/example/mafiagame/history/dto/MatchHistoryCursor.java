@@ -0,0 +1,38 @@
+package com.example.mafiagame.history.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import com.example.mafiagame.global.error.CommonException;
+import com.example.mafiagame.global.error.ErrorCode;
+
+/**
+ * keyset 페이지네이션 커서 (마지막으로 본 행의 endTime, gameId)
+ * 클라이언트에는 Base64URL 문자열로만 노출
+ */
+public record MatchHistoryCursor(LocalDateTime endTime, String gameId) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = endTime + DELIMITER + gameId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 첫 페이지는 null/빈 문자열
+     */
+    public static MatchHistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            return new MatchHistoryCursor(LocalDateTime.parse(raw.substring(0, index)), raw.substring(index + 1));
+        } catch (RuntimeException e) {
+            throw new CommonException(ErrorCode.VALIDATION_FAILED);
+        }
+    }
+}
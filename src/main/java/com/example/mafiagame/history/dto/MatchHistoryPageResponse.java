@@ -0,0 +1,11 @@
+package com.example.mafiagame.history.dto;
+
+import java.util.List;
+
+/**
+ * 전적 이력 페이지 (nextCursor 가 null 이면 마지막 페이지)
+ */
+public record MatchHistoryPageResponse(
+        List<MatchHistoryResponse> items,
+        String nextCursor) {
+}
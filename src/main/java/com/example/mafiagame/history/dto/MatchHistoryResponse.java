@@ -0,0 +1,18 @@
+package com.example.mafiagame.history.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전적 이력 한 건
+ */
+public record MatchHistoryResponse(
+        String gameId,
+        String role,
+        String team,
+        String winnerTeam,
+        boolean winner,
+        boolean alive,
+        Integer deathPhase,
+        int playerCount,
+        LocalDateTime endTime) {
+}
@@ -0,0 +1,22 @@
+package com.example.mafiagame.history.dto;
+
+import java.util.List;
+
+/**
+ * 전적 요약 (전체 + 역할별)
+ */
+public record MatchSummaryResponse(
+        int games,
+        int wins,
+        double winRate,
+        List<RoleStat> roles) {
+
+    public record RoleStat(String role, int games, int wins, double winRate) {
+    }
+
+    public static MatchSummaryResponse of(List<RoleStat> roles) {
+        int games = roles.stream().mapToInt(RoleStat::games).sum();
+        int wins = roles.stream().mapToInt(RoleStat::wins).sum();
+        return new MatchSummaryResponse(games, wins, games > 0 ? (double) wins / games : 0.0, roles);
+    }
+}
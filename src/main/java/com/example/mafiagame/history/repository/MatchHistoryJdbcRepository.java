@@ -0,0 +1,150 @@
+package com.example.mafiagame.history.repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.mafiagame.history.dto.MatchHistoryCursor;
+import com.example.mafiagame.history.dto.MatchHistoryResponse;
+import com.example.mafiagame.history.dto.MatchSummaryResponse.RoleStat;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * match_history / match_role_summary 저장소 (JDBC)
+ * - 쓰기는 game.ended 배치당 JDBC 배치 한 번씩
+ * - 읽기는 유저 한 명의 인덱스 범위만 스캔 (OFFSET 없이 마지막 행 기준 seek)
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchHistoryJdbcRepository {
+
+    private static final String SELECT_RECORDED_GAMES = "SELECT DISTINCT game_id FROM match_history "
+            + "WHERE game_id IN (:gameIds)";
+
+    private static final String INSERT_HISTORY = "INSERT INTO match_history "
+            + "(user_login_id, game_id, room_id, role, team, winner_team, is_winner, is_alive, death_phase, "
+            + "player_count, end_time) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPSERT_ROLE_SUMMARY = "INSERT INTO match_role_summary "
+            + "(user_login_id, role, games, wins) VALUES (?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE games = games + VALUES(games), wins = wins + VALUES(wins)";
+
+    private static final String SELECT_FIRST_PAGE = "SELECT game_id, role, team, winner_team, is_winner, is_alive, "
+            + "death_phase, player_count, end_time FROM match_history "
+            + "WHERE user_login_id = ? "
+            + "ORDER BY end_time DESC, game_id DESC LIMIT ?";
+
+    // (end_time, game_id) < (?, ?) 를 인덱스 범위 조건으로 풀어 씀
+    private static final String SELECT_NEXT_PAGE = "SELECT game_id, role, team, winner_team, is_winner, is_alive, "
+            + "death_phase, player_count, end_time FROM match_history "
+            + "WHERE user_login_id = ? AND (end_time < ? OR (end_time = ? AND game_id < ?)) "
+            + "ORDER BY end_time DESC, game_id DESC LIMIT ?";
+
+    private static final String SELECT_ROLE_SUMMARY = "SELECT role, games, wins FROM match_role_summary "
+            + "WHERE user_login_id = ? ORDER BY role";
+
+    private static final RowMapper<MatchHistoryResponse> HISTORY_MAPPER = (rs, rowNum) -> new MatchHistoryResponse(
+            rs.getString("game_id"),
+            rs.getString("role"),
+            rs.getString("team"),
+            rs.getString("winner_team"),
+            rs.getBoolean("is_winner"),
+            rs.getBoolean("is_alive"),
+            rs.getObject("death_phase", Integer.class),
+            rs.getInt("player_count"),
+            rs.getTimestamp("end_time").toLocalDateTime());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 저장할 이력 한 행
+     */
+    public record HistoryRow(String userLoginId, String gameId, String roomId, String role, String team,
+            String winnerTeam, boolean winner, boolean alive, Integer deathPhase, int playerCount,
+            LocalDateTime endTime) {
+    }
+
+    /**
+     * 역할별 요약 증분
+     */
+    public record RoleSummaryDelta(String userLoginId, String role, int games, int wins) {
+    }
+
+    /**
+     * 이미 이력이 기록된 게임 ID (게임 단위로 한 트랜잭션에 기록되므로 게임 단위 중복 판정으로 충분)
+     */
+    public Set<String> findRecordedGameIds(Collection<String> gameIds) {
+        if (gameIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                SELECT_RECORDED_GAMES, Map.of("gameIds", gameIds), String.class));
+    }
+
+    public void insertAll(List<HistoryRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_HISTORY, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.userLoginId());
+            ps.setString(2, row.gameId());
+            ps.setString(3, row.roomId());
+            ps.setString(4, row.role());
+            ps.setString(5, row.team());
+            ps.setString(6, row.winnerTeam());
+            ps.setBoolean(7, row.winner());
+            ps.setBoolean(8, row.alive());
+            if (row.deathPhase() != null) {
+                ps.setInt(9, row.deathPhase());
+            } else {
+                ps.setNull(9, Types.INTEGER);
+            }
+            ps.setInt(10, row.playerCount());
+            ps.setTimestamp(11, Timestamp.valueOf(row.endTime()));
+        });
+    }
+
+    public void incrementRoleSummaries(List<RoleSummaryDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_ROLE_SUMMARY, deltas, deltas.size(), (ps, delta) -> {
+            ps.setString(1, delta.userLoginId());
+            ps.setString(2, delta.role());
+            ps.setInt(3, delta.games());
+            ps.setInt(4, delta.wins());
+        });
+    }
+
+    /**
+     * 최신순 이력 조회 (cursor 가 null 이면 첫 페이지)
+     */
+    public List<MatchHistoryResponse> findPage(String userLoginId, MatchHistoryCursor cursor, int limit) {
+        if (cursor == null) {
+            return jdbcTemplate.query(SELECT_FIRST_PAGE, HISTORY_MAPPER, userLoginId, limit);
+        }
+        Timestamp endTime = Timestamp.valueOf(cursor.endTime());
+        return jdbcTemplate.query(SELECT_NEXT_PAGE, HISTORY_MAPPER,
+                userLoginId, endTime, endTime, cursor.gameId(), limit);
+    }
+
+    public List<RoleStat> findRoleSummaries(String userLoginId) {
+        return jdbcTemplate.query(SELECT_ROLE_SUMMARY, (rs, rowNum) -> {
+            int games = rs.getInt("games");
+            int wins = rs.getInt("wins");
+            return new RoleStat(rs.getString("role"), games, wins, games > 0 ? (double) wins / games : 0.0);
+        }, userLoginId);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.mafiagame.history.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.example.mafiagame.history.dto.MatchHistoryCursor;
+import com.example.mafiagame.history.dto.MatchHistoryPageResponse;
+import com.example.mafiagame.history.dto.MatchHistoryResponse;
+import com.example.mafiagame.history.dto.MatchSummaryResponse;
+import com.example.mafiagame.history.repository.MatchHistoryJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전적 이력 조회 서비스 (프로필 페이지)
+ */
+@Service
+@RequiredArgsConstructor
+public class MatchHistoryService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final MatchHistoryJdbcRepository matchHistoryJdbcRepository;
+
+    /**
+     * 최신순 전적 이력 (size + 1 건을 읽어 다음 페이지 존재 여부 판단)
+     */
+    public MatchHistoryPageResponse getHistory(String userLoginId, String cursor, int size) {
+        int safeSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<MatchHistoryResponse> rows = matchHistoryJdbcRepository.findPage(
+                userLoginId, MatchHistoryCursor.decode(cursor), safeSize + 1);
+        if (rows.size() <= safeSize) {
+            return new MatchHistoryPageResponse(rows, null);
+        }
+        List<MatchHistoryResponse> items = rows.subList(0, safeSize);
+        MatchHistoryResponse last = items.get(items.size() - 1);
+        return new MatchHistoryPageResponse(items,
+                new MatchHistoryCursor(last.endTime(), last.gameId()).encode());
+    }
+
+    public MatchSummaryResponse getSummary(String userLoginId) {
+        return MatchSummaryResponse.of(matchHistoryJdbcRepository.findRoleSummaries(userLoginId));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.mafiagame.history.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.mafiagame.history.repository.MatchHistoryJdbcRepository;
+import com.example.mafiagame.history.repository.MatchHistoryJdbcRepository.HistoryRow;
+import com.example.mafiagame.history.repository.MatchHistoryJdbcRepository.RoleSummaryDelta;
+import com.example.mafiagame.kafka.event.GameEndedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * game.ended 이벤트 묶음을 전적 이력/역할 요약에 반영
+ * - 이미 기록된 게임은 건너뛰므로 재전달된 이벤트가 요약에 중복 합산되지 않음
+ * - 이력 INSERT 와 요약 증분을 한 트랜잭션으로 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MatchHistoryWriter {
+
+    private final MatchHistoryJdbcRepository matchHistoryJdbcRepository;
+
+    /**
+     * @return 이번 호출에서 새로 기록된 게임 수
+     */
+    @Transactional
+    public int apply(List<GameEndedEvent> events) {
+        Map<String, GameEndedEvent> byGameId = new LinkedHashMap<>();
+        for (GameEndedEvent event : events) {
+            if (event != null && event.getGameId() != null && event.getPlayers() != null) {
+                byGameId.putIfAbsent(event.getGameId(), event);
+            }
+        }
+        if (byGameId.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> recorded = matchHistoryJdbcRepository.findRecordedGameIds(byGameId.keySet());
+        List<GameEndedEvent> pending = byGameId.values().stream()
+                .filter(event -> !recorded.contains(event.getGameId()))
+                .toList();
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<HistoryRow> rows = toRows(pending);
+        matchHistoryJdbcRepository.insertAll(rows);
+        matchHistoryJdbcRepository.incrementRoleSummaries(summarize(rows));
+
+        log.info("[MatchHistory] 전적 이력 반영: games={}, rows={}, skipped={}",
+                pending.size(), rows.size(), byGameId.size() - pending.size());
+        return pending.size();
+    }
+
+    static List<HistoryRow> toRows(List<GameEndedEvent> events) {
+        List<HistoryRow> rows = new ArrayList<>();
+        for (GameEndedEvent event : events) {
+            LocalDateTime endTime = event.getOccurredAt() != null ? event.getOccurredAt() : LocalDateTime.now();
+            Set<String> winners = event.getWinnerIds() != null ? new HashSet<>(event.getWinnerIds()) : Set.of();
+            Set<String> seen = new HashSet<>();
+            for (GameEndedEvent.PlayerResult player : event.getPlayers()) {
+                if (player.getPlayerId() == null || !seen.add(player.getPlayerId())) {
+                    continue;
+                }
+                rows.add(new HistoryRow(player.getPlayerId(), event.getGameId(), event.getRoomId(),
+                        player.getRole(), player.getTeam(), event.getWinnerTeam(),
+                        winners.contains(player.getPlayerId()), player.isAlive(), player.getDeathPhase(),
+                        event.getPlayers().size(), endTime));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 유저/역할별 증분 합산 (키 정렬 → 동시 배치 간 행 잠금 순서 고정, 역할 미배정 행은 제외)
+     */
+    static List<RoleSummaryDelta> summarize(List<HistoryRow> rows) {
+        SortedMap<String, RoleSummaryDelta> deltas = new TreeMap<>();
+        for (HistoryRow row : rows) {
+            if (row.role() == null) {
+                continue;
+            }
+            int win = row.winner() ? 1 : 0;
+            deltas.merge(row.userLoginId() + "|" + row.role(),
+                    new RoleSummaryDelta(row.userLoginId(), row.role(), 1, win),
+                    (current, added) -> new RoleSummaryDelta(current.userLoginId(), current.role(),
+                            current.games() + 1, current.wins() + win));
+        }
+        return new ArrayList<>(deltas.values());
+    }
+}
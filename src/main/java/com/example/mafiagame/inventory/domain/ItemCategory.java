@@ -19,5 +19,14 @@ public enum ItemCategory {
     SEASON_PASS,
 
     /** 인앱 가상 화폐 충전. */
-    COIN
+    COIN;
+
+    /**
+     * 지급마다 행을 추가하지 않고 보유 수량에 합산하는 누적형 카테고리인지 여부.
+     *
+     * @return 누적형이면 true
+     */
+    public boolean isStackable() {
+        return this == COIN;
+    }
 }
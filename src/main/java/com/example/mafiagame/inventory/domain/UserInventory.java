@@ -14,6 +14,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.Index;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -28,8 +29,9 @@ import lombok.Setter;
 @Entity
 @Table(name = "user_inventory", indexes = {
         @Index(name = "idx_user_inventory_user", columnList = "user_id"),
-        @Index(name = "idx_user_inventory_expires", columnList = "expiresAt")
-})
+        // 만료 정리 커버링 인덱스 (InnoDB 보조 인덱스는 PK 를 포함하므로 id 조회까지 인덱스만으로 처리)
+        @Index(name = "idx_user_inventory_active_expires", columnList = "active, expiresAt")
+}, uniqueConstraints = @UniqueConstraint(name = "uk_user_inventory_stack", columnNames = { "user_id", "stack_item_id" }))
 @Getter
 @Setter
 @Builder
@@ -49,6 +51,13 @@ public class UserInventory {
     @JoinColumn(name = "item_id", nullable = false)
     private Item item;
 
+    /**
+     * 누적형(코인) 아이템의 보유 행이면 item_id 와 같은 값, 그 외에는 null.
+     * (user_id, stack_item_id) 유니크 키로 누적형 아이템은 사용자당 한 행만 유지한다.
+     */
+    @Column(name = "stack_item_id")
+    private Long stackItemId;
+
     /** 보유 수량 (코인, 소비형 아이템 등). */
     @Builder.Default
     @Column(nullable = false)
@@ -0,0 +1,122 @@
+package com.example.mafiagame.inventory.repository;
+
+import com.example.mafiagame.global.jdbc.MultiRowSql;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * user_inventory 일괄 지급 (JDBC multi-row INSERT)
+ * UserInventory 는 IDENTITY 전략이라 Hibernate 배치 INSERT 가 비활성화되므로,
+ * 주문 한 건의 지급 행을 VALUES (...),(...) 한 문장으로 처리
+ * - 기간제/영구 아이템: 지급마다 새 행
+ * - 누적형(코인) 아이템: (user_id, stack_item_id) 유니크 키로 한 행에 수량 합산
+ * 만료 정리는 (active, expires_at) 인덱스만 읽어 ID 를 고르고 PK IN 절로 비활성화 (한 번에 잠그는 행 수 제한)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserInventoryJdbcRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO user_inventory "
+            + "(user_id, item_id, quantity, acquired_at, expires_at, active) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, true)";
+
+    private static final String UPSERT_STACK_PREFIX = "INSERT INTO user_inventory "
+            + "(user_id, item_id, stack_item_id, quantity, acquired_at, active) VALUES ";
+    private static final String UPSERT_STACK_ROW = "(?, ?, ?, ?, ?, true)";
+    // 회수(비활성화)된 행은 수량을 새로 시작 (MySQL 의 좌→우 SET 평가로 갱신 전 active 사용)
+    private static final String UPSERT_STACK_SUFFIX = " ON DUPLICATE KEY UPDATE "
+            + "quantity = CASE WHEN active THEN quantity ELSE 0 END + VALUES(quantity), active = true";
+
+    private static final String SELECT_USER_ID = "SELECT user_id FROM users WHERE user_login_id = ?";
+
+    // (active, expires_at) 인덱스 + PK 로 끝나는 커버링 조회 (비활성화된 행은 범위에서 빠지므로 오프셋 불필요)
+    private static final String SELECT_EXPIRED_IDS = "SELECT id FROM user_inventory "
+            + "WHERE active = TRUE AND expires_at <= ? ORDER BY expires_at, id LIMIT ?";
+
+    private static final String DEACTIVATE_EXPIRED = "UPDATE user_inventory SET active = FALSE "
+            + "WHERE id IN (:ids) AND active = TRUE AND expires_at <= :cutoff";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 새로 지급할 인벤토리 한 행
+     */
+    public record GrantRow(long itemId, int quantity, LocalDateTime expiresAt) {
+    }
+
+    public Optional<Long> findUserId(String userLoginId) {
+        return jdbcTemplate.queryForList(SELECT_USER_ID, Long.class, userLoginId).stream().findFirst();
+    }
+
+    /**
+     * 지급마다 새 행 추가
+     */
+    public void insertAll(long userId, List<GrantRow> rows, LocalDateTime acquiredAt) {
+        Timestamp acquired = Timestamp.valueOf(acquiredAt);
+        for (List<GrantRow> chunk : MultiRowSql.chunks(rows)) {
+            jdbcTemplate.update(MultiRowSql.of(INSERT_PREFIX, INSERT_ROW, chunk.size(), ""), ps -> {
+                int index = 1;
+                for (GrantRow row : chunk) {
+                    ps.setLong(index++, userId);
+                    ps.setLong(index++, row.itemId());
+                    ps.setInt(index++, row.quantity());
+                    ps.setTimestamp(index++, acquired);
+                    if (row.expiresAt() != null) {
+                        ps.setTimestamp(index++, Timestamp.valueOf(row.expiresAt()));
+                    } else {
+                        ps.setNull(index++, Types.TIMESTAMP);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 누적형 아이템 수량 합산 (보유 행이 없으면 추가, 있으면 quantity 증가)
+     */
+    public void upsertStacks(long userId, List<GrantRow> rows, LocalDateTime acquiredAt) {
+        Timestamp acquired = Timestamp.valueOf(acquiredAt);
+        for (List<GrantRow> chunk : MultiRowSql.chunks(rows)) {
+            String sql = MultiRowSql.of(UPSERT_STACK_PREFIX, UPSERT_STACK_ROW, chunk.size(), UPSERT_STACK_SUFFIX);
+            jdbcTemplate.update(sql, ps -> {
+                int index = 1;
+                for (GrantRow row : chunk) {
+                    ps.setLong(index++, userId);
+                    ps.setLong(index++, row.itemId());
+                    ps.setLong(index++, row.itemId());
+                    ps.setInt(index++, row.quantity());
+                    ps.setTimestamp(index++, acquired);
+                }
+            });
+        }
+    }
+
+    /**
+     * cutoff 이전에 만료된 활성 인벤토리 ID (만료 시각 순, 최대 limit 개)
+     */
+    public List<Long> findExpiredIds(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList(SELECT_EXPIRED_IDS, Long.class, Timestamp.valueOf(cutoff), limit);
+    }
+
+    /**
+     * @return 이번 호출에서 비활성화된 행 수 (그 사이 회수/갱신된 행은 제외)
+     */
+    public int deactivateExpired(Collection<Long> ids, LocalDateTime cutoff) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(DEACTIVATE_EXPIRED,
+                Map.of("ids", ids, "cutoff", Timestamp.valueOf(cutoff)));
+    }
+}
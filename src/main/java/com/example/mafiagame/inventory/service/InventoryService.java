@@ -1,17 +1,21 @@
 package com.example.mafiagame.inventory.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.mafiagame.inventory.domain.Item;
 import com.example.mafiagame.inventory.domain.UserInventory;
-import com.example.mafiagame.inventory.repository.ItemRepository;
+import com.example.mafiagame.inventory.repository.UserInventoryJdbcRepository;
+import com.example.mafiagame.inventory.repository.UserInventoryJdbcRepository.GrantRow;
 import com.example.mafiagame.inventory.repository.UserInventoryRepository;
-import com.example.mafiagame.user.domain.Users;
-import com.example.mafiagame.user.repository.UsersRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,8 +32,26 @@ import lombok.extern.slf4j.Slf4j;
 public class InventoryService {
 
     private final UserInventoryRepository userInventoryRepository;
-    private final ItemRepository itemRepository;
-    private final UsersRepository usersRepository;
+    private final UserInventoryJdbcRepository userInventoryJdbcRepository;
+    private final ItemCatalogCache itemCatalogCache;
+
+    /**
+     * 지급할 아이템 한 줄.
+     */
+    public record ItemGrant(Long itemId, int quantity) {
+    }
+
+    /**
+     * 지급 행 분류 결과 (새 행 추가 / 누적형 수량 합산).
+     */
+    record GrantPlan(List<GrantRow> inserts, List<GrantRow> stacks) {
+    }
+
+    /**
+     * 만료 정리 Chunk 한 번의 결과 (selected: 고른 대상 수, deactivated: 실제 비활성화된 수).
+     */
+    public record ExpiredCleanupChunk(int selected, int deactivated) {
+    }
 
     /**
      * 사용자에게 아이템을 지급한다.
@@ -40,28 +62,55 @@ public class InventoryService {
      */
     @Transactional
     public void grantItem(String userId, Long itemId, int quantity) {
-        Users user = usersRepository.findByUserLoginId(userId)
+        grantItems(userId, List.of(new ItemGrant(itemId, quantity)));
+    }
+
+    /**
+     * 주문 한 건의 아이템을 일괄 지급한다.
+     *
+     * <p>아이템 정보는 카탈로그 캐시에서 읽고, 새 행은 multi-row INSERT 한 문장,
+     * 누적형(코인) 아이템은 보유 행에 수량을 합산하는 upsert 한 문장으로 반영한다.</p>
+     *
+     * @param userId 사용자 로그인 ID
+     * @param grants 지급할 아이템 목록
+     */
+    @Transactional
+    public void grantItems(String userId, List<ItemGrant> grants) {
+        if (grants.isEmpty()) {
+            return;
+        }
+        Long userDbId = userInventoryJdbcRepository.findUserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
-        Item item = itemRepository.findById(itemId)
-                .orElseThrow(() -> new IllegalArgumentException("아이템을 찾을 수 없습니다: " + itemId));
+        LocalDateTime now = LocalDateTime.now();
+        GrantPlan plan = plan(grants, itemCatalogCache::find, now);
+        userInventoryJdbcRepository.insertAll(userDbId, plan.inserts(), now);
+        userInventoryJdbcRepository.upsertStacks(userDbId, plan.stacks(), now);
 
-        LocalDateTime expiresAt = null;
-        if (item.getDurationDays() != null) {
-            expiresAt = LocalDateTime.now().plusDays(item.getDurationDays());
-        }
+        log.info("[아이템 지급] userId={}, lines={}, inserted={}, stacked={}",
+                userId, grants.size(), plan.inserts().size(), plan.stacks().size());
+    }
 
-        UserInventory inventory = UserInventory.builder()
-                .user(user)
-                .item(item)
-                .quantity(quantity)
-                .acquiredAt(LocalDateTime.now())
-                .expiresAt(expiresAt)
-                .active(true)
-                .build();
-
-        userInventoryRepository.save(inventory);
-        log.info("[아이템 지급] userId={}, itemId={}, quantity={}", userId, itemId, quantity);
+    /**
+     * 지급 목록을 새 행과 누적형 합산으로 분류 (누적형은 아이템별로 합치고 itemId 순 정렬 → 행 잠금 순서 고정)
+     */
+    static GrantPlan plan(List<ItemGrant> grants, Function<Long, Optional<Item>> catalog, LocalDateTime now) {
+        List<GrantRow> inserts = new ArrayList<>();
+        SortedMap<Long, Integer> stacks = new TreeMap<>();
+        for (ItemGrant grant : grants) {
+            Item item = catalog.apply(grant.itemId())
+                    .orElseThrow(() -> new IllegalArgumentException("아이템을 찾을 수 없습니다: " + grant.itemId()));
+            if (item.getCategory().isStackable()) {
+                stacks.merge(item.getItemId(), grant.quantity(), Integer::sum);
+                continue;
+            }
+            LocalDateTime expiresAt = item.getDurationDays() != null ? now.plusDays(item.getDurationDays()) : null;
+            inserts.add(new GrantRow(item.getItemId(), grant.quantity(), expiresAt));
+        }
+        List<GrantRow> stackRows = stacks.entrySet().stream()
+                .map(entry -> new GrantRow(entry.getKey(), entry.getValue(), null))
+                .toList();
+        return new GrantPlan(inserts, stackRows);
     }
 
     /**
@@ -91,14 +140,14 @@ public class InventoryService {
     }
 
     /**
-     * 만료된 아이템 일괄 비활성화 (Batch Job에서 호출).
+     * 만료된 아이템을 최대 chunkSize 개 비활성화 (Batch Job 에서 Chunk 마다 짧은 트랜잭션으로 호출).
      *
-     * @return 비활성화된 레코드 수
+     * @return 처리 결과 (selected 가 chunkSize 보다 작으면 남은 대상이 없음)
      */
     @Transactional
-    public int deactivateExpiredItems() {
-        int count = userInventoryRepository.deactivateExpiredItems(LocalDateTime.now());
-        log.info("[만료 아이템 정리] 비활성화 건수={}", count);
-        return count;
+    public ExpiredCleanupChunk deactivateExpiredChunk(LocalDateTime cutoff, int chunkSize) {
+        List<Long> ids = userInventoryJdbcRepository.findExpiredIds(cutoff, chunkSize);
+        int deactivated = userInventoryJdbcRepository.deactivateExpired(ids, cutoff);
+        return new ExpiredCleanupChunk(ids.size(), deactivated);
     }
 }
@@ -0,0 +1,153 @@
+package com.example.mafiagame.inventory.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.mafiagame.inventory.domain.Item;
+import com.example.mafiagame.inventory.repository.ItemRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 아이템 카탈로그 로컬 캐시 (노드 로컬 메모리)
+ * - 카탈로그는 수십 건 수준이고 변경이 드물어 전체를 불변 스냅샷으로 보관
+ * - 주문 생성/아이템 지급 시 라인마다 발생하던 items PK 조회 제거
+ * - 이 노드의 변경은 커밋 후 즉시 다시 읽고, 다른 노드에는 support Redis Pub/Sub 무효화 이벤트로 전파
+ * - 캐시된 Item 은 분리(detached) 상태이므로 읽기 전용으로만 사용
+ */
+@Component
+@Slf4j
+public class ItemCatalogCache implements MessageListener {
+
+    // 무효화 이벤트 유실(Pub/Sub 은 at-most-once)에 대비한 스냅샷 최대 보존 시간
+    private static final long MAX_AGE_MILLIS = 10 * 60 * 1000L;
+
+    private static final String INVALIDATE_CHANNEL = "item_catalog:invalidate";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ItemRepository itemRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(Map<Long, Item> items, List<Item> ordered, long loadedAt) {
+    }
+
+    public ItemCatalogCache(
+            ItemRepository itemRepository,
+            @Qualifier("supportStringRedisTemplate") StringRedisTemplate stringRedisTemplate,
+            @Qualifier("supportRedisMessageListenerContainer") RedisMessageListenerContainer listenerContainer) {
+        this.itemRepository = itemRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    // ================== 조회 ================== //
+
+    /**
+     * 아이템 조회 (비활성 아이템 포함)
+     */
+    public Optional<Item> find(Long itemId) {
+        return Optional.ofNullable(current().items().get(itemId));
+    }
+
+    /**
+     * 전체 아이템 (itemId 순, 비활성 아이템 포함)
+     */
+    public List<Item> all() {
+        return current().ordered();
+    }
+
+    // ================== 갱신 ================== //
+
+    /**
+     * 아이템 등록/수정 직후 호출 (커밋 후 로컬 재적재 + 다른 노드 무효화)
+     */
+    public void onCatalogChanged() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reloadAndPublish();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reloadAndPublish();
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String sender = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (nodeId.equals(sender)) {
+            return; // 자신이 발행한 이벤트는 이미 재적재됨
+        }
+        invalidate();
+    }
+
+    void invalidate() {
+        snapshot = null;
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        if (loaded != null && System.currentTimeMillis() - loaded.loadedAt() < MAX_AGE_MILLIS) {
+            return loaded;
+        }
+        return reload();
+    }
+
+    private synchronized Snapshot reload() {
+        List<Item> items = itemRepository.findAll().stream()
+                .sorted(Comparator.comparing(Item::getItemId))
+                .toList();
+        Snapshot loaded = new Snapshot(
+                items.stream().collect(Collectors.toUnmodifiableMap(Item::getItemId, Function.identity())),
+                items, System.currentTimeMillis());
+        snapshot = loaded;
+        log.debug("[ItemCatalog] 카탈로그 적재: size={}", items.size());
+        return loaded;
+    }
+
+    private void reloadAndPublish() {
+        try {
+            reload();
+        } catch (Exception e) {
+            invalidate();
+            log.warn("[ItemCatalog] 카탈로그 재적재 실패, 다음 조회 시 다시 읽음", e);
+        }
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATE_CHANNEL, nodeId);
+        } catch (Exception e) {
+            // 다른 노드는 최대 MAX_AGE_MILLIS 이후 재적재로 보정됨
+            log.warn("[ItemCatalog] 무효화 이벤트 발행 실패", e);
+        }
+    }
+}
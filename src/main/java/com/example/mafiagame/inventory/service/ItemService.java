@@ -15,7 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 아이템 카탈로그 관리 서비스.
  *
- * <p>아이템의 CRUD 및 카테고리별 조회를 담당한다.</p>
+ * <p>아이템의 CRUD 및 카테고리별 조회를 담당한다.
+ * 조회는 카탈로그 캐시에서 처리하고, 변경 시 캐시를 갱신한다.</p>
  */
 @Service
 @Slf4j
@@ -24,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ItemService {
 
     private final ItemRepository itemRepository;
+    private final ItemCatalogCache itemCatalogCache;
 
     /**
      * 활성화된 전체 아이템 목록 조회.
@@ -31,7 +33,9 @@ public class ItemService {
      * @return 활성 아이템 리스트
      */
     public List<Item> getActiveItems() {
-        return itemRepository.findByActiveTrue();
+        return itemCatalogCache.all().stream()
+                .filter(Item::isActive)
+                .toList();
     }
 
     /**
@@ -41,7 +45,9 @@ public class ItemService {
      * @return 해당 카테고리의 활성 아이템 리스트
      */
     public List<Item> getItemsByCategory(ItemCategory category) {
-        return itemRepository.findByCategoryAndActiveTrue(category);
+        return itemCatalogCache.all().stream()
+                .filter(item -> item.isActive() && item.getCategory() == category)
+                .toList();
     }
 
     /**
@@ -52,7 +58,7 @@ public class ItemService {
      * @throws IllegalArgumentException 아이템을 찾을 수 없는 경우
      */
     public Item getItem(Long itemId) {
-        return itemRepository.findById(itemId)
+        return itemCatalogCache.find(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("아이템을 찾을 수 없습니다: " + itemId));
     }
 
@@ -65,6 +71,7 @@ public class ItemService {
     @Transactional
     public Item createItem(Item item) {
         Item saved = itemRepository.save(item);
+        itemCatalogCache.onCatalogChanged();
         log.info("[아이템 등록] itemId={}, name={}, category={}", saved.getItemId(), saved.getItemName(), saved.getCategory());
         return saved;
     }
@@ -76,9 +83,11 @@ public class ItemService {
      */
     @Transactional
     public void deactivateItem(Long itemId) {
-        Item item = getItem(itemId);
+        Item item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("아이템을 찾을 수 없습니다: " + itemId));
         item.setActive(false);
         itemRepository.save(item);
+        itemCatalogCache.onCatalogChanged();
         log.info("[아이템 비활성화] itemId={}", itemId);
     }
 }
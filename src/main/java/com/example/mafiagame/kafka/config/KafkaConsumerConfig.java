@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -12,19 +13,26 @@ import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.util.backoff.FixedBackOff;
 
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * Kafka Consumer 설정.
  *
- * 수동 커밋(MANUAL_IMMEDIATE) + 3회 재시도 후 실패 로그 출력으로 구성한다.
- * DLT(Dead Letter Topic) 전송은 추후 필요 시 추가 가능.
+ * 수동 커밋(MANUAL_IMMEDIATE) + 3회 재시도 후 DLT(Dead Letter Topic) 전송으로 구성한다.
+ * 처리량이 중요한 리스너는 배치 팩토리(배치당 1회 커밋)를 사용하며, 모든 팩토리는 파티션 수만큼 동시 소비한다.
+ * 배치 리스너의 레코드 단위 실패는 재시도 토픽({topic}.retry)으로 보내 지수 백오프로 재처리한다.
  */
 @Configuration
 @Profile("!test")
+@Slf4j
 public class KafkaConsumerConfig {
 
     @Value("${spring.kafka.bootstrap-servers}")
@@ -33,6 +41,22 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    @Value("${mafiagame.kafka.batch.max-poll-records:500}")
+    private int batchMaxPollRecords;
+
+    // 토픽 파티션 수(3)와 맞춰 파티션마다 컨슈머 스레드 하나씩 할당
+    @Value("${mafiagame.kafka.listener.concurrency:3}")
+    private int concurrency;
+
+    @Value("${mafiagame.kafka.retry.max-attempts:4}")
+    private int retryMaxAttempts;
+
+    @Value("${mafiagame.kafka.retry.initial-interval-ms:1000}")
+    private long retryInitialIntervalMs;
+
+    @Value("${mafiagame.kafka.retry.max-interval-ms:30000}")
+    private long retryMaxIntervalMs;
+
     /**
      * Consumer 팩토리.
      *
@@ -54,27 +78,90 @@ public class KafkaConsumerConfig {
     /**
      * Kafka Listener 컨테이너 팩토리.
      *
-     * 수동 ACK + 3회 재시도(1초 간격) 후 로그 기록으로 구성한다.
+     * 수동 ACK + 3회 재시도(1초 간격) 후 DLT 전송으로 구성한다.
      *
      * @return ConcurrentKafkaListenerContainerFactory
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+            DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(concurrency);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(deadLetterPublishingRecoverer, new FixedBackOff(1000L, 3L)));
+        return factory;
+    }
 
-        // 3회 재시도 (1초 간격), 이후 로그 출력
-        DefaultErrorHandler errorHandler = new DefaultErrorHandler(
-                (record, exception) -> {
-                    // DLT 전송 대신 로그 기록 (추후 DLT 전송으로 확장 가능)
-                    org.slf4j.LoggerFactory.getLogger(KafkaConsumerConfig.class)
-                            .error("[Kafka] 최종 실패 - topic={}, key={}, value={}",
-                                    record.topic(), record.key(), record.value(), exception);
-                },
-                new FixedBackOff(1000L, 3L));
-        factory.setCommonErrorHandler(errorHandler);
+    /**
+     * 배치 Kafka Listener 컨테이너 팩토리.
+     *
+     * poll 한 번의 레코드를 List 로 전달하고, 리스너가 배치 처리 후 한 번 ACK 한다.
+     * 실패 시 배치 전체를 3회 재시도(1초 간격)하므로 리스너는 멱등하게 구현해야 한다.
+     * 레코드 단위 실패 격리가 필요하면 BatchTransactionExecutor 를 사용한다.
+     *
+     * @return 배치 모드 ConcurrentKafkaListenerContainerFactory
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(
+            DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = batchFactory(
+                consumerFactory().getConfigurationProperties(), batchMaxPollRecords, concurrency);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(deadLetterPublishingRecoverer, new FixedBackOff(1000L, 3L)));
+        return factory;
+    }
 
+    /**
+     * 재시도 토픽 전용 Listener 컨테이너 팩토리.
+     *
+     * 배치 리스너에서 실패한 레코드를 본 토픽과 분리된 재시도 토픽에서 지수 백오프로 재처리한다.
+     * 재시도 대기는 재시도 토픽 파티션만 멈추므로 본 토픽 처리량에는 영향이 없다.
+     * 최종 실패 시 원본 토픽의 DLT 로 전송한다.
+     *
+     * @return 레코드 단위 ConcurrentKafkaListenerContainerFactory
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> retryKafkaListenerContainerFactory(
+            DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
+
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(retryMaxAttempts);
+        backOff.setInitialInterval(retryInitialIntervalMs);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(retryMaxIntervalMs);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(deadLetterPublishingRecoverer, backOff));
+        return factory;
+    }
+
+    /**
+     * 최종 실패 레코드를 원본 토픽의 DLT 같은 파티션으로 전송 (재시도 토픽에서 실패해도 원본 기준 DLT).
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, Object> kafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(kafkaTemplate, (record, exception) -> {
+            String dlt = KafkaTopics.dlt(KafkaTopics.source(record.topic()));
+            log.error("[Kafka] 최종 실패 → DLT 전송: topic={}, key={}, dlt={}", record.topic(), record.key(), dlt,
+                    exception);
+            return new TopicPartition(dlt, record.partition());
+        });
+    }
+
+    /**
+     * 배치 모드 + 배치당 1회 커밋(MANUAL) 팩토리 생성.
+     */
+    static ConcurrentKafkaListenerContainerFactory<String, Object> batchFactory(
+            Map<String, Object> consumerProps, int maxPollRecords, int concurrency) {
+        Map<String, Object> props = new HashMap<>(consumerProps);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         return factory;
     }
 }
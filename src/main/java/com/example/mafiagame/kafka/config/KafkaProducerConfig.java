@@ -12,6 +12,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.serializer.JsonSerializer;
@@ -93,4 +94,31 @@ public class KafkaProducerConfig {
     public NewTopic gameEndedTopic() {
         return TopicBuilder.name(KafkaTopics.GAME_ENDED).partitions(3).replicas(1).build();
     }
+
+    // ===== 재시도 / DLT 토픽 =====
+
+    @Bean
+    public NewTopic paymentCompletedRetryTopic() {
+        return TopicBuilder.name(KafkaTopics.PAYMENT_COMPLETED_RETRY).partitions(3).replicas(1).build();
+    }
+
+    @Bean
+    public NewTopic paymentFailedRetryTopic() {
+        return TopicBuilder.name(KafkaTopics.PAYMENT_FAILED_RETRY).partitions(3).replicas(1).build();
+    }
+
+    @Bean
+    public NewTopic orderCompletedRetryTopic() {
+        return TopicBuilder.name(KafkaTopics.ORDER_COMPLETED_RETRY).partitions(3).replicas(1).build();
+    }
+
+    /**
+     * 컨슈머가 있는 토픽마다 DLT 생성 (원본과 같은 파티션 번호로 보관).
+     */
+    @Bean
+    public KafkaAdmin.NewTopics deadLetterTopics() {
+        return new KafkaAdmin.NewTopics(KafkaTopics.DLT_SOURCE_TOPICS.stream()
+                .map(topic -> TopicBuilder.name(KafkaTopics.dlt(topic)).partitions(3).replicas(1).build())
+                .toArray(NewTopic[]::new));
+    }
 }
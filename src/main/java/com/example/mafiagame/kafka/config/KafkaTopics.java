@@ -1,5 +1,7 @@
 package com.example.mafiagame.kafka.config;
 
+import java.util.List;
+
 /**
  * Kafka 토픽 이름 상수 정의.
  *
@@ -33,4 +35,40 @@ public final class KafkaTopics {
 
     /** 게임 종료 이벤트 토픽. */
     public static final String GAME_ENDED = "game.ended";
+
+    // ===== 재시도 / DLT =====
+
+    /** 재시도 토픽 접미사 (배치 리스너에서 실패한 레코드를 본 토픽 밖에서 재시도). */
+    public static final String RETRY_SUFFIX = ".retry";
+
+    /** DLT 접미사 (재시도까지 실패한 레코드 보관, 관리자 재처리 대상). */
+    public static final String DLT_SUFFIX = ".dlt";
+
+    /** 결제 완료 재시도 토픽. */
+    public static final String PAYMENT_COMPLETED_RETRY = PAYMENT_COMPLETED + RETRY_SUFFIX;
+
+    /** 결제 실패 재시도 토픽. */
+    public static final String PAYMENT_FAILED_RETRY = PAYMENT_FAILED + RETRY_SUFFIX;
+
+    /** 주문 완료 재시도 토픽. */
+    public static final String ORDER_COMPLETED_RETRY = ORDER_COMPLETED + RETRY_SUFFIX;
+
+    /** DLT 를 두는 (컨슈머가 있는) 토픽 목록. */
+    public static final List<String> DLT_SOURCE_TOPICS = List.of(
+            PAYMENT_COMPLETED, PAYMENT_FAILED, PAYMENT_CANCELLED, ORDER_COMPLETED, GAME_ENDED);
+
+    public static String retry(String topic) {
+        return topic + RETRY_SUFFIX;
+    }
+
+    public static String dlt(String topic) {
+        return topic + DLT_SUFFIX;
+    }
+
+    /**
+     * 재시도 토픽이면 원본 토픽 이름으로 변환.
+     */
+    public static String source(String topic) {
+        return topic.endsWith(RETRY_SUFFIX) ? topic.substring(0, topic.length() - RETRY_SUFFIX.length()) : topic;
+    }
 }
@@ -0,0 +1,50 @@
+package com.example.mafiagame.kafka.controller;
+
+import java.util.Map;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.mafiagame.global.dto.CommonResponse;
+import com.example.mafiagame.kafka.dto.DeadLetterReplayResponse;
+import com.example.mafiagame.kafka.support.DeadLetterReplayService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * DLT 관리자 API 컨트롤러 (ADMIN 권한 필요).
+ */
+@RestController
+@Profile("!test")
+@RequestMapping("/api/admin/kafka/dlt")
+@RequiredArgsConstructor
+@Tag(name = "DLT 관리", description = "Kafka DLT 조회/재처리 API")
+public class DeadLetterAdminController {
+
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    @GetMapping("/{topic}")
+    @Operation(summary = "DLT 적재 건수 조회", description = "아직 재처리하지 않은 DLT 레코드 수를 조회합니다.")
+    public ResponseEntity<CommonResponse<Map<String, Object>>> getPending(@PathVariable String topic) {
+        long pending = deadLetterReplayService.pending(topic);
+        return ResponseEntity.ok(CommonResponse.success(Map.of("topic", topic, "pending", pending), null));
+    }
+
+    @PostMapping("/{topic}/replay")
+    @Operation(summary = "DLT 재처리", description = "DLT 레코드를 초당 발행 건수를 제한하여 원본 토픽으로 재발행합니다.")
+    public ResponseEntity<CommonResponse<DeadLetterReplayResponse>> replay(
+            @PathVariable String topic,
+            @RequestParam(defaultValue = "1000") int maxRecords,
+            @RequestParam(defaultValue = "100") int ratePerSecond) {
+        DeadLetterReplayResponse result = deadLetterReplayService.replay(topic, maxRecords, ratePerSecond);
+        return ResponseEntity.ok(CommonResponse.success(result, "DLT 재처리가 완료되었습니다."));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.mafiagame.kafka.dedup;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 처리 완료 이벤트 ID 용 로컬 블룸 필터 (메모리 상한이 있는 2세대 회전 방식)
+ * - "없음" 판정은 이 노드에서 최근 처리한 적이 없다는 뜻이므로 DB 확인을 생략할 수 있음
+ * - "있을 수 있음" 판정(중복 또는 오탐)만 DB 로 확인
+ * - 현재 세대가 용량에 도달하면 이전 세대를 버리고 새 세대를 시작 (가장 최근 1~2세대만 기억)
+ */
+class EventIdBloomFilter {
+
+    private final int capacity;
+    private final int bitCount;
+    private final int hashCount;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    EventIdBloomFilter(int capacity, double falsePositiveRate) {
+        if (capacity <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("capacity > 0, 0 < falsePositiveRate < 1 이어야 합니다.");
+        }
+        this.capacity = capacity;
+        long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        this.current = new Generation(bitCount);
+        this.previous = new Generation(bitCount);
+    }
+
+    boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+        return current.contains(h1, h2, hashCount) || previous.contains(h1, h2, hashCount);
+    }
+
+    void put(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+        Generation generation = current;
+        generation.set(h1, h2, hashCount);
+        if (generation.insertions.incrementAndGet() >= capacity) {
+            rotate(generation);
+        }
+    }
+
+    int bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    private synchronized void rotate(Generation full) {
+        if (current != full) {
+            return;
+        }
+        previous = full;
+        current = new Generation(bitCount);
+    }
+
+    // FNV-1a 64bit + murmur3 fmix64
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Generation {
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final AtomicInteger insertions = new AtomicInteger();
+
+        Generation(int bitCount) {
+            this.words = new AtomicLongArray((bitCount + 63) >>> 6);
+            this.bitCount = bitCount;
+        }
+
+        boolean contains(long h1, long h2, int hashCount) {
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void set(long h1, long h2, int hashCount) {
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Math.floorMod(h1 + i * h2, bitCount);
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word;
+                do {
+                    word = words.get(index);
+                    if ((word & mask) != 0) {
+                        break;
+                    }
+                } while (!words.compareAndSet(index, word, word | mask));
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.mafiagame.kafka.dedup;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 컨슈머별 처리 완료 이벤트 (멱등 컨슈머의 기준 저장소)
+ * - 처리 결과와 같은 트랜잭션에서 INSERT 되어 커밋된 처리만 기록됨
+ * - (consumer, event_id) 유니크 키가 재전달된 이벤트의 중복 반영을 막음
+ * - 읽기/쓰기는 ProcessedEventRepository(JDBC)가 담당하고, 엔티티는 스키마 정의용
+ */
+@Entity
+@Table(name = "processed_event",
+        uniqueConstraints = @UniqueConstraint(name = "uk_processed_event_consumer_event",
+                columnNames = { "consumer", "event_id" }),
+        indexes = @Index(name = "idx_processed_event_processed_at", columnList = "processed_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProcessedEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String consumer;
+
+    @Column(name = "event_id", nullable = false, length = 64)
+    private String eventId;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,77 @@
+package com.example.mafiagame.kafka.dedup;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.mafiagame.global.jdbc.MultiRowSql;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * processed_event JDBC 저장소
+ * - 배치 처리 기록은 multi-row INSERT 한 문장 (중복이면 DuplicateKeyException 으로 배치 롤백)
+ * - 레코드 단위 처리는 INSERT IGNORE 영향 행 수로 선점 여부 판단
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProcessedEventRepository {
+
+    private static final String INSERT_PREFIX = "INSERT INTO processed_event (consumer, event_id, processed_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?)";
+
+    private static final String INSERT_IGNORE = "INSERT IGNORE INTO processed_event "
+            + "(consumer, event_id, processed_at) VALUES (?, ?, ?)";
+
+    private static final String SELECT_PROCESSED = "SELECT event_id FROM processed_event "
+            + "WHERE consumer = :consumer AND event_id IN (:eventIds)";
+
+    private static final String DELETE_PROCESSED = "DELETE FROM processed_event WHERE processed_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public void insertAll(String consumer, List<String> eventIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (List<String> chunk : MultiRowSql.chunks(eventIds)) {
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (String eventId : chunk) {
+                args.add(consumer);
+                args.add(eventId);
+                args.add(now);
+            }
+            jdbcTemplate.update(MultiRowSql.of(INSERT_PREFIX, INSERT_ROW, chunk.size(), ""), args.toArray());
+        }
+    }
+
+    /**
+     * @return 새로 기록했으면 true, 이미 처리된 이벤트면 false
+     */
+    public boolean insertIfAbsent(String consumer, String eventId) {
+        return jdbcTemplate.update(INSERT_IGNORE, consumer, eventId, Timestamp.valueOf(LocalDateTime.now())) > 0;
+    }
+
+    public Set<String> findProcessed(String consumer, Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(SELECT_PROCESSED,
+                Map.of("consumer", consumer, "eventIds", eventIds), String.class));
+    }
+
+    /**
+     * 보관 기간이 지난 처리 기록 삭제 (한 번에 limit 행)
+     */
+    public int deleteProcessedBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update(DELETE_PROCESSED, Timestamp.valueOf(threshold), limit);
+    }
+}
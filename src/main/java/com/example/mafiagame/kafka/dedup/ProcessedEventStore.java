@@ -0,0 +1,166 @@
+package com.example.mafiagame.kafka.dedup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 멱등 컨슈머용 처리 완료 이벤트 저장소.
+ *
+ * <p>
+ * 기준 저장소는 processed_event 유니크 테이블이며, 처리 결과와 같은 트랜잭션에서 기록되므로
+ * DB 상태 기준으로 이벤트당 한 번만 반영된다. 로컬 블룸 필터가 "처리한 적 없음"을 판정한 이벤트는
+ * 조회 없이 바로 처리하고, "있을 수 있음"으로 판정된 이벤트만 한 번의 IN 조회로 확인한다.
+ * 다른 노드가 처리한 이벤트(리밸런스 후 재전달)는 블룸 필터를 통과하지만 기록 시 유니크 키에 걸린다.
+ * </p>
+ */
+@Component
+@Slf4j
+public class ProcessedEventStore {
+
+    private final ProcessedEventRepository processedEventRepository;
+    private final EventIdBloomFilter bloomFilter;
+    private final int retentionDays;
+    private final int cleanupChunkSize;
+
+    public ProcessedEventStore(
+            ProcessedEventRepository processedEventRepository,
+            @Value("${mafiagame.kafka.dedup.bloom-capacity:1000000}") int bloomCapacity,
+            @Value("${mafiagame.kafka.dedup.bloom-false-positive-rate:0.01}") double bloomFalsePositiveRate,
+            @Value("${mafiagame.kafka.dedup.retention-days:7}") int retentionDays,
+            @Value("${mafiagame.kafka.dedup.cleanup-chunk-size:5000}") int cleanupChunkSize) {
+        this.processedEventRepository = processedEventRepository;
+        this.bloomFilter = new EventIdBloomFilter(bloomCapacity, bloomFalsePositiveRate);
+        this.retentionDays = retentionDays;
+        this.cleanupChunkSize = cleanupChunkSize;
+    }
+
+    /**
+     * 처리하지 않은 이벤트만 남김 (배치 내 중복 제거 포함, eventId 가 없으면 항상 처리 대상).
+     * 블룸 필터에 걸린 이벤트만 DB 로 확인하므로 일반적인 경우 DB 왕복이 없다.
+     */
+    public <T> List<T> filterUnprocessed(String consumer, List<T> items, Function<T, String> eventIdOf) {
+        return filter(consumer, items, eventIdOf, false);
+    }
+
+    /**
+     * 블룸 필터와 무관하게 전체를 DB 로 확인 (기록 시 유니크 키 충돌이 난 배치의 재시도용).
+     */
+    public <T> List<T> verifyUnprocessed(String consumer, List<T> items, Function<T, String> eventIdOf) {
+        return filter(consumer, items, eventIdOf, true);
+    }
+
+    /**
+     * 현재 트랜잭션에 처리 완료 기록 (이미 기록된 이벤트가 있으면 DuplicateKeyException).
+     */
+    public <T> void markProcessed(String consumer, List<T> items, Function<T, String> eventIdOf) {
+        List<String> eventIds = items.stream()
+                .map(eventIdOf)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (eventIds.isEmpty()) {
+            return;
+        }
+        processedEventRepository.insertAll(consumer, eventIds);
+        rememberAfterCommit(consumer, eventIds);
+    }
+
+    /**
+     * 레코드 하나를 현재 트랜잭션에서 선점 (eventId 가 없으면 항상 true).
+     *
+     * @return 처음 처리하는 이벤트면 true, 이미 처리된 이벤트면 false
+     */
+    public boolean claim(String consumer, String eventId) {
+        if (eventId == null) {
+            return true;
+        }
+        if (!processedEventRepository.insertIfAbsent(consumer, eventId)) {
+            bloomFilter.put(key(consumer, eventId));
+            log.info("[Kafka] 이미 처리된 이벤트 건너뜀: consumer={}, eventId={}", consumer, eventId);
+            return false;
+        }
+        rememberAfterCommit(consumer, List.of(eventId));
+        return true;
+    }
+
+    /**
+     * 보관 기간이 지난 처리 기록 정리 (매시 40분).
+     * 보관 기간은 재시도/DLT 재처리로 같은 이벤트가 다시 들어올 수 있는 기간보다 길게 잡는다.
+     */
+    @Scheduled(cron = "0 40 * * * *")
+    public void cleanup() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = processedEventRepository.deleteProcessedBefore(threshold, cleanupChunkSize);
+                total += deleted;
+            } while (deleted == cleanupChunkSize);
+        } catch (Exception e) {
+            log.error("[Kafka] 처리 완료 이벤트 정리 실패: deleted={}", total, e);
+            return;
+        }
+        if (total > 0) {
+            log.info("[Kafka] 처리 완료 이벤트 정리: deleted={}, before={}", total, threshold);
+        }
+    }
+
+    private <T> List<T> filter(String consumer, List<T> items, Function<T, String> eventIdOf, boolean verifyAll) {
+        Set<String> eventIds = new LinkedHashSet<>();
+        items.forEach(item -> eventIds.add(eventIdOf.apply(item)));
+        eventIds.remove(null);
+
+        List<String> suspects = eventIds.stream()
+                .filter(eventId -> verifyAll || bloomFilter.mightContain(key(consumer, eventId)))
+                .toList();
+        Set<String> processed = processedEventRepository.findProcessed(consumer, suspects);
+
+        // 원래 순서 유지 (같은 키의 이벤트 처리 순서)
+        Set<String> seen = new HashSet<>();
+        List<T> result = new ArrayList<>(items.size());
+        for (T item : items) {
+            String eventId = eventIdOf.apply(item);
+            if (eventId == null || (!processed.contains(eventId) && seen.add(eventId))) {
+                result.add(item);
+            }
+        }
+        int skipped = items.size() - result.size();
+        if (skipped > 0) {
+            log.info("[Kafka] 중복 이벤트 건너뜀: consumer={}, skipped={}, checked={}",
+                    consumer, skipped, suspects.size());
+        }
+        return result;
+    }
+
+    private void rememberAfterCommit(String consumer, List<String> eventIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventIds.forEach(eventId -> bloomFilter.put(key(consumer, eventId)));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventIds.forEach(eventId -> bloomFilter.put(key(consumer, eventId)));
+            }
+        });
+    }
+
+    private static String key(String consumer, String eventId) {
+        return consumer + ':' + eventId;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.mafiagame.kafka.dto;
+
+/**
+ * DLT 재처리 결과 (remaining 은 재처리 후 DLT 에 남은 레코드 수)
+ */
+public record DeadLetterReplayResponse(
+        String topic,
+        int replayed,
+        long remaining) {
+}
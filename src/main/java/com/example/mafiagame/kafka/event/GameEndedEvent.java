@@ -13,7 +13,8 @@ import lombok.Setter;
 /**
  * 게임 종료 시 발행되는 Kafka 이벤트.
  *
- * <p>부스트 아이템 소진, 통계 집계 등 후속 처리에 활용된다.</p>
+ * <p>전적 반영, 부스트 아이템 소진, 통계 집계 등 후속 처리에 활용된다.
+ * 게임 결과의 원본 기록이므로 컨슈머는 이 이벤트만으로 DB 를 갱신할 수 있어야 한다.</p>
  */
 @Getter
 @Setter
@@ -29,7 +30,27 @@ public class GameEndedEvent implements Serializable {
     private String roomId;
     private String winnerTeam;
     private List<String> playerIds;
+    private List<String> winnerIds;
+    private List<PlayerResult> players;
 
     @Builder.Default
     private LocalDateTime occurredAt = LocalDateTime.now();
+
+    /**
+     * 이벤트 내 플레이어별 결과.
+     */
+    @Getter
+    @Setter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PlayerResult implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private String playerId;
+        private String role;
+        private String team;
+        private boolean alive;
+        private Integer deathPhase;
+    }
 }
@@ -0,0 +1,50 @@
+package com.example.mafiagame.kafka.outbox;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 트랜잭셔널 아웃박스 (발행 대기 Kafka 이벤트)
+ * - 상태 변경과 같은 트랜잭션에서 INSERT 되어 커밋된 변경만 발행됨
+ * - OutboxRelay 가 id 순으로 읽어 발행하고 published_at 을 채움
+ * - 읽기/쓰기는 OutboxRepository(JDBC)가 담당하고, 엔티티는 스키마 정의용
+ */
+@Entity
+@Table(name = "outbox_event",
+        indexes = @Index(name = "idx_outbox_event_published", columnList = "published_at, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "message_key", length = 100)
+    private String messageKey;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+}
@@ -0,0 +1,73 @@
+package com.example.mafiagame.kafka.outbox;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.mafiagame.kafka.event.GameEndedEvent;
+import com.example.mafiagame.kafka.event.OrderEvent;
+import com.example.mafiagame.kafka.event.PaymentEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Kafka 이벤트를 아웃박스에 기록.
+ *
+ * <p>
+ * 호출한 트랜잭션에 참여해 상태 변경과 함께 커밋/롤백되며, 실제 전송은 OutboxRelay 가 맡는다.
+ * 요청 스레드는 브로커 지연/장애와 무관하게 INSERT 한 번으로 끝난다.
+ * </p>
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    // 릴레이가 역직렬화할 수 있는 이벤트 타입 (event_type 컬럼 값 → 클래스)
+    private static final Map<String, Class<?>> EVENT_TYPES = Map.of(
+            OrderEvent.class.getSimpleName(), OrderEvent.class,
+            PaymentEvent.class.getSimpleName(), PaymentEvent.class,
+            GameEndedEvent.class.getSimpleName(), GameEndedEvent.class);
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 현재 트랜잭션에 이벤트 기록 (트랜잭션이 없으면 INSERT 단독 트랜잭션).
+     */
+    @Transactional
+    public void publish(String topic, String key, Object event) {
+        append(topic, key, event);
+    }
+
+    /**
+     * 호출한 트랜잭션이 롤백되어도 남아야 하는 이벤트 기록 (예: 결제 실패 알림).
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void publishIndependently(String topic, String key, Object event) {
+        append(topic, key, event);
+    }
+
+    static Optional<Class<?>> eventClass(String eventType) {
+        return Optional.ofNullable(EVENT_TYPES.get(eventType));
+    }
+
+    private void append(String topic, String key, Object event) {
+        String eventType = event.getClass().getSimpleName();
+        if (!EVENT_TYPES.containsKey(eventType)) {
+            throw new IllegalArgumentException("아웃박스에 등록되지 않은 이벤트 타입: " + eventType);
+        }
+        try {
+            outboxRepository.insert(topic, key, eventType, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + eventType, e);
+        }
+        log.debug("[Outbox] 이벤트 기록: topic={}, key={}, type={}", topic, key, eventType);
+    }
+}
@@ -0,0 +1,206 @@
+package com.example.mafiagame.kafka.outbox;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.mafiagame.kafka.outbox.OutboxRepository.PendingEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 → Kafka 릴레이.
+ *
+ * <p>
+ * 미발행 이벤트를 id 순으로 배치 조회해 키별로 묶고, 키마다 가장 앞선 이벤트 하나씩을 비동기로 함께 보낸다.
+ * ack 를 받은 이벤트만 published_at 을 채우고 그 키의 다음 이벤트를 보낸다.
+ * 한 키에서 전송이 실패하면 그 키의 나머지 이벤트는 이번 배치에서 보내지 않으므로(다른 키는 계속)
+ * 다음 주기에 실패한 이벤트부터 같은 순서로 다시 나가 같은 키(= 같은 파티션)의 이벤트 순서가 유지된다.
+ * 발행 표시 전에 노드가 죽으면 같은 이벤트가 다시 나갈 수 있으며, 컨슈머는 eventId 로 중복을 걸러낸다.
+ * </p>
+ *
+ * <p>
+ * 노드 간 순서가 섞이지 않도록 Redisson 락을 잡은 노드 하나만 릴레이한다.
+ * </p>
+ */
+@Component
+@Profile("!test")
+@Slf4j
+public class OutboxRelay {
+
+    private static final String RELAY_LOCK_KEY = "lock:outbox:relay";
+
+    private final OutboxRepository outboxRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedissonClient redissonClient;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long sendTimeoutMillis;
+    private final int retentionDays;
+    private final int cleanupChunkSize;
+
+    public OutboxRelay(
+            OutboxRepository outboxRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            ObjectMapper objectMapper,
+            RedissonClient redissonClient,
+            @Value("${mafiagame.outbox.relay.batch-size:500}") int batchSize,
+            @Value("${mafiagame.outbox.relay.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${mafiagame.outbox.relay.send-timeout-ms:10000}") long sendTimeoutMillis,
+            @Value("${mafiagame.outbox.retention-days:3}") int retentionDays,
+            @Value("${mafiagame.outbox.cleanup-chunk-size:5000}") int cleanupChunkSize) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.redissonClient = redissonClient;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.retentionDays = retentionDays;
+        this.cleanupChunkSize = cleanupChunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${mafiagame.outbox.relay.poll-delay-ms:200}")
+    public void relay() {
+        RLock lock = redissonClient.getLock(RELAY_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            // 밀린 이벤트가 있으면 한 주기에 여러 배치를 연속으로 비움
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                if (!relayBatch()) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.error("[Outbox] 릴레이 실패", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 배치 하나 발행
+     *
+     * @return 꽉 찬 배치를 모두 발행해 남은 이벤트가 더 있을 수 있으면 true
+     */
+    boolean relayBatch() {
+        List<PendingEvent> pending = outboxRepository.findPending(batchSize);
+        if (pending.isEmpty()) {
+            return false;
+        }
+
+        // 키별 대기열 (키가 없는 이벤트는 순서 보장 대상이 아니므로 각자 따로)
+        Map<String, Deque<PendingEvent>> byKey = new LinkedHashMap<>();
+        for (PendingEvent event : pending) {
+            byKey.computeIfAbsent(orderingKey(event), k -> new ArrayDeque<>()).add(event);
+        }
+
+        List<Long> published = new ArrayList<>(pending.size());
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        while (!byKey.isEmpty() && System.nanoTime() < deadline) {
+            // 키마다 가장 앞선 이벤트 하나씩 함께 전송
+            Map<String, PendingEvent> heads = new LinkedHashMap<>();
+            Map<String, CompletableFuture<SendResult<String, Object>>> futures = new LinkedHashMap<>();
+            byKey.forEach((key, events) -> {
+                PendingEvent event = events.poll();
+                heads.put(key, event);
+                try {
+                    futures.put(key, send(event));
+                } catch (Exception e) {
+                    // 메타데이터 조회 타임아웃 등 동기 실패: 이 키는 다음 주기로
+                    log.warn("[Outbox] 전송 요청 실패: id={}, topic={}", event.id(), event.topic(), e);
+                }
+            });
+
+            for (Map.Entry<String, PendingEvent> head : heads.entrySet()) {
+                String key = head.getKey();
+                CompletableFuture<SendResult<String, Object>> future = futures.get(key);
+                if (future != null && acknowledged(head.getValue(), future, deadline)) {
+                    published.add(head.getValue().id());
+                } else {
+                    // 실패한 키의 뒤 이벤트를 먼저 보내면 순서가 뒤바뀌므로 이번 배치에서 제외
+                    byKey.remove(key);
+                }
+            }
+            byKey.values().removeIf(Deque::isEmpty);
+        }
+        outboxRepository.markPublished(published, LocalDateTime.now());
+
+        if (published.size() < pending.size()) {
+            log.warn("[Outbox] 일부만 발행: published={}, pending={}", published.size(), pending.size());
+            return false;
+        }
+        log.debug("[Outbox] 발행 완료: size={}", published.size());
+        return pending.size() == batchSize;
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 행 정리 (매시 30분)
+     */
+    @Scheduled(cron = "0 30 * * * *")
+    public void cleanup() {
+        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = outboxRepository.deletePublishedBefore(threshold, cleanupChunkSize);
+                total += deleted;
+            } while (deleted == cleanupChunkSize);
+        } catch (Exception e) {
+            log.error("[Outbox] 발행 완료 이벤트 정리 실패: deleted={}", total, e);
+            return;
+        }
+        if (total > 0) {
+            log.info("[Outbox] 발행 완료 이벤트 정리: deleted={}, before={}", total, threshold);
+        }
+    }
+
+    private static String orderingKey(PendingEvent event) {
+        return event.key() != null ? event.key() : "#" + event.id();
+    }
+
+    private CompletableFuture<SendResult<String, Object>> send(PendingEvent event) throws Exception {
+        Class<?> type = OutboxEventPublisher.eventClass(event.eventType())
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 아웃박스 이벤트 타입: " + event.eventType()));
+        Object value = objectMapper.readValue(event.payload(), type);
+        return kafkaTemplate.send(event.topic(), event.key(), value);
+    }
+
+    private boolean acknowledged(PendingEvent event, CompletableFuture<SendResult<String, Object>> future,
+            long deadline) {
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("[Outbox] 전송 실패: id={}, topic={}, key={}", event.id(), event.topic(), event.key(), e);
+            return false;
+        }
+    }
+}
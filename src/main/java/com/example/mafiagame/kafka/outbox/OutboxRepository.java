@@ -0,0 +1,73 @@
+package com.example.mafiagame.kafka.outbox;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox_event JDBC 저장소
+ * - 미발행 행 조회는 (published_at, id) 인덱스를 타는 id 순 범위 조회
+ * - 발행 완료 표시는 IN 절 UPDATE 한 번, 정리는 LIMIT 단위 DELETE 로 긴 잠금을 피함
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String INSERT_EVENT = "INSERT INTO outbox_event "
+            + "(topic, message_key, event_type, payload, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_PENDING = "SELECT id, topic, message_key, event_type, payload "
+            + "FROM outbox_event WHERE published_at IS NULL ORDER BY id LIMIT ?";
+
+    private static final String UPDATE_PUBLISHED = "UPDATE outbox_event SET published_at = :publishedAt "
+            + "WHERE id IN (:ids)";
+
+    private static final String DELETE_PUBLISHED = "DELETE FROM outbox_event "
+            + "WHERE published_at IS NOT NULL AND published_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 발행 대기 이벤트 한 행
+     */
+    public record PendingEvent(long id, String topic, String key, String eventType, String payload) {
+    }
+
+    public void insert(String topic, String key, String eventType, String payload) {
+        jdbcTemplate.update(INSERT_EVENT, topic, key, eventType, payload, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * 미발행 이벤트를 id(=커밋 순서에 가까운 INSERT 순서) 순으로 조회
+     */
+    public List<PendingEvent> findPending(int limit) {
+        return jdbcTemplate.query(SELECT_PENDING,
+                (rs, rowNum) -> new PendingEvent(rs.getLong("id"), rs.getString("topic"),
+                        rs.getString("message_key"), rs.getString("event_type"), rs.getString("payload")),
+                limit);
+    }
+
+    public int markPublished(Collection<Long> ids, LocalDateTime publishedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(UPDATE_PUBLISHED,
+                Map.of("ids", ids, "publishedAt", Timestamp.valueOf(publishedAt)));
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 행 삭제 (한 번에 limit 행)
+     */
+    public int deletePublishedBefore(LocalDateTime threshold, int limit) {
+        return jdbcTemplate.update(DELETE_PUBLISHED, Timestamp.valueOf(threshold), limit);
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.mafiagame.kafka.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.mafiagame.kafka.dedup.ProcessedEventStore;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배치 리스너용 트랜잭션 실행기.
+ *
+ * <p>
+ * poll 한 번의 레코드를 하나의 트랜잭션으로 처리하고, 실패하면 레코드별 트랜잭션으로 다시 처리해
+ * 실패한 레코드만 골라낸다. (정상 레코드는 함께 롤백되지 않음)
+ * </p>
+ *
+ * <p>
+ * executeOnce 계열은 ProcessedEventStore 로 이미 처리된 eventId 를 걸러내고,
+ * 처리 완료 기록을 처리 결과와 같은 트랜잭션에 남겨 재전달된 이벤트를 한 번만 반영한다.
+ * </p>
+ */
+@Component
+@Slf4j
+public class BatchTransactionExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final ProcessedEventStore processedEventStore;
+
+    public BatchTransactionExecutor(PlatformTransactionManager transactionManager,
+            ProcessedEventStore processedEventStore) {
+        this.processedEventStore = processedEventStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 레코드별 실패 정보.
+     */
+    public record Failure<T>(T item, Exception exception) {
+    }
+
+    /**
+     * 배치 처리 결과 (failures 가 비어 있으면 전체 성공).
+     */
+    public record Result<T>(int total, List<Failure<T>> failures) {
+
+        public boolean allFailed() {
+            return total > 0 && failures.size() == total;
+        }
+    }
+
+    public <T> Result<T> execute(List<T> items, Consumer<T> action) {
+        if (items.isEmpty()) {
+            return new Result<>(0, List.of());
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> items.forEach(action));
+            return new Result<>(items.size(), List.of());
+        } catch (RuntimeException e) {
+            log.warn("[Kafka] 배치 트랜잭션 실패, 레코드 단위로 재처리: size={}", items.size(), e);
+        }
+        return replayEach(items, action);
+    }
+
+    /**
+     * 처리하지 않은 이벤트만 레코드별로 처리 (배치 트랜잭션 → 실패 시 레코드별 트랜잭션).
+     * 다른 노드가 이미 처리한 이벤트가 섞여 기록이 충돌하면 레코드별 선점으로 걸러낸다.
+     */
+    public <T> Result<T> executeOnce(String consumer, List<T> items, Function<T, String> eventIdOf,
+            Consumer<T> action) {
+        List<T> fresh = processedEventStore.filterUnprocessed(consumer, items, eventIdOf);
+        if (fresh.isEmpty()) {
+            return new Result<>(0, List.of());
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                fresh.forEach(action);
+                processedEventStore.markProcessed(consumer, fresh, eventIdOf);
+            });
+            return new Result<>(fresh.size(), List.of());
+        } catch (RuntimeException e) {
+            log.warn("[Kafka] 배치 트랜잭션 실패, 레코드 단위로 재처리: consumer={}, size={}",
+                    consumer, fresh.size(), e);
+        }
+        return replayEach(fresh, item -> {
+            if (processedEventStore.claim(consumer, eventIdOf.apply(item))) {
+                action.accept(item);
+            }
+        });
+    }
+
+    /**
+     * 처리하지 않은 이벤트 묶음을 한 번에 처리 (묶음 단위 Writer 용).
+     * 실패는 예외로 전달되어 ErrorHandler 가 배치를 재시도한다.
+     *
+     * @return 처리한 이벤트 수
+     */
+    public <T> int executeBatchOnce(String consumer, List<T> items, Function<T, String> eventIdOf,
+            Consumer<List<T>> action) {
+        List<T> fresh = processedEventStore.filterUnprocessed(consumer, items, eventIdOf);
+        if (fresh.isEmpty()) {
+            return 0;
+        }
+        try {
+            return applyAndMark(consumer, fresh, eventIdOf, action);
+        } catch (DuplicateKeyException e) {
+            // 블룸 필터가 모르는 처리 기록(다른 노드 처리분)과 충돌: 전체를 DB 로 확인해 한 번 더 처리
+            log.info("[Kafka] 처리 기록 충돌, 전체 확인 후 재처리: consumer={}, size={}", consumer, fresh.size());
+        }
+        List<T> verified = processedEventStore.verifyUnprocessed(consumer, fresh, eventIdOf);
+        return verified.isEmpty() ? 0 : applyAndMark(consumer, verified, eventIdOf, action);
+    }
+
+    /**
+     * 레코드 하나를 처리 기록과 함께 한 트랜잭션으로 처리 (재시도 토픽 리스너용, 실패는 예외로 전달).
+     *
+     * @return 처리했으면 true, 이미 처리된 이벤트라 건너뛰었으면 false
+     */
+    public <T> boolean executeRecordOnce(String consumer, T item, Function<T, String> eventIdOf, Consumer<T> action) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!processedEventStore.claim(consumer, eventIdOf.apply(item))) {
+                return false;
+            }
+            action.accept(item);
+            return true;
+        }));
+    }
+
+    private <T> int applyAndMark(String consumer, List<T> items, Function<T, String> eventIdOf,
+            Consumer<List<T>> action) {
+        transactionTemplate.executeWithoutResult(status -> {
+            action.accept(items);
+            processedEventStore.markProcessed(consumer, items, eventIdOf);
+        });
+        return items.size();
+    }
+
+    private <T> Result<T> replayEach(List<T> items, Consumer<T> action) {
+        List<Failure<T>> failures = new ArrayList<>();
+        for (T item : items) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> action.accept(item));
+            } catch (RuntimeException e) {
+                failures.add(new Failure<>(item, e));
+            }
+        }
+        return new Result<>(items.size(), failures);
+    }
+}
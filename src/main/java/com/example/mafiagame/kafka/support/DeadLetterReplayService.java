@@ -0,0 +1,196 @@
+package com.example.mafiagame.kafka.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Service;
+
+import com.example.mafiagame.global.error.CommonException;
+import com.example.mafiagame.global.error.ErrorCode;
+import com.example.mafiagame.kafka.config.KafkaTopics;
+import com.example.mafiagame.kafka.dto.DeadLetterReplayResponse;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DLT 재처리 도구.
+ *
+ * <p>
+ * {topic}.dlt 의 레코드를 원본 토픽으로 다시 발행한다. 재처리 진행 위치는 전용 컨슈머 그룹(dlt-replay-group)의
+ * 커밋 오프셋으로 관리하므로, 같은 레코드를 두 번 재발행하지 않고 중단된 지점부터 이어서 처리한다.
+ * 장애 복구 직후 본 토픽 컨슈머가 몰리지 않도록 초당 발행 건수를 제한한다.
+ * 원본 키와 헤더(추적 ID 등)는 그대로 유지하고, DLT/재시도 과정에서 붙은 실패 진단 헤더만 제거한다.
+ * </p>
+ */
+@Service
+@Profile("!test")
+@Slf4j
+@RequiredArgsConstructor
+public class DeadLetterReplayService {
+
+    private static final String REPLAY_GROUP = "dlt-replay-group";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+    private static final int MAX_RECORDS_PER_RUN = 10_000;
+    private static final int MAX_RATE_PER_SECOND = 1_000;
+
+    private final ConsumerFactory<String, Object> consumerFactory;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    // 노드당 재처리는 한 번에 하나만
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * DLT 에 남은 (아직 재처리하지 않은) 레코드 수.
+     */
+    public long pending(String topic) {
+        String dlt = dltOf(topic);
+        try (Consumer<String, Object> consumer = createConsumer(1)) {
+            return remaining(consumer, partitions(consumer, dlt));
+        }
+    }
+
+    /**
+     * DLT 레코드를 원본 토픽으로 재발행.
+     *
+     * @param topic         원본 토픽
+     * @param maxRecords    이번 실행에서 재발행할 최대 건수
+     * @param ratePerSecond 초당 최대 발행 건수
+     */
+    public DeadLetterReplayResponse replay(String topic, int maxRecords, int ratePerSecond) {
+        String dlt = dltOf(topic);
+        int limit = Math.min(Math.max(maxRecords, 1), MAX_RECORDS_PER_RUN);
+        int rate = Math.min(Math.max(ratePerSecond, 1), MAX_RATE_PER_SECOND);
+        if (!running.compareAndSet(false, true)) {
+            throw new CommonException(ErrorCode.DLT_REPLAY_IN_PROGRESS);
+        }
+
+        try (Consumer<String, Object> consumer = createConsumer(Math.min(limit, rate))) {
+            List<TopicPartition> partitions = partitions(consumer, dlt);
+            consumer.assign(partitions);
+
+            long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+            long nextSendAt = System.nanoTime();
+            int replayed = 0;
+
+            while (replayed < limit) {
+                ConsumerRecords<String, Object> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+
+                List<CompletableFuture<?>> sends = new ArrayList<>();
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                for (ConsumerRecord<String, Object> record : records) {
+                    if (replayed >= limit) {
+                        break;
+                    }
+                    nextSendAt = pace(nextSendAt, intervalNanos);
+                    if (record.value() != null) {
+                        sends.add(kafkaTemplate.send(new ProducerRecord<>(topic, null, record.key(), record.value(),
+                                replayHeaders(record))));
+                    } else {
+                        log.warn("[DLT] 값이 없는 레코드 건너뜀: dlt={}, offset={}", dlt, record.offset());
+                    }
+                    offsets.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                    replayed++;
+                }
+
+                // 발행이 모두 확인된 뒤에만 진행 위치 커밋 (실패 시 다음 실행에서 같은 레코드부터 재처리)
+                CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+                consumer.commitSync(offsets);
+            }
+
+            long remaining = remaining(consumer, partitions);
+            log.info("[DLT] 재처리 완료: topic={}, replayed={}, remaining={}", topic, replayed, remaining);
+            return new DeadLetterReplayResponse(topic, replayed, remaining);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private String dltOf(String topic) {
+        if (!KafkaTopics.DLT_SOURCE_TOPICS.contains(topic)) {
+            throw new CommonException(ErrorCode.DLT_TOPIC_NOT_SUPPORTED);
+        }
+        return KafkaTopics.dlt(topic);
+    }
+
+    /**
+     * 재발행할 헤더 (실패 진단 헤더는 원본 토픽으로 가져가지 않음)
+     */
+    private static Headers replayHeaders(ConsumerRecord<String, Object> record) {
+        Headers headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!isFailureHeader(header.key())) {
+                headers.add(header);
+            }
+        }
+        return headers;
+    }
+
+    private static boolean isFailureHeader(String key) {
+        return key.startsWith(KafkaHeaders.PREFIX + "dlt-") || key.equals(FailedRecordForwarder.EXCEPTION_HEADER);
+    }
+
+    private Consumer<String, Object> createConsumer(int maxPollRecords) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return consumerFactory.createConsumer(REPLAY_GROUP, "dlt-replay", null, overrides);
+    }
+
+    private static List<TopicPartition> partitions(Consumer<String, Object> consumer, String dlt) {
+        return consumer.partitionsFor(dlt).stream()
+                .map(info -> new TopicPartition(dlt, info.partition()))
+                .toList();
+    }
+
+    private static long remaining(Consumer<String, Object> consumer, List<TopicPartition> partitions) {
+        Map<TopicPartition, Long> ends = consumer.endOffsets(partitions);
+        Map<TopicPartition, Long> begins = consumer.beginningOffsets(partitions);
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+        long remaining = 0;
+        for (TopicPartition partition : partitions) {
+            OffsetAndMetadata offset = committed.get(partition);
+            long position = offset != null ? offset.offset() : begins.getOrDefault(partition, 0L);
+            remaining += Math.max(ends.getOrDefault(partition, 0L) - position, 0);
+        }
+        return remaining;
+    }
+
+    /**
+     * 다음 발행 시각까지 대기 (초당 rate 건 이하로 유지)
+     */
+    private static long pace(long nextSendAt, long intervalNanos) {
+        long waitNanos = nextSendAt - System.nanoTime();
+        if (waitNanos > 0) {
+            LockSupport.parkNanos(waitNanos);
+        }
+        return Math.max(nextSendAt, System.nanoTime() - intervalNanos) + intervalNanos;
+    }
+}
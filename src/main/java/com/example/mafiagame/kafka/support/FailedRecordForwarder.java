@@ -0,0 +1,57 @@
+package com.example.mafiagame.kafka.support;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.mafiagame.kafka.config.KafkaTopics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배치 리스너에서 실패한 레코드를 재시도 토픽으로 전달.
+ *
+ * <p>
+ * 본 토픽 파티션은 재시도를 기다리지 않고 다음 배치로 넘어가며,
+ * 재시도 토픽 리스너가 지수 백오프로 재처리한 뒤 최종 실패 시 DLT 로 보낸다.
+ * </p>
+ */
+@Component
+@Profile("!test")
+@Slf4j
+@RequiredArgsConstructor
+public class FailedRecordForwarder {
+
+    public static final String EXCEPTION_HEADER = "x-failure-exception";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    /**
+     * 재시도 토픽으로 전송 (전송 완료까지 대기: 실패 시 배치 ACK 전에 예외로 알림).
+     */
+    public void forward(String topic, String key, Object value, Exception exception) {
+        ProducerRecord<String, Object> record = new ProducerRecord<>(KafkaTopics.retry(topic), key, value);
+        record.headers().add(EXCEPTION_HEADER, describe(exception).getBytes(StandardCharsets.UTF_8));
+        try {
+            kafkaTemplate.send(record).get();
+            log.warn("[Kafka] 재시도 토픽 전달: topic={}, key={}, cause={}", topic, key, describe(exception));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("재시도 토픽 전송 중단: " + topic, e);
+        } catch (Exception e) {
+            throw new IllegalStateException("재시도 토픽 전송 실패: " + topic, e);
+        }
+    }
+
+    private static String describe(Exception exception) {
+        Throwable root = exception;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getClass().getSimpleName() + ": " + root.getMessage();
+    }
+}
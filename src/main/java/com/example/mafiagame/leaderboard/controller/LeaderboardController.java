@@ -0,0 +1,59 @@
+package com.example.mafiagame.leaderboard.controller;
+
+import com.example.mafiagame.global.dto.CommonResponse;
+import com.example.mafiagame.leaderboard.domain.LeaderboardType;
+import com.example.mafiagame.leaderboard.dto.LeaderboardEntryResponse;
+import com.example.mafiagame.leaderboard.service.LeaderboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * 리더보드 REST API 컨트롤러.
+ * type 은 ALL_TIME(누적) / SEASON(분기 시즌) / DAILY(오늘) 중 하나.
+ */
+@RestController
+@RequestMapping("/api/leaderboard")
+@RequiredArgsConstructor
+@Tag(name = "리더보드", description = "누적/시즌/일간 랭킹 API")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    @GetMapping("/{type}")
+    @Operation(summary = "랭킹 조회", description = "점수 순으로 페이지 단위 랭킹을 조회합니다.")
+    public ResponseEntity<CommonResponse<List<LeaderboardEntryResponse>>> getTop(
+            @PathVariable LeaderboardType type,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(CommonResponse.success(leaderboardService.getTop(type, page, size), null));
+    }
+
+    @GetMapping("/{type}/me")
+    @Operation(summary = "내 순위 조회", description = "로그인한 사용자의 순위를 조회합니다.")
+    public ResponseEntity<CommonResponse<LeaderboardEntryResponse>> getMyRank(
+            @PathVariable LeaderboardType type, Principal principal) {
+        return leaderboardService.getMyRank(type, principal.getName())
+                .map(entry -> ResponseEntity.ok(CommonResponse.success(entry, null)))
+                .orElseGet(() -> ResponseEntity.ok(CommonResponse.failure("랭킹에 등록되지 않았습니다.")));
+    }
+
+    @GetMapping("/{type}/around-me")
+    @Operation(summary = "내 주변 순위 조회", description = "내 순위 기준 위/아래 radius 명을 조회합니다.")
+    public ResponseEntity<CommonResponse<List<LeaderboardEntryResponse>>> getAroundMe(
+            @PathVariable LeaderboardType type,
+            @RequestParam(defaultValue = "5") int radius,
+            Principal principal) {
+        return ResponseEntity.ok(CommonResponse.success(
+                leaderboardService.getAroundMe(type, principal.getName(), radius), null));
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.mafiagame.leaderboard.domain;
+
+/**
+ * 리더보드 반영 단위 (누적 전적 또는 게임 결과 증감)
+ */
+public record LeaderboardRow(String userId, String nickname, int playCount, int winCount) {
+}
@@ -0,0 +1,48 @@
+package com.example.mafiagame.leaderboard.domain;
+
+/**
+ * 리더보드 ZSET 복합 점수
+ * - ALL_TIME : 승률(ppm) * 10^7 + 판수   → 승률 내림차순, 같으면 판수 내림차순
+ * - 구간     : 승리 수 * 10^7 + 판수     → ZINCRBY 로 증감을 그대로 누적 가능
+ * 최댓값이 2^53 미만이므로 double 점수로 정확히 표현됨
+ */
+public final class LeaderboardScore {
+
+    // 기존 MySQL 랭킹 조건 (playCount > 50) 유지
+    public static final int MIN_ALL_TIME_PLAY_COUNT = 50;
+
+    private static final long FACTOR = 10_000_000L;
+    private static final long RATE_SCALE = 1_000_000L;
+
+    private LeaderboardScore() {
+    }
+
+    public record Stats(int playCount, int winCount, double winRate) {
+    }
+
+    public static boolean isAllTimeEligible(int playCount) {
+        return playCount > MIN_ALL_TIME_PLAY_COUNT;
+    }
+
+    public static double allTime(int playCount, int winCount) {
+        long plays = Math.min(Math.max(playCount, 0), FACTOR - 1);
+        long ratePpm = plays > 0 ? Math.min(winCount, plays) * RATE_SCALE / plays : 0;
+        return ratePpm * FACTOR + plays;
+    }
+
+    public static double window(int playCount, int winCount) {
+        return (double) winCount * FACTOR + playCount;
+    }
+
+    public static Stats decode(LeaderboardType type, double score) {
+        long value = (long) score;
+        int plays = (int) (value % FACTOR);
+        long high = value / FACTOR;
+        if (type.isWindowed()) {
+            int wins = (int) high;
+            return new Stats(plays, wins, plays > 0 ? (double) wins / plays : 0.0);
+        }
+        double winRate = (double) high / RATE_SCALE;
+        return new Stats(plays, (int) Math.round(winRate * plays), winRate);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.mafiagame.leaderboard.domain;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 리더보드 종류
+ * - ALL_TIME : 누적 전적 기준 (승률 → 판수), playCount > 50 인 유저만 등재
+ * - SEASON   : 분기 시즌 동안의 승리 수 → 판수
+ * - DAILY    : 하루 동안의 승리 수 → 판수
+ */
+public enum LeaderboardType {
+    ALL_TIME,
+    SEASON,
+    DAILY;
+
+    private static final String KEY_PREFIX = "leaderboard:";
+    private static final Duration SEASON_RETENTION = Duration.ofDays(120);
+    private static final Duration DAILY_RETENTION = Duration.ofDays(8);
+
+    public String key(LocalDate today) {
+        return switch (this) {
+            case ALL_TIME -> KEY_PREFIX + "all";
+            case SEASON -> KEY_PREFIX + "season:" + today.getYear() + "-Q" + quarter(today);
+            case DAILY -> KEY_PREFIX + "daily:" + today;
+        };
+    }
+
+    /**
+     * 집계 구간 시작일 (ALL_TIME 은 null)
+     */
+    public LocalDate periodStart(LocalDate today) {
+        return switch (this) {
+            case ALL_TIME -> null;
+            case SEASON -> LocalDate.of(today.getYear(), (quarter(today) - 1) * 3 + 1, 1);
+            case DAILY -> today;
+        };
+    }
+
+    /**
+     * 구간 리더보드 키 보존 기간 (지난 시즌/일자 조회용 여유 포함, ALL_TIME 은 null)
+     */
+    public Duration retention() {
+        return switch (this) {
+            case ALL_TIME -> null;
+            case SEASON -> SEASON_RETENTION;
+            case DAILY -> DAILY_RETENTION;
+        };
+    }
+
+    public boolean isWindowed() {
+        return this != ALL_TIME;
+    }
+
+    private static int quarter(LocalDate date) {
+        return (date.getMonthValue() - 1) / 3 + 1;
+    }
+}
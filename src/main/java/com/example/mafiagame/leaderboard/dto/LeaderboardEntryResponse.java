@@ -0,0 +1,12 @@
+package com.example.mafiagame.leaderboard.dto;
+
+/**
+ * 리더보드 한 줄 (rank 는 1부터 시작)
+ */
+public record LeaderboardEntryResponse(
+        long rank,
+        String nickname,
+        int playCount,
+        int winCount,
+        double winRate) {
+}
@@ -0,0 +1,230 @@
+package com.example.mafiagame.leaderboard.job;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+import javax.sql.DataSource;
+
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.mafiagame.leaderboard.domain.LeaderboardRow;
+import com.example.mafiagame.leaderboard.domain.LeaderboardScore;
+import com.example.mafiagame.leaderboard.domain.LeaderboardType;
+import com.example.mafiagame.leaderboard.repository.LeaderboardRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리더보드 재구성 Spring Batch Job.
+ *
+ * <p>
+ * MySQL 전적을 기준으로 리더보드 ZSET 을 다시 만든다. (Redis 유실, 커밋 후 갱신 실패 보정)
+ * 각 Step 은 임시 키에 Chunk 단위로 적재한 뒤 RENAME 으로 실제 키와 교체하므로,
+ * 재구성 중에도 조회는 기존 리더보드를 그대로 사용한다.
+ * 재구성 중 들어온 게임 결과는 LeaderboardRepository 가 임시 키에도 반영하므로 교체 후에도 남는다.
+ * 노드마다 실행되지 않도록 BatchJobScheduler 가 리더 락을 잡은 노드에서만 실행한다.
+ * </p>
+ */
+@Configuration
+@Slf4j
+@RequiredArgsConstructor
+public class LeaderboardRebuildJobConfig {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private static final String WINDOW_SQL = "SELECT u.user_login_id, u.nickname, COUNT(*) AS play_count, "
+            + "SUM(CASE WHEN gp.is_winner = TRUE THEN 1 ELSE 0 END) AS win_count "
+            + "FROM game_player gp "
+            + "JOIN games g ON g.game_id = gp.game_id "
+            + "JOIN users u ON u.user_id = gp.user_id "
+            + "WHERE g.end_time >= ? AND gp.is_winner IS NOT NULL "
+            + "GROUP BY u.user_id, u.user_login_id, u.nickname";
+
+    private static final RowMapper<LeaderboardRow> ROW_MAPPER = (rs, rowNum) -> new LeaderboardRow(
+            rs.getString("user_login_id"), rs.getString("nickname"),
+            rs.getInt("play_count"), rs.getInt("win_count"));
+
+    private final LeaderboardRepository leaderboardRepository;
+
+    /**
+     * 리더보드 재구성 Job 정의.
+     */
+    @Bean
+    public Job leaderboardRebuildJob(JobRepository jobRepository,
+            @Qualifier("leaderboardAllTimeStep") Step allTimeStep,
+            @Qualifier("leaderboardSeasonStep") Step seasonStep,
+            @Qualifier("leaderboardDailyStep") Step dailyStep) {
+        return new JobBuilder("leaderboardRebuildJob", jobRepository)
+                .start(allTimeStep)
+                .next(seasonStep)
+                .next(dailyStep)
+                .build();
+    }
+
+    /**
+     * 누적 리더보드 Step (users 를 user_id 기준 페이징 조회).
+     */
+    @Bean
+    public Step leaderboardAllTimeStep(JobRepository jobRepository, PlatformTransactionManager txManager,
+            @Qualifier("leaderboardAllTimeReader") JdbcPagingItemReader<LeaderboardRow> reader) {
+        return rebuildStep("leaderboardAllTimeStep", LeaderboardType.ALL_TIME, jobRepository, txManager)
+                .reader(reader)
+                .writer(writer(LeaderboardType.ALL_TIME,
+                        row -> LeaderboardScore.allTime(row.playCount(), row.winCount())))
+                .build();
+    }
+
+    /**
+     * 시즌 리더보드 Step (이번 분기에 종료된 게임 집계).
+     */
+    @Bean
+    public Step leaderboardSeasonStep(JobRepository jobRepository, PlatformTransactionManager txManager,
+            @Qualifier("leaderboardSeasonReader") JdbcCursorItemReader<LeaderboardRow> reader) {
+        return rebuildStep("leaderboardSeasonStep", LeaderboardType.SEASON, jobRepository, txManager)
+                .reader(reader)
+                .writer(writer(LeaderboardType.SEASON,
+                        row -> LeaderboardScore.window(row.playCount(), row.winCount())))
+                .build();
+    }
+
+    /**
+     * 일간 리더보드 Step (오늘 종료된 게임 집계).
+     */
+    @Bean
+    public Step leaderboardDailyStep(JobRepository jobRepository, PlatformTransactionManager txManager,
+            @Qualifier("leaderboardDailyReader") JdbcCursorItemReader<LeaderboardRow> reader) {
+        return rebuildStep("leaderboardDailyStep", LeaderboardType.DAILY, jobRepository, txManager)
+                .reader(reader)
+                .writer(writer(LeaderboardType.DAILY,
+                        row -> LeaderboardScore.window(row.playCount(), row.winCount())))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<LeaderboardRow> leaderboardAllTimeReader(DataSource dataSource) {
+        return new JdbcPagingItemReaderBuilder<LeaderboardRow>()
+                .name("leaderboardAllTimeReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT user_id, user_login_id, nickname, play_count, win_count")
+                .fromClause("FROM users")
+                .whereClause("WHERE play_count > :minPlayCount")
+                .parameterValues(Map.of("minPlayCount", LeaderboardScore.MIN_ALL_TIME_PLAY_COUNT))
+                .sortKeys(Map.of("user_id", Order.ASCENDING))
+                .pageSize(CHUNK_SIZE)
+                .rowMapper(ROW_MAPPER)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<LeaderboardRow> leaderboardSeasonReader(DataSource dataSource,
+            @Value("#{jobParameters['baseDate']}") String baseDate) {
+        return windowReader("leaderboardSeasonReader", LeaderboardType.SEASON, dataSource, baseDate);
+    }
+
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<LeaderboardRow> leaderboardDailyReader(DataSource dataSource,
+            @Value("#{jobParameters['baseDate']}") String baseDate) {
+        return windowReader("leaderboardDailyReader", LeaderboardType.DAILY, dataSource, baseDate);
+    }
+
+    private JdbcCursorItemReader<LeaderboardRow> windowReader(String name, LeaderboardType type,
+            DataSource dataSource, String baseDate) {
+        LocalDate periodStart = type.periodStart(parseBaseDate(baseDate));
+        return new JdbcCursorItemReaderBuilder<LeaderboardRow>()
+                .name(name)
+                .dataSource(dataSource)
+                .sql(WINDOW_SQL)
+                .preparedStatementSetter(ps -> ps.setDate(1, Date.valueOf(periodStart)))
+                .fetchSize(CHUNK_SIZE)
+                .rowMapper(ROW_MAPPER)
+                .build();
+    }
+
+    private SimpleStepBuilder<LeaderboardRow, LeaderboardRow> rebuildStep(String name, LeaderboardType type,
+            JobRepository jobRepository, PlatformTransactionManager txManager) {
+        return new StepBuilder(name, jobRepository)
+                .<LeaderboardRow, LeaderboardRow>chunk(CHUNK_SIZE, txManager)
+                .listener(swapListener(type));
+    }
+
+    /**
+     * Chunk 를 재구성용 임시 키에 적재 (파이프라인 1회).
+     * 재구성 중 임시 키에 먼저 들어온 게임 결과를 잃지 않도록 누적은 NX, 구간은 ZINCRBY 로 적재한다.
+     */
+    private ItemWriter<LeaderboardRow> writer(LeaderboardType type, ToDoubleFunction<LeaderboardRow> scoreFunction) {
+        return chunk -> {
+            StepExecution stepExecution = StepSynchronizationManager.getContext().getStepExecution();
+            String rebuildKey = leaderboardRepository.rebuildKey(liveKey(type, stepExecution));
+            if (type.isWindowed()) {
+                leaderboardRepository.incrementScores(rebuildKey, chunk.getItems(), scoreFunction);
+            } else {
+                leaderboardRepository.addScoresIfAbsent(rebuildKey, chunk.getItems(), scoreFunction);
+            }
+        };
+    }
+
+    /**
+     * Step 시작 전 임시 키 초기화 + 재구성 표시, 정상 종료 시 실제 키와 교체.
+     */
+    private StepExecutionListener swapListener(LeaderboardType type) {
+        return new StepExecutionListener() {
+            @Override
+            public void beforeStep(StepExecution stepExecution) {
+                leaderboardRepository.beginRebuild(liveKey(type, stepExecution));
+            }
+
+            @Override
+            public ExitStatus afterStep(StepExecution stepExecution) {
+                String liveKey = liveKey(type, stepExecution);
+                String rebuildKey = leaderboardRepository.rebuildKey(liveKey);
+                if (!ExitStatus.COMPLETED.getExitCode().equals(stepExecution.getExitStatus().getExitCode())) {
+                    leaderboardRepository.abortRebuild(liveKey);
+                    log.warn("[리더보드 Batch] 재구성 실패, 기존 리더보드 유지: key={}", liveKey);
+                    return stepExecution.getExitStatus();
+                }
+                leaderboardRepository.swap(rebuildKey, liveKey, type.retention());
+                log.info("[리더보드 Batch] 재구성 완료: key={}, count={}", liveKey, stepExecution.getWriteCount());
+                return stepExecution.getExitStatus();
+            }
+        };
+    }
+
+    /**
+     * 대상 키는 Job 파라미터 baseDate 기준 (자정 전후 실행에도 Step 간 같은 구간 사용)
+     */
+    private static String liveKey(LeaderboardType type, StepExecution stepExecution) {
+        return type.key(parseBaseDate(stepExecution.getJobParameters().getString("baseDate")));
+    }
+
+    private static LocalDate parseBaseDate(String baseDate) {
+        return baseDate != null ? LocalDate.parse(baseDate) : LocalDate.now();
+    }
+}
@@ -0,0 +1,249 @@
+package com.example.mafiagame.leaderboard.repository;
+
+import com.example.mafiagame.leaderboard.domain.LeaderboardRow;
+import com.example.mafiagame.leaderboard.domain.LeaderboardScore;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 리더보드 저장소 (support Redis)
+ * - leaderboard:all / leaderboard:season:{yyyy-Qn} / leaderboard:daily:{yyyy-MM-dd} : 복합 점수 ZSET
+ * - leaderboard:nicknames : userId → 닉네임 (조회 시 MySQL 을 거치지 않기 위함)
+ * 쓰기는 모두 Redis 왕복 1회(파이프라인 또는 Lua)로 처리
+ *
+ * <p>재구성 중({key}:rebuilding 표시가 있는 동안) 게임 결과는 실제 키와 임시 키에 함께 반영한다.
+ * 표시 확인과 두 키 쓰기, RENAME 교체는 각각 Lua 스크립트 하나로 실행되어 교체 직전/직후의 갱신도 잃지 않는다.
+ * 재구성 Step 은 임시 키에 NX(누적) / ZINCRBY(구간)로 적재해 먼저 들어온 게임 결과를 덮어쓰지 않는다.</p>
+ */
+@Repository
+public class LeaderboardRepository {
+
+    private static final String NICKNAMES_KEY = "leaderboard:nicknames";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    private static final String REBUILDING_SUFFIX = ":rebuilding";
+    private static final Duration REBUILDING_MARKER_TTL = Duration.ofHours(1);
+    private static final String REMOVE = "-";
+
+    // KEYS: 실제 키, 임시 키, 재구성 표시, 닉네임 / ARGV: (점수 또는 "-", userId, 닉네임 또는 "") 반복
+    private static final RedisScript<Long> APPLY_ALL_TIME_SCRIPT = new DefaultRedisScript<>(
+            "local rebuilding = redis.call('EXISTS', KEYS[3]) == 1 "
+                    + "for i = 1, #ARGV, 3 do "
+                    + "  if ARGV[i] == '-' then "
+                    + "    redis.call('ZREM', KEYS[1], ARGV[i + 1]) "
+                    + "    if rebuilding then redis.call('ZREM', KEYS[2], ARGV[i + 1]) end "
+                    + "  else "
+                    + "    redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) "
+                    + "    if rebuilding then redis.call('ZADD', KEYS[2], ARGV[i], ARGV[i + 1]) end "
+                    + "  end "
+                    + "  if ARGV[i + 2] ~= '' then redis.call('HSET', KEYS[4], ARGV[i + 1], ARGV[i + 2]) end "
+                    + "end "
+                    + "return 0",
+            Long.class);
+
+    // KEYS: 실제 키, 임시 키, 재구성 표시, 닉네임 / ARGV[1]: 보존 초 / ARGV[2..]: (증감 점수, userId, 닉네임 또는 "") 반복
+    private static final RedisScript<Long> INCREMENT_WINDOW_SCRIPT = new DefaultRedisScript<>(
+            "local rebuilding = redis.call('EXISTS', KEYS[3]) == 1 "
+                    + "for i = 2, #ARGV, 3 do "
+                    + "  redis.call('ZINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) "
+                    + "  if rebuilding then redis.call('ZINCRBY', KEYS[2], ARGV[i], ARGV[i + 1]) end "
+                    + "  if ARGV[i + 2] ~= '' then redis.call('HSET', KEYS[4], ARGV[i + 1], ARGV[i + 2]) end "
+                    + "end "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+                    + "return 0",
+            Long.class);
+
+    // KEYS: 실제 키, 임시 키, 재구성 표시 / ARGV[1]: 보존 초 (0 이면 만료 없음)
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[3]) "
+                    + "if redis.call('EXISTS', KEYS[2]) == 0 then redis.call('DEL', KEYS[1]) return 0 end "
+                    + "redis.call('RENAME', KEYS[2], KEYS[1]) "
+                    + "if tonumber(ARGV[1]) > 0 then redis.call('EXPIRE', KEYS[1], ARGV[1]) end "
+                    + "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public LeaderboardRepository(
+            @Qualifier("supportStringRedisTemplate") StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    // ================== 갱신 ================== //
+
+    /**
+     * 누적 전적으로 점수 덮어쓰기 (등재 조건 미달이면 제거, 재구성 중이면 임시 키에도 반영)
+     */
+    public void applyAllTime(String key, Collection<LeaderboardRow> totals) {
+        if (totals.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(totals.size() * 3);
+        for (LeaderboardRow row : totals) {
+            args.add(LeaderboardScore.isAllTimeEligible(row.playCount())
+                    ? String.valueOf(LeaderboardScore.allTime(row.playCount(), row.winCount()))
+                    : REMOVE);
+            addMember(args, row);
+        }
+        stringRedisTemplate.execute(APPLY_ALL_TIME_SCRIPT, scriptKeys(key), args.toArray());
+    }
+
+    /**
+     * 구간 리더보드에 게임 결과 증감 누적 (재구성 중이면 임시 키에도 누적)
+     */
+    public void incrementWindow(String key, Collection<LeaderboardRow> deltas, Duration retention) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(deltas.size() * 3 + 1);
+        args.add(String.valueOf(retention.toSeconds()));
+        for (LeaderboardRow row : deltas) {
+            args.add(String.valueOf(LeaderboardScore.window(row.playCount(), row.winCount())));
+            addMember(args, row);
+        }
+        stringRedisTemplate.execute(INCREMENT_WINDOW_SCRIPT, scriptKeys(key), args.toArray());
+    }
+
+    // ================== 조회 ================== //
+
+    /**
+     * 점수 내림차순 구간 조회 (start/end 는 0부터, 포함)
+     */
+    public List<TypedTuple<String>> findRange(String key, long start, long end) {
+        Set<TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+        return tuples != null ? new ArrayList<>(tuples) : List.of();
+    }
+
+    /**
+     * 유저 순위(0부터)와 점수를 파이프라인 1회로 조회 (미등재면 null)
+     */
+    public RankAndScore findRank(String key, String userId) {
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zRevRank(key, userId);
+            stringConnection.zScore(key, userId);
+            return null;
+        });
+        if (results.get(0) instanceof Long rank && results.get(1) instanceof Double score) {
+            return new RankAndScore(rank, score);
+        }
+        return null;
+    }
+
+    public record RankAndScore(long rank, double score) {
+    }
+
+    public List<String> findNicknames(List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(NICKNAMES_KEY, new ArrayList<>(userIds));
+        return values.stream().map(value -> value != null ? value.toString() : null).toList();
+    }
+
+    public boolean exists(String key) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+    }
+
+    // ================== 재구성 ================== //
+
+    /**
+     * 재구성용 임시 키 (완료 후 swap 으로 원자적 교체)
+     */
+    public String rebuildKey(String key) {
+        return key + REBUILD_SUFFIX;
+    }
+
+    /**
+     * 재구성 시작: 남은 임시 키를 비우고 재구성 표시를 남겨 이후 게임 결과가 임시 키에도 반영되게 함
+     * (표시는 REBUILDING_MARKER_TTL 후 만료되어 중단된 재구성이 이중 쓰기를 계속 남기지 않음)
+     */
+    public void beginRebuild(String liveKey) {
+        stringRedisTemplate.delete(rebuildKey(liveKey));
+        stringRedisTemplate.opsForValue().set(rebuildingKey(liveKey), "1", REBUILDING_MARKER_TTL);
+    }
+
+    /**
+     * 재구성 실패: 재구성 표시와 임시 키 제거 (실제 키는 그대로 유지)
+     */
+    public void abortRebuild(String liveKey) {
+        stringRedisTemplate.delete(List.of(rebuildingKey(liveKey), rebuildKey(liveKey)));
+    }
+
+    /**
+     * 재구성 적재 (누적 리더보드): 재구성 중 게임 결과로 이미 들어간 최신 점수는 덮어쓰지 않음
+     */
+    public void addScoresIfAbsent(String key, Collection<LeaderboardRow> rows,
+            ToDoubleFunction<LeaderboardRow> scoreFunction) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (LeaderboardRow row : rows) {
+                stringConnection.zAdd(key, scoreFunction.applyAsDouble(row), row.userId(), ZAddArgs.ifNotExists());
+                putNickname(stringConnection, row);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 재구성 적재 (구간 리더보드): 재구성 중 누적된 게임 결과 증감에 MySQL 집계를 더함
+     */
+    public void incrementScores(String key, Collection<LeaderboardRow> rows,
+            ToDoubleFunction<LeaderboardRow> scoreFunction) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (LeaderboardRow row : rows) {
+                stringConnection.zIncrBy(key, scoreFunction.applyAsDouble(row), row.userId());
+                putNickname(stringConnection, row);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 임시 키를 실제 키로 교체하고 재구성 표시 제거 (한 스크립트로 실행되어 조회 중에도 빈 리더보드가 보이지 않고,
+     * 교체 직전에 두 키에 반영된 게임 결과도 임시 키에 남아 있음)
+     */
+    public void swap(String rebuildKey, String liveKey, Duration retention) {
+        stringRedisTemplate.execute(SWAP_SCRIPT, List.of(liveKey, rebuildKey, rebuildingKey(liveKey)),
+                String.valueOf(retention != null ? retention.toSeconds() : 0));
+    }
+
+    private List<String> scriptKeys(String liveKey) {
+        return List.of(liveKey, rebuildKey(liveKey), rebuildingKey(liveKey), NICKNAMES_KEY);
+    }
+
+    private static String rebuildingKey(String liveKey) {
+        return liveKey + REBUILDING_SUFFIX;
+    }
+
+    private static void addMember(List<String> args, LeaderboardRow row) {
+        args.add(row.userId());
+        args.add(row.nickname() != null ? row.nickname() : "");
+    }
+
+    private void putNickname(StringRedisConnection connection, LeaderboardRow row) {
+        if (row.nickname() != null) {
+            connection.hSet(NICKNAMES_KEY, row.userId(), row.nickname());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.mafiagame.leaderboard.service;
+
+import com.example.mafiagame.leaderboard.domain.LeaderboardRow;
+import com.example.mafiagame.leaderboard.domain.LeaderboardScore;
+import com.example.mafiagame.leaderboard.domain.LeaderboardType;
+import com.example.mafiagame.leaderboard.dto.LeaderboardEntryResponse;
+import com.example.mafiagame.leaderboard.repository.LeaderboardRepository;
+import com.example.mafiagame.leaderboard.repository.LeaderboardRepository.RankAndScore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 리더보드 서비스
+ * - 게임 종료 시 전적 반영 직후 ZSET 갱신 (MySQL ORDER BY 조회 제거)
+ * - Top N / 내 순위 / 내 주변 순위는 Redis 만 조회
+ * - Redis 유실/불일치는 leaderboardRebuildJob 으로 MySQL 기준 재구성
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LeaderboardService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_RADIUS = 25;
+
+    private final LeaderboardRepository leaderboardRepository;
+
+    // ================== 갱신 ================== //
+
+    /**
+     * 게임 결과 반영
+     *
+     * @param totals 반영 후 누적 전적 (ALL_TIME)
+     * @param deltas 이번 결과의 판수/승리 증감 (SEASON, DAILY)
+     */
+    public void recordGameResults(Collection<LeaderboardRow> totals, Collection<LeaderboardRow> deltas) {
+        LocalDate today = LocalDate.now();
+        try {
+            leaderboardRepository.applyAllTime(LeaderboardType.ALL_TIME.key(today), totals);
+            for (LeaderboardType type : LeaderboardType.values()) {
+                if (type.isWindowed()) {
+                    leaderboardRepository.incrementWindow(type.key(today), deltas, type.retention());
+                }
+            }
+        } catch (Exception e) {
+            // DB 전적은 이미 커밋됨 → 다음 재구성 Job 에서 보정
+            log.error("[Leaderboard] 리더보드 갱신 실패: users={}", totals.size(), e);
+        }
+    }
+
+    // ================== 조회 ================== //
+
+    public List<LeaderboardEntryResponse> getTop(LeaderboardType type, int page, int size) {
+        int safeSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long start = (long) Math.max(page, 0) * safeSize;
+        return toEntries(type, start, leaderboardRepository.findRange(key(type), start, start + safeSize - 1));
+    }
+
+    public Optional<LeaderboardEntryResponse> getMyRank(LeaderboardType type, String userId) {
+        RankAndScore rank = leaderboardRepository.findRank(key(type), userId);
+        if (rank == null) {
+            return Optional.empty();
+        }
+        List<String> nicknames = leaderboardRepository.findNicknames(List.of(userId));
+        return Optional.of(toEntry(type, rank.rank(), nicknames.get(0), rank.score()));
+    }
+
+    /**
+     * 내 순위 기준 위/아래 radius 명 (미등재면 빈 목록)
+     */
+    public List<LeaderboardEntryResponse> getAroundMe(LeaderboardType type, String userId, int radius) {
+        RankAndScore rank = leaderboardRepository.findRank(key(type), userId);
+        if (rank == null) {
+            return List.of();
+        }
+        int safeRadius = Math.min(Math.max(radius, 1), MAX_RADIUS);
+        long start = Math.max(rank.rank() - safeRadius, 0);
+        return toEntries(type, start, leaderboardRepository.findRange(key(type), start, rank.rank() + safeRadius));
+    }
+
+    public boolean isEmpty(LeaderboardType type) {
+        return !leaderboardRepository.exists(key(type));
+    }
+
+    private String key(LeaderboardType type) {
+        return type.key(LocalDate.now());
+    }
+
+    private List<LeaderboardEntryResponse> toEntries(LeaderboardType type, long start, List<TypedTuple<String>> tuples) {
+        if (tuples.isEmpty()) {
+            return List.of();
+        }
+        List<String> userIds = tuples.stream().map(TypedTuple::getValue).toList();
+        List<String> nicknames = leaderboardRepository.findNicknames(userIds);
+
+        List<LeaderboardEntryResponse> entries = new ArrayList<>(tuples.size());
+        for (int i = 0; i < tuples.size(); i++) {
+            Double score = tuples.get(i).getScore();
+            entries.add(toEntry(type, start + i, nicknames.get(i), score != null ? score : 0.0));
+        }
+        return entries;
+    }
+
+    private LeaderboardEntryResponse toEntry(LeaderboardType type, long zeroBasedRank, String nickname, double score) {
+        LeaderboardScore.Stats stats = LeaderboardScore.decode(type, score);
+        return new LeaderboardEntryResponse(zeroBasedRank + 1, nickname, stats.playCount(), stats.winCount(),
+                stats.winRate());
+    }
+}
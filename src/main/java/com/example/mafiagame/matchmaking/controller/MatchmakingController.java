@@ -0,0 +1,51 @@
+package com.example.mafiagame.matchmaking.controller;
+
+import com.example.mafiagame.global.dto.CommonResponse;
+import com.example.mafiagame.matchmaking.dto.MatchTicketResponse;
+import com.example.mafiagame.matchmaking.service.MatchmakingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+
+/**
+ * 빠른 매칭 REST API 컨트롤러.
+ * 매칭이 성사되면 /topic/private.{userId} 로 MATCH_FOUND 메시지가 전송된다.
+ */
+@RestController
+@RequestMapping("/api/matchmaking/queue")
+@RequiredArgsConstructor
+@Tag(name = "매칭", description = "빠른 매칭 대기열 API")
+public class MatchmakingController {
+
+    private final MatchmakingService matchmakingService;
+
+    @PostMapping
+    @Operation(summary = "매칭 대기열 등록", description = "실력 구간에 맞는 대기열에 등록합니다.")
+    public ResponseEntity<CommonResponse<MatchTicketResponse>> enqueue(Principal principal) {
+        MatchTicketResponse ticket = matchmakingService.enqueue(principal.getName());
+        return ResponseEntity.ok(CommonResponse.success(ticket, "매칭 대기열에 등록되었습니다."));
+    }
+
+    @DeleteMapping
+    @Operation(summary = "매칭 취소", description = "매칭 대기를 취소합니다.")
+    public ResponseEntity<CommonResponse<Void>> cancel(Principal principal) {
+        if (!matchmakingService.cancel(principal.getName())) {
+            return ResponseEntity.ok(CommonResponse.failure("대기 중인 매칭이 없거나 이미 매칭되었습니다."));
+        }
+        return ResponseEntity.ok(CommonResponse.success(null, "매칭이 취소되었습니다."));
+    }
+
+    @GetMapping
+    @Operation(summary = "매칭 상태 조회", description = "현재 대기 여부와 대기 순번을 조회합니다.")
+    public ResponseEntity<CommonResponse<MatchTicketResponse>> getStatus(Principal principal) {
+        return ResponseEntity.ok(CommonResponse.success(matchmakingService.getStatus(principal.getName()), null));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.mafiagame.matchmaking.domain;
+
+/**
+ * 매칭 대기열 티켓 (대기열 ZSET member 로 직렬화)
+ */
+public record MatchTicket(
+        String userId,
+        int bucket,
+        long enqueuedAt,
+        String nickname) {
+
+    private static final String DELIMITER = "|";
+
+    public String toMember() {
+        return String.join(
+                DELIMITER,
+                userId,
+                String.valueOf(bucket),
+                String.valueOf(enqueuedAt),
+                nickname);
+    }
+
+    public static MatchTicket fromMember(String member) {
+        String[] tokens = member.split("\\|", 4);
+        if (tokens.length != 4) {
+            throw new IllegalArgumentException("Invalid match ticket member: " + member);
+        }
+
+        return new MatchTicket(
+                tokens[0],
+                Integer.parseInt(tokens[1]),
+                Long.parseLong(tokens[2]),
+                tokens[3]);
+    }
+
+    public long waitedMillis(long now) {
+        return now - enqueuedAt;
+    }
+}
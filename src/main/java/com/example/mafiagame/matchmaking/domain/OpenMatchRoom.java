@@ -0,0 +1,25 @@
+package com.example.mafiagame.matchmaking.domain;
+
+/**
+ * 매칭으로 생성되어 아직 게임이 시작되지 않은 방
+ */
+public record OpenMatchRoom(
+        String roomId,
+        int bucket,
+        long createdAt,
+        int size) {
+
+    private static final String DELIMITER = "|";
+
+    public String toValue() {
+        return bucket + DELIMITER + createdAt;
+    }
+
+    public static OpenMatchRoom fromValue(String roomId, String value, int size) {
+        String[] tokens = value.split("\\|", 2);
+        if (tokens.length != 2) {
+            throw new IllegalArgumentException("Invalid open room value: " + value);
+        }
+        return new OpenMatchRoom(roomId, Integer.parseInt(tokens[0]), Long.parseLong(tokens[1]), size);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.mafiagame.matchmaking.domain;
+
+/**
+ * 승률/판수 기반 실력 구간
+ * - 0: 배치 구간 (판수 부족으로 승률 신뢰 불가)
+ * - 1~5: 승률 구간 (낮음 → 높음)
+ */
+public final class SkillBucket {
+
+    public static final int PLACEMENT = 0;
+    public static final int MAX = 5;
+    public static final int COUNT = MAX + 1;
+
+    private static final int PLACEMENT_GAMES = 10;
+    private static final double[] WIN_RATE_UPPER_BOUNDS = { 0.35, 0.45, 0.55, 0.65 };
+
+    private SkillBucket() {
+    }
+
+    public static int of(int playCount, Double winRate) {
+        if (playCount < PLACEMENT_GAMES || winRate == null) {
+            return PLACEMENT;
+        }
+        for (int i = 0; i < WIN_RATE_UPPER_BOUNDS.length; i++) {
+            if (winRate < WIN_RATE_UPPER_BOUNDS[i]) {
+                return i + 1;
+            }
+        }
+        return MAX;
+    }
+
+    public static int distance(int a, int b) {
+        return Math.abs(a - b);
+    }
+}
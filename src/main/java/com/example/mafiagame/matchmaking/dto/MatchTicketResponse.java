@@ -0,0 +1,18 @@
+package com.example.mafiagame.matchmaking.dto;
+
+import com.example.mafiagame.matchmaking.domain.MatchTicket;
+
+public record MatchTicketResponse(
+        boolean queued,
+        Integer bucket,
+        Long enqueuedAt,
+        Long position) {
+
+    public static MatchTicketResponse of(MatchTicket ticket, Long position) {
+        return new MatchTicketResponse(true, ticket.bucket(), ticket.enqueuedAt(), position);
+    }
+
+    public static MatchTicketResponse notQueued() {
+        return new MatchTicketResponse(false, null, null, null);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.mafiagame.matchmaking.repository;
+
+import com.example.mafiagame.matchmaking.domain.MatchTicket;
+import com.example.mafiagame.matchmaking.domain.OpenMatchRoom;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 매칭 대기열 저장소 (support Redis)
+ * - matchmaking:queue:{bucket} : 구간별 대기열 ZSET (score = 대기 시작 시각)
+ * - matchmaking:tickets        : userId → ticket member (중복 등록 방지/취소용)
+ * - matchmaking:rooms          : 매칭으로 생성되어 아직 시작 전인 방
+ * 티켓 소유권은 ZREM 결과로 결정 (취소와 매칭이 동시에 일어나도 한쪽만 성공)
+ */
+@Repository
+public class MatchmakingQueueRepository {
+
+    private static final String QUEUE_KEY_PREFIX = "matchmaking:queue:";
+    private static final String TICKETS_KEY = "matchmaking:tickets";
+    private static final String OPEN_ROOMS_KEY = "matchmaking:rooms";
+
+    // 티켓 등록과 대기열 추가를 한 번에 (중간에 실패해 대기열 없는 티켓만 남는 일이 없도록)
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2]) == 0 then return 0 end "
+                    + "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public MatchmakingQueueRepository(
+            @Qualifier("supportStringRedisTemplate") StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    // ================== 대기열 ================== //
+
+    /**
+     * 대기열 등록 (이미 대기 중이면 false)
+     */
+    public boolean enqueue(MatchTicket ticket) {
+        Long created = stringRedisTemplate.execute(ENQUEUE_SCRIPT,
+                List.of(TICKETS_KEY, queueKey(ticket.bucket())),
+                ticket.userId(), ticket.toMember(), String.valueOf(ticket.enqueuedAt()));
+        return created != null && created == 1L;
+    }
+
+    /**
+     * 대기 취소 (이미 매칭되어 빠져나간 티켓이면 false)
+     */
+    public boolean cancel(String userId) {
+        Optional<MatchTicket> ticket = findTicket(userId);
+        if (ticket.isEmpty()) {
+            return false;
+        }
+        Long removed = stringRedisTemplate.opsForZSet().remove(queueKey(ticket.get().bucket()), ticket.get().toMember());
+        stringRedisTemplate.opsForHash().delete(TICKETS_KEY, userId);
+        return removed != null && removed > 0;
+    }
+
+    public Optional<MatchTicket> findTicket(String userId) {
+        Object member = stringRedisTemplate.opsForHash().get(TICKETS_KEY, userId);
+        return Optional.ofNullable(member).map(value -> MatchTicket.fromMember(value.toString()));
+    }
+
+    public Long findPosition(MatchTicket ticket) {
+        return stringRedisTemplate.opsForZSet().rank(queueKey(ticket.bucket()), ticket.toMember());
+    }
+
+    /**
+     * 구간별 가장 오래 기다린 티켓 조회 (제거하지 않음)
+     */
+    public List<MatchTicket> peek(int bucket, int limit) {
+        Set<String> members = stringRedisTemplate.opsForZSet().range(queueKey(bucket), 0, limit - 1L);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        return members.stream().map(MatchTicket::fromMember).toList();
+    }
+
+    /**
+     * 매칭 계획에 포함된 티켓을 대기열에서 제거 (파이프라인 1회 + HDEL 1회)
+     *
+     * @return 실제로 제거된(=이번 매칭이 소유권을 얻은) 티켓
+     */
+    public List<MatchTicket> claim(int bucket, List<MatchTicket> tickets) {
+        if (tickets.isEmpty()) {
+            return List.of();
+        }
+
+        String queueKey = queueKey(bucket);
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (MatchTicket ticket : tickets) {
+                stringConnection.zRem(queueKey, ticket.toMember());
+            }
+            return null;
+        });
+
+        List<MatchTicket> claimed = new ArrayList<>(tickets.size());
+        for (int i = 0; i < tickets.size(); i++) {
+            if (results.get(i) instanceof Long removed && removed > 0) {
+                claimed.add(tickets.get(i));
+            }
+        }
+        if (!claimed.isEmpty()) {
+            stringRedisTemplate.opsForHash().delete(TICKETS_KEY,
+                    claimed.stream().map(MatchTicket::userId).toArray());
+        }
+        return claimed;
+    }
+
+    /**
+     * 방 입장에 실패한 티켓 재등록 (기존 대기 시작 시각 유지 → 다음 배치에서 우선 처리)
+     */
+    public void requeue(Collection<MatchTicket> tickets) {
+        tickets.forEach(this::enqueue);
+    }
+
+    // ================== 열린 방 ================== //
+
+    public Map<String, String> findOpenRooms() {
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(OPEN_ROOMS_KEY);
+        Map<String, String> openRooms = new HashMap<>(entries.size());
+        entries.forEach((roomId, value) -> openRooms.put(roomId.toString(), value.toString()));
+        return openRooms;
+    }
+
+    public void saveOpenRoom(OpenMatchRoom room) {
+        stringRedisTemplate.opsForHash().put(OPEN_ROOMS_KEY, room.roomId(), room.toValue());
+    }
+
+    public void removeOpenRooms(Collection<String> roomIds) {
+        if (!roomIds.isEmpty()) {
+            stringRedisTemplate.opsForHash().delete(OPEN_ROOMS_KEY, roomIds.toArray());
+        }
+    }
+
+    private String queueKey(int bucket) {
+        return QUEUE_KEY_PREFIX + bucket;
+    }
+}
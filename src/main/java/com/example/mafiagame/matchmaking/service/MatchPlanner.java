@@ -0,0 +1,132 @@
+package com.example.mafiagame.matchmaking.service;
+
+import com.example.mafiagame.matchmaking.domain.MatchTicket;
+import com.example.mafiagame.matchmaking.domain.OpenMatchRoom;
+import com.example.mafiagame.matchmaking.domain.SkillBucket;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매칭 배치 계획 수립 (Redis/DB 접근 없는 순수 로직)
+ * 1. 같은 구간의 열린 방을 오래된 순으로 채움
+ * 2. 방이 오래 기다릴수록(widenAfter 마다 1구간) 인접 구간 플레이어도 받음
+ * 3. 남은 플레이어는 새 방으로 묶음
+ * 4. 정원이 차거나, maxWait 이 지났고 최소 인원 이상이면 게임 시작
+ */
+public class MatchPlanner {
+
+    private final Settings settings;
+
+    public MatchPlanner(Settings settings) {
+        this.settings = settings;
+    }
+
+    public record Settings(
+            int roomSize,
+            int minPlayers,
+            long widenAfterMillis,
+            long maxWaitMillis) {
+    }
+
+    /**
+     * 방 하나에 대한 실행 단위
+     *
+     * @param roomId  기존 방이면 roomId, 새로 만들 방이면 null
+     * @param tickets 이번 배치에서 추가할 플레이어
+     * @param start   게임 자동 시작 여부
+     */
+    public record RoomFill(
+            String roomId,
+            int bucket,
+            long createdAt,
+            List<MatchTicket> tickets,
+            boolean start) {
+
+        public boolean isNewRoom() {
+            return roomId == null;
+        }
+    }
+
+    public List<RoomFill> plan(List<OpenMatchRoom> openRooms, Map<Integer, List<MatchTicket>> queued, long now) {
+        List<Slot> slots = new ArrayList<>(openRooms.size());
+        openRooms.stream()
+                .sorted(Comparator.comparingLong(OpenMatchRoom::createdAt))
+                .forEach(room -> slots.add(new Slot(room.roomId(), room.bucket(), room.createdAt(), room.size())));
+
+        for (int bucket = SkillBucket.PLACEMENT; bucket <= SkillBucket.MAX; bucket++) {
+            List<MatchTicket> tickets = queued.get(bucket);
+            if (tickets == null || tickets.isEmpty()) {
+                continue;
+            }
+
+            Deque<MatchTicket> pool = new ArrayDeque<>(tickets);
+            for (Slot slot : slots) {
+                if (pool.isEmpty()) {
+                    break;
+                }
+                if (slot.accepts(bucket, now)) {
+                    slot.fill(pool);
+                }
+            }
+
+            while (!pool.isEmpty()) {
+                Slot slot = new Slot(null, bucket, pool.peek().enqueuedAt(), 0);
+                slot.fill(pool);
+                slots.add(slot);
+            }
+        }
+
+        List<RoomFill> fills = new ArrayList<>();
+        for (Slot slot : slots) {
+            boolean start = shouldStart(slot, now);
+            if (!slot.added.isEmpty() || start) {
+                fills.add(new RoomFill(slot.roomId, slot.bucket, slot.createdAt, slot.added, start));
+            }
+        }
+        return fills;
+    }
+
+    private boolean shouldStart(Slot slot, long now) {
+        if (slot.size >= settings.roomSize()) {
+            return true;
+        }
+        return now - slot.createdAt >= settings.maxWaitMillis() && slot.size >= settings.minPlayers();
+    }
+
+    private final class Slot {
+        private final String roomId;
+        private final int bucket;
+        private final long createdAt;
+        private final List<MatchTicket> added = new ArrayList<>();
+        private int size;
+
+        private Slot(String roomId, int bucket, long createdAt, int size) {
+            this.roomId = roomId;
+            this.bucket = bucket;
+            this.createdAt = createdAt;
+            this.size = size;
+        }
+
+        private boolean accepts(int ticketBucket, long now) {
+            if (size >= settings.roomSize()) {
+                return false;
+            }
+            long widened = settings.widenAfterMillis() > 0
+                    ? Math.max(0, now - createdAt) / settings.widenAfterMillis()
+                    : SkillBucket.MAX;
+            return SkillBucket.distance(bucket, ticketBucket) <= widened;
+        }
+
+        private void fill(Deque<MatchTicket> pool) {
+            while (size < settings.roomSize() && !pool.isEmpty()) {
+                added.add(pool.poll());
+                size++;
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.example.mafiagame.matchmaking.service;
+
+import com.example.mafiagame.chat.domain.ChatRoom;
+import com.example.mafiagame.chat.domain.ChatUser;
+import com.example.mafiagame.chat.service.ChatRoomService;
+import com.example.mafiagame.chat.service.WebSocketMessageBroadcaster;
+import com.example.mafiagame.game.service.GameQueryService;
+import com.example.mafiagame.game.service.GameService;
+import com.example.mafiagame.global.service.RedisService;
+import com.example.mafiagame.matchmaking.domain.MatchTicket;
+import com.example.mafiagame.matchmaking.domain.OpenMatchRoom;
+import com.example.mafiagame.matchmaking.domain.SkillBucket;
+import com.example.mafiagame.matchmaking.repository.MatchmakingQueueRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 빠른 매칭 배치 처리기
+ * - 전역 락으로 한 노드만 실행, 주기마다 구간별 대기열을 최대 batchSize 만큼 읽어 한 번에 배정
+ * - 계획은 MatchPlanner 가 세우고, 여기서는 티켓 소유권 확보 → 방 생성/입장 → 게임 시작만 수행
+ */
+@Component
+@Slf4j
+public class MatchmakingMatcher {
+
+    private static final String MATCHER_LOCK_KEY = "lock:matchmaking:matcher";
+    private static final int MIN_PLAYERS = 4;
+    private static final int MAX_ROOM_SIZE = 12;
+
+    private final MatchmakingQueueRepository queueRepository;
+    private final ChatRoomService chatRoomService;
+    private final GameService gameService;
+    private final GameQueryService gameQueryService;
+    private final RedisService redisService;
+    private final WebSocketMessageBroadcaster messageBroadcaster;
+    private final RedissonClient redissonClient;
+    private final MatchPlanner planner;
+    private final int roomSize;
+    private final int batchSize;
+
+    public MatchmakingMatcher(
+            MatchmakingQueueRepository queueRepository,
+            ChatRoomService chatRoomService,
+            GameService gameService,
+            GameQueryService gameQueryService,
+            RedisService redisService,
+            WebSocketMessageBroadcaster messageBroadcaster,
+            @Qualifier("supportRedissonClient") RedissonClient redissonClient,
+            @Value("${matchmaking.room-size:8}") int roomSize,
+            @Value("${matchmaking.widen-after-ms:10000}") long widenAfterMillis,
+            @Value("${matchmaking.max-wait-ms:30000}") long maxWaitMillis,
+            @Value("${matchmaking.matcher.batch-size:500}") int batchSize) {
+        this.queueRepository = queueRepository;
+        this.chatRoomService = chatRoomService;
+        this.gameService = gameService;
+        this.gameQueryService = gameQueryService;
+        this.redisService = redisService;
+        this.messageBroadcaster = messageBroadcaster;
+        this.redissonClient = redissonClient;
+        this.roomSize = Math.max(MIN_PLAYERS, Math.min(MAX_ROOM_SIZE, roomSize));
+        this.batchSize = batchSize;
+        this.planner = new MatchPlanner(
+                new MatchPlanner.Settings(this.roomSize, MIN_PLAYERS, widenAfterMillis, maxWaitMillis));
+    }
+
+    @Scheduled(fixedDelayString = "${matchmaking.matcher.poll-delay-ms:500}")
+    public void match() {
+        RLock lock = redissonClient.getLock(MATCHER_LOCK_KEY);
+        try {
+            // 다른 노드가 실행 중이면 이번 주기는 건너뜀
+            // (임대 시간을 고정하지 않고 watchdog 이 연장 → 한 주기가 길어져도 락이 풀려 두 노드가 동시에 매칭하지 않음)
+            if (!lock.tryLock(0, -1, TimeUnit.SECONDS)) {
+                return;
+            }
+            runOnce(System.currentTimeMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[Matchmaking] 매칭 락 인터럽트", e);
+        } catch (Exception e) {
+            log.error("[Matchmaking] 매칭 처리 중 오류", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    void runOnce(long now) {
+        Map<Integer, List<MatchTicket>> queued = new HashMap<>();
+        boolean hasTickets = false;
+        for (int bucket = SkillBucket.PLACEMENT; bucket <= SkillBucket.MAX; bucket++) {
+            List<MatchTicket> tickets = queueRepository.peek(bucket, batchSize);
+            queued.put(bucket, tickets);
+            hasTickets |= !tickets.isEmpty();
+        }
+
+        List<OpenMatchRoom> openRooms = loadOpenRooms();
+        if (!hasTickets && openRooms.isEmpty()) {
+            return;
+        }
+
+        List<MatchPlanner.RoomFill> fills = planner.plan(openRooms, queued, now);
+        Set<String> claimedUserIds = claim(fills);
+
+        for (MatchPlanner.RoomFill fill : fills) {
+            List<MatchTicket> tickets = fill.tickets().stream()
+                    .filter(ticket -> claimedUserIds.contains(ticket.userId()))
+                    .toList();
+            try {
+                execute(fill, tickets);
+            } catch (Exception e) {
+                log.error("[Matchmaking] 방 배정 실패: roomId={}, players={}", fill.roomId(), tickets.size(), e);
+                queueRepository.requeue(tickets);
+            }
+        }
+    }
+
+    private List<OpenMatchRoom> loadOpenRooms() {
+        Map<String, String> registry = queueRepository.findOpenRooms();
+        if (registry.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> roomIds = new ArrayList<>(registry.keySet());
+        List<ChatRoom> rooms = redisService.getChatRooms(roomIds);
+        List<OpenMatchRoom> openRooms = new ArrayList<>(roomIds.size());
+        List<String> staleRoomIds = new ArrayList<>();
+        for (int i = 0; i < roomIds.size(); i++) {
+            ChatRoom room = i < rooms.size() ? rooms.get(i) : null;
+            // 방장이 직접 게임을 시작한 방은 더 이상 채우지 않음
+            if (room == null || gameQueryService.getActiveGameByRoomId(room.getRoomId()) != null) {
+                staleRoomIds.add(roomIds.get(i));
+                continue;
+            }
+            openRooms.add(OpenMatchRoom.fromValue(room.getRoomId(), registry.get(room.getRoomId()),
+                    room.getParticipants().size()));
+        }
+        queueRepository.removeOpenRooms(staleRoomIds);
+        return openRooms;
+    }
+
+    /**
+     * 계획에 포함된 티켓의 소유권 확보 (그 사이 취소된 티켓은 제외)
+     */
+    private Set<String> claim(List<MatchPlanner.RoomFill> fills) {
+        Map<Integer, List<MatchTicket>> byBucket = new HashMap<>();
+        for (MatchPlanner.RoomFill fill : fills) {
+            for (MatchTicket ticket : fill.tickets()) {
+                byBucket.computeIfAbsent(ticket.bucket(), k -> new ArrayList<>()).add(ticket);
+            }
+        }
+
+        Set<String> claimedUserIds = new HashSet<>();
+        byBucket.forEach((bucket, tickets) -> queueRepository.claim(bucket, tickets)
+                .forEach(ticket -> claimedUserIds.add(ticket.userId())));
+        return claimedUserIds;
+    }
+
+    private void execute(MatchPlanner.RoomFill fill, List<MatchTicket> tickets) {
+        List<ChatUser> players = tickets.stream()
+                .map(ticket -> ChatUser.builder().userId(ticket.userId()).userName(ticket.nickname()).build())
+                .toList();
+
+        ChatRoom room;
+        if (fill.isNewRoom()) {
+            if (players.isEmpty()) {
+                return;
+            }
+            room = chatRoomService.createMatchedRoom(roomName(), players, roomSize);
+            if (room == null) {
+                return;
+            }
+            if (!fill.start()) {
+                queueRepository.saveOpenRoom(new OpenMatchRoom(room.getRoomId(), fill.bucket(), fill.createdAt(),
+                        room.getParticipants().size()));
+            }
+        } else {
+            if (!players.isEmpty()) {
+                List<String> rejectedUserIds = chatRoomService.addMatchedPlayers(fill.roomId(), players).stream()
+                        .map(ChatUser::getUserId)
+                        .toList();
+                queueRepository.requeue(tickets.stream()
+                        .filter(ticket -> rejectedUserIds.contains(ticket.userId()))
+                        .toList());
+            }
+            room = chatRoomService.getRoom(fill.roomId());
+            if (room == null) {
+                queueRepository.removeOpenRooms(List.of(fill.roomId()));
+                return;
+            }
+        }
+
+        notifyMatched(room, tickets);
+
+        if (fill.start() && room.getParticipants().size() >= MIN_PLAYERS) {
+            startGame(room);
+        }
+    }
+
+    private void notifyMatched(ChatRoom room, List<MatchTicket> tickets) {
+        for (MatchTicket ticket : tickets) {
+            if (room.isParticipant(ticket.userId())) {
+                messageBroadcaster.sendToUser(ticket.userId(), Map.of(
+                        "type", "MATCH_FOUND",
+                        "roomId", room.getRoomId(),
+                        "roomName", room.getRoomName()));
+            }
+        }
+    }
+
+    private void startGame(ChatRoom room) {
+        queueRepository.removeOpenRooms(List.of(room.getRoomId()));
+        try {
+            gameService.createGame(room.getRoomId());
+            log.info("[Matchmaking] 게임 자동 시작: roomId={}, players={}", room.getRoomId(),
+                    room.getParticipants().size());
+        } catch (Exception e) {
+            log.error("[Matchmaking] 게임 자동 시작 실패: roomId={}", room.getRoomId(), e);
+        }
+    }
+
+    private String roomName() {
+        return "빠른 매칭 #" + ThreadLocalRandom.current().nextInt(1000);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.mafiagame.matchmaking.service;
+
+import com.example.mafiagame.global.error.ErrorCode;
+import com.example.mafiagame.global.service.RedisService;
+import com.example.mafiagame.matchmaking.domain.MatchTicket;
+import com.example.mafiagame.matchmaking.domain.SkillBucket;
+import com.example.mafiagame.matchmaking.dto.MatchTicketResponse;
+import com.example.mafiagame.matchmaking.repository.MatchmakingQueueRepository;
+import com.example.mafiagame.user.domain.Users;
+import com.example.mafiagame.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 빠른 매칭 대기열 등록/취소/조회
+ * 실제 방 배정과 게임 시작은 MatchmakingMatcher 가 배치로 처리
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MatchmakingService {
+
+    private final MatchmakingQueueRepository queueRepository;
+    private final UserService userService;
+    private final RedisService redisService;
+
+    public MatchTicketResponse enqueue(String userId) {
+        if (redisService.getUserRoomId(userId) != null) {
+            throw ErrorCode.MATCHMAKING_ALREADY_IN_ROOM.commonException();
+        }
+
+        Users user = userService.getUserByLoginId(userId);
+        MatchTicket ticket = new MatchTicket(
+                userId,
+                SkillBucket.of(user.getPlayCount(), user.getWinRate()),
+                System.currentTimeMillis(),
+                user.getNickname());
+
+        if (!queueRepository.enqueue(ticket)) {
+            throw ErrorCode.MATCHMAKING_ALREADY_QUEUED.commonException();
+        }
+        log.debug("[Matchmaking] 대기열 등록: userId={}, bucket={}", userId, ticket.bucket());
+        return MatchTicketResponse.of(ticket, queueRepository.findPosition(ticket));
+    }
+
+    public boolean cancel(String userId) {
+        return queueRepository.cancel(userId);
+    }
+
+    public MatchTicketResponse getStatus(String userId) {
+        return queueRepository.findTicket(userId)
+                .map(ticket -> MatchTicketResponse.of(ticket, queueRepository.findPosition(ticket)))
+                .orElseGet(MatchTicketResponse::notQueued);
+    }
+}
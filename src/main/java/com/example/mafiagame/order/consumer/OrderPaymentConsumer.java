@@ -1,16 +1,22 @@
 package com.example.mafiagame.order.consumer;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
-import com.example.mafiagame.inventory.service.InventoryService;
 import com.example.mafiagame.kafka.config.KafkaTopics;
 import com.example.mafiagame.kafka.event.OrderEvent;
 import com.example.mafiagame.kafka.event.PaymentEvent;
-import com.example.mafiagame.order.service.OrderService;
+import com.example.mafiagame.kafka.support.BatchTransactionExecutor;
+import com.example.mafiagame.kafka.support.BatchTransactionExecutor.Result;
+import com.example.mafiagame.kafka.support.FailedRecordForwarder;
+import com.example.mafiagame.order.service.OrderEventHandler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +26,10 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>
  * 결제 완료 → 주문 PAID → 주문 COMPLETED → 아이템 지급 플로우를 처리한다.
+ * poll 한 번의 레코드를 하나의 DB 트랜잭션으로 처리하고 오프셋도 배치당 한 번 커밋한다.
+ * 배치 트랜잭션이 실패하면 레코드별 트랜잭션으로 재처리해 실패한 레코드만 격리하고,
+ * 격리된 레코드는 재시도 토픽으로 보내 본 토픽 파티션을 막지 않는다.
+ * 이미 처리된 eventId 는 건너뛰므로 리밸런스/재전송으로 다시 들어온 이벤트가 아이템을 중복 지급하지 않는다.
  * </p>
  */
 @Component
@@ -28,71 +38,76 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OrderPaymentConsumer {
 
-    private final OrderService orderService;
-    private final InventoryService inventoryService;
+    // 재시도 토픽 리스너와 같은 처리 기록을 공유하도록 본 토픽 그룹 ID 를 컨슈머 이름으로 사용
+    static final String ORDER_GROUP = "order-service-group";
+    static final String INVENTORY_GROUP = "inventory-service-group";
+
+    private final OrderEventHandler orderEventHandler;
+    private final BatchTransactionExecutor batchTransactionExecutor;
+    private final FailedRecordForwarder failedRecordForwarder;
 
     /**
-     * 결제 완료 이벤트 처리.
+     * 결제 완료 이벤트 배치 처리.
      *
      * <p>
      * 결제가 완료되면 주문 상태를 PAID → COMPLETED로 변경한다.
      * </p>
      */
-    @KafkaListener(topics = KafkaTopics.PAYMENT_COMPLETED, groupId = "order-service-group")
-    public void handlePaymentCompleted(ConsumerRecord<String, PaymentEvent> record, Acknowledgment ack) {
-        PaymentEvent event = record.value();
-        log.info("[Consumer] 결제 완료 수신: orderId={}", event.getOrderId());
-
-        try {
-            orderService.markAsPaid(event.getOrderId());
-            orderService.completeOrder(event.getOrderId());
-            ack.acknowledge();
-        } catch (Exception e) {
-            log.error("[Consumer] 결제 완료 처리 실패: orderId={}", event.getOrderId(), e);
-            // 재시도 후 DLT로 전달 (ErrorHandler에 의해 관리)
-            throw e;
-        }
+    @KafkaListener(topics = KafkaTopics.PAYMENT_COMPLETED, groupId = ORDER_GROUP,
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handlePaymentCompleted(List<ConsumerRecord<String, PaymentEvent>> records, Acknowledgment ack) {
+        Result<PaymentEvent> result = batchTransactionExecutor.executeOnce(ORDER_GROUP, values(records),
+                PaymentEvent::getEventId, orderEventHandler::handlePaymentCompleted);
+        finish(KafkaTopics.PAYMENT_COMPLETED, result, ack, PaymentEvent::getOrderId);
     }
 
     /**
-     * 주문 완료 이벤트 처리 → 아이템 지급.
+     * 주문 완료 이벤트 배치 처리 → 아이템 지급.
      *
      * <p>
      * 주문이 COMPLETED 상태가 되면 사용자에게 아이템을 지급한다.
      * </p>
      */
-    @KafkaListener(topics = KafkaTopics.ORDER_COMPLETED, groupId = "inventory-service-group")
-    public void handleOrderCompleted(ConsumerRecord<String, OrderEvent> record, Acknowledgment ack) {
-        OrderEvent event = record.value();
-        log.info("[Consumer] 주문 완료 수신 → 아이템 지급: orderId={}, userId={}", event.getOrderId(), event.getUserId());
-
-        try {
-            for (OrderEvent.OrderItemInfo item : event.getItems()) {
-                inventoryService.grantItem(event.getUserId(), item.getItemId(), item.getQuantity());
-            }
-            ack.acknowledge();
-            log.info("[Consumer] 아이템 지급 완료: orderId={}", event.getOrderId());
-        } catch (Exception e) {
-            log.error("[Consumer] 아이템 지급 실패: orderId={}", event.getOrderId(), e);
-            throw e;
-        }
+    @KafkaListener(topics = KafkaTopics.ORDER_COMPLETED, groupId = INVENTORY_GROUP,
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handleOrderCompleted(List<ConsumerRecord<String, OrderEvent>> records, Acknowledgment ack) {
+        Result<OrderEvent> result = batchTransactionExecutor.executeOnce(INVENTORY_GROUP, values(records),
+                OrderEvent::getEventId, orderEventHandler::handleOrderCompleted);
+        finish(KafkaTopics.ORDER_COMPLETED, result, ack, OrderEvent::getOrderId);
     }
 
     /**
-     * 결제 실패 이벤트 처리 → 주문 취소.
+     * 결제 실패 이벤트 배치 처리 → 주문 취소.
      */
-    @KafkaListener(topics = KafkaTopics.PAYMENT_FAILED, groupId = "order-service-group")
-    public void handlePaymentFailed(ConsumerRecord<String, PaymentEvent> record, Acknowledgment ack) {
-        PaymentEvent event = record.value();
-        log.warn("[Consumer] 결제 실패 수신 → 주문 취소: orderId={}", event.getOrderId());
+    @KafkaListener(topics = KafkaTopics.PAYMENT_FAILED, groupId = ORDER_GROUP,
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handlePaymentFailed(List<ConsumerRecord<String, PaymentEvent>> records, Acknowledgment ack) {
+        Result<PaymentEvent> result = batchTransactionExecutor.executeOnce(ORDER_GROUP, values(records),
+                PaymentEvent::getEventId, orderEventHandler::handlePaymentFailed);
+        finish(KafkaTopics.PAYMENT_FAILED, result, ack, PaymentEvent::getOrderId);
+    }
+
+    private static <T> List<T> values(List<ConsumerRecord<String, T>> records) {
+        return records.stream()
+                .map(ConsumerRecord::value)
+                .filter(Objects::nonNull)
+                .toList();
+    }
 
-        try {
-            var order = orderService.getOrder(event.getOrderId());
-            order.changeStatus(com.example.mafiagame.order.domain.OrderStatus.CANCELLED);
-            ack.acknowledge();
-        } catch (Exception e) {
-            log.error("[Consumer] 주문 취소 처리 실패: orderId={}", event.getOrderId(), e);
-            throw e;
+    /**
+     * 배치 전체가 실패하면 (DB 장애 등) 예외를 던져 ErrorHandler 가 배치를 재시도하게 하고,
+     * 일부만 실패하면 실패 레코드를 재시도 토픽으로 보낸 뒤 배치 단위로 한 번 커밋한다.
+     */
+    private <T> void finish(String topic, Result<T> result, Acknowledgment ack, Function<T, String> keyOf) {
+        if (result.allFailed()) {
+            Exception cause = result.failures().get(0).exception();
+            log.error("[Consumer] 배치 전체 실패: topic={}, size={}", topic, result.total(), cause);
+            throw new IllegalStateException(topic + " 배치 처리 실패", cause);
         }
+        result.failures().forEach(failure -> failedRecordForwarder.forward(
+                topic, keyOf.apply(failure.item()), failure.item(), failure.exception()));
+
+        ack.acknowledge();
+        log.info("[Consumer] 배치 처리: topic={}, size={}, retried={}", topic, result.total(), result.failures().size());
     }
 }
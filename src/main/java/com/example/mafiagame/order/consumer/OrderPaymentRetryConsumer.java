@@ -0,0 +1,58 @@
+package com.example.mafiagame.order.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.example.mafiagame.kafka.config.KafkaTopics;
+import com.example.mafiagame.kafka.event.OrderEvent;
+import com.example.mafiagame.kafka.event.PaymentEvent;
+import com.example.mafiagame.kafka.support.BatchTransactionExecutor;
+import com.example.mafiagame.order.service.OrderEventHandler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문/결제 재시도 토픽 Kafka Consumer.
+ *
+ * <p>
+ * 본 토픽 배치에서 격리된 레코드를 레코드 단위로 재처리한다.
+ * 실패 시 retryKafkaListenerContainerFactory 의 지수 백오프로 재시도하고, 끝내 실패하면 원본 토픽의 DLT 로 보낸다.
+ * 본 토픽 리스너와 같은 컨슈머 이름으로 처리 기록을 남겨 이미 처리된 이벤트는 건너뛴다.
+ * </p>
+ */
+@Component
+@Profile("!test")
+@Slf4j
+@RequiredArgsConstructor
+public class OrderPaymentRetryConsumer {
+
+    private final OrderEventHandler orderEventHandler;
+    private final BatchTransactionExecutor batchTransactionExecutor;
+
+    @KafkaListener(topics = KafkaTopics.PAYMENT_COMPLETED_RETRY, groupId = "order-service-retry-group",
+            containerFactory = "retryKafkaListenerContainerFactory")
+    public void retryPaymentCompleted(ConsumerRecord<String, PaymentEvent> record) {
+        log.info("[Consumer] 결제 완료 재시도: orderId={}", record.key());
+        batchTransactionExecutor.executeRecordOnce(OrderPaymentConsumer.ORDER_GROUP, record.value(),
+                PaymentEvent::getEventId, orderEventHandler::handlePaymentCompleted);
+    }
+
+    @KafkaListener(topics = KafkaTopics.ORDER_COMPLETED_RETRY, groupId = "inventory-service-retry-group",
+            containerFactory = "retryKafkaListenerContainerFactory")
+    public void retryOrderCompleted(ConsumerRecord<String, OrderEvent> record) {
+        log.info("[Consumer] 아이템 지급 재시도: orderId={}", record.key());
+        batchTransactionExecutor.executeRecordOnce(OrderPaymentConsumer.INVENTORY_GROUP, record.value(),
+                OrderEvent::getEventId, orderEventHandler::handleOrderCompleted);
+    }
+
+    @KafkaListener(topics = KafkaTopics.PAYMENT_FAILED_RETRY, groupId = "order-service-retry-group",
+            containerFactory = "retryKafkaListenerContainerFactory")
+    public void retryPaymentFailed(ConsumerRecord<String, PaymentEvent> record) {
+        log.info("[Consumer] 주문 취소 재시도: orderId={}", record.key());
+        batchTransactionExecutor.executeRecordOnce(OrderPaymentConsumer.ORDER_GROUP, record.value(),
+                PaymentEvent::getEventId, orderEventHandler::handlePaymentFailed);
+    }
+}
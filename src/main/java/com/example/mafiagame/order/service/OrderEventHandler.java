@@ -0,0 +1,53 @@
+package com.example.mafiagame.order.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.mafiagame.inventory.service.InventoryService;
+import com.example.mafiagame.inventory.service.InventoryService.ItemGrant;
+import com.example.mafiagame.kafka.event.OrderEvent;
+import com.example.mafiagame.kafka.event.PaymentEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문/결제 이벤트 처리 로직.
+ *
+ * <p>
+ * 본 토픽 배치 리스너와 재시도 토픽 리스너가 같은 처리 로직을 사용한다.
+ * 배치 트랜잭션 안에서 호출되면 해당 트랜잭션에 참여한다.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderEventHandler {
+
+    private final OrderService orderService;
+    private final InventoryService inventoryService;
+
+    /**
+     * 결제 완료 → 주문 PAID → COMPLETED.
+     */
+    @Transactional
+    public void handlePaymentCompleted(PaymentEvent event) {
+        orderService.completePaidOrder(event.getOrderId());
+    }
+
+    /**
+     * 주문 완료 → 아이템 지급.
+     */
+    @Transactional
+    public void handleOrderCompleted(OrderEvent event) {
+        inventoryService.grantItems(event.getUserId(), event.getItems().stream()
+                .map(item -> new ItemGrant(item.getItemId(), item.getQuantity()))
+                .toList());
+    }
+
+    /**
+     * 결제 실패 → 주문 취소.
+     */
+    @Transactional
+    public void handlePaymentFailed(PaymentEvent event) {
+        orderService.cancelUnpaidOrder(event.getOrderId());
+    }
+}
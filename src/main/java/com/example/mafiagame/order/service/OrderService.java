@@ -3,14 +3,14 @@ package com.example.mafiagame.order.service;
 import java.util.List;
 import java.util.UUID;
 
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.mafiagame.inventory.domain.Item;
-import com.example.mafiagame.inventory.repository.ItemRepository;
+import com.example.mafiagame.inventory.service.ItemCatalogCache;
 import com.example.mafiagame.kafka.config.KafkaTopics;
 import com.example.mafiagame.kafka.event.OrderEvent;
+import com.example.mafiagame.kafka.outbox.OutboxEventPublisher;
 import com.example.mafiagame.order.domain.Order;
 import com.example.mafiagame.order.domain.OrderItem;
 import com.example.mafiagame.order.domain.OrderStatus;
@@ -34,9 +34,9 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderService {
 
     private final OrderRepository orderRepository;
-    private final ItemRepository itemRepository;
+    private final ItemCatalogCache itemCatalogCache;
     private final UsersRepository usersRepository;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     /**
      * 주문 생성.
@@ -54,7 +54,8 @@ public class OrderService {
         int totalAmount = 0;
 
         for (OrderCreateRequest.ItemRequest itemReq : request.getItems()) {
-            Item item = itemRepository.findById(itemReq.getItemId())
+            // 카탈로그 캐시의 분리(detached) 엔티티: OrderItem 은 item_id 참조만 저장
+            Item item = itemCatalogCache.find(itemReq.getItemId())
                     .orElseThrow(() -> new IllegalArgumentException("아이템을 찾을 수 없습니다: " + itemReq.getItemId()));
 
             if (!item.isActive()) {
@@ -75,8 +76,8 @@ public class OrderService {
         order.setTotalAmount(totalAmount);
         Order saved = orderRepository.save(order);
 
-        // Kafka 이벤트 발행
-        publishOrderEvent(saved, OrderEvent.EventType.ORDER_CREATED);
+        // Kafka 이벤트 발행 (merge 결과가 아닌 원본 주문 사용: 아이템 정보를 캐시 엔티티에서 읽어 지연 로딩 없음)
+        publishOrderEvent(order, OrderEvent.EventType.ORDER_CREATED);
 
         log.info("[주문 생성] orderId={}, userId={}, amount={}", saved.getOrderId(), userId, totalAmount);
         return saved;
@@ -110,6 +111,45 @@ public class OrderService {
         log.info("[주문 완료] orderId={}", orderId);
     }
 
+    /**
+     * 결제 완료 반영 (PENDING/PAID → PAID → COMPLETED, 배치 Consumer 가 호출).
+     *
+     * <p>이미 완료/취소/환불된 주문은 건너뛰므로 이벤트가 재전달되어도 아이템이 중복 지급되지 않는다.</p>
+     *
+     * @param orderId 주문 ID
+     * @return 이번 호출로 완료 처리되었으면 true
+     */
+    @Transactional
+    public boolean completePaidOrder(String orderId) {
+        Order order = getOrder(orderId);
+        if (order.getStatus() != OrderStatus.PENDING && order.getStatus() != OrderStatus.PAID) {
+            log.info("[주문 완료] 이미 처리된 주문 건너뜀: orderId={}, status={}", orderId, order.getStatus());
+            return false;
+        }
+        order.changeStatus(OrderStatus.PAID);
+        order.changeStatus(OrderStatus.COMPLETED);
+
+        publishOrderEvent(order, OrderEvent.EventType.ORDER_COMPLETED);
+        log.info("[주문 완료] orderId={}", orderId);
+        return true;
+    }
+
+    /**
+     * 결제 실패 반영 (결제 전 주문만 CANCELLED).
+     *
+     * @param orderId 주문 ID
+     */
+    @Transactional
+    public void cancelUnpaidOrder(String orderId) {
+        Order order = getOrder(orderId);
+        if (order.getStatus() != OrderStatus.PENDING) {
+            log.info("[주문 취소] 결제 대기 상태가 아니므로 건너뜀: orderId={}, status={}", orderId, order.getStatus());
+            return;
+        }
+        order.changeStatus(OrderStatus.CANCELLED);
+        log.info("[주문 취소] orderId={}", orderId);
+    }
+
     /**
      * 주문 환불 처리.
      *
@@ -141,7 +181,7 @@ public class OrderService {
     }
 
     /**
-     * 주문 이벤트를 Kafka로 발행한다.
+     * 주문 이벤트를 Kafka로 발행한다. (OutboxRelay 가 커밋된 이벤트만 전송)
      */
     private void publishOrderEvent(Order order, OrderEvent.EventType eventType) {
         List<OrderEvent.OrderItemInfo> itemInfos = order.getItems().stream()
@@ -169,7 +209,8 @@ public class OrderService {
             default -> KafkaTopics.ORDER_CREATED;
         };
 
-        kafkaTemplate.send(topic, order.getOrderId(), event);
-        log.debug("[Kafka 발행] topic={}, orderId={}", topic, order.getOrderId());
+        // 상태 변경과 같은 트랜잭션으로 아웃박스에 기록 (롤백되면 이벤트도 남지 않음)
+        outboxEventPublisher.publish(topic, order.getOrderId(), event);
+        log.debug("[Outbox 기록] topic={}, orderId={}", topic, order.getOrderId());
     }
 }
@@ -0,0 +1,88 @@
+package com.example.mafiagame.payment.client;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.example.mafiagame.payment.client.PaymentGatewayException.Outcome;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * PG 호출 계층.
+ *
+ * <p>
+ * TossPaymentClient 호출을 서킷 브레이커(가장 바깥) → 벌크헤드 → 전체 호출 타임아웃 순으로 감싸고,
+ * 실패를 PaymentGatewayException 의 Outcome(DECLINED / REJECTED / UNKNOWN)으로 변환한다.
+ * 결제 서비스는 Outcome 으로 결제 실패 확정 여부를 판단한다.
+ * </p>
+ */
+@Component
+@Slf4j
+public class PaymentGateway {
+
+    private final TossPaymentClient tossPaymentClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Duration callTimeout;
+
+    public PaymentGateway(TossPaymentClient tossPaymentClient, CircuitBreaker circuitBreaker, Bulkhead bulkhead,
+            @Value("${toss.payments.call-timeout-ms:8000}") long callTimeoutMs) {
+        this.tossPaymentClient = tossPaymentClient;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.callTimeout = Duration.ofMillis(callTimeoutMs);
+    }
+
+    public Mono<Map<String, Object>> confirm(String idempotencyKey, String paymentKey, String orderId,
+            Integer amount) {
+        return call("confirm", tossPaymentClient.confirmPayment(idempotencyKey, paymentKey, orderId, amount));
+    }
+
+    public Mono<Map<String, Object>> cancel(String idempotencyKey, String paymentKey, String cancelReason) {
+        return call("cancel", tossPaymentClient.cancelPayment(idempotencyKey, paymentKey, cancelReason));
+    }
+
+    public Mono<Map<String, Object>> inquire(String paymentKey) {
+        return call("inquire", tossPaymentClient.getPayment(paymentKey));
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private Mono<Map<String, Object>> call(String operation, Mono<Map<String, Object>> request) {
+        return request
+                .timeout(callTimeout)
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorMap(e -> translate(operation, e));
+    }
+
+    static PaymentGatewayException translate(String operation, Throwable e) {
+        if (e instanceof PaymentGatewayException gatewayException) {
+            return gatewayException;
+        }
+        if (e instanceof CallNotPermittedException || e instanceof BulkheadFullException) {
+            log.warn("[PG] 호출 차단: operation={}, reason={}", operation, e.getMessage());
+            return new PaymentGatewayException(Outcome.REJECTED, "PG 호출 차단: " + e.getMessage(), e);
+        }
+        if (e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError()) {
+            log.warn("[PG] 요청 거절: operation={}, status={}, body={}", operation, response.getStatusCode(),
+                    response.getResponseBodyAsString());
+            return new PaymentGatewayException(Outcome.DECLINED, "PG 요청 거절: " + response.getStatusCode(), e);
+        }
+        log.error("[PG] 결과 불명: operation={}, error={}", operation, e.toString());
+        return new PaymentGatewayException(Outcome.UNKNOWN, "PG 응답 실패: " + e.getMessage(), e);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.mafiagame.payment.client;
+
+import lombok.Getter;
+
+/**
+ * PG 호출 실패.
+ *
+ * <p>결과에 따라 결제 상태를 다르게 처리하므로 실패를 세 가지로 구분한다.</p>
+ */
+@Getter
+public class PaymentGatewayException extends RuntimeException {
+
+    private final Outcome outcome;
+
+    public PaymentGatewayException(Outcome outcome, String message, Throwable cause) {
+        super(message, cause);
+        this.outcome = outcome;
+    }
+
+    public enum Outcome {
+
+        /** PG 가 요청을 거절함 (4xx) → 결제 실패 확정. */
+        DECLINED,
+
+        /** 서킷 오픈/벌크헤드 포화로 호출하지 않음 → PG 에 요청이 가지 않았으므로 그대로 재시도 가능. */
+        REJECTED,
+
+        /** 타임아웃/5xx/연결 오류 → PG 처리 여부를 알 수 없음, 같은 Idempotency-Key 로 재시도해 확정. */
+        UNKNOWN
+    }
+}
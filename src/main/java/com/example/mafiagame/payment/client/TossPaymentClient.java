@@ -1,17 +1,24 @@
 package com.example.mafiagame.payment.client;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import jakarta.annotation.PostConstruct;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 /**
  * Toss Payments API 클라이언트.
@@ -19,78 +26,116 @@ import lombok.extern.slf4j.Slf4j;
  * <p>결제 승인, 취소 등 PG사 API를 호출한다.
  * Secret Key는 Basic Auth 헤더로 전달한다.</p>
  *
+ * <p>호출 결과는 Mono 로 돌려주며 스레드를 막지 않는다. (block 은 호출하는 쪽에서도 하지 않음)
+ * 전용 커넥션 풀(최대 연결 수, 연결 대기 큐/시간 제한)과 connect/response 타임아웃을 사용하고,
+ * 같은 요청을 다시 보내도 PG 가 한 번만 처리하도록 Idempotency-Key 헤더를 붙인다.
+ * 서킷 브레이커/벌크헤드는 PaymentGateway 가 담당한다.</p>
+ *
  * @see <a href="https://docs.tosspayments.com/reference">Toss Payments API 문서</a>
  */
 @Component
 @Slf4j
 public class TossPaymentClient {
 
-    @Value("${toss.payments.secret-key}")
-    private String secretKey;
-
-    @Value("${toss.payments.base-url}")
-    private String baseUrl;
+    private static final ParameterizedTypeReference<Map<String, Object>> RESPONSE_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
 
-    private WebClient webClient;
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
 
-    @PostConstruct
-    void init() {
+    public TossPaymentClient(
+            @Value("${toss.payments.secret-key}") String secretKey,
+            @Value("${toss.payments.base-url}") String baseUrl,
+            @Value("${toss.payments.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${toss.payments.response-timeout-ms:5000}") long responseTimeoutMs,
+            @Value("${toss.payments.pool.max-connections:50}") int maxConnections,
+            @Value("${toss.payments.pool.pending-acquire-max-count:100}") int pendingAcquireMaxCount,
+            @Value("${toss.payments.pool.pending-acquire-timeout-ms:1000}") long pendingAcquireTimeoutMs,
+            @Value("${toss.payments.pool.max-idle-time-ms:30000}") long maxIdleTimeMs) {
         String encoded = Base64.getEncoder()
                 .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
 
+        this.connectionProvider = ConnectionProvider.builder("toss-payments")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
         this.webClient = WebClient.builder()
                 .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.AUTHORIZATION, "Basic " + encoded)
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
 
+    @PreDestroy
+    void shutdown() {
+        connectionProvider.dispose();
+    }
+
     /**
      * 결제 승인 API 호출.
      *
-     * @param paymentKey PG사 결제 키
-     * @param orderId    주문 ID
-     * @param amount     결제 금액
+     * @param idempotencyKey 재요청 시에도 같은 값 (결제 예약 ID)
+     * @param paymentKey     PG사 결제 키
+     * @param orderId        주문 ID
+     * @param amount         결제 금액
      * @return PG사 응답 (JSON Map)
      */
-    public Map<String, Object> confirmPayment(String paymentKey, String orderId, Integer amount) {
-        log.info("[Toss] 결제 승인 요청: paymentKey={}, orderId={}, amount={}", paymentKey, orderId, amount);
-
-        @SuppressWarnings("unchecked")
-        Map<String, Object> response = webClient.post()
+    public Mono<Map<String, Object>> confirmPayment(String idempotencyKey, String paymentKey, String orderId,
+            Integer amount) {
+        return webClient.post()
                 .uri("/payments/confirm")
+                .header("Idempotency-Key", idempotencyKey)
                 .bodyValue(Map.of(
                         "paymentKey", paymentKey,
                         "orderId", orderId,
                         "amount", amount))
                 .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        log.info("[Toss] 결제 승인 응답: orderId={}, status={}", orderId,
-                response != null ? response.get("status") : "null");
-        return response;
+                .bodyToMono(RESPONSE_TYPE)
+                .doOnSubscribe(subscription -> log.info("[Toss] 결제 승인 요청: paymentKey={}, orderId={}, amount={}",
+                        paymentKey, orderId, amount))
+                .doOnNext(response -> log.info("[Toss] 결제 승인 응답: orderId={}, status={}",
+                        orderId, response.get("status")));
     }
 
     /**
      * 결제 취소(환불) API 호출.
      *
-     * @param paymentKey   PG사 결제 키
-     * @param cancelReason 취소 사유
+     * @param idempotencyKey 재요청 시에도 같은 값
+     * @param paymentKey     PG사 결제 키
+     * @param cancelReason   취소 사유
      * @return PG사 응답 (JSON Map)
      */
-    public Map<String, Object> cancelPayment(String paymentKey, String cancelReason) {
-        log.info("[Toss] 결제 취소 요청: paymentKey={}", paymentKey);
-
-        @SuppressWarnings("unchecked")
-        Map<String, Object> response = webClient.post()
+    public Mono<Map<String, Object>> cancelPayment(String idempotencyKey, String paymentKey, String cancelReason) {
+        return webClient.post()
                 .uri("/payments/{paymentKey}/cancel", paymentKey)
+                .header("Idempotency-Key", idempotencyKey)
                 .bodyValue(Map.of("cancelReason", cancelReason))
                 .retrieve()
-                .bodyToMono(Map.class)
-                .block();
+                .bodyToMono(RESPONSE_TYPE)
+                .doOnSubscribe(subscription -> log.info("[Toss] 결제 취소 요청: paymentKey={}", paymentKey))
+                .doOnNext(response -> log.info("[Toss] 결제 취소 응답: paymentKey={}", paymentKey));
+    }
 
-        log.info("[Toss] 결제 취소 응답: paymentKey={}", paymentKey);
-        return response;
+    /**
+     * 결제 조회 API 호출 (결과 불명으로 남은 결제의 PG 측 상태 확인).
+     *
+     * @param paymentKey PG사 결제 키
+     * @return PG사 응답 (JSON Map, status 에 DONE/ABORTED/EXPIRED 등)
+     */
+    public Mono<Map<String, Object>> getPayment(String paymentKey) {
+        return webClient.get()
+                .uri("/payments/{paymentKey}", paymentKey)
+                .retrieve()
+                .bodyToMono(RESPONSE_TYPE)
+                .doOnNext(response -> log.info("[Toss] 결제 조회 응답: paymentKey={}, status={}",
+                        paymentKey, response.get("status")));
     }
 }
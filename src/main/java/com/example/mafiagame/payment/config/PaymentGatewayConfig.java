@@ -0,0 +1,79 @@
+package com.example.mafiagame.payment.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * PG 호출 서킷 브레이커 / 벌크헤드 설정.
+ *
+ * <p>
+ * 서킷 브레이커는 타임아웃/5xx/연결 오류와 느린 호출 비율로 열리고, PG 의 4xx(카드 거절 등)와
+ * 벌크헤드 포화는 PG 장애가 아니므로 실패로 세지 않는다.
+ * 벌크헤드는 PG 에 동시에 나가는 호출 수를 제한해 PG 지연 시 대기 요청이 쌓이지 않게 한다.
+ * 상태/호출 수는 resilience4j_circuitbreaker_*, resilience4j_bulkhead_* 메트릭으로 노출된다.
+ * </p>
+ */
+@Configuration
+public class PaymentGatewayConfig {
+
+    public static final String TOSS_PAYMENTS = "tossPayments";
+
+    @Bean
+    public CircuitBreaker tossPaymentsCircuitBreaker(MeterRegistry meterRegistry,
+            @Value("${toss.payments.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${toss.payments.circuit-breaker.slow-call-duration-ms:3000}") long slowCallDurationMs,
+            @Value("${toss.payments.circuit-breaker.slow-call-rate-threshold:80}") float slowCallRateThreshold,
+            @Value("${toss.payments.circuit-breaker.sliding-window-size:50}") int slidingWindowSize,
+            @Value("${toss.payments.circuit-breaker.minimum-number-of-calls:20}") int minimumNumberOfCalls,
+            @Value("${toss.payments.circuit-breaker.wait-in-open-ms:10000}") long waitInOpenMs,
+            @Value("${toss.payments.circuit-breaker.half-open-calls:5}") int halfOpenCalls) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallDurationMs))
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(Duration.ofMillis(waitInOpenMs))
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .recordException(PaymentGatewayConfig::isGatewayFailure)
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry.circuitBreaker(TOSS_PAYMENTS);
+    }
+
+    @Bean
+    public Bulkhead tossPaymentsBulkhead(MeterRegistry meterRegistry,
+            @Value("${toss.payments.bulkhead.max-concurrent-calls:40}") int maxConcurrentCalls) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry.bulkhead(TOSS_PAYMENTS);
+    }
+
+    /**
+     * PG 장애로 볼 실패인지 (4xx 는 요청 자체의 문제이므로 제외)
+     */
+    static boolean isGatewayFailure(Throwable e) {
+        return !(e instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError());
+    }
+}
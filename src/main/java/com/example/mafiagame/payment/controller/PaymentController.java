@@ -8,17 +8,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.example.mafiagame.payment.domain.Payment;
+import com.example.mafiagame.payment.dto.PaymentResponse;
 import com.example.mafiagame.payment.service.PaymentService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
 
 /**
  * 결제 REST API 컨트롤러.
  *
  * <p>Toss Payments successUrl에서 리다이렉트된 요청을 처리한다.</p>
+ *
+ * <p>PG 응답을 기다리는 동안 서블릿 스레드를 반납하도록 Mono 를 반환한다. (비동기 요청 처리)</p>
  */
 @RestController
 @RequestMapping("/api/payments")
@@ -36,13 +39,13 @@ public class PaymentController {
      */
     @PostMapping("/confirm")
     @Operation(summary = "결제 승인", description = "PG사 결제를 최종 승인합니다.")
-    public ResponseEntity<Payment> confirmPayment(@RequestBody Map<String, Object> request) {
+    public Mono<ResponseEntity<PaymentResponse>> confirmPayment(@RequestBody Map<String, Object> request) {
         String paymentKey = (String) request.get("paymentKey");
         String orderId = (String) request.get("orderId");
         Integer amount = (Integer) request.get("amount");
 
-        Payment payment = paymentService.confirmPayment(paymentKey, orderId, amount);
-        return ResponseEntity.ok(payment);
+        return paymentService.confirmPayment(paymentKey, orderId, amount)
+                .map(ResponseEntity::ok);
     }
 
     /**
@@ -50,8 +53,8 @@ public class PaymentController {
      */
     @PostMapping("/cancel")
     @Operation(summary = "결제 취소", description = "승인된 결제를 취소(환불)합니다.")
-    public ResponseEntity<Void> cancelPayment(@RequestBody Map<String, String> request) {
-        paymentService.cancelPayment(request.get("orderId"), request.get("cancelReason"));
-        return ResponseEntity.ok().build();
+    public Mono<ResponseEntity<Void>> cancelPayment(@RequestBody Map<String, String> request) {
+        return paymentService.cancelPayment(request.get("orderId"), request.get("cancelReason"))
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok().<Void>build()));
     }
 }
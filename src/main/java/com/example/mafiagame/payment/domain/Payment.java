@@ -29,7 +29,8 @@ import lombok.Setter;
 @Entity
 @Table(name = "payments", indexes = {
         @Index(name = "idx_payment_order", columnList = "order_id"),
-        @Index(name = "idx_payment_settled", columnList = "settled, approvedAt")
+        @Index(name = "idx_payment_settled", columnList = "settled, approvedAt"),
+        @Index(name = "idx_payment_status_created", columnList = "status, createdAt")
 })
 @Getter
 @Setter
@@ -63,6 +64,10 @@ public class Payment {
     @Builder.Default
     private PaymentStatus status = PaymentStatus.READY;
 
+    /** 결제 예약 시각 (결과 불명으로 남은 READY 결제 대사 기준, 이전 데이터는 null). */
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
     /** PG 승인 시각. */
     private LocalDateTime approvedAt;
 
@@ -5,12 +5,15 @@ package com.example.mafiagame.payment.domain;
  */
 public enum PaymentStatus {
 
-    /** 결제 준비 중 (PG 승인 전). */
+    /** 결제 준비 중 (PG 승인 전, 승인 결과가 불명확하면 같은 paymentKey 로 재시도할 때까지 유지). */
     READY,
 
     /** PG 결제 승인 완료. */
     DONE,
 
+    /** PG 승인 거절. */
+    FAILED,
+
     /** 결제 취소/환불. */
     CANCELLED
 }
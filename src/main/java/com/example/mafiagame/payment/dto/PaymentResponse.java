@@ -0,0 +1,23 @@
+package com.example.mafiagame.payment.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.mafiagame.payment.domain.Payment;
+import com.example.mafiagame.payment.domain.PaymentStatus;
+
+/**
+ * 결제 결과 응답 (엔티티의 지연 로딩 연관을 직렬화하지 않도록 필요한 값만 전달)
+ */
+public record PaymentResponse(
+        String paymentId,
+        String orderId,
+        Integer amount,
+        String method,
+        PaymentStatus status,
+        LocalDateTime approvedAt) {
+
+    public static PaymentResponse from(Payment payment) {
+        return new PaymentResponse(payment.getPaymentId(), payment.getOrder().getOrderId(), payment.getAmount(),
+                payment.getMethod(), payment.getStatus(), payment.getApprovedAt());
+    }
+}
@@ -1,15 +1,21 @@
 package com.example.mafiagame.payment.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.mafiagame.payment.domain.Payment;
 import com.example.mafiagame.payment.domain.PaymentStatus;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * 결제 JPA 리포지토리.
  */
@@ -20,6 +26,22 @@ public interface PaymentRepository extends JpaRepository<Payment, String> {
      */
     Optional<Payment> findByOrder_OrderId(String orderId);
 
+    /**
+     * PG 결과 반영 시 결제 행 잠금 조회 (같은 결제의 동시 확정/취소 직렬화).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.paymentId = :paymentId")
+    Optional<Payment> findByIdForUpdate(@Param("paymentId") String paymentId);
+
+    /**
+     * 예약 후 일정 시간이 지나도 확정되지 않은 결제 조회 (PaymentReconciler 용, 예약 시각이 없는 이전 데이터 포함).
+     */
+    @Query("SELECT p FROM Payment p JOIN FETCH p.order "
+            + "WHERE p.status = :status AND (p.createdAt IS NULL OR p.createdAt < :before) "
+            + "ORDER BY p.createdAt")
+    List<Payment> findStale(@Param("status") PaymentStatus status, @Param("before") LocalDateTime before,
+            Pageable pageable);
+
     /**
      * 미정산 + 승인 완료 건 페이징 조회 (Batch Reader용).
      */
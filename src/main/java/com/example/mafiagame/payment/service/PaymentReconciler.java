@@ -0,0 +1,107 @@
+package com.example.mafiagame.payment.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.mafiagame.payment.domain.Payment;
+import com.example.mafiagame.payment.domain.PaymentStatus;
+import com.example.mafiagame.payment.repository.PaymentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 결과 불명 결제 대사.
+ *
+ * <p>
+ * PG 호출이 차단/결과 불명(REJECTED, UNKNOWN)으로 끝난 결제는 READY 로 남고, 클라이언트가 재요청해야 확정된다.
+ * 재요청이 오지 않아도 PG 가 승인한 결제가 READY 로 남지 않도록, 예약 후 stale-after-minutes 가 지난
+ * READY 결제를 PG 에 조회해 완료/실패로 확정한다. (PaymentService.reconcile)
+ * </p>
+ *
+ * <p>
+ * 같은 결제를 여러 노드가 동시에 조회하지 않도록 Redisson 락을 잡은 노드 하나만 실행한다.
+ * 확정은 결제 행 잠금 후 READY 일 때만 반영하므로 같은 시점의 클라이언트 재요청과도 한 번만 반영된다.
+ * </p>
+ */
+@Component
+@Profile("!test")
+@Slf4j
+public class PaymentReconciler {
+
+    private static final String RECONCILE_LOCK_KEY = "lock:payment:reconcile";
+
+    private final PaymentRepository paymentRepository;
+    private final PaymentService paymentService;
+    private final RedissonClient redissonClient;
+    private final Duration staleAfter;
+    private final int batchSize;
+    private final Duration runTimeout;
+
+    public PaymentReconciler(
+            PaymentRepository paymentRepository,
+            PaymentService paymentService,
+            RedissonClient redissonClient,
+            @Value("${mafiagame.payment.reconcile.stale-after-minutes:10}") long staleAfterMinutes,
+            @Value("${mafiagame.payment.reconcile.batch-size:100}") int batchSize,
+            @Value("${mafiagame.payment.reconcile.run-timeout-ms:60000}") long runTimeoutMillis) {
+        this.paymentRepository = paymentRepository;
+        this.paymentService = paymentService;
+        this.redissonClient = redissonClient;
+        this.staleAfter = Duration.ofMinutes(staleAfterMinutes);
+        this.batchSize = batchSize;
+        this.runTimeout = Duration.ofMillis(runTimeoutMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${mafiagame.payment.reconcile.poll-delay-ms:60000}")
+    public void reconcile() {
+        RLock lock = redissonClient.getLock(RECONCILE_LOCK_KEY);
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            reconcileStale();
+        } catch (Exception e) {
+            log.error("[결제 대사] 실패", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 오래된 READY 결제 한 배치를 PG 조회 결과로 확정 (PG 부하를 막기 위해 한 건씩 순서대로 조회)
+     *
+     * @return 완료/실패로 확정된 결제 수
+     */
+    int reconcileStale() {
+        List<Payment> stale = paymentRepository.findStale(PaymentStatus.READY,
+                LocalDateTime.now().minus(staleAfter), PageRequest.of(0, batchSize));
+        if (stale.isEmpty()) {
+            return 0;
+        }
+
+        Long settled = Flux.fromIterable(stale)
+                .concatMap(payment -> paymentService.reconcile(payment.getPaymentId(), payment.getPgPaymentKey())
+                        .onErrorResume(e -> {
+                            log.error("[결제 대사] 확정 실패: paymentId={}", payment.getPaymentId(), e);
+                            return Mono.just(PaymentStatus.READY);
+                        }))
+                .filter(status -> status != PaymentStatus.READY)
+                .count()
+                .block(runTimeout);
+        log.info("[결제 대사] 대상={}, 확정={}", stale.size(), settled);
+        return settled == null ? 0 : settled.intValue();
+    }
+}
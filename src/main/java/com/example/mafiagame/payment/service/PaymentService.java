@@ -2,39 +2,69 @@ package com.example.mafiagame.payment.service;
 
 import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import com.example.mafiagame.global.error.CommonException;
+import com.example.mafiagame.global.error.ErrorCode;
 import com.example.mafiagame.kafka.config.KafkaTopics;
 import com.example.mafiagame.kafka.event.PaymentEvent;
+import com.example.mafiagame.kafka.outbox.OutboxEventPublisher;
 import com.example.mafiagame.order.domain.Order;
 import com.example.mafiagame.order.repository.OrderRepository;
-import com.example.mafiagame.payment.client.TossPaymentClient;
+import com.example.mafiagame.payment.client.PaymentGateway;
+import com.example.mafiagame.payment.client.PaymentGatewayException;
 import com.example.mafiagame.payment.domain.Payment;
 import com.example.mafiagame.payment.domain.PaymentStatus;
+import com.example.mafiagame.payment.dto.PaymentResponse;
 import com.example.mafiagame.payment.repository.PaymentRepository;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * 결제 서비스.
  *
  * <p>Toss Payments API를 호출하여 결제 승인/취소를 처리하고,
- * 결과를 Kafka 이벤트로 발행한다.</p>
+ * 결과를 Kafka 이벤트로 발행한다. (아웃박스에 기록 후 OutboxRelay 가 전송)</p>
+ *
+ * <p>PG 호출 동안 DB 커넥션을 잡지 않도록 예약 → PG 호출 → 확정 세 단계로 나눈다.
+ * 예약/확정은 각각 짧은 트랜잭션으로 boundedElastic 스레드에서 실행하고,
+ * PG 호출은 논블로킹으로 진행되어 요청 스레드도 응답을 기다리며 점유되지 않는다.</p>
+ *
+ * <ul>
+ *   <li>PG 거절(DECLINED): 결제 FAILED + 결제 실패 이벤트 → 주문 취소</li>
+ *   <li>차단/결과 불명(REJECTED, UNKNOWN): 결제를 READY 로 두고 503 응답. 같은 paymentKey 로 재요청하면
+ *       같은 예약으로 PG 를 다시 호출하고, Idempotency-Key(결제 ID) 덕분에 PG 는 한 번만 승인한다.
+ *       재요청이 오지 않으면 PaymentReconciler 가 PG 조회 결과로 완료/실패를 확정한다.</li>
+ * </ul>
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
-    private final TossPaymentClient tossPaymentClient;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final PaymentGateway paymentGateway;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public PaymentService(PaymentRepository paymentRepository, OrderRepository orderRepository,
+            PaymentGateway paymentGateway, OutboxEventPublisher outboxEventPublisher,
+            PlatformTransactionManager transactionManager) {
+        this.paymentRepository = paymentRepository;
+        this.orderRepository = orderRepository;
+        this.paymentGateway = paymentGateway;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * PG 결제 승인 처리.
@@ -45,88 +75,205 @@ public class PaymentService {
      * @param paymentKey PG사 결제 키
      * @param orderId    주문 ID
      * @param amount     결제 금액
-     * @return 저장된 Payment 엔티티
+     * @return 승인된 결제
      */
-    @Transactional
-    public Payment confirmPayment(String paymentKey, String orderId, Integer amount) {
-        // 주문 검증
-        Order order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다: " + orderId));
-
-        if (!order.getTotalAmount().equals(amount)) {
-            throw new IllegalArgumentException("결제 금액이 주문 금액과 일치하지 않습니다.");
-        }
+    public Mono<PaymentResponse> confirmPayment(String paymentKey, String orderId, Integer amount) {
+        return Mono.fromCallable(() -> reserve(paymentKey, orderId, amount))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(paymentId -> paymentGateway.confirm(paymentId, paymentKey, orderId, amount)
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(response -> completeConfirm(paymentId, response))
+                        .onErrorMap(PaymentGatewayException.class, e -> failConfirm(paymentId, orderId, e)));
+    }
 
-        // 중복 결제 방지
-        if (paymentRepository.findByOrder_OrderId(orderId).isPresent()) {
-            throw new IllegalStateException("이미 결제된 주문입니다: " + orderId);
-        }
+    /**
+     * 결제 취소(환불) 처리.
+     *
+     * @param orderId      주문 ID
+     * @param cancelReason 취소 사유
+     */
+    public Mono<Void> cancelPayment(String orderId, String cancelReason) {
+        String reason = cancelReason != null ? cancelReason : "고객 요청";
+        return Mono.fromCallable(() -> findCancellable(orderId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(payment -> paymentGateway.cancel("cancel-" + payment.getPaymentId(),
+                                payment.getPgPaymentKey(), reason)
+                        .publishOn(Schedulers.boundedElastic())
+                        .doOnNext(response -> completeCancel(payment.getPaymentId(), reason))
+                        .onErrorMap(PaymentGatewayException.class, e -> {
+                            log.warn("[결제 취소 실패] orderId={}, outcome={}", orderId, e.getOutcome());
+                            return toCommonException(e);
+                        }))
+                .then();
+    }
 
+    /**
+     * 결제 예약 (주문/금액 검증 후 READY 결제 생성, 결과 불명으로 남은 같은 paymentKey 예약은 재사용).
+     *
+     * @return 결제 ID (PG Idempotency-Key 로 사용)
+     */
+    private String reserve(String paymentKey, String orderId, Integer amount) {
         try {
-            // PG 결제 승인 API 호출
-            Map<String, Object> pgResponse = tossPaymentClient.confirmPayment(paymentKey, orderId, amount);
-
-            String paymentId = "PAY_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
-            Payment payment = Payment.builder()
-                    .paymentId(paymentId)
-                    .order(order)
-                    .pgPaymentKey(paymentKey)
-                    .method(pgResponse != null ? (String) pgResponse.get("method") : "UNKNOWN")
-                    .amount(amount)
-                    .status(PaymentStatus.DONE)
-                    .approvedAt(LocalDateTime.now())
-                    .build();
-
-            Payment saved = paymentRepository.save(payment);
-
-            // Kafka: 결제 완료 이벤트 발행
-            publishPaymentEvent(saved, PaymentEvent.EventType.PAYMENT_COMPLETED);
-
-            log.info("[결제 승인] paymentId={}, orderId={}, amount={}", paymentId, orderId, amount);
-            return saved;
-
-        } catch (Exception e) {
-            log.error("[결제 실패] orderId={}, error={}", orderId, e.getMessage(), e);
-
-            // Kafka: 결제 실패 이벤트 발행
-            PaymentEvent failEvent = PaymentEvent.builder()
-                    .eventId(UUID.randomUUID().toString())
-                    .orderId(orderId)
-                    .userId(order.getUser().getUserLoginId())
-                    .eventType(PaymentEvent.EventType.PAYMENT_FAILED)
-                    .amount(amount)
-                    .build();
-            kafkaTemplate.send(KafkaTopics.PAYMENT_FAILED, orderId, failEvent);
-
-            throw new RuntimeException("결제 승인 실패: " + e.getMessage(), e);
+            return transactionTemplate.execute(status -> {
+                // 주문 검증
+                Order order = orderRepository.findById(orderId)
+                        .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다: " + orderId));
+
+                if (!order.getTotalAmount().equals(amount)) {
+                    throw new IllegalArgumentException("결제 금액이 주문 금액과 일치하지 않습니다.");
+                }
+
+                // 중복 결제 방지 (order_id 유니크 키가 동시 예약도 막음)
+                Payment existing = paymentRepository.findByOrder_OrderId(orderId).orElse(null);
+                if (existing != null) {
+                    if (existing.getStatus() == PaymentStatus.READY
+                            && Objects.equals(paymentKey, existing.getPgPaymentKey())) {
+                        log.info("[결제 재시도] 결과 불명 예약 재사용: paymentId={}, orderId={}",
+                                existing.getPaymentId(), orderId);
+                        return existing.getPaymentId();
+                    }
+                    throw ErrorCode.PAYMENT_ALREADY_PROCESSED.commonException();
+                }
+
+                String paymentId = "PAY_" + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+                paymentRepository.saveAndFlush(Payment.builder()
+                        .paymentId(paymentId)
+                        .order(order)
+                        .pgPaymentKey(paymentKey)
+                        .amount(amount)
+                        .status(PaymentStatus.READY)
+                        .build());
+                return paymentId;
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw ErrorCode.PAYMENT_ALREADY_PROCESSED.commonException();
         }
     }
 
     /**
-     * 결제 취소(환불) 처리.
+     * PG 승인 결과 반영 + 결제 완료 이벤트 (재시도로 이미 확정된 결제면 그대로 반환).
+     */
+    private PaymentResponse completeConfirm(String paymentId, Map<String, Object> pgResponse) {
+        return transactionTemplate.execute(status -> {
+            Payment payment = paymentRepository.findByIdForUpdate(paymentId).orElseThrow();
+            if (payment.getStatus() == PaymentStatus.READY) {
+                payment.setMethod(pgResponse.get("method") instanceof String method ? method : "UNKNOWN");
+                payment.setStatus(PaymentStatus.DONE);
+                payment.setApprovedAt(LocalDateTime.now());
+
+                // Kafka: 결제 완료 이벤트 발행
+                publishPaymentEvent(payment, PaymentEvent.EventType.PAYMENT_COMPLETED);
+                log.info("[결제 승인] paymentId={}, orderId={}, amount={}",
+                        paymentId, payment.getOrder().getOrderId(), payment.getAmount());
+            }
+            return PaymentResponse.from(payment);
+        });
+    }
+
+    /**
+     * PG 호출 실패 처리 (거절만 결제 실패로 확정).
+     */
+    private CommonException failConfirm(String paymentId, String orderId, PaymentGatewayException e) {
+        if (e.getOutcome() != PaymentGatewayException.Outcome.DECLINED) {
+            log.warn("[결제 보류] 재시도 대기: paymentId={}, orderId={}, outcome={}", paymentId, orderId, e.getOutcome());
+            return toCommonException(e);
+        }
+        log.error("[결제 실패] paymentId={}, orderId={}, error={}", paymentId, orderId, e.getMessage());
+        failReady(paymentId);
+        return toCommonException(e);
+    }
+
+    /**
+     * READY 결제를 실패로 확정 + 결제 실패 이벤트 (이미 확정된 결제면 그대로 둔다).
      *
-     * @param orderId      주문 ID
-     * @param cancelReason 취소 사유
+     * @return 확정 후 결제 상태
+     */
+    private PaymentStatus failReady(String paymentId) {
+        return transactionTemplate.execute(status -> {
+            Payment payment = paymentRepository.findByIdForUpdate(paymentId).orElseThrow();
+            if (payment.getStatus() == PaymentStatus.READY) {
+                payment.setStatus(PaymentStatus.FAILED);
+
+                // Kafka: 결제 실패 이벤트 발행 → 주문 취소
+                publishPaymentEvent(payment, PaymentEvent.EventType.PAYMENT_FAILED);
+            }
+            return payment.getStatus();
+        });
+    }
+
+    /**
+     * 결과 불명으로 남은 READY 결제를 PG 조회 결과로 확정 (PaymentReconciler 가 주기적으로 호출).
+     *
+     * <ul>
+     *   <li>PG 승인 완료(DONE): 결제 완료 + 결제 완료 이벤트</li>
+     *   <li>승인 전에 끝남(ABORTED, EXPIRED, CANCELED) 또는 PG 에 없는 결제(404): 결제 실패 + 결제 실패 이벤트</li>
+     *   <li>그 밖의 상태나 PG 에 닿지 못함: READY 로 두고 다음 주기에 다시 조회</li>
+     * </ul>
+     *
+     * @return 대사 후 결제 상태
      */
-    @Transactional
-    public void cancelPayment(String orderId, String cancelReason) {
+    public Mono<PaymentStatus> reconcile(String paymentId, String paymentKey) {
+        return paymentGateway.inquire(paymentKey)
+                .publishOn(Schedulers.boundedElastic())
+                .map(response -> switch (String.valueOf(response.get("status"))) {
+                    case "DONE" -> completeConfirm(paymentId, response).status();
+                    case "ABORTED", "EXPIRED", "CANCELED" -> {
+                        log.warn("[결제 대사] PG 미승인 결제 실패 처리: paymentId={}, pgStatus={}",
+                                paymentId, response.get("status"));
+                        yield failReady(paymentId);
+                    }
+                    default -> {
+                        log.info("[결제 대사] PG 처리 중, 다음 주기에 재조회: paymentId={}, pgStatus={}",
+                                paymentId, response.get("status"));
+                        yield PaymentStatus.READY;
+                    }
+                })
+                .onErrorResume(PaymentGatewayException.class, e -> {
+                    if (e.getCause() instanceof WebClientResponseException.NotFound) {
+                        log.warn("[결제 대사] PG 에 없는 결제 실패 처리: paymentId={}", paymentId);
+                        return Mono.fromCallable(() -> failReady(paymentId))
+                                .subscribeOn(Schedulers.boundedElastic());
+                    }
+                    log.warn("[결제 대사] PG 조회 실패, 다음 주기에 재조회: paymentId={}, outcome={}",
+                            paymentId, e.getOutcome());
+                    return Mono.just(PaymentStatus.READY);
+                });
+    }
+
+    private Payment findCancellable(String orderId) {
         Payment payment = paymentRepository.findByOrder_OrderId(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("결제 정보를 찾을 수 없습니다: " + orderId));
+        if (payment.getStatus() != PaymentStatus.DONE) {
+            throw ErrorCode.PAYMENT_NOT_CANCELLABLE.commonException();
+        }
+        return payment;
+    }
 
-        // PG 취소 API 호출
-        tossPaymentClient.cancelPayment(payment.getPgPaymentKey(), cancelReason);
-
-        payment.setStatus(PaymentStatus.CANCELLED);
-        paymentRepository.save(payment);
+    /**
+     * PG 취소 결과 반영 + 결제 취소 이벤트 (동시에 들어온 취소는 한 번만 반영).
+     */
+    private void completeCancel(String paymentId, String cancelReason) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Payment payment = paymentRepository.findByIdForUpdate(paymentId).orElseThrow();
+            if (payment.getStatus() != PaymentStatus.DONE) {
+                return;
+            }
+            payment.setStatus(PaymentStatus.CANCELLED);
 
-        // Kafka: 결제 취소 이벤트 발행
-        publishPaymentEvent(payment, PaymentEvent.EventType.PAYMENT_CANCELLED);
+            // Kafka: 결제 취소 이벤트 발행
+            publishPaymentEvent(payment, PaymentEvent.EventType.PAYMENT_CANCELLED);
+            log.info("[결제 취소] orderId={}, reason={}", payment.getOrder().getOrderId(), cancelReason);
+        });
+    }
 
-        log.info("[결제 취소] orderId={}, reason={}", orderId, cancelReason);
+    private static CommonException toCommonException(PaymentGatewayException e) {
+        return e.getOutcome() == PaymentGatewayException.Outcome.DECLINED
+                ? ErrorCode.PAYMENT_DECLINED.commonException()
+                : ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE.commonException();
     }
 
     /**
-     * 결제 이벤트를 Kafka로 발행한다.
+     * 결제 이벤트를 같은 트랜잭션의 아웃박스에 기록한다.
      */
     private void publishPaymentEvent(Payment payment, PaymentEvent.EventType eventType) {
         PaymentEvent event = PaymentEvent.builder()
@@ -146,6 +293,6 @@ public class PaymentService {
             case PAYMENT_CANCELLED -> KafkaTopics.PAYMENT_CANCELLED;
         };
 
-        kafkaTemplate.send(topic, payment.getOrder().getOrderId(), event);
+        outboxEventPublisher.publish(topic, payment.getOrder().getOrderId(), event);
     }
 }
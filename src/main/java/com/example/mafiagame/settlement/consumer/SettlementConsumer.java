@@ -0,0 +1,71 @@
+package com.example.mafiagame.settlement.consumer;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.annotation.Profile;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.example.mafiagame.kafka.config.KafkaTopics;
+import com.example.mafiagame.kafka.event.PaymentEvent;
+import com.example.mafiagame.kafka.support.BatchTransactionExecutor;
+import com.example.mafiagame.settlement.service.HourlySettlementService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 증분 정산 Kafka Consumer.
+ *
+ * <p>
+ * 결제 완료/취소 이벤트를 배치 단위로 받아 시간 단위 정산 버킷에 누적한다.
+ * 처리 기록과 버킷 갱신을 한 트랜잭션으로 반영하므로 재전달된 이벤트는 다시 합산되지 않는다.
+ * 실패 시 배치 전체가 재시도되고, 재시도까지 실패하면 DLT 로 보낸다.
+ * </p>
+ */
+@Component
+@Profile("!test")
+@Slf4j
+@RequiredArgsConstructor
+public class SettlementConsumer {
+
+    private static final String GROUP_ID = "settlement-service-group";
+
+    private final HourlySettlementService hourlySettlementService;
+    private final BatchTransactionExecutor batchTransactionExecutor;
+
+    /**
+     * 결제 완료 이벤트 배치 처리 → 승인 시각 버킷에 매출 누적.
+     */
+    @KafkaListener(topics = KafkaTopics.PAYMENT_COMPLETED, groupId = GROUP_ID,
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handlePaymentCompleted(List<ConsumerRecord<String, PaymentEvent>> records, Acknowledgment ack) {
+        int applied = batchTransactionExecutor.executeBatchOnce(GROUP_ID, values(records), PaymentEvent::getEventId,
+                events -> hourlySettlementService.settleCompleted(
+                        events.stream().map(PaymentEvent::getPaymentId).toList()));
+        ack.acknowledge();
+        log.debug("[Consumer] 결제 완료 정산 반영: records={}, applied={}", records.size(), applied);
+    }
+
+    /**
+     * 결제 취소 이벤트 배치 처리 → 취소 시각 버킷에 환불 누적.
+     */
+    @KafkaListener(topics = KafkaTopics.PAYMENT_CANCELLED, groupId = GROUP_ID,
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void handlePaymentCancelled(List<ConsumerRecord<String, PaymentEvent>> records, Acknowledgment ack) {
+        int applied = batchTransactionExecutor.executeBatchOnce(GROUP_ID, values(records), PaymentEvent::getEventId,
+                hourlySettlementService::recordRefunds);
+        ack.acknowledge();
+        log.debug("[Consumer] 결제 취소 정산 반영: records={}, applied={}", records.size(), applied);
+    }
+
+    private static List<PaymentEvent> values(List<ConsumerRecord<String, PaymentEvent>> records) {
+        return records.stream()
+                .map(ConsumerRecord::value)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.mafiagame.settlement.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.mafiagame.global.dto.CommonResponse;
+import com.example.mafiagame.settlement.dto.IntradayRevenueResponse;
+import com.example.mafiagame.settlement.service.HourlySettlementService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정산 관리자 API 컨트롤러 (ADMIN 권한 필요).
+ */
+@RestController
+@RequestMapping("/api/admin/settlements")
+@RequiredArgsConstructor
+@Tag(name = "정산 관리", description = "시간대별 매출/정산 조회 API")
+public class SettlementAdminController {
+
+    private final HourlySettlementService hourlySettlementService;
+
+    @GetMapping("/intraday")
+    @Operation(summary = "시간대별 매출 조회", description = "증분 정산 버킷으로 지정일(기본 오늘)의 시간대별 매출/환불을 조회합니다.")
+    public ResponseEntity<CommonResponse<IntradayRevenueResponse>> getIntraday(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate target = date != null ? date : LocalDate.now();
+        return ResponseEntity.ok(CommonResponse.success(hourlySettlementService.intraday(target), null));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.mafiagame.settlement.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시간 단위 정산 집계 (증분 정산 버킷).
+ *
+ * <p>결제 완료/취소 이벤트를 소비할 때마다 해당 시간대 행에 매출/환불을 누적한다.
+ * 일일 정산은 하루치 24개 버킷만 합산하고, 당일 매출 조회는 버킷을 그대로 읽는다.
+ * 읽기/쓰기는 SettlementJdbcRepository(JDBC)가 담당하고, 엔티티는 스키마 정의용이다.</p>
+ */
+@Entity
+@Table(name = "hourly_settlements",
+        uniqueConstraints = @UniqueConstraint(name = "uk_hourly_settlement_bucket", columnNames = "bucket_start"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class HourlySettlement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 집계 구간 시작 시각 (정시, [bucket_start, bucket_start + 1시간)). */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    /** 결제 완료 건수. */
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    /** 매출액 (원). */
+    @Column(name = "sales_amount", nullable = false)
+    private Long salesAmount;
+
+    /** 환불 건수. */
+    @Column(name = "refund_count", nullable = false)
+    private Long refundCount;
+
+    /** 환불액 (원). */
+    @Column(name = "refund_amount", nullable = false)
+    private Long refundAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
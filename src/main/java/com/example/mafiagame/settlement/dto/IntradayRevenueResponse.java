@@ -0,0 +1,25 @@
+package com.example.mafiagame.settlement.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 당일(또는 지정일) 시간대별 매출 (집계가 없는 시간대는 0 으로 채움)
+ */
+public record IntradayRevenueResponse(
+        LocalDate date,
+        long orderCount,
+        long salesAmount,
+        long refundAmount,
+        long netSalesAmount,
+        List<HourlyRevenue> hours) {
+
+    public record HourlyRevenue(
+            LocalDateTime bucketStart,
+            long orderCount,
+            long salesAmount,
+            long refundCount,
+            long refundAmount) {
+    }
+}
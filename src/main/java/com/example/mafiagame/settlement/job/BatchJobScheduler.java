@@ -1,15 +1,27 @@
 package com.example.mafiagame.settlement.job;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
+import org.redisson.api.RedissonClient;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.example.mafiagame.global.lock.DistributedLocks;
+import com.example.mafiagame.global.lock.LockContentionTracker;
+import com.example.mafiagame.global.lock.LockFamily;
+import com.example.mafiagame.leaderboard.domain.LeaderboardType;
+import com.example.mafiagame.leaderboard.service.LeaderboardService;
+
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -24,25 +36,38 @@ public class BatchJobScheduler {
     private final JobLauncher jobLauncher;
     private final Job dailySettlementJob;
     private final Job expiredItemCleanupJob;
+    private final Job leaderboardRebuildJob;
+    private final LeaderboardService leaderboardService;
+    private final DistributedLocks locks;
+    private final boolean rebuildLeaderboardOnStartup;
 
     public BatchJobScheduler(
             JobLauncher jobLauncher,
             @Qualifier("dailySettlementJob") Job dailySettlementJob,
-            @Qualifier("expiredItemCleanupJob") Job expiredItemCleanupJob) {
+            @Qualifier("expiredItemCleanupJob") Job expiredItemCleanupJob,
+            @Qualifier("leaderboardRebuildJob") Job leaderboardRebuildJob,
+            LeaderboardService leaderboardService,
+            RedissonClient redissonClient,
+            LockContentionTracker lockContentionTracker,
+            @Value("${mafiagame.leaderboard.rebuild-on-startup:true}") boolean rebuildLeaderboardOnStartup) {
         this.jobLauncher = jobLauncher;
         this.dailySettlementJob = dailySettlementJob;
         this.expiredItemCleanupJob = expiredItemCleanupJob;
+        this.leaderboardRebuildJob = leaderboardRebuildJob;
+        this.leaderboardService = leaderboardService;
+        this.locks = new DistributedLocks(redissonClient, lockContentionTracker);
+        this.rebuildLeaderboardOnStartup = rebuildLeaderboardOnStartup;
     }
 
     /**
      * 매일 새벽 3시: 일일 정산 Job 실행.
+     * targetDate 만 식별 파라미터로 사용 (실패한 날짜는 같은 파라미터로 재시작, 완료된 날짜는 재실행 거부).
      */
     @Scheduled(cron = "0 0 3 * * *")
     public void runDailySettlementJob() {
         try {
             JobParameters params = new JobParametersBuilder()
                     .addString("targetDate", LocalDate.now().minusDays(1).toString())
-                    .addLong("timestamp", System.currentTimeMillis())
                     .toJobParameters();
 
             jobLauncher.run(dailySettlementJob, params);
@@ -54,12 +79,13 @@ public class BatchJobScheduler {
 
     /**
      * 매일 자정: 만료 아이템 정리 Job 실행.
+     * cutoff(기준 시각)를 식별 파라미터로 사용 (실패 시 같은 cutoff 로 재실행하면 남은 대상부터 재시작).
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void runExpiredItemCleanupJob() {
         try {
             JobParameters params = new JobParametersBuilder()
-                    .addLong("timestamp", System.currentTimeMillis())
+                    .addString("cutoff", LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).toString())
                     .toJobParameters();
 
             jobLauncher.run(expiredItemCleanupJob, params);
@@ -68,4 +94,46 @@ public class BatchJobScheduler {
             log.error("[스케줄러] 만료 아이템 정리 Job 실행 실패", e);
         }
     }
+
+    /**
+     * 매일 새벽 4시: 리더보드 재구성 Job 실행 (MySQL 전적 기준 보정).
+     * 같은 리더보드 키를 여러 노드가 동시에 재구성하지 않도록 리더 락을 잡은 노드 하나만 실행한다.
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void runLeaderboardRebuildJob() {
+        try (DistributedLocks.Handle lock = locks.tryLock(LockFamily.LEADERBOARD_REBUILD, null)) {
+            if (lock == null) {
+                log.info("[스케줄러] 다른 노드가 리더보드 재구성 중, 건너뜀");
+                return;
+            }
+            JobParameters params = new JobParametersBuilder()
+                    .addString("baseDate", LocalDate.now().toString())
+                    .addLong("timestamp", System.currentTimeMillis())
+                    .toJobParameters();
+
+            jobLauncher.run(leaderboardRebuildJob, params);
+            log.info("[스케줄러] 리더보드 재구성 Job 실행 완료");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("[스케줄러] 리더보드 재구성 Job 실행 실패", e);
+        }
+    }
+
+    /**
+     * 기동 시 누적 리더보드가 없으면 (Redis 초기화 등) 즉시 재구성.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildLeaderboardIfMissing() {
+        if (!rebuildLeaderboardOnStartup) {
+            return;
+        }
+        try {
+            if (leaderboardService.isEmpty(LeaderboardType.ALL_TIME)) {
+                runLeaderboardRebuildJob();
+            }
+        } catch (Exception e) {
+            log.error("[스케줄러] 리더보드 확인 실패 (다음 정기 재구성에서 보정)", e);
+        }
+    }
 }
@@ -1,26 +1,38 @@
 package com.example.mafiagame.settlement.job;
 
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import javax.sql.DataSource;
+
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import com.example.mafiagame.payment.domain.PaymentStatus;
-import com.example.mafiagame.payment.repository.PaymentRepository;
-import com.example.mafiagame.settlement.domain.DailySettlement;
-import com.example.mafiagame.settlement.domain.SettlementStatus;
-import com.example.mafiagame.settlement.repository.DailySettlementRepository;
+import com.example.mafiagame.settlement.repository.SettlementJdbcRepository;
+import com.example.mafiagame.settlement.repository.SettlementJdbcRepository.SettlementTotal;
+import com.example.mafiagame.settlement.service.HourlySettlementService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,8 +41,20 @@ import lombok.extern.slf4j.Slf4j;
  * 일일 정산 Spring Batch Job.
  *
  * <p>
- * 전날의 결제 완료 건을 집계하여 DailySettlement 레코드를 생성한다.
- * PG 수수료율(3.3%)을 적용하여 순수익을 계산한다.
+ * 전날의 시간 단위 정산 버킷 24개를 합산하여 DailySettlement 레코드를 생성한다.
+ * PG 수수료율(3.3%)을 적용하여 순수익(매출 - 환불 - 수수료)을 계산한다.
+ * 버킷은 SettlementConsumer 가 결제 이벤트를 소비할 때마다 누적하므로 결제 건수와 무관하게 일정한 시간에 끝난다.
+ * </p>
+ *
+ * <p>
+ * 합산 전에 아직 버킷에 반영되지 않은 결제(이벤트 지연/유실)를 보정한다. 하루를 시간 단위 24개 파티션으로 나눠
+ * 여러 스레드에서 미반영 결제 ID 를 payment_id 기준 keyset 페이징으로 읽고, Chunk 마다 컨슈머와 같은 경로로
+ * 버킷에 반영한다. 평소에는 대상 행이 없어 인덱스 범위 조회 한 번으로 끝난다.
+ * </p>
+ *
+ * <p>
+ * targetDate 만 식별 파라미터로 사용하므로 실패한 날짜를 같은 파라미터로 다시 실행하면 재시작되어,
+ * 완료된 파티션은 건너뛰고 미완료 파티션은 마지막으로 커밋된 Chunk 이후부터 이어서 처리한다.
  * </p>
  */
 @Configuration
@@ -38,97 +62,141 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class DailySettlementJobConfig {
 
+    private static final String WORKER_STEP = "dailySettlementWorkerStep";
+
     private static final double PG_FEE_RATE = 0.033;
+    private static final int CHUNK_SIZE = 1000;
+    private static final int HOURS_PER_DAY = 24;
 
-    private final PaymentRepository paymentRepository;
-    private final DailySettlementRepository settlementRepository;
+    private static final String FROM_KEY = "from";
+    private static final String TO_KEY = "to";
+
+    private final SettlementJdbcRepository settlementJdbcRepository;
+    private final HourlySettlementService hourlySettlementService;
 
     /**
      * 일일 정산 Job 정의.
      */
     @Bean
-    public Job dailySettlementJob(JobRepository jobRepository, Step aggregateStep) {
+    public Job dailySettlementJob(JobRepository jobRepository,
+            @Qualifier("dailySettlementPartitionStep") Step partitionStep,
+            @Qualifier("dailySettlementSummaryStep") Step summaryStep) {
         return new JobBuilder("dailySettlementJob", jobRepository)
-                .start(aggregateStep)
+                .start(partitionStep)
+                .next(summaryStep)
                 .build();
     }
 
     /**
-     * 결제 집계 Step.
-     *
-     * <p>
-     * Tasklet 방식으로 전날 결제 건을 한 번에 집계한다.
-     * 데이터가 대량인 경우 Chunk 방식으로 전환 가능.
-     * </p>
+     * 시간대 파티션 Step (파티션을 동시에 최대 concurrency 개까지 실행).
      */
     @Bean
-    public Step aggregateStep(JobRepository jobRepository, PlatformTransactionManager txManager) {
-        return new StepBuilder("aggregateStep", jobRepository)
-                .tasklet(aggregateTasklet(), txManager)
+    public Step dailySettlementPartitionStep(JobRepository jobRepository,
+            @Qualifier("dailySettlementPartitioner") Partitioner partitioner,
+            @Qualifier(WORKER_STEP) Step workerStep,
+            @Value("${mafiagame.settlement.partition-concurrency:4}") int concurrency) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("settlement-");
+        taskExecutor.setConcurrencyLimit(concurrency);
+        return new StepBuilder("dailySettlementPartitionStep", jobRepository)
+                .partitioner(WORKER_STEP, partitioner)
+                .step(workerStep)
+                .gridSize(HOURS_PER_DAY)
+                .taskExecutor(taskExecutor)
                 .build();
     }
 
+    @Bean
+    @StepScope
+    public Partitioner dailySettlementPartitioner(@Value("#{jobParameters['targetDate']}") String targetDate) {
+        LocalDate date = parseTargetDate(targetDate);
+        return gridSize -> hourPartitions(date);
+    }
+
     /**
-     * 집계 Tasklet 구현.
+     * 시간대 하나의 미반영 결제를 Chunk 단위로 버킷에 반영.
      */
+    @Bean(WORKER_STEP)
+    public Step dailySettlementWorkerStep(JobRepository jobRepository, PlatformTransactionManager txManager,
+            @Qualifier("dailySettlementPaymentReader") JdbcPagingItemReader<String> reader) {
+        return new StepBuilder(WORKER_STEP, jobRepository)
+                .<String, String>chunk(CHUNK_SIZE, txManager)
+                .reader(reader)
+                .writer(chunk -> hourlySettlementService.settleCompleted(chunk.getItems()))
+                .build();
+    }
+
     @Bean
-    public Tasklet aggregateTasklet() {
-        return (contribution, chunkContext) -> {
-            // Job Parameter에서 targetDate를 가져오거나, 없으면 전날 사용
-            Map<String, Object> params = chunkContext.getStepContext().getJobParameters();
-            String targetDateStr = (String) params.get("targetDate");
-            LocalDate targetDate = targetDateStr != null
-                    ? LocalDate.parse(targetDateStr)
-                    : LocalDate.now().minusDays(1);
+    @StepScope
+    public JdbcPagingItemReader<String> dailySettlementPaymentReader(DataSource dataSource,
+            @Value("#{stepExecutionContext['from']}") String from,
+            @Value("#{stepExecutionContext['to']}") String to) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("from", Timestamp.valueOf(LocalDateTime.parse(from)));
+        parameters.put("to", Timestamp.valueOf(LocalDateTime.parse(to)));
+        return new JdbcPagingItemReaderBuilder<String>()
+                .name("dailySettlementPaymentReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT payment_id")
+                .fromClause("FROM payments")
+                .whereClause("WHERE settled = FALSE AND approved_at >= :from AND approved_at < :to")
+                .parameterValues(parameters)
+                .sortKeys(Map.of("payment_id", Order.ASCENDING))
+                .pageSize(CHUNK_SIZE)
+                .rowMapper((rs, rowNum) -> rs.getString("payment_id"))
+                .build();
+    }
 
-            log.info("[정산 Batch] 시작: targetDate={}", targetDate);
+    /**
+     * 버킷 합산 → 일일 정산 기록 Step.
+     */
+    @Bean
+    public Step dailySettlementSummaryStep(JobRepository jobRepository, PlatformTransactionManager txManager) {
+        return new StepBuilder("dailySettlementSummaryStep", jobRepository)
+                .tasklet(summaryTasklet(), txManager)
+                .build();
+    }
+
+    private Tasklet summaryTasklet() {
+        return (contribution, chunkContext) -> {
+            StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+            LocalDate targetDate = parseTargetDate(stepExecution.getJobParameters().getString("targetDate"));
 
             // 중복 정산 방지
-            if (settlementRepository.findBySettlementDate(targetDate).isPresent()) {
+            if (settlementJdbcRepository.existsSettlement(targetDate)) {
                 log.warn("[정산 Batch] 이미 정산 완료된 날짜: {}", targetDate);
                 return RepeatStatus.FINISHED;
             }
 
             LocalDateTime from = targetDate.atStartOfDay();
-            LocalDateTime to = targetDate.atTime(LocalTime.MAX);
-
-            // 전날 결제 완료 건 집계
-            var payments = paymentRepository.findBySettledFalseAndStatusAndApprovedAtBetween(
-                    PaymentStatus.DONE, from, to,
-                    org.springframework.data.domain.Pageable.unpaged());
-
-            long totalSales = 0L;
-            int orderCount = 0;
-
-            for (var payment : payments) {
-                totalSales += payment.getAmount();
-                orderCount++;
-                payment.setSettled(true);
-            }
-
-            paymentRepository.saveAll(payments);
+            SettlementTotal total = settlementJdbcRepository.sumBuckets(from, from.plusDays(1));
 
             // PG 수수료 및 순수익 계산
-            long pgFee = Math.round(totalSales * PG_FEE_RATE);
-            long netAmount = totalSales - pgFee;
-
-            DailySettlement settlement = DailySettlement.builder()
-                    .settlementDate(targetDate)
-                    .totalOrderCount(orderCount)
-                    .totalSalesAmount(totalSales)
-                    .totalRefundAmount(0L)
-                    .pgFeeAmount(pgFee)
-                    .netAmount(netAmount)
-                    .status(SettlementStatus.COMPLETED)
-                    .processedAt(LocalDateTime.now())
-                    .build();
-
-            settlementRepository.save(settlement);
-
-            log.info("[정산 Batch] 완료: date={}, orders={}, sales={}원, fee={}원, net={}원",
-                    targetDate, orderCount, totalSales, pgFee, netAmount);
+            long pgFee = Math.round(total.salesAmount() * PG_FEE_RATE);
+            long netAmount = total.salesAmount() - total.refundAmount() - pgFee;
+            settlementJdbcRepository.insertSettlement(targetDate, total, pgFee, netAmount);
 
+            log.info("[정산 Batch] 완료: date={}, orders={}, sales={}원, refund={}원, fee={}원, net={}원",
+                    targetDate, total.orderCount(), total.salesAmount(), total.refundAmount(), pgFee, netAmount);
             return RepeatStatus.FINISHED;
         };
     }
+
+    /**
+     * 대상 날짜를 [hh:00, hh+1:00) 구간 24개로 분할
+     */
+    static Map<String, ExecutionContext> hourPartitions(LocalDate targetDate) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            LocalDateTime from = targetDate.atTime(hour, 0);
+            ExecutionContext context = new ExecutionContext();
+            context.putString(FROM_KEY, from.toString());
+            context.putString(TO_KEY, from.plusHours(1).toString());
+            partitions.put(String.format("hour%02d", hour), context);
+        }
+        return partitions;
+    }
+
+    private static LocalDate parseTargetDate(String targetDate) {
+        return targetDate != null ? LocalDate.parse(targetDate) : LocalDate.now().minusDays(1);
+    }
 }
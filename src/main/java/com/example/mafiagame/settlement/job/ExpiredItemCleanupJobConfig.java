@@ -1,59 +1,124 @@
 package com.example.mafiagame.settlement.job;
 
-import org.springframework.batch.core.Step;
+import java.time.LocalDateTime;
+
+import org.springframework.batch.core.ChunkListener;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
 import com.example.mafiagame.inventory.service.InventoryService;
+import com.example.mafiagame.inventory.service.InventoryService.ExpiredCleanupChunk;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * 만료 아이템 정리 Spring Batch Job.
  *
  * <p>매일 실행하여 유효기간이 지난 시즌패스, 부스트 등을 비활성화한다.</p>
+ *
+ * <p>
+ * 한 번의 UPDATE 로 전체를 비활성화하면 대상 행 전체에 잠금이 걸리고 복제 지연이 생기므로,
+ * Tasklet 을 반복 실행해 Chunk(기본 1000건)마다 짧은 트랜잭션으로 나눠 처리한다.
+ * 각 Chunk 는 (active, expires_at) 커버링 인덱스로 대상 ID 를 고르고 PK IN 절로 비활성화하며,
+ * 커밋 후 throttle-ms 만큼 쉬어 복제본이 따라올 시간을 준다.
+ * </p>
+ *
+ * <p>
+ * 비활성화된 행은 다음 조회 범위에서 빠지므로 커서 없이도 재시작 시 남은 대상부터 이어서 처리한다.
+ * cutoff 를 식별 파라미터로 사용해 같은 기준 시각으로 재시작하고, 진행 건수는 StepExecution 의
+ * writeCount/commitCount 와 inventory.expired.deactivated 카운터로 확인한다.
+ * </p>
  */
 @Configuration
 @Slf4j
-@RequiredArgsConstructor
 public class ExpiredItemCleanupJobConfig {
 
+    private static final String LAST_CHUNK = "lastChunk";
+
     private final InventoryService inventoryService;
+    private final Counter deactivatedCounter;
+
+    public ExpiredItemCleanupJobConfig(InventoryService inventoryService, MeterRegistry meterRegistry) {
+        this.inventoryService = inventoryService;
+        this.deactivatedCounter = Counter.builder("inventory.expired.deactivated")
+                .description("만료 아이템 정리 Job 이 비활성화한 인벤토리 행 수")
+                .register(meterRegistry);
+    }
 
     /**
      * 만료 아이템 정리 Job.
      */
     @Bean
-    public Job expiredItemCleanupJob(JobRepository jobRepository, Step cleanupStep) {
+    public Job expiredItemCleanupJob(JobRepository jobRepository,
+            @Qualifier("expiredItemCleanupStep") Step cleanupStep) {
         return new JobBuilder("expiredItemCleanupJob", jobRepository)
                 .start(cleanupStep)
                 .build();
     }
 
     /**
-     * 정리 Step.
+     * 정리 Step (Tasklet 한 번 = Chunk 하나 = 트랜잭션 하나).
      */
     @Bean
-    public Step cleanupStep(JobRepository jobRepository, PlatformTransactionManager txManager) {
-        return new StepBuilder("cleanupStep", jobRepository)
-                .tasklet(cleanupTasklet(), txManager)
+    public Step expiredItemCleanupStep(JobRepository jobRepository, PlatformTransactionManager txManager,
+            @Qualifier("expiredItemCleanupTasklet") Tasklet cleanupTasklet,
+            @Value("${mafiagame.inventory.expired-cleanup.throttle-ms:100}") long throttleMs) {
+        return new StepBuilder("expiredItemCleanupStep", jobRepository)
+                .tasklet(cleanupTasklet, txManager)
+                .listener(throttleListener(throttleMs))
                 .build();
     }
 
     @Bean
-    public Tasklet cleanupTasklet() {
+    @StepScope
+    public Tasklet expiredItemCleanupTasklet(@Value("#{jobParameters['cutoff']}") String cutoffParam,
+            @Value("${mafiagame.inventory.expired-cleanup.chunk-size:1000}") int chunkSize) {
+        LocalDateTime cutoff = cutoffParam != null ? LocalDateTime.parse(cutoffParam) : LocalDateTime.now();
         return (contribution, chunkContext) -> {
-            int count = inventoryService.deactivateExpiredItems();
-            log.info("[만료 아이템 정리 Batch] 비활성화 건수={}", count);
-            return RepeatStatus.FINISHED;
+            ExpiredCleanupChunk chunk = inventoryService.deactivateExpiredChunk(cutoff, chunkSize);
+            contribution.incrementWriteCount(chunk.deactivated());
+            deactivatedCounter.increment(chunk.deactivated());
+
+            if (chunk.selected() < chunkSize) {
+                chunkContext.setAttribute(LAST_CHUNK, true);
+                log.info("[만료 아이템 정리 Batch] 완료: cutoff={}, 비활성화 건수={}", cutoff,
+                        contribution.getStepExecution().getWriteCount() + chunk.deactivated());
+                return RepeatStatus.FINISHED;
+            }
+            return RepeatStatus.CONTINUABLE;
+        };
+    }
+
+    /**
+     * Chunk 커밋 후 다음 Chunk 전까지 대기 (트랜잭션 밖에서 쉬므로 잠금을 잡고 있지 않음)
+     */
+    private ChunkListener throttleListener(long throttleMs) {
+        return new ChunkListener() {
+            @Override
+            public void afterChunk(ChunkContext context) {
+                if (throttleMs <= 0 || context.hasAttribute(LAST_CHUNK)) {
+                    return;
+                }
+                try {
+                    Thread.sleep(throttleMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
         };
     }
 }
@@ -0,0 +1,164 @@
+package com.example.mafiagame.settlement.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.mafiagame.global.jdbc.MultiRowSql;
+import com.example.mafiagame.settlement.domain.SettlementStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정산 JDBC 저장소
+ * - 정산 반영 표시는 IN 절 UPDATE 한 문장 (엔티티 로딩/더티 체킹 없음)
+ * - 시간 단위 버킷은 multi-row INSERT ... ON DUPLICATE KEY UPDATE 로 증분 누적
+ * - 일일 정산/당일 매출은 하루치 버킷(최대 24행)만 읽음 (결제 행을 다시 집계하지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SettlementJdbcRepository {
+
+    // 같은 행을 다른 트랜잭션과 엇갈려 잠그지 않도록 payment_id 순으로 잠금
+    private static final String LOCK_UNSETTLED = "SELECT payment_id, amount, approved_at FROM payments "
+            + "WHERE payment_id IN (:paymentIds) AND settled = FALSE AND approved_at IS NOT NULL "
+            + "ORDER BY payment_id FOR UPDATE";
+
+    private static final String UPDATE_SETTLED = "UPDATE payments SET settled = TRUE "
+            + "WHERE payment_id IN (:paymentIds) AND settled = FALSE";
+
+    private static final String UPSERT_BUCKETS_PREFIX = "INSERT INTO hourly_settlements "
+            + "(bucket_start, order_count, sales_amount, refund_count, refund_amount, updated_at) VALUES ";
+    private static final String UPSERT_BUCKETS_ROW = "(?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_BUCKETS_SUFFIX = " ON DUPLICATE KEY UPDATE "
+            + "order_count = order_count + VALUES(order_count), "
+            + "sales_amount = sales_amount + VALUES(sales_amount), "
+            + "refund_count = refund_count + VALUES(refund_count), "
+            + "refund_amount = refund_amount + VALUES(refund_amount), "
+            + "updated_at = VALUES(updated_at)";
+
+    private static final String SELECT_BUCKETS = "SELECT bucket_start, order_count, sales_amount, refund_count, "
+            + "refund_amount FROM hourly_settlements WHERE bucket_start >= ? AND bucket_start < ? "
+            + "ORDER BY bucket_start";
+
+    private static final String SUM_BUCKETS = "SELECT COALESCE(SUM(order_count), 0) AS order_count, "
+            + "COALESCE(SUM(sales_amount), 0) AS sales_amount, COALESCE(SUM(refund_amount), 0) AS refund_amount "
+            + "FROM hourly_settlements WHERE bucket_start >= ? AND bucket_start < ?";
+
+    private static final String EXISTS_SETTLEMENT = "SELECT COUNT(*) FROM daily_settlements WHERE settlement_date = ?";
+
+    private static final String INSERT_SETTLEMENT = "INSERT INTO daily_settlements "
+            + "(settlement_date, total_order_count, total_sales_amount, total_refund_amount, pg_fee_amount, "
+            + "net_amount, status, processed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 아직 버킷에 반영되지 않은 승인 결제
+     */
+    public record UnsettledPayment(String paymentId, long amount, LocalDateTime approvedAt) {
+    }
+
+    /**
+     * 시간 단위 버킷 한 행 (쓰기 시에는 증감분)
+     */
+    public record HourlyBucket(LocalDateTime bucketStart, long orderCount, long salesAmount, long refundCount,
+            long refundAmount) {
+
+        public HourlyBucket plus(HourlyBucket other) {
+            return new HourlyBucket(bucketStart, orderCount + other.orderCount, salesAmount + other.salesAmount,
+                    refundCount + other.refundCount, refundAmount + other.refundAmount);
+        }
+    }
+
+    /**
+     * 구간 집계 결과
+     */
+    public record SettlementTotal(long orderCount, long salesAmount, long refundAmount) {
+    }
+
+    /**
+     * 미반영 승인 결제를 잠그고 조회 (이미 반영된 결제는 제외되므로 재전달/재실행에도 한 번만 집계됨)
+     */
+    public List<UnsettledPayment> lockUnsettled(Collection<String> paymentIds) {
+        if (paymentIds.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(LOCK_UNSETTLED, Map.of("paymentIds", paymentIds),
+                (rs, rowNum) -> new UnsettledPayment(rs.getString("payment_id"), rs.getLong("amount"),
+                        rs.getTimestamp("approved_at").toLocalDateTime()));
+    }
+
+    /**
+     * @return 이번 호출에서 정산 반영으로 바뀐 행 수
+     */
+    public int markSettled(Collection<String> paymentIds) {
+        if (paymentIds.isEmpty()) {
+            return 0;
+        }
+        return namedParameterJdbcTemplate.update(UPDATE_SETTLED, Map.of("paymentIds", paymentIds));
+    }
+
+    /**
+     * 버킷별 증감분 누적 (버킷이 없으면 생성)
+     */
+    public void addToBuckets(List<HourlyBucket> deltas, LocalDateTime updatedAt) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Timestamp updated = Timestamp.valueOf(updatedAt);
+        String sql = MultiRowSql.of(UPSERT_BUCKETS_PREFIX, UPSERT_BUCKETS_ROW, deltas.size(), UPSERT_BUCKETS_SUFFIX);
+        jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (HourlyBucket delta : deltas) {
+                ps.setTimestamp(index++, Timestamp.valueOf(delta.bucketStart()));
+                ps.setLong(index++, delta.orderCount());
+                ps.setLong(index++, delta.salesAmount());
+                ps.setLong(index++, delta.refundCount());
+                ps.setLong(index++, delta.refundAmount());
+                ps.setTimestamp(index++, updated);
+            }
+        });
+    }
+
+    /**
+     * [from, to) 구간의 버킷 조회 (집계가 없는 시간대는 행이 없음)
+     */
+    public List<HourlyBucket> findBuckets(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.query(SELECT_BUCKETS,
+                (rs, rowNum) -> new HourlyBucket(rs.getTimestamp("bucket_start").toLocalDateTime(),
+                        rs.getLong("order_count"), rs.getLong("sales_amount"),
+                        rs.getLong("refund_count"), rs.getLong("refund_amount")),
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    /**
+     * [from, to) 구간의 버킷 합계
+     */
+    public SettlementTotal sumBuckets(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForObject(SUM_BUCKETS,
+                (rs, rowNum) -> new SettlementTotal(rs.getLong("order_count"), rs.getLong("sales_amount"),
+                        rs.getLong("refund_amount")),
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    public boolean existsSettlement(LocalDate settlementDate) {
+        Integer count = jdbcTemplate.queryForObject(EXISTS_SETTLEMENT, Integer.class, Date.valueOf(settlementDate));
+        return count != null && count > 0;
+    }
+
+    public void insertSettlement(LocalDate settlementDate, SettlementTotal total, long pgFee, long netAmount) {
+        jdbcTemplate.update(INSERT_SETTLEMENT, Date.valueOf(settlementDate), Math.toIntExact(total.orderCount()),
+                total.salesAmount(), total.refundAmount(), pgFee, netAmount, SettlementStatus.COMPLETED.name(),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.mafiagame.settlement.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.mafiagame.kafka.event.PaymentEvent;
+import com.example.mafiagame.settlement.dto.IntradayRevenueResponse;
+import com.example.mafiagame.settlement.dto.IntradayRevenueResponse.HourlyRevenue;
+import com.example.mafiagame.settlement.repository.SettlementJdbcRepository;
+import com.example.mafiagame.settlement.repository.SettlementJdbcRepository.HourlyBucket;
+import com.example.mafiagame.settlement.repository.SettlementJdbcRepository.UnsettledPayment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간 단위 증분 정산
+ * - 결제 완료: 승인 시각의 시간대 버킷에 건수/매출 누적, 결제 행은 settled 로 표시
+ *   (settled = FALSE 인 행만 반영하므로 컨슈머 재전달과 정산 배치의 누락분 보정이 겹쳐도 한 번만 집계)
+ * - 결제 취소: 취소 시각의 시간대 버킷에 환불 누적 (중복 소비는 처리 기록으로 차단)
+ * - 버킷 갱신은 bucket_start 순으로 한 문장에 모아 동시 배치 간 행 잠금 순서를 고정
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HourlySettlementService {
+
+    private static final int HOURS_PER_DAY = 24;
+
+    private final SettlementJdbcRepository settlementJdbcRepository;
+
+    /**
+     * 승인된 결제를 버킷에 반영
+     *
+     * @return 이번 호출에서 새로 반영된 결제 수
+     */
+    @Transactional
+    public int settleCompleted(Collection<String> paymentIds) {
+        List<UnsettledPayment> payments = settlementJdbcRepository.lockUnsettled(
+                paymentIds.stream().filter(Objects::nonNull).collect(Collectors.toCollection(TreeSet::new)));
+        if (payments.isEmpty()) {
+            return 0;
+        }
+        settlementJdbcRepository.markSettled(payments.stream().map(UnsettledPayment::paymentId).toList());
+        settlementJdbcRepository.addToBuckets(completedBuckets(payments), LocalDateTime.now());
+
+        log.debug("[정산] 결제 완료 반영: requested={}, settled={}", paymentIds.size(), payments.size());
+        return payments.size();
+    }
+
+    /**
+     * 결제 취소(환불)를 버킷에 반영
+     */
+    @Transactional
+    public void recordRefunds(List<PaymentEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        List<HourlyBucket> deltas = refundBuckets(events, now);
+        settlementJdbcRepository.addToBuckets(deltas, now);
+        log.debug("[정산] 환불 반영: events={}, buckets={}", events.size(), deltas.size());
+    }
+
+    /**
+     * 지정일의 시간대별 매출 (진행 중인 시간대 포함)
+     */
+    @Transactional(readOnly = true)
+    public IntradayRevenueResponse intraday(LocalDate date) {
+        LocalDateTime from = date.atStartOfDay();
+        Map<LocalDateTime, HourlyBucket> buckets = settlementJdbcRepository.findBuckets(from, from.plusDays(1))
+                .stream()
+                .collect(Collectors.toMap(HourlyBucket::bucketStart, Function.identity()));
+
+        List<HourlyRevenue> hours = new ArrayList<>(HOURS_PER_DAY);
+        HourlyBucket total = new HourlyBucket(from, 0, 0, 0, 0);
+        for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+            LocalDateTime bucketStart = from.plusHours(hour);
+            HourlyBucket bucket = buckets.getOrDefault(bucketStart, new HourlyBucket(bucketStart, 0, 0, 0, 0));
+            hours.add(new HourlyRevenue(bucketStart, bucket.orderCount(), bucket.salesAmount(),
+                    bucket.refundCount(), bucket.refundAmount()));
+            total = total.plus(bucket);
+        }
+        return new IntradayRevenueResponse(date, total.orderCount(), total.salesAmount(), total.refundAmount(),
+                total.salesAmount() - total.refundAmount(), hours);
+    }
+
+    /**
+     * 승인 결제를 승인 시각의 시간대별 증감분으로 합산 (bucket_start 정렬)
+     */
+    static List<HourlyBucket> completedBuckets(List<UnsettledPayment> payments) {
+        SortedMap<LocalDateTime, HourlyBucket> deltas = new TreeMap<>();
+        for (UnsettledPayment payment : payments) {
+            LocalDateTime bucketStart = bucketOf(payment.approvedAt());
+            deltas.merge(bucketStart, new HourlyBucket(bucketStart, 1, payment.amount(), 0, 0), HourlyBucket::plus);
+        }
+        return new ArrayList<>(deltas.values());
+    }
+
+    /**
+     * 취소 이벤트를 취소 시각의 시간대별 증감분으로 합산 (bucket_start 정렬, 같은 결제의 중복 이벤트는 한 번만)
+     */
+    static List<HourlyBucket> refundBuckets(List<PaymentEvent> events, LocalDateTime now) {
+        Map<String, PaymentEvent> byPaymentId = new TreeMap<>();
+        for (PaymentEvent event : events) {
+            if (event != null && event.getPaymentId() != null && event.getAmount() != null) {
+                byPaymentId.putIfAbsent(event.getPaymentId(), event);
+            }
+        }
+        SortedMap<LocalDateTime, HourlyBucket> deltas = new TreeMap<>();
+        for (PaymentEvent event : byPaymentId.values()) {
+            LocalDateTime bucketStart = bucketOf(event.getOccurredAt() != null ? event.getOccurredAt() : now);
+            deltas.merge(bucketStart, new HourlyBucket(bucketStart, 0, 0, 1, event.getAmount()), HourlyBucket::plus);
+        }
+        return new ArrayList<>(deltas.values());
+    }
+
+    static LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.HOURS);
+    }
+}
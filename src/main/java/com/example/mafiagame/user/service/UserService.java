@@ -13,6 +13,8 @@ import com.example.mafiagame.global.error.CommonException;
 import com.example.mafiagame.global.error.ErrorCode;
 import com.example.mafiagame.global.jwt.JwtUtil;
 import com.example.mafiagame.global.jwt.RefreshTokenService;
+import com.example.mafiagame.leaderboard.domain.LeaderboardType;
+import com.example.mafiagame.leaderboard.service.LeaderboardService;
 import com.example.mafiagame.user.domain.Users;
 import static com.example.mafiagame.user.domain.UserRole.USER;
 
@@ -37,6 +39,7 @@ public class UserService {
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final RefreshTokenService refreshTokenService;
+    private final LeaderboardService leaderboardService;
 
     // 유저 회원가입
     public void registerUser(RegistRequest request) {
@@ -125,8 +128,13 @@ public class UserService {
         }
     }
 
-    @Transactional(readOnly = true)
+    // 랭킹 Top 10 - Redis 리더보드 조회 (DB 커넥션 미사용), 리더보드 재구성 전에만 MySQL 조회
     public List<Top10UserResponse> getTopRanking() {
-        return userRepository.findTopRanking(PageRequest.of(0, 10));
+        if (leaderboardService.isEmpty(LeaderboardType.ALL_TIME)) {
+            return userRepository.findTopRanking(PageRequest.of(0, 10));
+        }
+        return leaderboardService.getTop(LeaderboardType.ALL_TIME, 0, 10).stream()
+                .map(entry -> new Top10UserResponse(entry.nickname(), entry.winRate(), entry.playCount()))
+                .toList();
     }
 }
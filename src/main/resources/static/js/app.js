@@ -294,29 +294,8 @@ function handlePrivateMessage(message) {
             break;
 
         case 'AI_SUGGESTION':
-            console.log('🤖 AI 추천 수신:', message.suggestions);
-            if (message.suggestions && Array.isArray(message.suggestions)) {
-                // suggestionsUI.loadSuggestions used to be called, but we have data now.
-                // But suggestionsUI doesn't export a setter.
-                // Hack: Call updateSuggestionsForPhase? No, that fetches.
-                // Correct way: Add 'renderSuggestions' to exports in suggestionsUI.js.
-                // FOR NOW: Just call loadSuggestions with role/phase/gameId from current state?
-                // But message doesn't have gameId/phase/role explicitly in payload (only suggestions).
-                // So, simpler: Use suggestionsUI.callRender(suggestions) -> Need to implement.
-                // Or: just force refresh via updateSuggestionsForPhase(getCurrentGame())
-                const game = getState().currentGame;
-                if (game) {
-                    api.fetchSuggestions(game.players.find(p => p.playerId === getCurrentUser().userLoginId).role, game.gamePhase, game.gameId)
-                        .then(data => {
-                            // wait, fetchSuggestions returns the data.
-                            // I need to use suggestionsUI to render it.
-                            // suggestionsUI.loadSuggestions calls API and renders.
-                            // So calling loadSuggestions is enough!
-                            const user = getCurrentUser();
-                            suggestionsUI.loadSuggestions(user.role, game.gamePhase, game.gameId);
-                        });
-                }
-            }
+            // 서버가 보낸 추천을 바로 반영 (버전이 더 새로운 것만, 재조회 없음)
+            suggestionsUI.applyPushedSuggestions(message);
             break;
 
         case 'ERROR':
@@ -5,6 +5,8 @@ import * as api from '../api/apiService.js';
 import { getCurrentUser, getState } from '../state.js';
 
 let currentSuggestions = [];
+let currentPhase = null;
+let currentVersion = 0;
 
 /**
  * 현재 사용자의 역할과 게임 페이즈에 맞는 추천 문구 로드
@@ -15,6 +17,12 @@ export async function loadSuggestions(role, phase, gameId) {
         return;
     }
 
+    // 페이즈가 바뀌면 이전 페이즈의 푸시 버전은 무효
+    if (phase !== currentPhase) {
+        currentPhase = phase;
+        currentVersion = 0;
+    }
+
     try {
         const suggestions = await api.fetchSuggestions(role, phase, gameId);
         currentSuggestions = suggestions || [];
@@ -31,6 +39,24 @@ export async function loadSuggestions(role, phase, gameId) {
     }
 }
 
+/**
+ * 서버가 푸시한 AI 추천 반영 (현재 페이즈이고 받은 것보다 새 버전일 때만)
+ */
+export function applyPushedSuggestions(message) {
+    const suggestions = message?.suggestions;
+    if (!Array.isArray(suggestions) || suggestions.length === 0) return;
+    if (message.phase && currentPhase && message.phase !== currentPhase) return;
+
+    const version = Number(message.version) || 0;
+    if (version <= currentVersion) return;
+
+    currentPhase = message.phase || currentPhase;
+    currentVersion = version;
+    currentSuggestions = suggestions;
+    renderSuggestions(currentSuggestions);
+    showSuggestions();
+}
+
 /**
  * 추천 문구 렌더링
  */
@@ -109,5 +135,7 @@ export async function updateSuggestionsForPhase(game) {
  */
 export function clearSuggestions() {
     currentSuggestions = [];
+    currentPhase = null;
+    currentVersion = 0;
     hideSuggestions();
 }
@@ -57,12 +57,13 @@ class ChatRoomControllerTest {
                 .content("안녕하세요")
                 .build();
         when(headerAccessor.getSessionAttributes()).thenReturn(sessionAttributes);
+        when(headerAccessor.getSessionId()).thenReturn("session-1");
 
         // when
         chatRoomController.sendMessage(message, headerAccessor);
 
         // then
-        verify(chatRoomService).processAndBroadcastMessage(message, "testUser");
+        verify(chatRoomService).processAndBroadcastMessage(message, "testUser", "session-1");
     }
 
     @Test
@@ -79,7 +80,7 @@ class ChatRoomControllerTest {
         chatRoomController.sendMessage(message, headerAccessor);
 
         // then
-        verify(chatRoomService, never()).processAndBroadcastMessage(any(), anyString());
+        verify(chatRoomService, never()).processAndBroadcastMessage(any(), anyString(), any());
     }
 
     @Test
@@ -93,12 +94,13 @@ class ChatRoomControllerTest {
                 .content("비밀 대화")
                 .build();
         when(headerAccessor.getSessionAttributes()).thenReturn(sessionAttributes);
+        when(headerAccessor.getSessionId()).thenReturn("session-1");
 
         // when
         chatRoomController.sendPrivateMessage(message, headerAccessor);
 
         // then
-        verify(chatRoomService).processAndPrivateMessage(message, "testUser");
+        verify(chatRoomService).processAndPrivateMessage(message, "testUser", "session-1");
     }
 
     @Test
@@ -150,11 +152,12 @@ class ChatRoomControllerTest {
 
         SessionDisconnectEvent event = mock(SessionDisconnectEvent.class);
         when(event.getMessage()).thenReturn(message);
+        when(event.getSessionId()).thenReturn("session-1");
 
         // when
         chatRoomController.handleWebSocketDisconnectListener(event);
 
         // then
-        verify(chatRoomService).handleDisconnect("testUser");
+        verify(chatRoomService).handleDisconnect("testUser", "session-1");
     }
 }
@@ -180,7 +180,7 @@ class ChatRoomRestControllerTest {
     @DisplayName("채팅방 검색 - 성공")
     void searchRooms_success() throws Exception {
         // given
-        when(chatRoomService.searchRooms("테스트")).thenReturn(List.of(chatRoom));
+        when(chatRoomService.searchRooms("테스트", 0, 20)).thenReturn(List.of(chatRoom));
 
         // when & then
         mockMvc.perform(get("/api/chat/rooms/search")
@@ -189,6 +189,6 @@ class ChatRoomRestControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].roomId").value("room-123"));
 
-        verify(chatRoomService).searchRooms("테스트");
+        verify(chatRoomService).searchRooms("테스트", 0, 20);
     }
 }
@@ -18,6 +18,8 @@ import com.example.mafiagame.game.service.GameQueryService;
 import com.example.mafiagame.game.service.SuggestionService;
 import com.example.mafiagame.global.error.CommonException;
 import com.example.mafiagame.global.error.ErrorCode;
+import com.example.mafiagame.global.lock.LockContentionTracker;
+import com.example.mafiagame.global.metrics.GameMetrics;
 import com.example.mafiagame.global.service.RedisService;
 import com.example.mafiagame.user.domain.Users;
 import com.example.mafiagame.user.service.UserService;
@@ -64,6 +66,12 @@ class ChatRoomServiceTest {
     private RedissonClient redissonClient;
     @Mock
     private RedisService redisService;
+    @Mock
+    private RoomSearchService roomSearchService;
+    @Mock
+    private GameMetrics gameMetrics;
+    @Mock
+    private LockContentionTracker lockContentionTracker;
 
     @Mock
     private RLock rLock;
@@ -376,7 +384,7 @@ class ChatRoomServiceTest {
                 .roomId("room-123")
                 .content(null)
                 .build();
-        when(redisService.getUserRoomId("guestUser")).thenReturn("room-123");
+        when(redisService.getUserRoomId("guestUser", null)).thenReturn("room-123");
         when(redisService.getChatRoom("room-123")).thenReturn(chatRoom);
 
         // guest가 chatRoom에 참여 중으로 추가해 줌
@@ -393,7 +401,7 @@ class ChatRoomServiceTest {
                 .roomId("room-123")
                 .content("안녕하세요")
                 .build();
-        when(redisService.getUserRoomId("guestUser")).thenReturn("room-123");
+        when(redisService.getUserRoomId("guestUser", null)).thenReturn("room-123");
         when(redisService.getChatRoom("room-123")).thenReturn(chatRoom);
         chatRoom.addParticipant(ChatUser.builder().userId("guestUser").build());
         when(userService.getUserByLoginId("guestUser")).thenReturn(guest);
@@ -411,7 +419,7 @@ class ChatRoomServiceTest {
                 .roomId("room-123")
                 .content("밤인데 마피아 누구 쏠까요?")
                 .build();
-        when(redisService.getUserRoomId("guestUser")).thenReturn("room-123");
+        when(redisService.getUserRoomId("guestUser", null)).thenReturn("room-123");
         when(redisService.getChatRoom("room-123")).thenReturn(chatRoom);
         chatRoom.addParticipant(ChatUser.builder().userId("guestUser").build());
         when(userService.getUserByLoginId("guestUser")).thenReturn(guest);
@@ -457,7 +465,7 @@ class ChatRoomServiceTest {
     @Test
     @DisplayName("메시지 브로드캐스트 - 10개 쌓였을 때 Redis Flush 및 AI suggestion 비동기 트리거")
     void processAndBroadcastMessage_bufferFlushAndAiTrigger() {
-        when(redisService.getUserRoomId("guestUser")).thenReturn("room-123");
+        when(redisService.getUserRoomId("guestUser", null)).thenReturn("room-123");
         when(redisService.getChatRoom("room-123")).thenReturn(chatRoom);
         chatRoom.addParticipant(ChatUser.builder().userId("guestUser").build());
         when(userService.getUserByLoginId("guestUser")).thenReturn(guest);
@@ -497,7 +505,7 @@ class ChatRoomServiceTest {
                 .recipient(null)
                 .content("안녕")
                 .build();
-        when(redisService.getUserRoomId("guestUser")).thenReturn("room-123");
+        when(redisService.getUserRoomId("guestUser", null)).thenReturn("room-123");
         when(redisService.getChatRoom("room-123")).thenReturn(chatRoom);
         chatRoom.addParticipant(ChatUser.builder().userId("guestUser").build());
 
@@ -514,7 +522,7 @@ class ChatRoomServiceTest {
                 .recipient("guestUser")
                 .content("안녕")
                 .build();
-        when(redisService.getUserRoomId("guestUser")).thenReturn("room-123");
+        when(redisService.getUserRoomId("guestUser", null)).thenReturn("room-123");
         when(redisService.getChatRoom("room-123")).thenReturn(chatRoom);
         chatRoom.addParticipant(ChatUser.builder().userId("guestUser").build());
 
@@ -531,7 +539,7 @@ class ChatRoomServiceTest {
                 .recipient("otherUser")
                 .content("안녕")
                 .build();
-        when(redisService.getUserRoomId("guestUser")).thenReturn("room-123");
+        when(redisService.getUserRoomId("guestUser", null)).thenReturn("room-123");
         when(redisService.getChatRoom("room-123")).thenReturn(chatRoom);
         chatRoom.addParticipant(ChatUser.builder().userId("guestUser").build());
 
@@ -548,7 +556,7 @@ class ChatRoomServiceTest {
                 .recipient("hostUser")
                 .content("비밀 메시지")
                 .build();
-        when(redisService.getUserRoomId("guestUser")).thenReturn("room-123");
+        when(redisService.getUserRoomId("guestUser", null)).thenReturn("room-123");
         when(redisService.getChatRoom("room-123")).thenReturn(chatRoom);
         chatRoom.addParticipant(ChatUser.builder().userId("guestUser").build());
         when(gameQueryService.canPlayerChat("room-123", "guestUser")).thenReturn(true);
@@ -559,6 +567,26 @@ class ChatRoomServiceTest {
         verify(messageBroadcaster).sendPrivateMessage(eq("hostUser"), any(ChatMessage.class));
     }
 
+    @Test
+    @DisplayName("매칭 입장 - 이미 게임이 시작된 방에는 넣지 않고 전원 재대기시킨다")
+    void addMatchedPlayers_gameAlreadyStarted() throws InterruptedException {
+        // given
+        List<ChatUser> players = List.of(ChatUser.builder().userId("guestUser").userName("게스트닉네임").build());
+        when(redissonClient.getLock(anyString())).thenReturn(rLock);
+        when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(rLock.isHeldByCurrentThread()).thenReturn(true);
+        when(redisService.getChatRoom("room-123")).thenReturn(chatRoom);
+        when(gameQueryService.getActiveGameByRoomId("room-123")).thenReturn(GameState.builder().build());
+
+        // when
+        List<ChatUser> rejected = chatRoomService.addMatchedPlayers("room-123", players);
+
+        // then
+        assertThat(rejected).isEqualTo(players);
+        assertThat(chatRoom.isParticipant("guestUser")).isFalse();
+        verify(redisService, never()).saveChatRoom(any());
+    }
+
     // ================== handleDisconnect Tests ================== //
 
     @Test
@@ -568,8 +596,10 @@ class ChatRoomServiceTest {
         when(redisService.getChatRoom("room-123")).thenReturn(chatRoom);
         when(gameQueryService.canPlayerLeaveRoom("room-123", "guestUser")).thenReturn(false);
 
-        chatRoomService.handleDisconnect("guestUser");
+        chatRoomService.handleDisconnect("guestUser", "session-1");
 
+        verify(redisService).releaseWebSocketSession("session-1");
+        verify(redisService, never()).getUserRoomId("guestUser", "session-1");
         verify(redissonClient, never()).getLock(anyString());
     }
 
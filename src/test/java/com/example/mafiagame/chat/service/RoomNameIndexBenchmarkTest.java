@@ -0,0 +1,101 @@
+package com.example.mafiagame.chat.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방 5만 개 기준 검색 벤치마크
+ * - 기존 방식(전체 방 이름 toLowerCase().contains) vs n-gram 색인
+ * - ./gradlew benchmarkTest 로 실행 (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+class RoomNameIndexBenchmarkTest {
+
+    private static final int ROOM_COUNT = 50_000;
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int MEASURE_ROUNDS = 1_000;
+    private static final String[] WORDS = {
+            "마피아", "초보", "고수", "환영", "빠른", "게임", "한판", "즐겜", "랭크", "친목", "mafia", "night"
+    };
+
+    private static final RoomNameIndex index = new RoomNameIndex();
+    private static final List<String[]> rooms = new ArrayList<>(ROOM_COUNT);
+
+    @BeforeAll
+    static void setUp() {
+        Random random = new Random(42);
+        long start = System.nanoTime();
+        for (int i = 0; i < ROOM_COUNT; i++) {
+            String roomId = "room-" + i;
+            String roomName = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " #" + i;
+            rooms.add(new String[] { roomId, roomName });
+            index.upsert(roomId, roomName);
+        }
+        System.out.printf("[RoomSearch] 색인 구축: rooms=%d, %.1f ms%n", ROOM_COUNT, (System.nanoTime() - start) / 1e6);
+    }
+
+    @Test
+    @DisplayName("5만 개 방 - 선택도가 높은 키워드")
+    void selectiveKeyword() {
+        compare("#4999", 20);
+    }
+
+    @Test
+    @DisplayName("5만 개 방 - 선택도가 낮은 키워드 (상위 20개)")
+    void broadKeyword() {
+        compare("초보", 20);
+    }
+
+    @Test
+    @DisplayName("5만 개 방 - 초성 검색")
+    void choseongKeyword() {
+        List<String> result = measure("색인(초성)", () -> index.search("ㅊㅂ", 0, 20));
+        assertThat(result).hasSize(20);
+    }
+
+    private void compare(String keyword, int limit) {
+        List<String> scanned = measure("전체 스캔", () -> scan(keyword));
+        List<String> indexed = measure("n-gram 색인", () -> index.search(keyword, 0, limit));
+
+        assertThat(indexed).hasSize(Math.min(limit, scanned.size()));
+        assertThat(scanned).containsAll(indexed);
+    }
+
+    /**
+     * 기존 ChatRoomService.searchRooms 와 같은 선형 스캔 (Redis GET 비용은 제외한 CPU 비용만 측정)
+     */
+    private List<String> scan(String keyword) {
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        List<String> result = new ArrayList<>();
+        for (String[] room : rooms) {
+            if (room[1].toLowerCase(Locale.ROOT).contains(lowerKeyword)) {
+                result.add(room[0]);
+            }
+        }
+        return result;
+    }
+
+    private List<String> measure(String label, Supplier<List<String>> query) {
+        List<String> result = null;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            result = query.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            result = query.get();
+        }
+        double micros = (System.nanoTime() - start) / 1e3 / MEASURE_ROUNDS;
+        System.out.printf("[RoomSearch] %s: %.1f us/query, hits=%d%n", label, micros, result.size());
+        return result;
+    }
+}
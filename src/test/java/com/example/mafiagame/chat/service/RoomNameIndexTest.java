@@ -0,0 +1,103 @@
+package com.example.mafiagame.chat.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomNameIndexTest {
+
+    private RoomNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RoomNameIndex();
+        index.upsert("r1", "마피아 게임");
+        index.upsert("r2", "초보 마피아 환영");
+        index.upsert("r3", "마피아");
+        index.upsert("r4", "Special-Mafia Room");
+    }
+
+    @Test
+    @DisplayName("검색 - 정확히 일치 > 접두 일치 > 부분 일치 순으로 정렬")
+    void search_ranksExactThenPrefixThenContains() {
+        // when
+        List<String> result = index.search("마피아", 0, 10);
+
+        // then
+        assertThat(result).containsExactly("r3", "r1", "r2");
+    }
+
+    @Test
+    @DisplayName("검색 - 대소문자와 공백을 무시")
+    void search_ignoresCaseAndWhitespace() {
+        assertThat(index.search("special-mafia", 0, 10)).containsExactly("r4");
+        assertThat(index.search("마피아게임", 0, 10)).containsExactly("r1");
+    }
+
+    @Test
+    @DisplayName("검색 - 한 글자 키워드도 포스팅으로 조회")
+    void search_singleCharacter() {
+        assertThat(index.search("환", 0, 10)).containsExactly("r2");
+    }
+
+    @Test
+    @DisplayName("검색 - 초성만 입력하면 초성 색인으로 조회")
+    void search_choseong() {
+        assertThat(index.search("ㅁㅍㅇ", 0, 10)).containsExactly("r3", "r1", "r2");
+        assertThat(index.search("ㅊㅂ", 0, 10)).containsExactly("r2");
+    }
+
+    @Test
+    @DisplayName("검색 - bigram 은 모두 존재하지만 연속되지 않으면 제외")
+    void search_verifiesContiguousMatch() {
+        // given
+        index.upsert("r5", "게임 마피");
+
+        // when & then ("피게"는 색인에 없는 bigram → 후보 없음, "마피"는 r5 포함)
+        assertThat(index.search("피게", 0, 10)).isEmpty();
+        assertThat(index.search("마피", 0, 10)).contains("r5");
+    }
+
+    @Test
+    @DisplayName("검색 - offset/limit 페이지 처리")
+    void search_paging() {
+        assertThat(index.search("마피아", 0, 2)).containsExactly("r3", "r1");
+        assertThat(index.search("마피아", 2, 2)).containsExactly("r2");
+        assertThat(index.search("마피아", 4, 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름 변경 - 이전 이름의 n-gram 은 제거")
+    void upsert_renameRemovesOldGrams() {
+        // when
+        boolean changed = index.upsert("r1", "시민 모임");
+
+        // then
+        assertThat(changed).isTrue();
+        assertThat(index.search("게임", 0, 10)).isEmpty();
+        assertThat(index.search("시민", 0, 10)).containsExactly("r1");
+    }
+
+    @Test
+    @DisplayName("같은 이름 재저장 - 변경 없음")
+    void upsert_sameNameIsNoop() {
+        assertThat(index.upsert("r1", "마피아 게임")).isFalse();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("삭제 - 검색 결과에서 제외")
+    void remove() {
+        // when
+        boolean removed = index.remove("r3");
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(index.remove("r3")).isFalse();
+        assertThat(index.search("마피아", 0, 10)).containsExactly("r1", "r2");
+    }
+}
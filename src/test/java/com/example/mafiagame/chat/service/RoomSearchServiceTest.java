@@ -0,0 +1,80 @@
+package com.example.mafiagame.chat.service;
+
+import com.example.mafiagame.chat.domain.ChatRoom;
+import com.example.mafiagame.global.service.RedisService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoomSearchServiceTest {
+
+    @Mock
+    private RedisService redisService;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private RoomSearchService roomSearchService;
+
+    @BeforeEach
+    void setUp() {
+        roomSearchService = new RoomSearchService(redisService, stringRedisTemplate, listenerContainer);
+    }
+
+    @Test
+    @DisplayName("재동기화 중 새로 만들어진 방은 Redis 스냅샷에 없어도 색인에서 지우지 않는다")
+    void reconcile_keepsRoomCreatedDuringRedisRead() {
+        // given
+        roomSearchService.indexRoom(room("room-old", "삭제된 방"));
+        when(redisService.getAllRoomIds()).thenAnswer(invocation -> {
+            // Redis 조회 직후 다른 요청이 방을 만든 상황
+            roomSearchService.indexRoom(room("room-new", "새로 만든 방"));
+            return Set.of();
+        });
+        when(redisService.getChatRooms(anyList())).thenReturn(List.of());
+
+        // when
+        roomSearchService.reconcile();
+
+        // then
+        assertThat(roomSearchService.search("새로", 0, 10)).containsExactly("room-new");
+        assertThat(roomSearchService.search("삭제", 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Pub/Sub 으로 받지 못한 방 이름 변경을 재동기화에서 반영한다")
+    void reconcile_appliesMissedRename() {
+        // given
+        roomSearchService.indexRoom(room("room-1", "초보 환영"));
+        when(redisService.getAllRoomIds()).thenReturn(Set.of("room-1", "room-2"));
+        when(redisService.getChatRooms(anyList()))
+                .thenReturn(List.of(room("room-1", "고수만 오세요"), room("room-2", "초보 방")));
+
+        // when
+        roomSearchService.reconcile();
+
+        // then
+        assertThat(roomSearchService.search("고수", 0, 10)).containsExactly("room-1");
+        assertThat(roomSearchService.search("초보", 0, 10)).containsExactly("room-2");
+    }
+
+    private ChatRoom room(String roomId, String roomName) {
+        ChatRoom room = new ChatRoom(roomName, "host", "방장");
+        room.setRoomId(roomId);
+        return room;
+    }
+}
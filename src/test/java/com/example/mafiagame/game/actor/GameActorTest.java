@@ -0,0 +1,69 @@
+package com.example.mafiagame.game.actor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameActorTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("여러 스레드 executor 위에서도 명령을 넣은 순서대로 하나씩 실행한다")
+    void commands_runInOrderOneAtATime() throws Exception {
+        // given
+        GameActor actor = new GameActor(executor);
+        List<Integer> executed = new ArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(200);
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            int order = i;
+            actor.tell(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                executed.add(order);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(executed).hasSize(200).isSorted();
+    }
+
+    @Test
+    @DisplayName("명령 하나가 실패해도 다음 명령은 계속 실행된다")
+    void failedCommand_doesNotStopMailbox() throws Exception {
+        // given
+        GameActor actor = new GameActor(executor);
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        actor.tell(() -> {
+            throw new IllegalStateException("simulated failure");
+        });
+        actor.tell(done::countDown);
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.mafiagame.game.actor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GameOwnerRingTest {
+
+    private static final List<String> NODES = List.of("node-a", "node-b", "node-c", "node-d");
+    private static final int GAMES = 10_000;
+
+    @Test
+    @DisplayName("노드 목록 순서와 관계없이 같은 게임은 같은 노드가 맡는다")
+    void sameNodes_sameOwner() {
+        // given
+        GameOwnerRing ring = GameOwnerRing.of(NODES, 64);
+        GameOwnerRing reordered = GameOwnerRing.of(NODES.reversed(), 64);
+
+        // when & then
+        for (int i = 0; i < 1_000; i++) {
+            String gameId = "game-" + i;
+            assertThat(reordered.ownerOf(gameId)).isEqualTo(ring.ownerOf(gameId));
+        }
+    }
+
+    @Test
+    @DisplayName("노드 하나가 빠지면 그 노드의 게임만 다른 노드로 옮겨간다")
+    void nodeRemoved_onlyItsGamesMove() {
+        // given
+        GameOwnerRing before = GameOwnerRing.of(NODES, 64);
+        GameOwnerRing after = GameOwnerRing.of(List.of("node-a", "node-b", "node-c"), 64);
+
+        // when
+        int moved = 0;
+        for (int i = 0; i < GAMES; i++) {
+            String gameId = "game-" + i;
+            String previous = before.ownerOf(gameId);
+            String current = after.ownerOf(gameId);
+            if (!previous.equals(current)) {
+                moved++;
+                // then
+                assertThat(previous).isEqualTo("node-d");
+            }
+        }
+
+        // then
+        assertThat(moved).isBetween(GAMES / 8, GAMES * 3 / 8);
+    }
+
+    @Test
+    @DisplayName("가상 노드로 게임이 노드들에 고르게 나뉜다")
+    void virtualNodes_spreadGamesEvenly() {
+        // given
+        GameOwnerRing ring = GameOwnerRing.of(NODES, 64);
+
+        // when
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < GAMES; i++) {
+            counts.merge(ring.ownerOf("game-" + i), 1, Integer::sum);
+        }
+
+        // then
+        assertThat(counts).containsOnlyKeys(NODES);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(GAMES / 8, GAMES * 3 / 8));
+    }
+
+    @Test
+    @DisplayName("노드가 없으면 소유 노드를 정하지 않는다")
+    void emptyRing_noOwner() {
+        // given
+        GameOwnerRing ring = GameOwnerRing.of(List.of(), 64);
+
+        // when & then
+        assertThat(ring.ownerOf("game-1")).isNull();
+        assertThat(ring.hasSameNodes(List.of())).isTrue();
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.mafiagame.game.actor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.mafiagame.chat.service.WebSocketMessageBroadcaster;
+import com.example.mafiagame.game.service.GameService;
+import com.example.mafiagame.game.service.RedisTimerService;
+import com.example.mafiagame.global.metrics.GameMetrics;
+import com.example.mafiagame.support.RedisTestContainerSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class GameOwnershipIntegrationTest extends RedisTestContainerSupport {
+
+    private static final String GAME_ID = "game-owner-1";
+    private static final String LEASE_KEY = "game:owner:" + GAME_ID;
+    private static final String NODES_KEY = "game:nodes";
+    private static final long LEASE_MILLIS = 1_000L;
+    private static final long NODE_TTL_MILLIS = 3_000L;
+    private static final long CLOCK_SKEW_MILLIS = 200L;
+    private static final long ASK_TIMEOUT_MILLIS = 3_000L;
+
+    @Autowired
+    @Qualifier("coreStringRedisTemplate")
+    private StringRedisTemplate coreStringRedisTemplate;
+
+    @Autowired
+    @Qualifier("supportStringRedisTemplate")
+    private StringRedisTemplate supportStringRedisTemplate;
+
+    @Autowired
+    @Qualifier("supportRedisMessageListenerContainer")
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<GameCommandRouter> routers = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (GameCommandRouter router : routers) {
+            listenerContainer.removeMessageListener(router);
+            router.shutdown();
+        }
+        routers.clear();
+        try (RedisConnection connection = coreStringRedisTemplate.getRequiredConnectionFactory().getConnection()) {
+            connection.serverCommands().flushDb();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드의 임대가 살아 있으면 두 번째 노드는 게임을 가져가지 못한다")
+    void acquire_liveLease_rejectsSecondNode() {
+        // given
+        GameOwnership owner = ownership();
+        GameOwnership other = ownership();
+        assertThat(owner.acquire(GAME_ID)).isTrue();
+        owner.heartbeat();
+        other.heartbeat();
+
+        // when
+        boolean claimed = other.acquire(GAME_ID);
+
+        // then
+        assertThat(claimed).isFalse();
+        assertThat(other.isOwnedLocally(GAME_ID)).isFalse();
+        assertThat(other.ownerOf(GAME_ID)).isEqualTo(owner.nodeId());
+        assertThat(coreStringRedisTemplate.opsForValue().get(LEASE_KEY)).isEqualTo(owner.nodeId());
+    }
+
+    @Test
+    @DisplayName("임대 연장에 실패하면 그 게임을 더 이상 자기 것으로 보지 않는다")
+    void heartbeat_renewalFails_stopsOwning() {
+        // given
+        GameOwnership owner = ownership();
+        assertThat(owner.acquire(GAME_ID)).isTrue();
+        // 임대가 만료되어 다른 노드가 가져간 상황
+        coreStringRedisTemplate.opsForValue().set(LEASE_KEY, "other-node", Duration.ofMillis(LEASE_MILLIS));
+
+        // when
+        owner.heartbeat();
+
+        // then
+        assertThat(owner.isOwnedLocally(GAME_ID)).isFalse();
+        assertThat(owner.acquire(GAME_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("임대를 연장하지 못한 노드는 Redis 임대가 끝나기 전에 소유를 멈춘다")
+    void noRenewal_stopsOwningBeforeRedisLeaseExpires() {
+        // given
+        GameOwnership owner = ownership();
+        assertThat(owner.acquire(GAME_ID)).isTrue();
+
+        // when
+        await().atMost(Duration.ofMillis(LEASE_MILLIS))
+                .pollInterval(Duration.ofMillis(20))
+                .until(() -> !owner.isOwnedLocally(GAME_ID));
+
+        // then
+        assertThat(coreStringRedisTemplate.opsForValue().get(LEASE_KEY)).isEqualTo(owner.nodeId());
+    }
+
+    @Test
+    @DisplayName("소유 노드가 죽으면 lease-ms 가 지난 뒤 다른 노드가 게임을 이어받는다")
+    void deadOwner_takenOverAfterLease() {
+        // given
+        GameOwnership deadOwner = ownership();
+        GameOwnership successor = ownership();
+        assertThat(deadOwner.acquire(GAME_ID)).isTrue();
+        long diedAt = System.currentTimeMillis();
+        assertThat(successor.acquire(GAME_ID)).isFalse();
+
+        // when
+        await().atMost(Duration.ofMillis(LEASE_MILLIS * 3))
+                .pollInterval(Duration.ofMillis(50))
+                .until(() -> successor.acquire(GAME_ID));
+
+        // then
+        assertThat(System.currentTimeMillis() - diedAt).isGreaterThanOrEqualTo(LEASE_MILLIS - CLOCK_SKEW_MILLIS);
+        assertThat(successor.isOwnedLocally(GAME_ID)).isTrue();
+        assertThat(coreStringRedisTemplate.opsForValue().get(LEASE_KEY)).isEqualTo(successor.nodeId());
+    }
+
+    @Test
+    @DisplayName("소유 노드가 아닌 노드로 온 명령은 소유 노드로 전달되어 응답을 받는다")
+    void nonOwner_forwardsCommandAndGetsReply() {
+        // given
+        GameOwnership ownerNode = ownership();
+        GameOwnership otherNode = ownership();
+        GameService ownerService = mock(GameService.class);
+        GameService otherService = mock(GameService.class);
+        router(ownerNode, ownerService, mock(WebSocketMessageBroadcaster.class));
+        GameCommandRouter otherRouter = router(otherNode, otherService, mock(WebSocketMessageBroadcaster.class));
+        assertThat(ownerNode.acquire(GAME_ID)).isTrue();
+        ownerNode.heartbeat();
+        otherNode.heartbeat();
+        when(ownerService.advancePhase(GAME_ID)).thenReturn(true);
+
+        // when
+        boolean advanced = otherRouter.advancePhase(GAME_ID);
+        otherRouter.vote(GAME_ID, "p1", "p2");
+
+        // then
+        assertThat(advanced).isTrue();
+        verify(ownerService).advancePhase(GAME_ID);
+        verify(ownerService, timeout(ASK_TIMEOUT_MILLIS)).vote(GAME_ID, "p1", "p2");
+        verify(otherService, never()).advancePhase(anyString());
+        verify(otherService, never()).vote(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("소유 노드에 닿지 못한 투표는 보낸 플레이어에게 ERROR 로 알린다")
+    void unreachableOwner_sendsErrorToPlayer() {
+        // given
+        GameOwnership node = ownership();
+        WebSocketMessageBroadcaster broadcaster = mock(WebSocketMessageBroadcaster.class);
+        GameCommandRouter router = router(node, mock(GameService.class), broadcaster);
+        // 하트비트는 남아 있지만 프로세스가 죽어 구독자가 없는 소유 노드
+        coreStringRedisTemplate.opsForZSet().add(NODES_KEY, "dead-node", System.currentTimeMillis());
+        coreStringRedisTemplate.opsForValue().set(LEASE_KEY, "dead-node", Duration.ofMillis(LEASE_MILLIS * 10));
+        node.heartbeat();
+
+        // when
+        router.vote(GAME_ID, "p1", "p2");
+
+        // then
+        verify(broadcaster, timeout(ASK_TIMEOUT_MILLIS)).sendError(eq("p1"), anyString());
+    }
+
+    private GameOwnership ownership() {
+        return new GameOwnership(coreStringRedisTemplate, LEASE_MILLIS, NODE_TTL_MILLIS, CLOCK_SKEW_MILLIS, 64,
+                mock(GameMetrics.class));
+    }
+
+    private GameCommandRouter router(GameOwnership ownership, GameService gameService,
+            WebSocketMessageBroadcaster broadcaster) {
+        GameCommandRouter router = new GameCommandRouter(gameService, mock(RedisTimerService.class), ownership,
+                mock(GameMetrics.class), broadcaster, supportStringRedisTemplate, listenerContainer, objectMapper,
+                ASK_TIMEOUT_MILLIS);
+        router.subscribe();
+        routers.add(router);
+        awaitSubscribed(ownership.nodeId());
+        return router;
+    }
+
+    /**
+     * 명령/응답 채널은 한 번에 구독하므로 응답 채널 구독을 확인 (없는 요청 ID 라 무시됨)
+     */
+    private void awaitSubscribed(String nodeId) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> {
+            String probe = objectMapper.writeValueAsString(
+                    new GameCommandRouter.CommandReply("probe", GameCommandRouter.Result.APPLIED));
+            Long receivers = supportStringRedisTemplate.convertAndSend("game:replies:" + nodeId, probe);
+            return receivers != null && receivers > 0;
+        });
+    }
+}
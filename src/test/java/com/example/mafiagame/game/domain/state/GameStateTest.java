@@ -0,0 +1,115 @@
+package com.example.mafiagame.game.domain.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import com.example.mafiagame.global.config.RedisConfig;
+
+class GameStateTest {
+
+    @Test
+    @DisplayName("플레이어 조회와 생존 마피아/시민 집계는 인덱스로 처리한다")
+    void lookupAndCount() {
+        // given
+        GameState gameState = gameState(PlayerRole.MAFIA, PlayerRole.DOCTOR, PlayerRole.POLICE, PlayerRole.CITIZEN);
+
+        // when
+        GamePlayerState found = gameState.findPlayer("user-2");
+
+        // then
+        assertThat(found.getRole()).isEqualTo(PlayerRole.POLICE);
+        assertThat(gameState.findPlayer("unknown")).isNull();
+        assertThat(gameState.findPlayer(null)).isNull();
+        assertThat(gameState.isPlayerAlive("user-0")).isTrue();
+        assertThat(gameState.countAliveMafia()).isEqualTo(1);
+        assertThat(gameState.countAliveCitizen()).isEqualTo(3);
+        assertThat(gameState.checkWinner()).isNull();
+    }
+
+    @Test
+    @DisplayName("killPlayer 는 생존 비트셋을 갱신해 승리 판정에 바로 반영된다")
+    void killPlayer_updatesWinner() {
+        // given
+        GameState gameState = gameState(PlayerRole.MAFIA, PlayerRole.DOCTOR, PlayerRole.CITIZEN);
+
+        // when
+        gameState.killPlayer(gameState.findPlayer("user-1"), 2);
+
+        // then
+        assertThat(gameState.findPlayer("user-1").getDeathPhase()).isEqualTo(2);
+        assertThat(gameState.isPlayerAlive("user-1")).isFalse();
+        assertThat(gameState.findActivePlayer("user-1")).isNull();
+        assertThat(gameState.countAliveCitizen()).isEqualTo(1);
+        assertThat(gameState.checkWinner()).isEqualTo(Team.MAFIA);
+    }
+
+    @Test
+    @DisplayName("assignRole 로 바꾼 직업은 마피아 집계에 반영되고 목록 교체 시 인덱스를 다시 만든다")
+    void assignRoleAndReplacePlayers() {
+        // given
+        GameState gameState = gameState(PlayerRole.CITIZEN, PlayerRole.CITIZEN, PlayerRole.CITIZEN);
+        assertThat(gameState.checkWinner()).isEqualTo(Team.CITIZEN);
+
+        // when
+        gameState.assignRole(gameState.findPlayer("user-0"), PlayerRole.MAFIA);
+
+        // then
+        assertThat(gameState.countAliveMafia()).isEqualTo(1);
+        assertThat(gameState.checkWinner()).isNull();
+
+        // when
+        gameState.setPlayers(players(PlayerRole.MAFIA, PlayerRole.CITIZEN));
+
+        // then
+        assertThat(gameState.findPlayer("user-2")).isNull();
+        assertThat(gameState.checkWinner()).isEqualTo(Team.MAFIA);
+    }
+
+    @Test
+    @DisplayName("Redis 직렬화에는 인덱스가 포함되지 않고 역직렬화 후 다시 만들어진다")
+    void redisRoundTrip_rebuildsIndex() {
+        // given
+        Jackson2JsonRedisSerializer<Object> serializer = RedisConfig.typedJsonRedisSerializer();
+        GameState gameState = gameState(PlayerRole.MAFIA, PlayerRole.DOCTOR, PlayerRole.CITIZEN);
+        gameState.killPlayer(gameState.findPlayer("user-2"), 1);
+
+        // when
+        byte[] serialized = serializer.serialize(gameState);
+        GameState restored = (GameState) serializer.deserialize(serialized);
+
+        // then
+        assertThat(new String(serialized)).doesNotContain("playerIndex");
+        assertThat(restored.findPlayer("user-1").getRole()).isEqualTo(PlayerRole.DOCTOR);
+        assertThat(restored.isPlayerAlive("user-2")).isFalse();
+        assertThat(restored.countAliveMafia()).isEqualTo(1);
+        assertThat(restored.checkWinner()).isEqualTo(Team.MAFIA);
+    }
+
+    private GameState gameState(PlayerRole... roles) {
+        return GameState.builder()
+                .gameId("game-1")
+                .roomId("room-1")
+                .players(players(roles))
+                .build();
+    }
+
+    private List<GamePlayerState> players(PlayerRole... roles) {
+        List<GamePlayerState> players = new ArrayList<>();
+        for (int i = 0; i < roles.length; i++) {
+            players.add(GamePlayerState.builder()
+                    .playerId("user-" + i)
+                    .playerName("플레이어" + i)
+                    .role(roles[i])
+                    .team(roles[i] == PlayerRole.MAFIA ? Team.MAFIA : Team.CITIZEN)
+                    .isAlive(true)
+                    .build());
+        }
+        return players;
+    }
+}
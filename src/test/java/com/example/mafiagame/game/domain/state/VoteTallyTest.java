@@ -0,0 +1,112 @@
+package com.example.mafiagame.game.domain.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VoteTallyTest {
+
+    @Test
+    @DisplayName("단독 최다 득표자를 한 번의 순회로 결정한다")
+    void winner_single() {
+        // given
+        VoteTally tally = new VoteTally(4);
+
+        // when
+        tally.add(1, 1);
+        tally.add(2, 1);
+        tally.add(1, 1);
+
+        // then
+        assertThat(tally.winner()).isEqualTo(1);
+        assertThat(tally.maxVotes()).isEqualTo(2);
+        assertThat(tally.isTied()).isFalse();
+        assertThat(tally.topCandidates()).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("동률이면 winner 는 -1 이고 leader 는 먼저 도달한 후보를 돌려준다")
+    void tie() {
+        // given
+        VoteTally tally = new VoteTally(4);
+
+        // when
+        tally.add(3, 1);
+        tally.add(0, 1);
+
+        // then
+        assertThat(tally.winner()).isEqualTo(-1);
+        assertThat(tally.leader()).isEqualTo(3);
+        assertThat(tally.topCandidates()).containsExactly(0, 3);
+
+        // when
+        tally.add(0, 1);
+
+        // then
+        assertThat(tally.isTied()).isFalse();
+        assertThat(tally.winner()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("가중치만큼 득표하고 범위 밖 후보는 무시하며 0 이하 가중치는 거부한다")
+    void weightAndBounds() {
+        // given
+        VoteTally tally = new VoteTally(3);
+
+        // when
+        tally.add(0, 1);
+        tally.add(0, 1);
+        tally.add(2, 3);
+        tally.add(-1, 5);
+        tally.add(3, 5);
+
+        // then
+        assertThat(tally.countOf(2)).isEqualTo(3);
+        assertThat(tally.winner()).isEqualTo(2);
+        assertThatThrownBy(() -> tally.add(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("표가 없으면 최다 득표자가 없다")
+    void empty() {
+        // given
+        VoteTally tally = new VoteTally(5);
+
+        // when & then
+        assertThat(tally.winner()).isEqualTo(-1);
+        assertThat(tally.leader()).isEqualTo(-1);
+        assertThat(tally.topCandidates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("GameState 낮 투표 집계는 목록에 없는 대상을 무시하고 플레이어 ID 로 돌려준다")
+    void gameState_tallyVotes() {
+        // given
+        List<GamePlayerState> players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            players.add(GamePlayerState.builder()
+                    .playerId("user-" + i)
+                    .playerName("플레이어" + i)
+                    .role(i == 0 ? PlayerRole.MAFIA : PlayerRole.CITIZEN)
+                    .isAlive(true)
+                    .build());
+        }
+        GameState gameState = GameState.builder().gameId("game-1").players(players).build();
+        gameState.getVotes().put("user-0", "user-2");
+        gameState.getVotes().put("user-1", "user-2");
+        gameState.getVotes().put("user-2", "user-1");
+        gameState.getVotes().put("user-3", "unknown");
+
+        // when
+        VoteTally tally = gameState.tallyVotes();
+
+        // then
+        assertThat(gameState.playerAt(tally.winner()).getPlayerId()).isEqualTo("user-2");
+        assertThat(gameState.getTopVotedPlayerIds()).containsExactly("user-2");
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.mafiagame.game.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GamePlayerJdbcRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @InjectMocks
+    private GamePlayerJdbcRepository repository;
+
+    @Test
+    @DisplayName("참가자 등록은 한 문장의 multi-row INSERT 로 실행된다")
+    void insertPlayers_singleStatement() {
+        // when
+        repository.insertPlayers("game-1", List.of(1L, 2L, 3L));
+
+        // then
+        verify(jdbcTemplate).update(
+                eq("INSERT INTO game_player (game_id, user_id, is_alive) VALUES (?, ?, true), (?, ?, true), (?, ?, true)"),
+                eq("game-1"), eq(1L), eq("game-1"), eq(2L), eq("game-1"), eq(3L));
+    }
+
+    @Test
+    @DisplayName("행 수가 상한을 넘으면 여러 문장으로 나눈다")
+    void upsertResults_chunked() {
+        // given
+        List<GamePlayerJdbcRepository.PlayerResultRow> rows = LongStream.rangeClosed(1, 1200)
+                .mapToObj(id -> new GamePlayerJdbcRepository.PlayerResultRow("game-1", id, null, "CITIZEN", true,
+                        null, true))
+                .toList();
+
+        // when
+        repository.upsertResults(rows);
+
+        // then
+        verify(jdbcTemplate, times(3)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+}
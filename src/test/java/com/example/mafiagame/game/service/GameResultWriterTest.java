@@ -0,0 +1,69 @@
+package com.example.mafiagame.game.service;
+
+import com.example.mafiagame.kafka.event.GameEndedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SortedMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameResultWriterTest {
+
+    private GameEndedEvent event(String gameId, List<String> players, List<String> winners) {
+        return GameEndedEvent.builder()
+                .gameId(gameId)
+                .winnerTeam("CITIZEN")
+                .playerIds(players)
+                .winnerIds(winners)
+                .build();
+    }
+
+    @Test
+    @DisplayName("여러 게임의 전적 증감을 유저별로 합산한다")
+    void aggregate_sumsPerUser() {
+        // given
+        List<GameEndedEvent> events = List.of(
+                event("game-1", List.of("a", "b", "c"), List.of("a", "b")),
+                event("game-2", List.of("a", "c", "d"), List.of("c")));
+
+        // when
+        SortedMap<String, GameResultWriter.StatsDelta> deltas = GameResultWriter.aggregate(events);
+
+        // then
+        assertThat(deltas.keySet()).containsExactly("a", "b", "c", "d");
+        assertThat(deltas.get("a")).isEqualTo(new GameResultWriter.StatsDelta(2, 1));
+        assertThat(deltas.get("b")).isEqualTo(new GameResultWriter.StatsDelta(1, 1));
+        assertThat(deltas.get("c")).isEqualTo(new GameResultWriter.StatsDelta(2, 1));
+        assertThat(deltas.get("d")).isEqualTo(new GameResultWriter.StatsDelta(1, 0));
+    }
+
+    @Test
+    @DisplayName("한 게임 안에서 중복된 플레이어는 한 번만 집계한다")
+    void aggregate_ignoresDuplicatePlayerInGame() {
+        // given
+        List<GameEndedEvent> events = List.of(
+                event("game-1", List.of("a", "a", "b"), List.of("a")));
+
+        // when
+        SortedMap<String, GameResultWriter.StatsDelta> deltas = GameResultWriter.aggregate(events);
+
+        // then
+        assertThat(deltas.get("a")).isEqualTo(new GameResultWriter.StatsDelta(1, 1));
+        assertThat(deltas.get("b")).isEqualTo(new GameResultWriter.StatsDelta(1, 0));
+    }
+
+    @Test
+    @DisplayName("승자 목록이 없으면 모두 패배로 집계한다")
+    void aggregate_withoutWinners() {
+        // given
+        List<GameEndedEvent> events = List.of(event("game-1", List.of("a", "b"), null));
+
+        // when
+        SortedMap<String, GameResultWriter.StatsDelta> deltas = GameResultWriter.aggregate(events);
+
+        // then
+        assertThat(deltas.values()).allMatch(delta -> delta.plays() == 1 && delta.wins() == 0);
+    }
+}
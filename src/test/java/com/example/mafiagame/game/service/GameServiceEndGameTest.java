@@ -0,0 +1,167 @@
+package com.example.mafiagame.game.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.example.mafiagame.chat.domain.ChatRoom;
+import com.example.mafiagame.chat.service.WebSocketMessageBroadcaster;
+import com.example.mafiagame.game.actor.GameOwnership;
+import com.example.mafiagame.game.domain.state.GamePhase;
+import com.example.mafiagame.game.domain.state.GamePlayerState;
+import com.example.mafiagame.game.domain.state.GameState;
+import com.example.mafiagame.game.domain.state.GameStatus;
+import com.example.mafiagame.game.domain.state.Team;
+import com.example.mafiagame.game.repository.GamePlayerJdbcRepository;
+import com.example.mafiagame.game.repository.GameQueryRepository;
+import com.example.mafiagame.game.repository.GameRepository;
+import com.example.mafiagame.game.repository.GameStateRepository;
+import com.example.mafiagame.game.state.GamePhaseFactory;
+import com.example.mafiagame.global.lock.LockContentionTracker;
+import com.example.mafiagame.global.metrics.GameMetrics;
+import com.example.mafiagame.kafka.config.KafkaTopics;
+import com.example.mafiagame.kafka.outbox.OutboxEventPublisher;
+import com.example.mafiagame.matchmaking.repository.MatchmakingQueueRepository;
+import com.example.mafiagame.user.repository.UsersRepository;
+
+@ExtendWith(MockitoExtension.class)
+class GameServiceEndGameTest {
+
+    private static final String GAME_ID = "game-1";
+    private static final String ENDED_KEY = "game:ended:" + GAME_ID;
+
+    @Mock
+    private GameRepository gameRepository;
+    @Mock
+    private GamePlayerJdbcRepository gamePlayerJdbcRepository;
+    @Mock
+    private GameStateRepository gameStateRepository;
+    @Mock
+    private GameQueryRepository gameQueryRepository;
+    @Mock
+    private UsersRepository usersRepository;
+    @Mock
+    private WebSocketMessageBroadcaster messageBroadcaster;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private RedissonClient redissonClient;
+    @Mock
+    private RedisTimerService timerService;
+    @Mock
+    private GamePhaseFactory gamePhaseFactory;
+    @Mock
+    private PhaseResultProcessor phaseResultProcessor;
+    @Mock
+    private RedisTemplate<String, ChatRoom> chatRoomRedisTemplate;
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+    @Mock
+    private GameMetrics gameMetrics;
+    @Mock
+    private LockContentionTracker lockContentionTracker;
+    @Mock
+    private GameOwnership gameOwnership;
+    @Mock
+    private MatchmakingQueueRepository matchmakingQueueRepository;
+
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameService(gameRepository, gamePlayerJdbcRepository, gameStateRepository,
+                gameQueryRepository, usersRepository, messageBroadcaster, stringRedisTemplate, redissonClient,
+                timerService, gamePhaseFactory, phaseResultProcessor, chatRoomRedisTemplate, outboxEventPublisher,
+                gameMetrics, lockContentionTracker, gameOwnership, matchmakingQueueRepository);
+        when(gameStateRepository.findById(GAME_ID)).thenReturn(Optional.of(endedGame()));
+    }
+
+    @Test
+    @DisplayName("game.ended 기록에 실패하면 예외를 전파하고 게임 상태와 종료 마커를 남기지 않는다")
+    void endGame_outboxFailure_keepsStateForRetry() {
+        // given
+        doThrow(new IllegalStateException("outbox down"))
+                .when(outboxEventPublisher).publish(eq(KafkaTopics.GAME_ENDED), eq(GAME_ID), any());
+
+        // when & then
+        assertThatThrownBy(() -> gameService.endGame(GAME_ID, Team.CITIZEN))
+                .isInstanceOf(IllegalStateException.class);
+        verify(stringRedisTemplate, never()).opsForValue();
+        verify(gameStateRepository, never()).delete(anyString());
+        verify(timerService, never()).stopTimer(anyString());
+        verify(messageBroadcaster, never()).sendGameEnded(anyString(), any(), anyList());
+        verify(gameOwnership, never()).release(anyString());
+    }
+
+    @Test
+    @DisplayName("결과를 기록한 뒤에만 종료 마커를 남기고 게임 상태를 삭제/알림한다")
+    void endGame_recordsResultBeforeCleanup() {
+        // given
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        gameService.endGame(GAME_ID, Team.CITIZEN);
+
+        // then
+        InOrder order = inOrder(outboxEventPublisher, valueOperations, gameStateRepository, messageBroadcaster,
+                gameOwnership);
+        order.verify(outboxEventPublisher).publish(eq(KafkaTopics.GAME_ENDED), eq(GAME_ID), any());
+        order.verify(valueOperations).set(eq(ENDED_KEY), eq(Team.CITIZEN.name()), any(Duration.class));
+        order.verify(gameStateRepository).delete(GAME_ID);
+        order.verify(messageBroadcaster).sendGameEnded(eq("room-1"), eq(Team.CITIZEN), anyList());
+        order.verify(gameOwnership).release(GAME_ID);
+    }
+
+    @Test
+    @DisplayName("이미 결과가 기록된 게임을 재시도하면 다시 기록하지 않고 정리만 수행한다")
+    void endGame_alreadyRecorded_onlyCleansUp() {
+        // given
+        when(stringRedisTemplate.hasKey(ENDED_KEY)).thenReturn(true);
+
+        // when
+        gameService.endGame(GAME_ID, Team.CITIZEN);
+
+        // then
+        verify(outboxEventPublisher, never()).publish(anyString(), anyString(), any());
+        verify(gameStateRepository).delete(GAME_ID);
+        verify(messageBroadcaster).sendGameEnded(eq("room-1"), eq(Team.CITIZEN), anyList());
+    }
+
+    private GameState endedGame() {
+        return GameState.builder()
+                .gameId(GAME_ID)
+                .roomId("room-1")
+                .status(GameStatus.ENDED)
+                .gamePhase(GamePhase.DAY_FINAL_VOTING)
+                .currentPhase(3)
+                .players(List.of(
+                        GamePlayerState.builder().playerId("p1").playerName("철수").isAlive(true).build(),
+                        GamePlayerState.builder().playerId("p2").playerName("영희").isAlive(false).build()))
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.mafiagame.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.mafiagame.game.domain.state.GamePhase;
+import com.example.mafiagame.game.domain.state.PlayerRole;
+import com.example.mafiagame.game.service.SuggestionCatalog.Slot;
+
+class SuggestionCatalogTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private final SuggestionCatalog catalog = new SuggestionCatalog(clock::get);
+
+    @Test
+    @DisplayName("기본 문구는 불변 사본으로 보관하고 없는 슬롯은 빈 목록을 돌려준다")
+    void loadBase_keepsImmutableCopy() {
+        // given
+        List<String> source = new ArrayList<>(List.of("누구 죽일까요?"));
+        catalog.loadBase(Map.of(new Slot(PlayerRole.MAFIA, GamePhase.NIGHT_ACTION), source));
+        source.add("변경");
+
+        // when
+        List<String> mafiaNight = catalog.base(PlayerRole.MAFIA, GamePhase.NIGHT_ACTION);
+
+        // then
+        assertThat(mafiaNight).containsExactly("누구 죽일까요?");
+        assertThat(catalog.base(PlayerRole.CITIZEN, GamePhase.NIGHT_ACTION)).isEmpty();
+        assertThatThrownBy(() -> mafiaNight.add("x")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("게임별 문구는 더 새 버전만 덮어쓴다")
+    void putGame_keepsNewerVersion() {
+        // given
+        catalog.putGame("game-1", List.of("새 추천"), 200, 60_000);
+
+        // when
+        boolean stale = catalog.putGame("game-1", List.of("이전 추천"), 100, 60_000);
+        boolean newer = catalog.putGame("game-1", List.of("최신 추천"), 300, 60_000);
+
+        // then
+        assertThat(stale).isFalse();
+        assertThat(newer).isTrue();
+        assertThat(catalog.game("game-1").suggestions()).containsExactly("최신 추천");
+        assertThat(catalog.game("game-1").version()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("만료된 게임별 문구는 조회되지 않고 이전 버전으로도 다시 채울 수 있다")
+    void game_expires() {
+        // given
+        catalog.putGame("game-1", List.of("AI 추천"), 200, 5_000);
+        clock.addAndGet(5_000);
+
+        // when
+        SuggestionCatalog.GameSuggestions expired = catalog.game("game-1");
+        boolean refilled = catalog.putGame("game-1", List.of("Redis 추천"), 0, 5_000);
+
+        // then
+        assertThat(expired).isNull();
+        assertThat(refilled).isTrue();
+        assertThat(catalog.game("game-1").suggestions()).containsExactly("Redis 추천");
+    }
+
+    @Test
+    @DisplayName("주기 정리는 만료된 게임별 문구만 제거한다")
+    void evictExpired_removesOnlyExpired() {
+        // given
+        catalog.putGame("ended-game", List.of("끝난 게임 추천"), 100, 5_000);
+        catalog.putGame("live-game", List.of("진행 중 추천"), 100, 60_000);
+        clock.addAndGet(5_000);
+
+        // when
+        catalog.evictExpired();
+        // 시각을 되돌려도 조회되지 않아야 조회 시 만료 판정이 아니라 실제로 제거된 것
+        clock.addAndGet(-5_000);
+
+        // then
+        assertThat(catalog.game("ended-game")).isNull();
+        assertThat(catalog.game("live-game").suggestions()).containsExactly("진행 중 추천");
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.mafiagame.game.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.mafiagame.game.domain.state.GamePhase;
+import com.example.mafiagame.game.domain.state.PlayerRole;
+
+class SuggestionServiceTest {
+
+    @Test
+    @DisplayName("닉네임/대소문자/문장부호/반복 문자만 다른 채팅은 같은 지문을 만든다")
+    void promptFingerprint_ignoresSurfaceDifferences() {
+        // given
+        List<String> roomA = List.of("철수: 3번 수상해!!", "영희: ㅋㅋㅋㅋㅋ  OK");
+        List<String> roomB = List.of("민수: 3번 수상해", "지현: ㅋㅋ ok");
+
+        // when
+        String a = SuggestionService.promptFingerprint(GamePhase.DAY_DISCUSSION, PlayerRole.CITIZEN, roomA);
+        String b = SuggestionService.promptFingerprint(GamePhase.DAY_DISCUSSION, PlayerRole.CITIZEN, roomB);
+
+        // then
+        assertThat(a).isEqualTo(b);
+    }
+
+    @Test
+    @DisplayName("페이즈나 역할, 채팅 내용이 다르면 다른 지문을 만든다")
+    void promptFingerprint_separatesContexts() {
+        // given
+        List<String> logs = List.of("철수: 3번 수상해");
+
+        // when
+        String day = SuggestionService.promptFingerprint(GamePhase.DAY_DISCUSSION, PlayerRole.CITIZEN, logs);
+        String night = SuggestionService.promptFingerprint(GamePhase.NIGHT_ACTION, PlayerRole.MAFIA, logs);
+        String other = SuggestionService.promptFingerprint(GamePhase.DAY_DISCUSSION, PlayerRole.CITIZEN,
+                List.of("철수: 4번 수상해"));
+
+        // then
+        assertThat(day).isNotEqualTo(night).isNotEqualTo(other);
+    }
+
+    @Test
+    @DisplayName("채팅이 없는 방은 모두 같은 지문을 공유한다")
+    void promptFingerprint_emptyChat() {
+        // when
+        String empty = SuggestionService.promptFingerprint(GamePhase.DAY_DISCUSSION, PlayerRole.CITIZEN, List.of());
+        String blank = SuggestionService.promptFingerprint(GamePhase.DAY_DISCUSSION, PlayerRole.CITIZEN,
+                List.of("철수: !!!"));
+
+        // then
+        assertThat(empty).isEqualTo(blank);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.mafiagame.global.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AiRequestSchedulerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GeminiStub stub = new GeminiStub();
+    private AiRequestScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        stub.close();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter("ai.requests", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("같은 게임의 요청이 실행 중이면 마지막 요청만 이어서 실행한다")
+    void sameKey_coalescesToLatest() throws Exception {
+        // given
+        scheduler = new AiRequestScheduler(8, 6_000, 100, 1_000, meterRegistry);
+        GeminiApiClient client = new GeminiApiClient("test-key", stub.url(), 500, 2_000);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> executed = new CopyOnWriteArrayList<>();
+        scheduler.submit("game-1", () -> {
+            executed.add("first");
+            awaitRelease(release);
+        });
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            String context = "context-" + i;
+            scheduler.submit("game-1", () -> {
+                client.generateContent(context);
+                executed.add(context);
+            });
+        }
+        release.countDown();
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executed.size() == 2);
+        Thread.sleep(200);
+        assertThat(executed).containsExactly("first", "context-5");
+        assertThat(stub.requestCount()).isEqualTo(1);
+        assertThat(requests("coalesced")).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("다른 게임의 요청은 병합하지 않고 각각 실행한다")
+    void differentKeys_runIndependently() {
+        // given
+        scheduler = new AiRequestScheduler(8, 6_000, 100, 1_000, meterRegistry);
+        GeminiApiClient client = new GeminiApiClient("test-key", stub.url(), 500, 2_000);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            scheduler.submit("game-" + i, () -> client.generateContent("context"));
+        }
+
+        // then
+        await().atMost(5, TimeUnit.SECONDS).until(() -> requests("completed") == 10.0);
+        assertThat(stub.requestCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("토큰 버킷이 비어 있고 대기 한도 안에 차지 않으면 호출 허가를 주지 않는다")
+    void rateLimited_deniesPermit() {
+        // given (버스트 2, 분당 1회 → 세 번째 허가는 대기 한도 100ms 안에 토큰을 얻지 못함)
+        scheduler = new AiRequestScheduler(8, 1, 2, 100, meterRegistry);
+        try (AiRequestScheduler.Permit first = scheduler.tryAcquire("game-1");
+                AiRequestScheduler.Permit second = scheduler.tryAcquire("game-2")) {
+            assertThat(first).isNotNull();
+            assertThat(second).isNotNull();
+        }
+
+        // when
+        AiRequestScheduler.Permit third = scheduler.tryAcquire("game-3");
+
+        // then
+        assertThat(third).isNull();
+        assertThat(requests("rate_limited")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("동시 실행 슬롯이 모두 사용 중이면 반납될 때까지 허가를 주지 않는다")
+    void concurrencyLimit_deniesPermitUntilReleased() {
+        // given
+        scheduler = new AiRequestScheduler(1, 6_000, 100, 100, meterRegistry);
+        AiRequestScheduler.Permit inFlight = scheduler.tryAcquire("game-1");
+
+        // when
+        AiRequestScheduler.Permit denied = scheduler.tryAcquire("game-2");
+        inFlight.close();
+        AiRequestScheduler.Permit granted = scheduler.tryAcquire("game-2");
+
+        // then
+        assertThat(denied).isNull();
+        assertThat(granted).isNotNull();
+    }
+
+    @Test
+    @DisplayName("동시 실행 슬롯을 얻지 못한 요청은 토큰을 쓰지 않는다")
+    void concurrencyDenied_keepsToken() {
+        // given (버스트 2, 분당 1회 → 첫 허가 뒤 토큰 하나만 남음)
+        scheduler = new AiRequestScheduler(1, 1, 2, 100, meterRegistry);
+        AiRequestScheduler.Permit inFlight = scheduler.tryAcquire("game-1");
+
+        // when
+        AiRequestScheduler.Permit denied = scheduler.tryAcquire("game-2");
+        inFlight.close();
+        AiRequestScheduler.Permit granted = scheduler.tryAcquire("game-2");
+
+        // then
+        assertThat(denied).isNull();
+        assertThat(granted).isNotNull();
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
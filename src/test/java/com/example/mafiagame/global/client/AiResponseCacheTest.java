@@ -0,0 +1,79 @@
+package com.example.mafiagame.global.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AiResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong();
+
+    private AiResponseCache cache(int maxEntries) {
+        return new AiResponseCache(maxEntries, Duration.ofSeconds(60), meterRegistry, clock::get);
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.counter("ai.response.cache", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("같은 지문은 캐시된 응답을 돌려주고 적중/미스를 센다")
+    void get_countsHitAndMiss() {
+        // given
+        AiResponseCache cache = cache(10);
+        cache.put("DAY_DISCUSSION:CITIZEN:abc", List.of("나 시민", "스킵?"));
+
+        // when
+        List<String> hit = cache.get("DAY_DISCUSSION:CITIZEN:abc");
+        List<String> miss = cache.get("DAY_DISCUSSION:CITIZEN:def");
+
+        // then
+        assertThat(hit).containsExactly("나 시민", "스킵?");
+        assertThat(miss).isNull();
+        assertThat(lookups("hit")).isEqualTo(1.0);
+        assertThat(lookups("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 미스로 처리하고 제거한다")
+    void get_expiredEntry() {
+        // given
+        AiResponseCache cache = cache(10);
+        cache.put("fp", List.of("문구"));
+        clock.addAndGet(Duration.ofSeconds(61).toNanos());
+
+        // when
+        List<String> result = cache.get("fp");
+
+        // then
+        assertThat(result).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래 조회되지 않은 항목부터 제거한다")
+    void put_evictsLeastRecentlyUsed() {
+        // given
+        AiResponseCache cache = cache(2);
+        cache.put("a", List.of("a"));
+        cache.put("b", List.of("b"));
+        cache.get("a");
+
+        // when
+        cache.put("c", List.of("c"));
+
+        // then
+        assertThat(cache.get("a")).containsExactly("a");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).containsExactly("c");
+        assertThat(meterRegistry.get("ai.response.cache.size").gauge().value()).isEqualTo(2.0);
+    }
+}
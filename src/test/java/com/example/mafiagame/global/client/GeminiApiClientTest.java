@@ -0,0 +1,48 @@
+package com.example.mafiagame.global.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class GeminiApiClientTest {
+
+    private final GeminiStub stub = new GeminiStub();
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("Gemini 응답이 응답 타임아웃보다 늦으면 기다리지 않고 null 을 반환한다")
+    void slowApi_timesOut() {
+        // given
+        stub.latency(Duration.ofSeconds(2));
+        GeminiApiClient client = new GeminiApiClient("test-key", stub.url(), 500, 200);
+
+        // when
+        long start = System.nanoTime();
+        String response = client.generateContent("context");
+
+        // then
+        assertThat(response).isNull();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Gemini 응답의 첫 번째 후보 문구를 반환한다")
+    void generateContent_returnsFirstCandidate() {
+        // given
+        GeminiApiClient client = new GeminiApiClient("test-key", stub.url(), 500, 2_000);
+
+        // when
+        String response = client.generateContent("context");
+
+        // then
+        assertThat(response).isEqualTo(GeminiStub.TEXT);
+    }
+}
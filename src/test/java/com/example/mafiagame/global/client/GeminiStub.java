@@ -0,0 +1,57 @@
+package com.example.mafiagame.global.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 로컬 Gemini API 스텁 서버
+ * - 임의 포트로 뜨고 generateContent 요청에 고정 문구를 돌려준다
+ * - latency 로 API 지연을 흉내 낸다
+ */
+class GeminiStub implements AutoCloseable {
+
+    static final String TEXT = "나 진짜 시민임|||누가 마피아 같아?|||3번 좀 수상한데";
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final DisposableServer server;
+
+    private volatile Duration latency = Duration.ZERO;
+
+    GeminiStub() {
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes.post("/generateContent", (request, response) -> {
+                    requestCount.incrementAndGet();
+                    String body = "{\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"" + TEXT + "\"}]}}]}";
+                    return request.receive().then()
+                            .then(Mono.delay(latency))
+                            .then(response.header("Content-Type", "application/json")
+                                    .sendString(Mono.just(body))
+                                    .then());
+                }))
+                .bindNow();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.port() + "/generateContent";
+    }
+
+    GeminiStub latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.mafiagame.global.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MultiRowSqlTest {
+
+    @Test
+    @DisplayName("행 수만큼 VALUES 튜플을 이어 붙인다")
+    void of_joinsRows() {
+        String sql = MultiRowSql.of("INSERT INTO t (a, b) VALUES ", "(?, ?)", 3, " ON X");
+
+        assertThat(sql).isEqualTo("INSERT INTO t (a, b) VALUES (?, ?), (?, ?), (?, ?) ON X");
+    }
+
+    @Test
+    @DisplayName("한 문장의 행 수 상한으로 나눈다")
+    void chunks_splitsByMaxRows() {
+        // given
+        List<Integer> values = IntStream.range(0, MultiRowSql.MAX_ROWS_PER_STATEMENT * 2 + 1).boxed().toList();
+
+        // when
+        List<List<Integer>> chunks = MultiRowSql.chunks(values);
+
+        // then
+        assertThat(chunks).extracting(List::size)
+                .containsExactly(MultiRowSql.MAX_ROWS_PER_STATEMENT, MultiRowSql.MAX_ROWS_PER_STATEMENT, 1);
+    }
+}
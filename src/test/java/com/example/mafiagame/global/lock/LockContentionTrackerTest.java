@@ -0,0 +1,176 @@
+package com.example.mafiagame.global.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import com.example.mafiagame.global.lock.LockContentionTracker.KeyContention;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LockContentionTrackerTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(1_000);
+
+    private LockContentionTracker tracker(int maxTrackedKeys) {
+        return new LockContentionTracker(Duration.ofMillis(5), maxTrackedKeys, meterRegistry, clock::get);
+    }
+
+    @Test
+    @DisplayName("짧게 기다려 획득한 락은 메트릭만 남기고 경합 키로 보관하지 않는다")
+    void uncontendedWait_recordsMetersOnly() {
+        // given
+        LockContentionTracker tracker = tracker(10);
+        String key = LockFamily.GAME_CREATE.key("room-1");
+
+        // when
+        tracker.onWaitStart(LockFamily.GAME_CREATE, key);
+        tracker.onWaitEnd(LockFamily.GAME_CREATE, key, MS, true);
+        tracker.onRelease(LockFamily.GAME_CREATE, key, 20 * MS, false);
+
+        // then
+        assertThat(tracker.topContended(10)).isEmpty();
+        assertThat(meterRegistry.get("game.lock.wait")
+                .tags("lock", "game:create", "result", "acquired").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("game.lock.hold").tag("lock", "game:create").timer()
+                .max(TimeUnit.MILLISECONDS)).isEqualTo(20.0);
+        assertThat(meterRegistry.get("game.lock.waiters").tag("lock", "game:create").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 기다리면 최대 대기자 수와 대기/보유 시간, 타임아웃을 키별로 집계한다")
+    void contendedKey_aggregatesPerKey() {
+        // given
+        LockContentionTracker tracker = tracker(10);
+        String key = LockFamily.ROOM.key("room-1");
+
+        // when: 세 스레드가 같은 방 락을 기다리고 하나는 타임아웃
+        tracker.onWaitStart(LockFamily.ROOM, key);
+        tracker.onWaitStart(LockFamily.ROOM, key);
+        tracker.onWaitStart(LockFamily.ROOM, key);
+        tracker.onWaitEnd(LockFamily.ROOM, key, MS, true);
+        tracker.onRelease(LockFamily.ROOM, key, 40 * MS, false);
+        tracker.onWaitEnd(LockFamily.ROOM, key, 40 * MS, true);
+        tracker.onWaitEnd(LockFamily.ROOM, key, 5_000 * MS, false);
+
+        // then
+        List<KeyContention> top = tracker.topContended(10);
+        assertThat(top).hasSize(1);
+        KeyContention contention = top.get(0);
+        assertThat(contention.key()).isEqualTo("lock:room:room-1");
+        assertThat(contention.family()).isEqualTo("room");
+        assertThat(contention.peakWaiters()).isEqualTo(3);
+        assertThat(contention.contended()).isEqualTo(2);
+        assertThat(contention.timeouts()).isEqualTo(1);
+        assertThat(contention.totalWaitMs()).isEqualTo(5_040.0);
+        assertThat(contention.maxHoldMs()).isEqualTo(40.0);
+        assertThat(tracker.families()).filteredOn(f -> f.family().equals("room"))
+                .singleElement()
+                .satisfies(f -> {
+                    assertThat(f.acquired()).isEqualTo(2);
+                    assertThat(f.timeouts()).isEqualTo(1);
+                    assertThat(f.waiting()).isZero();
+                    assertThat(f.leaseTimeMs()).isEqualTo(10_000);
+                });
+    }
+
+    @Test
+    @DisplayName("경합 키는 타임아웃 수 순으로 정렬하고 한도를 넘으면 가장 오래된 키를 밀어낸다")
+    void topContended_sortsAndEvictsOldest() {
+        // given
+        LockContentionTracker tracker = tracker(2);
+
+        // when
+        tracker.onWaitEnd(LockFamily.USER_ROOM, "lock:user-room:old", 10 * MS, true);
+        clock.addAndGet(1_000);
+        tracker.onWaitEnd(LockFamily.USER_ROOM, "lock:user-room:slow", 100 * MS, true);
+        clock.addAndGet(1_000);
+        tracker.onWaitEnd(LockFamily.USER_ROOM, "lock:user-room:timeout", 3_000 * MS, false);
+
+        // then
+        assertThat(tracker.topContended(10))
+                .extracting(KeyContention::key)
+                .containsExactly("lock:user-room:timeout", "lock:user-room:slow");
+        assertThat(tracker.topContended(1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("DistributedLocks 는 획득 시 핸들을 돌려주고 close 에서 해제하며, 실패 시 null 을 돌려준다")
+    void distributedLocks_handleLifecycle() throws InterruptedException {
+        // given
+        LockContentionTracker tracker = tracker(10);
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RLock acquired = mock(RLock.class);
+        RLock busy = mock(RLock.class);
+        when(redissonClient.getLock("lock:timer:global")).thenReturn(acquired);
+        when(redissonClient.getLock("lock:game:create:room-1")).thenReturn(busy);
+        when(acquired.tryLock(eq(3_000L), eq(5_000L), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+        when(acquired.isHeldByCurrentThread()).thenReturn(true);
+        when(busy.tryLock(anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
+        DistributedLocks locks = new DistributedLocks(redissonClient, tracker);
+
+        // when
+        try (DistributedLocks.Handle lock = locks.tryLock(LockFamily.TIMER_GLOBAL, null)) {
+            assertThat(lock).isNotNull();
+        }
+        DistributedLocks.Handle failed = locks.tryLock(LockFamily.GAME_CREATE, "room-1");
+
+        // then
+        assertThat(failed).isNull();
+        verify(acquired).unlock();
+        verify(busy, never()).unlock();
+        assertThat(meterRegistry.get("game.lock.hold").tag("lock", "timer:global").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("game.lock.wait")
+                .tags("lock", "game:create", "result", "timeout").timer().count()).isEqualTo(1);
+        assertThat(tracker.topContended(10)).extracting(KeyContention::key)
+                .containsExactly("lock:game:create:room-1");
+    }
+
+    @Test
+    @DisplayName("해제 전에 임대 시간이 끝난 락도 보유 시간을 기록하고 임대 만료로 따로 센다")
+    void distributedLocks_leaseExpired_recordsHoldAndCountsExpiry() throws InterruptedException {
+        // given
+        LockContentionTracker tracker = tracker(10);
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RLock expired = mock(RLock.class);
+        when(redissonClient.getLock("lock:room:room-1")).thenReturn(expired);
+        when(expired.tryLock(anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+        when(expired.isHeldByCurrentThread()).thenReturn(false);
+        DistributedLocks locks = new DistributedLocks(redissonClient, tracker);
+
+        // when
+        try (DistributedLocks.Handle lock = locks.tryLock(LockFamily.ROOM, "room-1")) {
+            assertThat(lock).isNotNull();
+        }
+
+        // then
+        verify(expired, never()).unlock();
+        assertThat(meterRegistry.get("game.lock.hold").tag("lock", "room").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("game.lock.lease.expired").tag("lock", "room").counter().count())
+                .isEqualTo(1.0);
+        assertThat(tracker.topContended(10)).singleElement()
+                .satisfies(contention -> assertThat(contention.leaseExpired()).isEqualTo(1));
+        assertThat(tracker.families()).filteredOn(f -> f.family().equals("room"))
+                .singleElement()
+                .satisfies(f -> assertThat(f.leaseExpired()).isEqualTo(1));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.mafiagame.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.mafiagame.game.domain.state.GamePhase;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GameMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GameMetrics gameMetrics = new GameMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("타이머 지연은 음수(시계 오차)를 0 으로 기록하고 페이즈 전환은 페이즈/결과 태그를 단다")
+    void recordTimerLatenessAndPhaseAdvance() {
+        // when
+        gameMetrics.recordTimerLateness(120);
+        gameMetrics.recordTimerLateness(-5);
+        gameMetrics.recordPhaseAdvance(GamePhase.DAY_VOTING, "advanced", TimeUnit.MILLISECONDS.toNanos(30));
+        gameMetrics.recordPhaseAdvance(GamePhase.DAY_VOTING, "advanced", TimeUnit.MILLISECONDS.toNanos(10));
+        gameMetrics.recordPhaseAdvance(null, "skipped", TimeUnit.MILLISECONDS.toNanos(1));
+
+        // then
+        Timer lateness = meterRegistry.get("game.timer.lateness").timer();
+        assertThat(lateness.count()).isEqualTo(2);
+        assertThat(lateness.max(TimeUnit.MILLISECONDS)).isEqualTo(120.0);
+        assertThat(meterRegistry.get("game.phase.advance")
+                .tags("phase", "DAY_VOTING", "outcome", "advanced").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("game.phase.advance")
+                .tags("phase", "NONE", "outcome", "skipped").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("투표 수, 전송 수, 수신자 수, 게이지를 기록한다")
+    void votesMessagesFanoutAndGauges() {
+        // given
+        AtomicInteger activeGames = new AtomicInteger(3);
+        gameMetrics.gaugeActiveGames(activeGames::get);
+        gameMetrics.gaugeWebSocketSessions(() -> 7);
+
+        // when
+        gameMetrics.recordVote(GamePhase.DAY_VOTING);
+        gameMetrics.recordVote(GamePhase.DAY_VOTING);
+        gameMetrics.recordVote(GamePhase.NIGHT_ACTION);
+        gameMetrics.recordMessage("room");
+        gameMetrics.recordBroadcastFanout("room", 12);
+        gameMetrics.recordBroadcastFanout("mafia", 2);
+        activeGames.set(4);
+
+        // then
+        assertThat(meterRegistry.get("game.votes").tag("phase", "DAY_VOTING").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("game.votes").tag("phase", "NIGHT_ACTION").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("websocket.messages").tag("destination", "room").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("websocket.broadcast.fanout").tag("kind", "room").summary().totalAmount())
+                .isEqualTo(12.0);
+        assertThat(meterRegistry.get("game.active").gauge().value()).isEqualTo(4.0);
+        assertThat(meterRegistry.get("websocket.sessions").gauge().value()).isEqualTo(7.0);
+    }
+}
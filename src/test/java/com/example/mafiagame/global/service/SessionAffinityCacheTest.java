@@ -0,0 +1,134 @@
+package com.example.mafiagame.global.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SessionAffinityCacheTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SessionAffinityCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SessionAffinityCache(stringRedisTemplate, listenerContainer);
+        loads = new AtomicInteger();
+    }
+
+    private String load(String roomId) {
+        return cache.getOrLoad("session-1", "user1", () -> {
+            loads.incrementAndGet();
+            return roomId;
+        });
+    }
+
+    private DefaultMessage event(String body) {
+        return new DefaultMessage("user_session:invalidate".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 Redis 를 조회하지 않는다")
+    void getOrLoad_cachesAfterFirstLoad() {
+        // when
+        String first = load("room-1");
+        String second = load("room-1");
+
+        // then
+        assertThat(first).isEqualTo("room-1");
+        assertThat(second).isEqualTo("room-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("이 노드의 세션 변경은 캐시에 바로 반영되고 다른 노드에 전파된다")
+    void onSessionChanged_writeThrough() {
+        // given
+        load("room-1");
+
+        // when
+        cache.onSessionChanged("user1", "room-2");
+
+        // then
+        assertThat(load("room-x")).isEqualTo("room-2");
+        assertThat(loads).hasValue(1);
+        verify(stringRedisTemplate).convertAndSend(eq("user_session:invalidate"), eq(cache.nodeId() + "|user1"));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 이벤트를 받으면 다음 조회에서 Redis 를 다시 읽는다")
+    void onMessage_invalidatesOtherNodeChange() {
+        // given
+        load("room-1");
+
+        // when
+        cache.onMessage(event("other-node|user1"), null);
+
+        // then
+        assertThat(load("room-2")).isEqualTo("room-2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("자신이 발행한 무효화 이벤트는 무시한다")
+    void onMessage_ignoresOwnEvent() {
+        // given
+        load("room-1");
+
+        // when
+        cache.onMessage(event(cache.nodeId() + "|user1"), null);
+
+        // then
+        assertThat(load("room-2")).isEqualTo("room-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회 중 무효화가 끼어들면 읽어온 값을 캐시에 저장하지 않는다")
+    void getOrLoad_doesNotStoreStaleValueAfterInvalidation() {
+        // when
+        String stale = cache.getOrLoad("session-1", "user1", () -> {
+            cache.invalidate("user1");
+            return "room-old";
+        });
+
+        // then
+        assertThat(stale).isEqualTo("room-old");
+        assertThat(load("room-new")).isEqualTo("room-new");
+    }
+
+    @Test
+    @DisplayName("연결 해제된 세션은 캐시에서 제거된다")
+    void unbind_removesSession() {
+        // given
+        load("room-1");
+
+        // when
+        cache.unbind("session-1");
+
+        // then
+        assertThat(cache.size()).isZero();
+        cache.onSessionChanged("user1", "room-2");
+        assertThat(cache.size()).isZero();
+    }
+}
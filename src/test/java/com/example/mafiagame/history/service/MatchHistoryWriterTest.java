@@ -0,0 +1,84 @@
+package com.example.mafiagame.history.service;
+
+import com.example.mafiagame.history.dto.MatchHistoryCursor;
+import com.example.mafiagame.history.repository.MatchHistoryJdbcRepository.HistoryRow;
+import com.example.mafiagame.history.repository.MatchHistoryJdbcRepository.RoleSummaryDelta;
+import com.example.mafiagame.kafka.event.GameEndedEvent;
+import com.example.mafiagame.kafka.event.GameEndedEvent.PlayerResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchHistoryWriterTest {
+
+    private PlayerResult player(String id, String role, boolean alive) {
+        return PlayerResult.builder().playerId(id).role(role).team(role.equals("MAFIA") ? "MAFIA" : "CITIZEN")
+                .alive(alive).deathPhase(alive ? null : 2).build();
+    }
+
+    private GameEndedEvent event(String gameId, List<PlayerResult> players, List<String> winners) {
+        return GameEndedEvent.builder()
+                .gameId(gameId)
+                .roomId("room-1")
+                .winnerTeam("CITIZEN")
+                .players(players)
+                .winnerIds(winners)
+                .occurredAt(LocalDateTime.of(2026, 10, 1, 12, 0))
+                .build();
+    }
+
+    @Test
+    @DisplayName("플레이어마다 이력 한 행을 만들고 승패와 인원 수를 채운다")
+    void toRows_onePerPlayer() {
+        // given
+        GameEndedEvent event = event("game-1",
+                List.of(player("a", "MAFIA", false), player("b", "DOCTOR", true), player("c", "CITIZEN", true)),
+                List.of("b", "c"));
+
+        // when
+        List<HistoryRow> rows = MatchHistoryWriter.toRows(List.of(event));
+
+        // then
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).winner()).isFalse();
+        assertThat(rows.get(0).deathPhase()).isEqualTo(2);
+        assertThat(rows.get(1).winner()).isTrue();
+        assertThat(rows).allMatch(row -> row.playerCount() == 3 && row.winnerTeam().equals("CITIZEN"));
+    }
+
+    @Test
+    @DisplayName("여러 게임의 역할별 증분을 유저/역할 단위로 합산한다")
+    void summarize_mergesByUserAndRole() {
+        // given
+        List<HistoryRow> rows = MatchHistoryWriter.toRows(List.of(
+                event("game-1", List.of(player("a", "MAFIA", true), player("b", "CITIZEN", true)), List.of("a")),
+                event("game-2", List.of(player("a", "MAFIA", true), player("b", "POLICE", true)), List.of("b"))));
+
+        // when
+        List<RoleSummaryDelta> deltas = MatchHistoryWriter.summarize(rows);
+
+        // then
+        assertThat(deltas).containsExactly(
+                new RoleSummaryDelta("a", "MAFIA", 2, 1),
+                new RoleSummaryDelta("b", "CITIZEN", 1, 0),
+                new RoleSummaryDelta("b", "POLICE", 1, 1));
+    }
+
+    @Test
+    @DisplayName("커서는 인코딩 후 같은 위치로 복원된다")
+    void cursor_roundTrip() {
+        // given
+        MatchHistoryCursor cursor = new MatchHistoryCursor(LocalDateTime.of(2026, 10, 1, 12, 0, 5), "game_1|x");
+
+        // when
+        MatchHistoryCursor decoded = MatchHistoryCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(MatchHistoryCursor.decode(null)).isNull();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.mafiagame.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.mafiagame.kafka.config.KafkaTopics;
+import com.example.mafiagame.support.RedisTestContainerSupport;
+
+/**
+ * DLT 관리자 API 인가 규칙 (/api/admin/** 는 ADMIN 만 통과).
+ * DLT 컨트롤러는 test 프로파일에서 제외되므로 보안 필터 통과 여부만 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class DeadLetterAdminSecurityIntegrationTest extends RedisTestContainerSupport {
+
+    private static final String REPLAY_URL = "/api/admin/kafka/dlt/" + KafkaTopics.PAYMENT_COMPLETED + "/replay";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("로그인하지 않은 요청은 DLT 재처리 API 에 접근할 수 없다")
+    void replay_anonymous_denied() throws Exception {
+        // when
+        int status = mockMvc.perform(post(REPLAY_URL)).andReturn().getResponse().getStatus();
+
+        // then
+        assertThat(status).isNotBetween(200, 299);
+        assertThat(status).isNotEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("일반 사용자는 DLT 재처리 API 에 접근할 수 없다")
+    void replay_user_forbidden() throws Exception {
+        // when & then
+        mockMvc.perform(post(REPLAY_URL).with(user("player").roles("USER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("관리자는 보안 필터를 통과한다")
+    void replay_admin_passesSecurity() throws Exception {
+        // when
+        int status = mockMvc.perform(post(REPLAY_URL).with(user("operator").roles("ADMIN")))
+                .andReturn().getResponse().getStatus();
+
+        // then
+        assertThat(status).isNotIn(401, 403);
+    }
+}
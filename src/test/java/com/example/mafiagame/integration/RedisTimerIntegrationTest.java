@@ -23,6 +23,7 @@ import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import com.example.mafiagame.game.actor.GameCommandRouter;
 import com.example.mafiagame.game.domain.state.GamePhase;
 import com.example.mafiagame.game.domain.state.GameState;
 import com.example.mafiagame.game.domain.state.GameStatus;
@@ -56,6 +57,9 @@ class RedisTimerIntegrationTest extends RedisTestContainerSupport {
     @Autowired
     private GameTimerRecoveryService gameTimerRecoveryService;
 
+    @Autowired
+    private GameCommandRouter gameCommandRouter;
+
     @Autowired
     @Qualifier("coreStringRedisTemplate")
     private StringRedisTemplate stringRedisTemplate;
@@ -119,7 +123,7 @@ class RedisTimerIntegrationTest extends RedisTestContainerSupport {
     }
 
     @Test
-    @DisplayName("동일 게임 복구가 동시에 실행되어도 하나의 누락 타이머만 복구된다")
+    @DisplayName("동일 게임 복구가 동시에 요청되어도 소유 노드 액터가 순서대로 처리해 하나의 누락 타이머만 복구된다")
     void recoverMissingTimerIsAtomicPerGame() throws Exception {
         GameState gameState = timedGameState("game-timer-race", System.currentTimeMillis() + 60_000L);
         gameStateRepository.save(gameState);
@@ -317,7 +321,7 @@ class RedisTimerIntegrationTest extends RedisTestContainerSupport {
         if (!start.await(5, TimeUnit.SECONDS)) {
             throw new IllegalStateException("start signal not received");
         }
-        return redisTimerService.recoverMissingTimer(gameState);
+        return gameCommandRouter.recoverTimer(gameState.getGameId());
     }
 
     private List<GameTimerJob> claimAfterBarrier(CountDownLatch ready, CountDownLatch start, long claimNow)
@@ -0,0 +1,76 @@
+package com.example.mafiagame.inventory.service;
+
+import com.example.mafiagame.inventory.domain.Item;
+import com.example.mafiagame.inventory.domain.ItemCategory;
+import com.example.mafiagame.inventory.repository.UserInventoryJdbcRepository.GrantRow;
+import com.example.mafiagame.inventory.service.InventoryService.GrantPlan;
+import com.example.mafiagame.inventory.service.InventoryService.ItemGrant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InventoryServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    private static final Map<Long, Item> CATALOG = Map.of(
+            1L, item(1L, ItemCategory.COSMETIC, null),
+            2L, item(2L, ItemCategory.BOOST, 7),
+            3L, item(3L, ItemCategory.COIN, null),
+            4L, item(4L, ItemCategory.COIN, null));
+
+    private static Item item(Long itemId, ItemCategory category, Integer durationDays) {
+        return Item.builder()
+                .itemId(itemId)
+                .itemName("item-" + itemId)
+                .category(category)
+                .price(1000)
+                .durationDays(durationDays)
+                .build();
+    }
+
+    private static GrantPlan plan(ItemGrant... grants) {
+        return InventoryService.plan(List.of(grants), itemId -> Optional.ofNullable(CATALOG.get(itemId)), NOW);
+    }
+
+    @Test
+    @DisplayName("기간제/영구 아이템은 라인마다 새 행으로 지급하고 만료 시각을 계산한다")
+    void plan_insertsNonStackableItems() {
+        // when
+        GrantPlan plan = plan(new ItemGrant(1L, 1), new ItemGrant(2L, 2));
+
+        // then
+        assertThat(plan.inserts()).containsExactly(
+                new GrantRow(1L, 1, null),
+                new GrantRow(2L, 2, NOW.plusDays(7)));
+        assertThat(plan.stacks()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("코인은 아이템별로 수량을 합산해 itemId 순으로 한 행씩 upsert 한다")
+    void plan_mergesStackableItems() {
+        // when
+        GrantPlan plan = plan(new ItemGrant(4L, 100), new ItemGrant(3L, 500), new ItemGrant(4L, 50));
+
+        // then
+        assertThat(plan.inserts()).isEmpty();
+        assertThat(plan.stacks()).containsExactly(
+                new GrantRow(3L, 500, null),
+                new GrantRow(4L, 150, null));
+    }
+
+    @Test
+    @DisplayName("카탈로그에 없는 아이템이 있으면 지급하지 않는다")
+    void plan_rejectsUnknownItem() {
+        assertThatThrownBy(() -> plan(new ItemGrant(1L, 1), new ItemGrant(99L, 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("99");
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.mafiagame.kafka.config;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerInterceptor;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.AcknowledgingMessageListener;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 단건 리스너(MANUAL_IMMEDIATE, 레코드당 커밋) vs 배치 리스너(KafkaConsumerConfig.batchFactory, 배치당 커밋) 비교
+ * - 파티션 3개, 동시성 3 (운영 토픽 구성과 동일)
+ * - 실제 오프셋 커밋 횟수는 ConsumerInterceptor 로 센다
+ * - ./gradlew benchmarkTest 로 실행 (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@EmbeddedKafka(partitions = 3, topics = { KafkaBatchListenerThroughputTest.SINGLE_TOPIC,
+        KafkaBatchListenerThroughputTest.BATCH_TOPIC })
+class KafkaBatchListenerThroughputTest {
+
+    static final String SINGLE_TOPIC = "throughput.single";
+    static final String BATCH_TOPIC = "throughput.batch";
+
+    private static final String SINGLE_GROUP = "single-group";
+    private static final String BATCH_GROUP = "batch-group";
+    private static final int RECORD_COUNT = 5_000;
+    private static final int CONCURRENCY = 3;
+    private static final int MAX_POLL_RECORDS = 500;
+    private static final double MIN_THROUGHPUT_RATIO = 1.5;
+
+    @Test
+    @DisplayName("배치 리스너는 poll 한 번에 한 번만 커밋하고 단건 리스너보다 처리량이 높다")
+    void batchListener_commitsOncePerPoll_andOutperformsSingleRecordListener(EmbeddedKafkaBroker broker)
+            throws Exception {
+        // given
+        produce(broker, SINGLE_TOPIC);
+        produce(broker, BATCH_TOPIC);
+
+        // when
+        Measurement single = consumeSingle(broker);
+        Measurement batch = consumeBatch(broker);
+
+        // then
+        assertThat(single.records()).isEqualTo(RECORD_COUNT);
+        assertThat(single.commits()).isEqualTo(RECORD_COUNT);
+
+        assertThat(batch.records()).isEqualTo(RECORD_COUNT);
+        assertThat(batch.invocations()).isEqualTo(batch.polls());
+        assertThat(batch.commits()).isEqualTo(batch.polls());
+        assertThat(batch.polls()).isLessThan(RECORD_COUNT);
+
+        assertThat(batch.throughput() / single.throughput()).isGreaterThanOrEqualTo(MIN_THROUGHPUT_RATIO);
+    }
+
+    /**
+     * @param invocations 리스너 호출 횟수
+     * @param polls       레코드가 있었던 poll 횟수
+     * @param commits     브로커에 반영된 오프셋 커밋 횟수
+     */
+    private record Measurement(int records, int invocations, int polls, int commits, double millis) {
+
+        double throughput() {
+            return records / (millis / 1000.0);
+        }
+    }
+
+    /**
+     * 컨슈머 그룹별로 poll(레코드가 있을 때)과 오프셋 커밋 횟수를 센다
+     */
+    public static class CommitCountingInterceptor implements ConsumerInterceptor<String, Object> {
+
+        static final Map<String, AtomicInteger> POLLS = new ConcurrentHashMap<>();
+        static final Map<String, AtomicInteger> COMMITS = new ConcurrentHashMap<>();
+
+        private String group;
+
+        @Override
+        public void configure(Map<String, ?> configs) {
+            group = String.valueOf(configs.get(ConsumerConfig.GROUP_ID_CONFIG));
+        }
+
+        @Override
+        public ConsumerRecords<String, Object> onConsume(ConsumerRecords<String, Object> records) {
+            if (!records.isEmpty()) {
+                count(POLLS, group);
+            }
+            return records;
+        }
+
+        @Override
+        public void onCommit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+            count(COMMITS, group);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        static int get(Map<String, AtomicInteger> counts, String group) {
+            AtomicInteger count = counts.get(group);
+            return count == null ? 0 : count.get();
+        }
+
+        private static void count(Map<String, AtomicInteger> counts, String group) {
+            counts.computeIfAbsent(group, key -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    private void produce(EmbeddedKafkaBroker broker, String topic) {
+        Map<String, Object> props = KafkaTestUtils.producerProps(broker);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        try (KafkaProducer<String, String> producer = new KafkaProducer<>(props)) {
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                producer.send(new ProducerRecord<>(topic, "order-" + i, "{\"orderId\":\"order-" + i + "\"}"));
+            }
+            producer.flush();
+        }
+    }
+
+    private Map<String, Object> consumerProps(EmbeddedKafkaBroker broker, String group) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps(group, "false", broker);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, CommitCountingInterceptor.class.getName());
+        return props;
+    }
+
+    private Measurement consumeSingle(EmbeddedKafkaBroker broker) throws InterruptedException {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(consumerProps(broker, SINGLE_GROUP)));
+        factory.setConcurrency(CONCURRENCY);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+
+        AtomicInteger records = new AtomicInteger();
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(RECORD_COUNT);
+        ConcurrentMessageListenerContainer<String, Object> container = factory.createContainer(SINGLE_TOPIC);
+        container.getContainerProperties().setMessageListener(
+                (AcknowledgingMessageListener<String, Object>) (record, ack) -> {
+                    records.incrementAndGet();
+                    invocations.incrementAndGet();
+                    ack.acknowledge();
+                    done.countDown();
+                });
+        return run(container, SINGLE_GROUP, done, records, invocations, RECORD_COUNT);
+    }
+
+    private Measurement consumeBatch(EmbeddedKafkaBroker broker) throws InterruptedException {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = KafkaConsumerConfig.batchFactory(
+                consumerProps(broker, BATCH_GROUP), MAX_POLL_RECORDS, CONCURRENCY);
+
+        AtomicInteger records = new AtomicInteger();
+        AtomicInteger invocations = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(RECORD_COUNT);
+        ConcurrentMessageListenerContainer<String, Object> container = factory.createContainer(BATCH_TOPIC);
+        assertThat(container.getConcurrency()).isEqualTo(CONCURRENCY);
+        container.getContainerProperties().setMessageListener(
+                (BatchAcknowledgingMessageListener<String, Object>) (batch, ack) -> {
+                    records.addAndGet(batch.size());
+                    invocations.incrementAndGet();
+                    ack.acknowledge();
+                    batch.forEach(record -> done.countDown());
+                });
+        return run(container, BATCH_GROUP, done, records, invocations, -1);
+    }
+
+    /**
+     * @param expectedCommits 기다릴 커밋 횟수 (음수면 레코드가 있었던 poll 횟수만큼)
+     */
+    private Measurement run(ConcurrentMessageListenerContainer<String, Object> container, String group,
+            CountDownLatch done, AtomicInteger records, AtomicInteger invocations, int expectedCommits)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        container.start();
+        try {
+            assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+            double millis = (System.nanoTime() - start) / 1e6;
+            // 마지막 배치의 커밋은 리스너가 끝난 뒤 컨슈머 스레드에서 반영됨
+            await().atMost(Duration.ofSeconds(10)).until(() -> {
+                int target = expectedCommits >= 0 ? expectedCommits
+                        : CommitCountingInterceptor.get(CommitCountingInterceptor.POLLS, group);
+                return CommitCountingInterceptor.get(CommitCountingInterceptor.COMMITS, group) >= target;
+            });
+            return new Measurement(records.get(), invocations.get(),
+                    CommitCountingInterceptor.get(CommitCountingInterceptor.POLLS, group),
+                    CommitCountingInterceptor.get(CommitCountingInterceptor.COMMITS, group), millis);
+        } finally {
+            container.stop();
+        }
+    }
+}
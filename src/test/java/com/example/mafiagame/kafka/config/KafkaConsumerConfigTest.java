@@ -0,0 +1,92 @@
+package com.example.mafiagame.kafka.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaConsumerConfigTest {
+
+    private static final int RETRY_MAX_ATTEMPTS = 2;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    @Mock
+    private DeadLetterPublishingRecoverer recoverer;
+    @Captor
+    private ArgumentCaptor<ProducerRecord<String, Object>> sent;
+
+    private KafkaConsumerConfig config;
+
+    @BeforeEach
+    void setUp() {
+        config = new KafkaConsumerConfig();
+        ReflectionTestUtils.setField(config, "bootstrapServers", "localhost:9092");
+        ReflectionTestUtils.setField(config, "groupId", "test-group");
+        ReflectionTestUtils.setField(config, "concurrency", 1);
+        ReflectionTestUtils.setField(config, "retryMaxAttempts", RETRY_MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(config, "retryInitialIntervalMs", 1L);
+        ReflectionTestUtils.setField(config, "retryMaxIntervalMs", 1L);
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 레코드가 최종 실패하면 원본 토픽의 DLT 같은 파티션으로 보낸다")
+    void recoverer_routesRetryRecordToSourceDlt() {
+        // given
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+        DeadLetterPublishingRecoverer dltRecoverer = config.deadLetterPublishingRecoverer(kafkaTemplate);
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(KafkaTopics.PAYMENT_COMPLETED_RETRY, 2, 10L,
+                "order-1", "payload");
+
+        // when
+        dltRecoverer.accept(record, new IllegalStateException("boom"));
+
+        // then
+        verify(kafkaTemplate).send(sent.capture());
+        assertThat(sent.getValue().topic()).isEqualTo(KafkaTopics.dlt(KafkaTopics.PAYMENT_COMPLETED));
+        assertThat(sent.getValue().partition()).isEqualTo(2);
+        assertThat(sent.getValue().key()).isEqualTo("order-1");
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 리스너는 재시도 횟수를 모두 쓴 뒤에만 DLT 로 넘긴다")
+    void retryErrorHandler_recoversAfterAttemptsRunOut() {
+        // given
+        DefaultErrorHandler errorHandler = (DefaultErrorHandler) config.retryKafkaListenerContainerFactory(recoverer)
+                .getCommonErrorHandler();
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(KafkaTopics.PAYMENT_COMPLETED_RETRY, 0, 0L,
+                "order-1", "payload");
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        // when & then
+        for (int attempt = 0; attempt < RETRY_MAX_ATTEMPTS; attempt++) {
+            assertThat(errorHandler.handleOne(failure, record, null, null)).isFalse();
+        }
+        verify(recoverer, never()).accept(any(), any(), any());
+
+        assertThat(errorHandler.handleOne(failure, record, null, null)).isTrue();
+        verify(recoverer).accept(eq(record), any(), eq(failure));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.mafiagame.kafka.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KafkaTopicsTest {
+
+    @Test
+    @DisplayName("재시도 토픽에서 실패해도 원본 토픽의 DLT 로 보낸다")
+    void dlt_ofRetryTopicUsesSourceTopic() {
+        // given
+        String retryTopic = KafkaTopics.retry(KafkaTopics.ORDER_COMPLETED);
+
+        // then
+        assertThat(retryTopic).isEqualTo(KafkaTopics.ORDER_COMPLETED_RETRY);
+        assertThat(KafkaTopics.dlt(KafkaTopics.source(retryTopic))).isEqualTo("order.completed.dlt");
+        assertThat(KafkaTopics.dlt(KafkaTopics.source(KafkaTopics.GAME_ENDED))).isEqualTo("game.ended.dlt");
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.mafiagame.kafka.dedup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessedEventStoreTest {
+
+    private static final String CONSUMER = "inventory-service-group";
+    private static final Function<String, String> ID = Function.identity();
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    private ProcessedEventStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ProcessedEventStore(processedEventRepository, 1000, 0.01, 7, 100);
+    }
+
+    @Test
+    @DisplayName("블룸 필터가 처음 보는 이벤트는 DB 를 조회하지 않고 통과시킨다")
+    void filterUnprocessed_skipsLookupForUnseenEvents() {
+        // when
+        List<String> fresh = store.filterUnprocessed(CONSUMER, List.of("e1", "e2"), ID);
+
+        // then
+        assertThat(fresh).containsExactly("e1", "e2");
+        verify(processedEventRepository).findProcessed(CONSUMER, List.of());
+    }
+
+    @Test
+    @DisplayName("처리 기록을 남긴 이벤트는 DB 로 확인한 뒤 걸러낸다")
+    void filterUnprocessed_dropsProcessedEvents() {
+        // given
+        store.markProcessed(CONSUMER, List.of("e1"), ID);
+        when(processedEventRepository.findProcessed(CONSUMER, List.of("e1"))).thenReturn(Set.of("e1"));
+
+        // when
+        List<String> fresh = store.filterUnprocessed(CONSUMER, List.of("e1", "e2"), ID);
+
+        // then
+        assertThat(fresh).containsExactly("e2");
+        verify(processedEventRepository).insertAll(CONSUMER, List.of("e1"));
+    }
+
+    @Test
+    @DisplayName("배치 안의 중복 이벤트는 하나만 남기고, eventId 가 없는 이벤트는 순서대로 그대로 처리한다")
+    void filterUnprocessed_keepsOrderAndDropsInBatchDuplicates() {
+        // when
+        List<String> fresh = store.filterUnprocessed(CONSUMER, Arrays.asList("e1", null, "e2", "e1"), ID);
+
+        // then
+        assertThat(fresh).containsExactly("e1", null, "e2");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 처리한 이벤트는 선점에 실패하고 이후 블룸 필터에서 걸린다")
+    void claim_returnsFalseForProcessedEvent() {
+        // given
+        when(processedEventRepository.insertIfAbsent(CONSUMER, "e1")).thenReturn(false);
+
+        // when
+        boolean claimed = store.claim(CONSUMER, "e1");
+        store.filterUnprocessed(CONSUMER, List.of("e1"), ID);
+
+        // then
+        assertThat(claimed).isFalse();
+        verify(processedEventRepository).findProcessed(eq(CONSUMER), eq(List.of("e1")));
+    }
+
+    @Test
+    @DisplayName("용량을 넘겨도 최근 세대의 이벤트는 오탐 없이 기억한다")
+    void bloomFilter_remembersRecentGeneration() {
+        // given
+        EventIdBloomFilter filter = new EventIdBloomFilter(100, 0.01);
+
+        // when
+        for (int i = 0; i < 250; i++) {
+            filter.put("event-" + i);
+        }
+
+        // then
+        for (int i = 150; i < 250; i++) {
+            assertThat(filter.mightContain("event-" + i)).isTrue();
+        }
+    }
+}
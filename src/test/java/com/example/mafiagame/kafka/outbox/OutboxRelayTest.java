@@ -0,0 +1,152 @@
+package com.example.mafiagame.kafka.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import com.example.mafiagame.kafka.config.KafkaTopics;
+import com.example.mafiagame.kafka.event.PaymentEvent;
+import com.example.mafiagame.kafka.outbox.OutboxRepository.PendingEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxRepository, kafkaTemplate, objectMapper, redissonClient,
+                BATCH_SIZE, 1, 1000, 3, 100);
+    }
+
+    private PendingEvent pending(long id, String orderId) throws Exception {
+        PaymentEvent event = PaymentEvent.builder()
+                .eventId("event-" + id)
+                .orderId(orderId)
+                .eventType(PaymentEvent.EventType.PAYMENT_COMPLETED)
+                .build();
+        return new PendingEvent(id, KafkaTopics.PAYMENT_COMPLETED, orderId, "PaymentEvent",
+                objectMapper.writeValueAsString(event));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Long> publishedIds() {
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxRepository).markPublished(captor.capture(), any());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("꽉 찬 배치를 모두 발행하면 발행 완료로 표시하고 다음 배치를 이어서 처리한다")
+    void relayBatch_marksAllPublished() throws Exception {
+        // given
+        when(outboxRepository.findPending(BATCH_SIZE))
+                .thenReturn(List.of(pending(1, "order-1"), pending(2, "order-2"), pending(3, "order-1")));
+        when(kafkaTemplate.send(eq(KafkaTopics.PAYMENT_COMPLETED), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        // when
+        boolean more = relay.relayBatch();
+
+        // then
+        assertThat(more).isTrue();
+        assertThat(publishedIds()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("한 키의 전송이 실패하면 그 키의 뒤 이벤트는 보내지 않고 다른 키는 계속 발행한다")
+    void relayBatch_stopsFailedKeyOnly() throws Exception {
+        // given
+        when(outboxRepository.findPending(BATCH_SIZE))
+                .thenReturn(List.of(pending(1, "order-1"), pending(2, "order-2"), pending(3, "order-1")));
+        when(kafkaTemplate.send(eq(KafkaTopics.PAYMENT_COMPLETED), eq("order-1"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        when(kafkaTemplate.send(eq(KafkaTopics.PAYMENT_COMPLETED), eq("order-2"), any()))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        // when
+        boolean more = relay.relayBatch();
+
+        // then
+        assertThat(more).isFalse();
+        assertThat(publishedIds()).containsExactly(2L);
+        verify(kafkaTemplate, times(1)).send(eq(KafkaTopics.PAYMENT_COMPLETED), eq("order-1"), any());
+    }
+
+    @Test
+    @DisplayName("같은 키의 다음 이벤트는 앞 이벤트의 ack 를 받은 뒤에 보낸다")
+    void relayBatch_sendsSameKeyInOrder() throws Exception {
+        // given
+        // 첫 이벤트의 ack 는 조금 늦게 도착
+        CompletableFuture<SendResult<String, Object>> firstAck = new CompletableFuture<SendResult<String, Object>>()
+                .completeOnTimeout(new SendResult<>(null, null), 100, TimeUnit.MILLISECONDS);
+        AtomicBoolean sentBeforeAck = new AtomicBoolean();
+        when(outboxRepository.findPending(BATCH_SIZE))
+                .thenReturn(List.of(pending(1, "order-1"), pending(2, "order-1")));
+        when(kafkaTemplate.send(eq(KafkaTopics.PAYMENT_COMPLETED), eq("order-1"), any()))
+                .thenReturn(firstAck)
+                .thenAnswer(invocation -> {
+                    sentBeforeAck.set(!firstAck.isDone());
+                    return CompletableFuture.completedFuture(new SendResult<>(null, null));
+                });
+
+        // when
+        relay.relayBatch();
+
+        // then
+        verify(kafkaTemplate, times(2)).send(eq(KafkaTopics.PAYMENT_COMPLETED), eq("order-1"), any());
+        assertThat(sentBeforeAck).isFalse();
+        assertThat(publishedIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("발행할 이벤트가 없으면 아무것도 보내지 않는다")
+    void relayBatch_empty() {
+        // given
+        when(outboxRepository.findPending(anyInt())).thenReturn(List.of());
+
+        // when
+        boolean more = relay.relayBatch();
+
+        // then
+        assertThat(more).isFalse();
+        verify(outboxRepository, never()).markPublished(any(), any());
+    }
+}
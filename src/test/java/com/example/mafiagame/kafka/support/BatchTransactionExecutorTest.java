@@ -0,0 +1,134 @@
+package com.example.mafiagame.kafka.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.example.mafiagame.kafka.dedup.ProcessedEventStore;
+import com.example.mafiagame.kafka.support.BatchTransactionExecutor.Failure;
+import com.example.mafiagame.kafka.support.BatchTransactionExecutor.Result;
+
+@ExtendWith(MockitoExtension.class)
+class BatchTransactionExecutorTest {
+
+    private static final String CONSUMER = "order-service-group";
+    private static final Function<String, String> ID = Function.identity();
+    private static final String POISON = "e2";
+
+    @Mock
+    private ProcessedEventStore processedEventStore;
+
+    private RecordingTransactionManager transactionManager;
+    private BatchTransactionExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new RecordingTransactionManager();
+        executor = new BatchTransactionExecutor(transactionManager, processedEventStore);
+    }
+
+    @Test
+    @DisplayName("배치에 실패 레코드가 하나 섞이면 배치 트랜잭션을 롤백하고 레코드별 재처리에서 그 레코드만 실패한다")
+    void execute_poisonedRecord_rollsBackBatchAndFailsOnlyThatRecord() {
+        // when
+        Result<String> result = executor.execute(List.of("e1", POISON, "e3"), applyOrFail());
+
+        // then
+        assertThat(transactionManager.rollbacks).isEqualTo(2);
+        assertThat(transactionManager.committed).containsExactly("e1", "e3");
+        assertThat(result.total()).isEqualTo(3);
+        assertThat(result.failures()).extracting(Failure::item).containsExactly(POISON);
+        assertThat(result.allFailed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패 레코드가 없으면 배치 전체를 트랜잭션 하나로 커밋한다")
+    void execute_allSucceed_commitsOnce() {
+        // when
+        Result<String> result = executor.execute(List.of("e1", "e3"), applyOrFail());
+
+        // then
+        assertThat(transactionManager.commits).isEqualTo(1);
+        assertThat(transactionManager.rollbacks).isZero();
+        assertThat(transactionManager.committed).containsExactly("e1", "e3");
+        assertThat(result.failures()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처리 기록을 남기는 배치도 실패 레코드가 섞이면 롤백하고, 레코드별 선점 후 그 레코드만 실패한다")
+    void executeOnce_poisonedRecord_claimsEachAndFailsOnlyThatRecord() {
+        // given
+        List<String> batch = List.of("e1", POISON, "e3");
+        when(processedEventStore.filterUnprocessed(eq(CONSUMER), eq(batch), any())).thenReturn(batch);
+        when(processedEventStore.claim(eq(CONSUMER), anyString())).thenReturn(true);
+
+        // when
+        Result<String> result = executor.executeOnce(CONSUMER, batch, ID, applyOrFail());
+
+        // then
+        assertThat(transactionManager.rollbacks).isEqualTo(2);
+        assertThat(transactionManager.committed).containsExactly("e1", "e3");
+        assertThat(result.failures()).extracting(Failure::item).containsExactly(POISON);
+        verify(processedEventStore, never()).markProcessed(eq(CONSUMER), anyList(), any());
+    }
+
+    private Consumer<String> applyOrFail() {
+        return item -> {
+            if (POISON.equals(item)) {
+                throw new IllegalArgumentException("poisoned record: " + item);
+            }
+            transactionManager.pending.add(item);
+        };
+    }
+
+    /**
+     * 트랜잭션 안에서 반영한 레코드를 커밋 시에만 남기는 테스트용 트랜잭션 매니저.
+     */
+    private static class RecordingTransactionManager implements PlatformTransactionManager {
+
+        private final List<String> pending = new ArrayList<>();
+        private final List<String> committed = new ArrayList<>();
+        private int commits;
+        private int rollbacks;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            pending.clear();
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            committed.addAll(pending);
+            pending.clear();
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            pending.clear();
+            rollbacks++;
+        }
+    }
+}
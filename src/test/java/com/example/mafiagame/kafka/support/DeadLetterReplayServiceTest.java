@@ -0,0 +1,148 @@
+package com.example.mafiagame.kafka.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+
+import com.example.mafiagame.global.error.CommonException;
+import com.example.mafiagame.kafka.config.KafkaTopics;
+import com.example.mafiagame.kafka.dto.DeadLetterReplayResponse;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayServiceTest {
+
+    private static final String TOPIC = KafkaTopics.PAYMENT_COMPLETED;
+    private static final String DLT = KafkaTopics.dlt(TOPIC);
+    private static final TopicPartition DLT_PARTITION = new TopicPartition(DLT, 0);
+
+    @Mock
+    private ConsumerFactory<String, Object> consumerFactory;
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Captor
+    private ArgumentCaptor<ProducerRecord<String, Object>> sent;
+
+    private MockConsumer<String, Object> consumer;
+    private DeadLetterReplayService replayService;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(DLT, List.of(new PartitionInfo(DLT, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(DLT_PARTITION, 0L));
+        replayService = new DeadLetterReplayService(consumerFactory, kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("DLT 레코드를 원본 토픽으로 원래 키와 헤더 그대로 재발행하고 실패 진단 헤더는 뺀다")
+    void replay_republishesWithOriginalKeyAndHeaders() {
+        // given
+        Headers headers = new RecordHeaders()
+                .add("traceparent", bytes("00-trace-01"))
+                .add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, bytes("boom"))
+                .add(FailedRecordForwarder.EXCEPTION_HEADER, bytes("IllegalStateException: boom"));
+        givenDltRecords(dltRecord(0, "order-1", "payload-1", headers));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        // when
+        DeadLetterReplayResponse response = replayService.replay(TOPIC, 100, 1000);
+
+        // then
+        verify(kafkaTemplate).send(sent.capture());
+        ProducerRecord<String, Object> record = sent.getValue();
+        assertThat(record.topic()).isEqualTo(TOPIC);
+        assertThat(record.key()).isEqualTo("order-1");
+        assertThat(record.value()).isEqualTo("payload-1");
+        assertThat(record.headers().lastHeader("traceparent").value()).isEqualTo(bytes("00-trace-01"));
+        assertThat(record.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_MESSAGE)).isNull();
+        assertThat(record.headers().lastHeader(FailedRecordForwarder.EXCEPTION_HEADER)).isNull();
+        assertThat(response.replayed()).isEqualTo(1);
+        assertThat(response.remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("재발행한 위치까지 오프셋을 커밋해 다음 실행에서 같은 레코드를 다시 보내지 않는다")
+    void replay_commitsProgress() {
+        // given
+        givenDltRecords(dltRecord(0, "order-1", "payload-1", new RecordHeaders()),
+                dltRecord(1, "order-2", "payload-2", new RecordHeaders()));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        // when
+        DeadLetterReplayResponse response = replayService.replay(TOPIC, 1, 1000);
+
+        // then
+        verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+        assertThat(consumer.committed(Set.of(DLT_PARTITION)).get(DLT_PARTITION).offset()).isEqualTo(1L);
+        assertThat(response.remaining()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("DLT 를 두지 않는 토픽은 재처리하지 않는다")
+    void replay_unsupportedTopic_rejected() {
+        // when & then
+        assertThatThrownBy(() -> replayService.replay(KafkaTopics.ORDER_CREATED, 100, 100))
+                .isInstanceOf(CommonException.class);
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    @SafeVarargs
+    private void givenDltRecords(ConsumerRecord<String, Object>... records) {
+        consumer.updateEndOffsets(Map.of(DLT_PARTITION, (long) records.length));
+        when(consumerFactory.createConsumer(eq("dlt-replay-group"), eq("dlt-replay"), isNull(), any(Properties.class)))
+                .thenReturn(consumer);
+        consumer.schedulePollTask(() -> {
+            for (ConsumerRecord<String, Object> record : records) {
+                consumer.addRecord(record);
+            }
+        });
+    }
+
+    private static ConsumerRecord<String, Object> dltRecord(long offset, String key, Object value, Headers headers) {
+        return new ConsumerRecord<>(DLT, 0, offset, 0L, TimestampType.CREATE_TIME, -1, -1, key, value, headers,
+                Optional.empty());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.mafiagame.kafka.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import com.example.mafiagame.kafka.config.KafkaTopics;
+
+@ExtendWith(MockitoExtension.class)
+class FailedRecordForwarderTest {
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    @Captor
+    private ArgumentCaptor<ProducerRecord<String, Object>> sent;
+
+    private FailedRecordForwarder forwarder;
+
+    @BeforeEach
+    void setUp() {
+        forwarder = new FailedRecordForwarder(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("실패한 레코드를 같은 키로 재시도 토픽에 보내고 근본 원인을 헤더에 남긴다")
+    void forward_sendsToRetryTopicWithCause() {
+        // given
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+        Exception failure = new IllegalStateException("wrapper", new IllegalArgumentException("재고 부족"));
+
+        // when
+        forwarder.forward(KafkaTopics.PAYMENT_COMPLETED, "order-1", "payload", failure);
+
+        // then
+        verify(kafkaTemplate).send(sent.capture());
+        ProducerRecord<String, Object> record = sent.getValue();
+        assertThat(record.topic()).isEqualTo(KafkaTopics.PAYMENT_COMPLETED_RETRY);
+        assertThat(record.key()).isEqualTo("order-1");
+        assertThat(record.value()).isEqualTo("payload");
+        assertThat(new String(record.headers().lastHeader(FailedRecordForwarder.EXCEPTION_HEADER).value(),
+                StandardCharsets.UTF_8)).isEqualTo("IllegalArgumentException: 재고 부족");
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 전송이 실패하면 예외로 알려 배치를 ACK 하지 않게 한다")
+    void forward_sendFailure_throws() {
+        // given
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when & then
+        assertThatThrownBy(() -> forwarder.forward(KafkaTopics.PAYMENT_COMPLETED, "order-1", "payload",
+                new IllegalStateException("boom")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(KafkaTopics.PAYMENT_COMPLETED);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.mafiagame.leaderboard.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LeaderboardScoreTest {
+
+    @Test
+    @DisplayName("누적 점수는 승률 내림차순, 같으면 판수 내림차순으로 정렬된다")
+    void allTime_ordersByWinRateThenPlayCount() {
+        // given
+        double highRate = LeaderboardScore.allTime(60, 45);
+        double sameRateMorePlays = LeaderboardScore.allTime(120, 60);
+        double sameRateFewerPlays = LeaderboardScore.allTime(100, 50);
+
+        // then
+        assertThat(highRate).isGreaterThan(sameRateMorePlays);
+        assertThat(sameRateMorePlays).isGreaterThan(sameRateFewerPlays);
+    }
+
+    @Test
+    @DisplayName("구간 점수는 증감을 더해도 누적 결과와 같다")
+    void window_isAdditive() {
+        // given
+        double first = LeaderboardScore.window(3, 2);
+        double second = LeaderboardScore.window(2, 0);
+
+        // then
+        assertThat(first + second).isEqualTo(LeaderboardScore.window(5, 2));
+    }
+
+    @Test
+    @DisplayName("점수에서 판수/승리 수/승률을 복원한다")
+    void decode_restoresStats() {
+        // when
+        LeaderboardScore.Stats allTime = LeaderboardScore.decode(LeaderboardType.ALL_TIME,
+                LeaderboardScore.allTime(80, 60));
+        LeaderboardScore.Stats daily = LeaderboardScore.decode(LeaderboardType.DAILY,
+                LeaderboardScore.window(4, 3));
+
+        // then
+        assertThat(allTime.playCount()).isEqualTo(80);
+        assertThat(allTime.winCount()).isEqualTo(60);
+        assertThat(allTime.winRate()).isCloseTo(0.75, within(1e-6));
+        assertThat(daily).isEqualTo(new LeaderboardScore.Stats(4, 3, 0.75));
+    }
+
+    @Test
+    @DisplayName("누적 리더보드는 50판 초과 유저만 등재한다")
+    void isAllTimeEligible() {
+        assertThat(LeaderboardScore.isAllTimeEligible(50)).isFalse();
+        assertThat(LeaderboardScore.isAllTimeEligible(51)).isTrue();
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.mafiagame.leaderboard.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardTypeTest {
+
+    @Test
+    @DisplayName("시즌 키와 시작일은 분기 단위로 계산된다")
+    void season_usesQuarter() {
+        // given
+        LocalDate date = LocalDate.of(2026, 8, 15);
+
+        // then
+        assertThat(LeaderboardType.SEASON.key(date)).isEqualTo("leaderboard:season:2026-Q3");
+        assertThat(LeaderboardType.SEASON.periodStart(date)).isEqualTo(LocalDate.of(2026, 7, 1));
+    }
+
+    @Test
+    @DisplayName("일간 키는 날짜별, 누적 키는 하나로 고정된다")
+    void dailyAndAllTimeKeys() {
+        // given
+        LocalDate date = LocalDate.of(2026, 1, 3);
+
+        // then
+        assertThat(LeaderboardType.DAILY.key(date)).isEqualTo("leaderboard:daily:2026-01-03");
+        assertThat(LeaderboardType.DAILY.periodStart(date)).isEqualTo(date);
+        assertThat(LeaderboardType.ALL_TIME.key(date)).isEqualTo("leaderboard:all");
+        assertThat(LeaderboardType.ALL_TIME.retention()).isNull();
+    }
+}
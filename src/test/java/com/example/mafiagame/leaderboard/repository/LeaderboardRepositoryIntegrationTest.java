@@ -0,0 +1,110 @@
+package com.example.mafiagame.leaderboard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.example.mafiagame.leaderboard.domain.LeaderboardRow;
+import com.example.mafiagame.leaderboard.domain.LeaderboardScore;
+import com.example.mafiagame.support.RedisTestContainerSupport;
+
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class LeaderboardRepositoryIntegrationTest extends RedisTestContainerSupport {
+
+    private static final String DAILY_KEY = "leaderboard:daily:2026-01-01";
+    private static final String ALL_TIME_KEY = "leaderboard:all";
+    private static final Duration RETENTION = Duration.ofDays(8);
+
+    @Autowired
+    private LeaderboardRepository leaderboardRepository;
+
+    @Autowired
+    @Qualifier("supportStringRedisTemplate")
+    private StringRedisTemplate stringRedisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        try (RedisConnection connection = stringRedisTemplate.getRequiredConnectionFactory().getConnection()) {
+            connection.serverCommands().flushDb();
+        }
+    }
+
+    @Test
+    @DisplayName("재구성 중 들어온 게임 결과 증감은 교체 후에도 남는다")
+    void windowIncrementDuringRebuild_survivesSwap() {
+        // given
+        leaderboardRepository.incrementWindow(DAILY_KEY, List.of(row("u1", 1, 1)), RETENTION);
+        leaderboardRepository.beginRebuild(DAILY_KEY);
+        String rebuildKey = leaderboardRepository.rebuildKey(DAILY_KEY);
+
+        // when
+        // MySQL 조회 이후에 끝난 게임 (재구성 적재에는 포함되지 않음)
+        leaderboardRepository.incrementWindow(DAILY_KEY, List.of(row("u1", 1, 0), row("u2", 1, 1)), RETENTION);
+        leaderboardRepository.incrementScores(rebuildKey, List.of(row("u1", 1, 1)),
+                r -> LeaderboardScore.window(r.playCount(), r.winCount()));
+        leaderboardRepository.swap(rebuildKey, DAILY_KEY, RETENTION);
+
+        // then
+        assertThat(score(DAILY_KEY, "u1")).isEqualTo(LeaderboardScore.window(2, 1));
+        assertThat(score(DAILY_KEY, "u2")).isEqualTo(LeaderboardScore.window(1, 1));
+        assertThat(stringRedisTemplate.getExpire(DAILY_KEY)).isPositive();
+        assertThat(leaderboardRepository.exists(rebuildKey)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성 적재는 재구성 중 반영된 더 최신 누적 점수를 덮어쓰지 않는다")
+    void allTimeUpdateDuringRebuild_notOverwrittenByOlderSnapshot() {
+        // given
+        leaderboardRepository.beginRebuild(ALL_TIME_KEY);
+        String rebuildKey = leaderboardRepository.rebuildKey(ALL_TIME_KEY);
+
+        // when
+        leaderboardRepository.applyAllTime(ALL_TIME_KEY, List.of(row("u1", 61, 31)));
+        // 갱신 전에 읽은 MySQL 페이지
+        leaderboardRepository.addScoresIfAbsent(rebuildKey, List.of(row("u1", 60, 30), row("u2", 70, 10)),
+                r -> LeaderboardScore.allTime(r.playCount(), r.winCount()));
+        leaderboardRepository.swap(rebuildKey, ALL_TIME_KEY, null);
+
+        // then
+        assertThat(score(ALL_TIME_KEY, "u1")).isEqualTo(LeaderboardScore.allTime(61, 31));
+        assertThat(score(ALL_TIME_KEY, "u2")).isEqualTo(LeaderboardScore.allTime(70, 10));
+    }
+
+    @Test
+    @DisplayName("재구성이 끝나면 게임 결과를 실제 키에만 반영한다")
+    void afterSwap_writesOnlyLiveKey() {
+        // given
+        leaderboardRepository.beginRebuild(DAILY_KEY);
+        String rebuildKey = leaderboardRepository.rebuildKey(DAILY_KEY);
+        leaderboardRepository.incrementScores(rebuildKey, List.of(row("u1", 1, 1)),
+                r -> LeaderboardScore.window(r.playCount(), r.winCount()));
+        leaderboardRepository.swap(rebuildKey, DAILY_KEY, RETENTION);
+
+        // when
+        leaderboardRepository.incrementWindow(DAILY_KEY, List.of(row("u1", 1, 1)), RETENTION);
+
+        // then
+        assertThat(score(DAILY_KEY, "u1")).isEqualTo(LeaderboardScore.window(2, 2));
+        assertThat(leaderboardRepository.exists(rebuildKey)).isFalse();
+    }
+
+    private Double score(String key, String userId) {
+        return stringRedisTemplate.opsForZSet().score(key, userId);
+    }
+
+    private static LeaderboardRow row(String userId, int playCount, int winCount) {
+        return new LeaderboardRow(userId, "닉네임-" + userId, playCount, winCount);
+    }
+}
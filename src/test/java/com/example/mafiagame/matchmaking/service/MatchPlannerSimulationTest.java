@@ -0,0 +1,169 @@
+package com.example.mafiagame.matchmaking.service;
+
+import com.example.mafiagame.matchmaking.domain.MatchTicket;
+import com.example.mafiagame.matchmaking.domain.OpenMatchRoom;
+import com.example.mafiagame.matchmaking.domain.SkillBucket;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 매칭 배치 시뮬레이션 (가상 시계, Redis 없이 MatchPlanner 만 반복 실행)
+ * - 초당 도착 인원과 구간 분포를 바꿔가며 대기 시간 분포/틱당 계획 시간을 측정
+ * - ./gradlew benchmarkTest 로 실행
+ */
+@Tag("benchmark")
+class MatchPlannerSimulationTest {
+
+    private static final int ROOM_SIZE = 8;
+    private static final long WIDEN_AFTER_MS = 10_000L;
+    private static final long MAX_WAIT_MS = 30_000L;
+    private static final long TICK_MS = 500L;
+    private static final int BATCH_SIZE = 500;
+    // 구간 0(배치)~5 도착 비율
+    private static final double[] BUCKET_WEIGHTS = { 0.30, 0.10, 0.20, 0.25, 0.10, 0.05 };
+
+    @Test
+    @DisplayName("피크 트래픽 - 초당 3,000명 유입")
+    void peakTraffic() {
+        Result result = simulate(3_000, 60);
+
+        assertThat(result.started()).isGreaterThan(result.arrived() * 9 / 10);
+        assertThat(result.waitPercentile(0.99)).isLessThanOrEqualTo(MAX_WAIT_MS + TICK_MS);
+    }
+
+    @Test
+    @DisplayName("한산한 트래픽 - 초당 2명 유입 (구간 확장으로 대기 상한 유지)")
+    void lowTraffic() {
+        Result result = simulate(2, 600);
+
+        assertThat(result.started()).isGreaterThan(result.arrived() * 8 / 10);
+        assertThat(result.waitPercentile(0.99)).isLessThanOrEqualTo(MAX_WAIT_MS * 2);
+    }
+
+    private Result simulate(int arrivalsPerSecond, int seconds) {
+        MatchPlanner planner = new MatchPlanner(new MatchPlanner.Settings(ROOM_SIZE, 4, WIDEN_AFTER_MS, MAX_WAIT_MS));
+        Random random = new Random(7);
+
+        List<Deque<MatchTicket>> queues = new ArrayList<>();
+        for (int i = 0; i < SkillBucket.COUNT; i++) {
+            queues.add(new ArrayDeque<>());
+        }
+        Map<String, SimRoom> openRooms = new HashMap<>();
+        List<Long> waits = new ArrayList<>();
+        List<Long> planNanos = new ArrayList<>();
+        int arrived = 0;
+        int roomSeq = 0;
+        int maxSpread = 0;
+        int startedRooms = 0;
+        int startedPlayers = 0;
+
+        long arrivalsPerTick = arrivalsPerSecond * TICK_MS / 1000;
+        double fractional = arrivalsPerSecond * TICK_MS / 1000.0 - arrivalsPerTick;
+
+        for (long now = 0; now < seconds * 1000L; now += TICK_MS) {
+            long count = arrivalsPerTick + (random.nextDouble() < fractional ? 1 : 0);
+            for (int i = 0; i < count; i++) {
+                int bucket = pickBucket(random);
+                long enqueuedAt = now + random.nextInt((int) TICK_MS);
+                queues.get(bucket).add(new MatchTicket("u" + arrived, bucket, enqueuedAt, "n" + arrived));
+                arrived++;
+            }
+
+            long tickNow = now + TICK_MS;
+            Map<Integer, List<MatchTicket>> peeked = new HashMap<>();
+            for (int bucket = 0; bucket < SkillBucket.COUNT; bucket++) {
+                peeked.put(bucket, queues.get(bucket).stream().limit(BATCH_SIZE).toList());
+            }
+            List<OpenMatchRoom> snapshot = openRooms.values().stream()
+                    .map(room -> new OpenMatchRoom(room.roomId, room.bucket, room.createdAt, room.members.size()))
+                    .toList();
+
+            long start = System.nanoTime();
+            List<MatchPlanner.RoomFill> fills = planner.plan(snapshot, peeked, tickNow);
+            planNanos.add(System.nanoTime() - start);
+
+            for (MatchPlanner.RoomFill fill : fills) {
+                fill.tickets().forEach(ticket -> queues.get(ticket.bucket()).remove(ticket));
+                SimRoom room = fill.isNewRoom()
+                        ? new SimRoom("r" + roomSeq++, fill.bucket(), fill.createdAt())
+                        : openRooms.get(fill.roomId());
+                room.members.addAll(fill.tickets());
+                if (fill.start()) {
+                    openRooms.remove(room.roomId);
+                    startedRooms++;
+                    startedPlayers += room.members.size();
+                    maxSpread = Math.max(maxSpread, room.spread());
+                    room.members.forEach(ticket -> waits.add(tickNow - ticket.enqueuedAt()));
+                } else {
+                    openRooms.put(room.roomId, room);
+                }
+            }
+        }
+
+        Result result = new Result(arrived, startedPlayers, waits);
+        long[] plan = planNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        System.out.printf(
+                "[Matchmaking] arrivals=%d/s, players=%d, started=%d (rooms=%d, avg=%.1f), maxBucketSpread=%d%n",
+                arrivalsPerSecond, arrived, startedPlayers, startedRooms,
+                startedRooms == 0 ? 0.0 : (double) startedPlayers / startedRooms, maxSpread);
+        System.out.printf("[Matchmaking] wait p50=%dms p99=%dms max=%dms | plan p50=%.2fms max=%.2fms%n",
+                result.waitPercentile(0.5), result.waitPercentile(0.99), result.waitPercentile(1.0),
+                plan[plan.length / 2] / 1e6, plan[plan.length - 1] / 1e6);
+        return result;
+    }
+
+    private int pickBucket(Random random) {
+        double r = random.nextDouble();
+        double acc = 0;
+        for (int i = 0; i < BUCKET_WEIGHTS.length; i++) {
+            acc += BUCKET_WEIGHTS[i];
+            if (r < acc) {
+                return i;
+            }
+        }
+        return SkillBucket.MAX;
+    }
+
+    private static final class SimRoom {
+        private final String roomId;
+        private final int bucket;
+        private final long createdAt;
+        private final List<MatchTicket> members = new ArrayList<>();
+
+        private SimRoom(String roomId, int bucket, long createdAt) {
+            this.roomId = roomId;
+            this.bucket = bucket;
+            this.createdAt = createdAt;
+        }
+
+        private int spread() {
+            int min = members.stream().mapToInt(MatchTicket::bucket).min().orElse(bucket);
+            int max = members.stream().mapToInt(MatchTicket::bucket).max().orElse(bucket);
+            return max - min;
+        }
+    }
+
+    private record Result(int arrived, int started, List<Long> waits) {
+        long waitPercentile(double percentile) {
+            if (waits.isEmpty()) {
+                return 0L;
+            }
+            long[] sorted = waits.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+            return sorted[Math.max(index, 0)];
+        }
+    }
+}
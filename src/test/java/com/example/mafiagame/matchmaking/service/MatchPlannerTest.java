@@ -0,0 +1,100 @@
+package com.example.mafiagame.matchmaking.service;
+
+import com.example.mafiagame.matchmaking.domain.MatchTicket;
+import com.example.mafiagame.matchmaking.domain.OpenMatchRoom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchPlannerTest {
+
+    private static final long NOW = 1_000_000L;
+
+    private final MatchPlanner planner = new MatchPlanner(new MatchPlanner.Settings(8, 4, 10_000L, 30_000L));
+
+    @Test
+    @DisplayName("같은 구간의 열린 방을 먼저 채우고 정원이 차면 시작")
+    void fillsOpenRoomFirst() {
+        // given
+        OpenMatchRoom openRoom = new OpenMatchRoom("room-1", 3, NOW - 1_000L, 6);
+
+        // when
+        List<MatchPlanner.RoomFill> fills = planner.plan(List.of(openRoom), Map.of(3, tickets(3, 2)), NOW);
+
+        // then
+        assertThat(fills).hasSize(1);
+        assertThat(fills.get(0).roomId()).isEqualTo("room-1");
+        assertThat(fills.get(0).tickets()).hasSize(2);
+        assertThat(fills.get(0).start()).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 짧은 방은 인접 구간 플레이어를 받지 않음")
+    void doesNotWidenBeforeThreshold() {
+        // given
+        OpenMatchRoom openRoom = new OpenMatchRoom("room-1", 3, NOW - 1_000L, 2);
+
+        // when
+        List<MatchPlanner.RoomFill> fills = planner.plan(List.of(openRoom), Map.of(4, tickets(4, 3)), NOW);
+
+        // then
+        assertThat(fills).hasSize(1);
+        assertThat(fills.get(0).isNewRoom()).isTrue();
+        assertThat(fills.get(0).tickets()).hasSize(3);
+        assertThat(fills.get(0).start()).isFalse();
+    }
+
+    @Test
+    @DisplayName("widenAfter 가 지난 방은 인접 구간 플레이어로 채움")
+    void widensAfterThreshold() {
+        // given
+        OpenMatchRoom openRoom = new OpenMatchRoom("room-1", 3, NOW - 12_000L, 2);
+
+        // when
+        List<MatchPlanner.RoomFill> fills = planner.plan(List.of(openRoom), Map.of(4, tickets(4, 3)), NOW);
+
+        // then
+        assertThat(fills).hasSize(1);
+        assertThat(fills.get(0).roomId()).isEqualTo("room-1");
+        assertThat(fills.get(0).tickets()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("maxWait 이 지났고 최소 인원 이상이면 정원 미달이어도 시작")
+    void startsAfterMaxWait() {
+        // given
+        OpenMatchRoom ready = new OpenMatchRoom("room-1", 1, NOW - 31_000L, 5);
+        OpenMatchRoom tooSmall = new OpenMatchRoom("room-2", 1, NOW - 31_000L, 3);
+
+        // when
+        List<MatchPlanner.RoomFill> fills = planner.plan(List.of(ready, tooSmall), Map.of(), NOW);
+
+        // then
+        assertThat(fills).extracting(MatchPlanner.RoomFill::roomId).containsExactly("room-1");
+        assertThat(fills.get(0).start()).isTrue();
+    }
+
+    @Test
+    @DisplayName("남은 플레이어는 정원 단위로 새 방에 배정")
+    void splitsIntoNewRooms() {
+        // when
+        List<MatchPlanner.RoomFill> fills = planner.plan(List.of(), Map.of(0, tickets(0, 20)), NOW);
+
+        // then
+        assertThat(fills).extracting(fill -> fill.tickets().size()).containsExactly(8, 8, 4);
+        assertThat(fills).extracting(MatchPlanner.RoomFill::start).containsExactly(true, true, false);
+    }
+
+    private List<MatchTicket> tickets(int bucket, int count) {
+        List<MatchTicket> tickets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tickets.add(new MatchTicket("user-" + bucket + "-" + i, bucket, NOW - 100L + i, "nick" + i));
+        }
+        return tickets;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.mafiagame.payment.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.example.mafiagame.payment.config.PaymentGatewayConfig;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 로컬 PG 스텁(응답 지연 50ms) 기준 결제 승인 처리량/지연 측정
+ * - 벌크헤드 한도 안의 동시 호출과 한도를 넘는 동시 호출(즉시 거절)을 비교
+ * - ./gradlew benchmarkTest 로 실행 (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+class PaymentGatewayLoadBenchmarkTest {
+
+    private static final int REQUEST_COUNT = 5_000;
+    private static final int MAX_CONCURRENT_CALLS = 40;
+    private static final Duration PG_LATENCY = Duration.ofMillis(50);
+
+    private final TossPaymentStub stub = new TossPaymentStub().latency(PG_LATENCY);
+    private TossPaymentClient client;
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        stub.close();
+    }
+
+    private PaymentGateway gateway() {
+        client = new TossPaymentClient("test_sk", stub.baseUrl(), 1_000, 2_000, 50, 100, 1_000, 30_000);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PaymentGatewayConfig config = new PaymentGatewayConfig();
+        CircuitBreaker circuitBreaker = config.tossPaymentsCircuitBreaker(meterRegistry,
+                50, 3_000, 80, 50, 20, 10_000, 5);
+        Bulkhead bulkhead = config.tossPaymentsBulkhead(meterRegistry, MAX_CONCURRENT_CALLS);
+        return new PaymentGateway(client, circuitBreaker, bulkhead, 8_000);
+    }
+
+    @Test
+    @DisplayName("벌크헤드 한도 안의 동시 호출은 모두 승인된다")
+    void withinBulkhead() {
+        Result result = run(gateway(), MAX_CONCURRENT_CALLS);
+
+        assertThat(result.rejected()).isZero();
+        assertThat(result.succeeded()).isEqualTo(REQUEST_COUNT);
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 동시 호출은 대기 없이 거절되어 승인 지연이 늘지 않는다")
+    void overBulkhead() {
+        Result result = run(gateway(), MAX_CONCURRENT_CALLS * 5);
+
+        assertThat(result.rejected()).isPositive();
+        assertThat(result.succeeded() + result.rejected()).isEqualTo(REQUEST_COUNT);
+    }
+
+    private Result run(PaymentGateway gateway, int concurrency) {
+        // 워밍업 (커넥션 풀 생성)
+        Flux.range(0, MAX_CONCURRENT_CALLS)
+                .flatMap(i -> gateway.confirm("WARM_" + i, "pk", "ORD_WARM_" + i, 1_000), MAX_CONCURRENT_CALLS)
+                .blockLast();
+
+        long[] latencies = new long[REQUEST_COUNT];
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        long start = System.nanoTime();
+        Flux.range(0, REQUEST_COUNT)
+                .flatMap(i -> Mono.defer(() -> {
+                    long begin = System.nanoTime();
+                    return gateway.confirm("PAY_" + i, "pk_" + i, "ORD_" + i, 10_000)
+                            .doOnNext(response -> {
+                                latencies[i] = System.nanoTime() - begin;
+                                succeeded.incrementAndGet();
+                            })
+                            .onErrorResume(PaymentGatewayException.class, e -> {
+                                latencies[i] = System.nanoTime() - begin;
+                                if (e.getOutcome() == PaymentGatewayException.Outcome.REJECTED) {
+                                    rejected.incrementAndGet();
+                                }
+                                return Mono.empty();
+                            });
+                }), concurrency)
+                .blockLast();
+        double elapsedMs = (System.nanoTime() - start) / 1e6;
+
+        Arrays.sort(latencies);
+        System.out.printf("[PG] concurrency=%d, 성공=%d, 거절=%d, %.1f ms (%.0f req/s), p50=%.1f ms, p99=%.1f ms%n",
+                concurrency, succeeded.get(), rejected.get(), elapsedMs, REQUEST_COUNT / (elapsedMs / 1000),
+                latencies[REQUEST_COUNT / 2] / 1e6, latencies[(int) (REQUEST_COUNT * 0.99)] / 1e6);
+        return new Result(succeeded.get(), rejected.get());
+    }
+
+    private record Result(int succeeded, int rejected) {
+    }
+}
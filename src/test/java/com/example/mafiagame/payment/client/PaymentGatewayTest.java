@@ -0,0 +1,139 @@
+package com.example.mafiagame.payment.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.mafiagame.payment.client.PaymentGatewayException.Outcome;
+import com.example.mafiagame.payment.config.PaymentGatewayConfig;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class PaymentGatewayTest {
+
+    private final TossPaymentStub stub = new TossPaymentStub();
+    private final PaymentGatewayConfig config = new PaymentGatewayConfig();
+    private TossPaymentClient client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.shutdown();
+        }
+        stub.close();
+    }
+
+    /**
+     * 작은 설정의 게이트웨이 (최근 4건 중 실패 50% 이상이면 서킷 오픈)
+     */
+    private PaymentGateway gateway(int maxConcurrentCalls, long responseTimeoutMs) {
+        client = new TossPaymentClient("test_sk", stub.baseUrl(), 500, responseTimeoutMs, 10, 10, 500, 30_000);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CircuitBreaker circuitBreaker = config.tossPaymentsCircuitBreaker(meterRegistry,
+                50, 3_000, 80, 4, 4, 60_000, 1);
+        Bulkhead bulkhead = config.tossPaymentsBulkhead(meterRegistry, maxConcurrentCalls);
+        return new PaymentGateway(client, circuitBreaker, bulkhead, 2_000);
+    }
+
+    private Mono<Map<String, Object>> confirm(PaymentGateway gateway, String paymentId) {
+        return gateway.confirm(paymentId, "pk_" + paymentId, "ORD_" + paymentId, 10_000);
+    }
+
+    private static boolean hasOutcome(Throwable e, Outcome outcome) {
+        return e instanceof PaymentGatewayException gatewayException && gatewayException.getOutcome() == outcome;
+    }
+
+    @Test
+    @DisplayName("PG 승인 응답을 그대로 돌려준다")
+    void confirm_success() {
+        // given
+        PaymentGateway gateway = gateway(10, 1_000);
+
+        // when & then
+        StepVerifier.create(confirm(gateway, "PAY_1"))
+                .assertNext(response -> assertThat(response).containsEntry("status", "DONE"))
+                .verifyComplete();
+        assertThat(stub.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("PG 의 4xx 응답은 거절(DECLINED)이며 서킷 실패로 세지 않는다")
+    void clientError_declined() {
+        // given
+        stub.status(HttpResponseStatus.BAD_REQUEST);
+        PaymentGateway gateway = gateway(10, 1_000);
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(confirm(gateway, "PAY_" + i))
+                    .expectErrorMatches(e -> hasOutcome(e, Outcome.DECLINED))
+                    .verify();
+        }
+
+        // then
+        assertThat(gateway.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("응답 타임아웃은 결과 불명(UNKNOWN)으로 변환한다")
+    void slowResponse_unknown() {
+        // given
+        stub.latency(Duration.ofMillis(500));
+        PaymentGateway gateway = gateway(10, 100);
+
+        // when & then
+        StepVerifier.create(confirm(gateway, "PAY_1"))
+                .expectErrorMatches(e -> hasOutcome(e, Outcome.UNKNOWN))
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("벌크헤드가 가득 차면 PG 를 호출하지 않고 즉시 차단(REJECTED)한다")
+    void bulkheadFull_rejected() {
+        // given
+        stub.latency(Duration.ofMillis(300));
+        PaymentGateway gateway = gateway(1, 1_000);
+        Mono<Map<String, Object>> inFlight = confirm(gateway, "PAY_1").cache();
+        inFlight.subscribe();
+
+        // when & then
+        StepVerifier.create(confirm(gateway, "PAY_2"))
+                .expectErrorMatches(e -> hasOutcome(e, Outcome.REJECTED))
+                .verify();
+        StepVerifier.create(inFlight)
+                .expectNextCount(1)
+                .verifyComplete();
+        assertThat(stub.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("5xx 가 이어져 서킷이 열리면 PG 를 호출하지 않고 차단(REJECTED)한다")
+    void circuitOpen_rejected() {
+        // given
+        stub.status(HttpResponseStatus.INTERNAL_SERVER_ERROR);
+        PaymentGateway gateway = gateway(10, 1_000);
+        for (int i = 0; i < 4; i++) {
+            StepVerifier.create(confirm(gateway, "PAY_" + i))
+                    .expectErrorMatches(e -> hasOutcome(e, Outcome.UNKNOWN))
+                    .verify();
+        }
+        stub.status(HttpResponseStatus.OK);
+
+        // when & then
+        assertThat(gateway.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        StepVerifier.create(confirm(gateway, "PAY_5"))
+                .expectErrorMatches(e -> hasOutcome(e, Outcome.REJECTED))
+                .verify();
+        assertThat(stub.requestCount()).isEqualTo(4);
+    }
+}
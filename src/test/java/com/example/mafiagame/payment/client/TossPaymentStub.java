@@ -0,0 +1,70 @@
+package com.example.mafiagame.payment.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * 로컬 Toss Payments 스텁 서버 (지연/응답 코드 조절용)
+ * - 임의 포트로 뜨고 승인/취소 요청에 고정 JSON 을 돌려준다
+ * - latency 로 PG 지연을, status 로 거절(4xx)/장애(5xx)를 흉내 낸다
+ */
+class TossPaymentStub implements AutoCloseable {
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final DisposableServer server;
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile HttpResponseStatus status = HttpResponseStatus.OK;
+
+    TossPaymentStub() {
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .post("/payments/confirm", (request, response) -> respond(response,
+                                "{\"status\":\"DONE\",\"method\":\"카드\"}"))
+                        .post("/payments/{paymentKey}/cancel", (request, response) -> respond(response,
+                                "{\"status\":\"CANCELED\",\"paymentKey\":\"" + request.param("paymentKey") + "\"}")))
+                .bindNow();
+    }
+
+    private Mono<Void> respond(HttpServerResponse response, String body) {
+        requestCount.incrementAndGet();
+        HttpResponseStatus current = status;
+        String payload = current.code() < 400 ? body : "{\"code\":\"STUB_ERROR\"}";
+        return Mono.delay(latency)
+                .then(response.status(current)
+                        .header("Content-Type", "application/json")
+                        .sendString(Mono.just(payload))
+                        .then());
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.port();
+    }
+
+    TossPaymentStub latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    TossPaymentStub status(HttpResponseStatus status) {
+        this.status = status;
+        return this;
+    }
+
+    int requestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+}
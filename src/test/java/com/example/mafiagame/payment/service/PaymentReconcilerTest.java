@@ -0,0 +1,187 @@
+package com.example.mafiagame.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.example.mafiagame.kafka.config.KafkaTopics;
+import com.example.mafiagame.kafka.outbox.OutboxEventPublisher;
+import com.example.mafiagame.order.domain.Order;
+import com.example.mafiagame.order.repository.OrderRepository;
+import com.example.mafiagame.payment.client.PaymentGateway;
+import com.example.mafiagame.payment.client.PaymentGatewayException;
+import com.example.mafiagame.payment.client.PaymentGatewayException.Outcome;
+import com.example.mafiagame.payment.domain.Payment;
+import com.example.mafiagame.payment.domain.PaymentStatus;
+import com.example.mafiagame.payment.repository.PaymentRepository;
+import com.example.mafiagame.user.domain.Users;
+
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconcilerTest {
+
+    @Mock
+    private PaymentRepository paymentRepository;
+    @Mock
+    private OrderRepository orderRepository;
+    @Mock
+    private PaymentGateway paymentGateway;
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private RedissonClient redissonClient;
+
+    private PaymentReconciler paymentReconciler;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        PaymentService paymentService = new PaymentService(paymentRepository, orderRepository, paymentGateway,
+                outboxEventPublisher, transactionManager);
+        paymentReconciler = new PaymentReconciler(paymentRepository, paymentService, redissonClient, 10, 100,
+                5_000);
+    }
+
+    @Test
+    @DisplayName("PG 가 승인한 READY 결제는 재요청이 없어도 완료로 확정하고 결제 완료 이벤트를 남긴다")
+    void pgDone_completesPayment() {
+        // given
+        Payment payment = readyPayment("PAY_1");
+        givenStale(payment);
+        when(paymentGateway.inquire("pk_PAY_1")).thenReturn(Mono.just(Map.of("status", "DONE", "method", "CARD")));
+
+        // when
+        int settled = paymentReconciler.reconcileStale();
+
+        // then
+        assertThat(settled).isEqualTo(1);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+        assertThat(payment.getMethod()).isEqualTo("CARD");
+        assertThat(payment.getApprovedAt()).isNotNull();
+        verify(outboxEventPublisher).publish(eq(KafkaTopics.PAYMENT_COMPLETED), eq("ORD_PAY_1"), any());
+    }
+
+    @Test
+    @DisplayName("PG 에서 승인 없이 만료된 결제는 실패로 확정하고 결제 실패 이벤트를 남긴다")
+    void pgExpired_failsPayment() {
+        // given
+        Payment payment = readyPayment("PAY_2");
+        givenStale(payment);
+        when(paymentGateway.inquire("pk_PAY_2")).thenReturn(Mono.just(Map.of("status", "EXPIRED")));
+
+        // when
+        int settled = paymentReconciler.reconcileStale();
+
+        // then
+        assertThat(settled).isEqualTo(1);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        verify(outboxEventPublisher).publish(eq(KafkaTopics.PAYMENT_FAILED), eq("ORD_PAY_2"), any());
+    }
+
+    @Test
+    @DisplayName("PG 에 없는 결제(404)는 실패로 확정한다")
+    void pgNotFound_failsPayment() {
+        // given
+        Payment payment = readyPayment("PAY_3");
+        givenStale(payment);
+        WebClientResponseException notFound = WebClientResponseException.create(HttpStatus.NOT_FOUND.value(),
+                "Not Found", HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8);
+        when(paymentGateway.inquire("pk_PAY_3"))
+                .thenReturn(Mono.error(new PaymentGatewayException(Outcome.DECLINED, "PG 요청 거절", notFound)));
+
+        // when
+        int settled = paymentReconciler.reconcileStale();
+
+        // then
+        assertThat(settled).isEqualTo(1);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("PG 조회 결과를 알 수 없으면 READY 로 두고 다음 주기에 다시 조회한다")
+    void pgUnknown_keepsReady() {
+        // given
+        Payment payment = readyPayment("PAY_4");
+        when(paymentRepository.findStale(eq(PaymentStatus.READY), any(), any())).thenReturn(List.of(payment));
+        when(paymentGateway.inquire("pk_PAY_4"))
+                .thenReturn(Mono.error(new PaymentGatewayException(Outcome.UNKNOWN, "PG 응답 실패", null)));
+
+        // when
+        int settled = paymentReconciler.reconcileStale();
+
+        // then
+        assertThat(settled).isZero();
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.READY);
+        verify(paymentRepository, never()).findByIdForUpdate(anyString());
+        verify(outboxEventPublisher, never()).publish(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("대사 조회 중 클라이언트 재요청으로 이미 확정된 결제는 다시 반영하지 않는다")
+    void alreadySettled_notPublishedAgain() {
+        // given
+        Payment payment = readyPayment("PAY_5");
+        givenStale(payment);
+        when(paymentGateway.inquire("pk_PAY_5")).thenAnswer(invocation -> {
+            payment.setStatus(PaymentStatus.DONE);
+            return Mono.just(Map.of("status", "DONE", "method", "CARD"));
+        });
+
+        // when
+        paymentReconciler.reconcileStale();
+
+        // then
+        verify(outboxEventPublisher, never()).publish(anyString(), anyString(), any());
+    }
+
+    private void givenStale(Payment payment) {
+        when(paymentRepository.findStale(eq(PaymentStatus.READY), any(), any())).thenReturn(List.of(payment));
+        when(paymentRepository.findByIdForUpdate(payment.getPaymentId())).thenReturn(Optional.of(payment));
+    }
+
+    private Payment readyPayment(String paymentId) {
+        Users user = Users.builder()
+                .userId(1L)
+                .userLoginId("buyer")
+                .nickname("구매자")
+                .build();
+        Order order = Order.builder()
+                .orderId("ORD_" + paymentId)
+                .user(user)
+                .totalAmount(10_000)
+                .build();
+        return Payment.builder()
+                .paymentId(paymentId)
+                .order(order)
+                .pgPaymentKey("pk_" + paymentId)
+                .amount(10_000)
+                .status(PaymentStatus.READY)
+                .build();
+    }
+}
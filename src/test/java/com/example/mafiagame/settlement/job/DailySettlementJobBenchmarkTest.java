@@ -0,0 +1,161 @@
+package com.example.mafiagame.settlement.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.mafiagame.settlement.repository.SettlementJdbcRepository;
+import com.example.mafiagame.settlement.service.HourlySettlementService;
+
+/**
+ * 일일 정산 Job 벤치마크 (기본 1,000만 건)
+ * - H2 파일 DB(MySQL 모드)에 버킷 미반영 합성 결제를 적재한 뒤 Job 을 실행해
+ *   누락분 보정(파티션 Chunk) 최악의 경우 처리 시간과 집계 정확성을 확인
+ * - 인메모리 DB 는 1,000만 행이 힙에 올라가므로 임시 디렉터리의 파일 DB 사용
+ * - 건수는 -Dsettlement.benchmark.rows=... 로 조정
+ * - ./gradlew benchmarkTest 로 실행 (기본 test 태스크에서는 제외)
+ */
+@Tag("benchmark")
+@SpringJUnitConfig(DailySettlementJobBenchmarkTest.BenchmarkConfig.class)
+class DailySettlementJobBenchmarkTest {
+
+    private static final long ROWS = Long.getLong("settlement.benchmark.rows", 10_000_000L);
+    private static final long INSERT_CHUNK = 1_000_000L;
+    private static final String TARGET_DATE = "2026-01-01";
+
+    // 승인 시각을 대상일 0시부터 25시간에 흩뿌려 일부는 다음 날로 넘어가게 하고, 5% 는 취소 건으로 생성
+    // (취소 건도 승인 시점 매출로 집계되고 환불은 취소 이벤트로 따로 반영됨)
+    private static final String INSERT_PAYMENTS = "INSERT INTO payments "
+            + "(payment_id, order_id, amount, status, approved_at, settled) "
+            + "SELECT 'pay-' || LPAD(CAST(X AS VARCHAR), 10, '0'), X, 1000 + MOD(X, 50) * 100, "
+            + "CASE WHEN MOD(X, 20) = 0 THEN 'CANCELED' ELSE 'DONE' END, "
+            + "DATEADD('SECOND', MOD(X * 7919, 90000), TIMESTAMP '" + TARGET_DATE + " 00:00:00'), FALSE "
+            + "FROM SYSTEM_RANGE(?, ?)";
+
+    private static final String EXPECTED_TOTAL = "SELECT COUNT(*), COALESCE(SUM(amount), 0) FROM payments "
+            + "WHERE approved_at >= TIMESTAMP '" + TARGET_DATE + " 00:00:00' "
+            + "AND approved_at < DATEADD('DAY', 1, TIMESTAMP '" + TARGET_DATE + " 00:00:00')";
+
+    @Configuration
+    @EnableBatchProcessing
+    @Import({ DailySettlementJobConfig.class, SettlementJdbcRepository.class, HourlySettlementService.class })
+    static class BenchmarkConfig {
+
+        @Bean
+        DataSource dataSource() throws IOException {
+            Path directory = Files.createTempDirectory("settlement-benchmark");
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:file:" + directory.resolve("db") + ";MODE=MySQL;DB_CLOSE_ON_EXIT=FALSE", "sa", "");
+            dataSource.setDriverClassName("org.h2.Driver");
+
+            ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                    new ClassPathResource("org/springframework/batch/core/schema-h2.sql"));
+            populator.execute(dataSource);
+
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE payments (payment_id VARCHAR(50) PRIMARY KEY, order_id BIGINT NOT NULL, "
+                    + "amount INT NOT NULL, status VARCHAR(20) NOT NULL, approved_at TIMESTAMP, "
+                    + "settled BOOLEAN NOT NULL)");
+            jdbcTemplate.execute("CREATE INDEX idx_payment_settled ON payments (settled, approved_at)");
+            jdbcTemplate.execute("CREATE TABLE daily_settlements (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "settlement_date DATE NOT NULL UNIQUE, total_order_count INT NOT NULL, "
+                    + "total_sales_amount BIGINT NOT NULL, total_refund_amount BIGINT NOT NULL, "
+                    + "pg_fee_amount BIGINT NOT NULL, net_amount BIGINT NOT NULL, status VARCHAR(20) NOT NULL, "
+                    + "processed_at TIMESTAMP)");
+            jdbcTemplate.execute("CREATE TABLE hourly_settlements (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "bucket_start TIMESTAMP NOT NULL UNIQUE, order_count BIGINT NOT NULL, "
+                    + "sales_amount BIGINT NOT NULL, refund_count BIGINT NOT NULL, refund_amount BIGINT NOT NULL, "
+                    + "updated_at TIMESTAMP NOT NULL)");
+            return dataSource;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource dataSource) {
+            return new JdbcTemplate(dataSource);
+        }
+
+        @Bean
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate(DataSource dataSource) {
+            return new NamedParameterJdbcTemplate(dataSource);
+        }
+    }
+
+    @Autowired
+    private JobLauncher jobLauncher;
+
+    @Autowired
+    @Qualifier("dailySettlementJob")
+    private Job dailySettlementJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private void loadPayments() {
+        long start = System.nanoTime();
+        for (long from = 1; from <= ROWS; from += INSERT_CHUNK) {
+            jdbcTemplate.update(INSERT_PAYMENTS, from, Math.min(from + INSERT_CHUNK - 1, ROWS));
+        }
+        System.out.printf("[Settlement] 결제 적재: rows=%,d, %.1f s%n", ROWS, (System.nanoTime() - start) / 1e9);
+    }
+
+    @Test
+    @DisplayName("1,000만 건 결제 - 버킷 미반영분 파티션 보정 후 정산")
+    void settleTenMillionPayments() throws Exception {
+        // given
+        loadPayments();
+        long[] expected = jdbcTemplate.queryForObject(EXPECTED_TOTAL,
+                (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) });
+
+        // when
+        long start = System.nanoTime();
+        JobExecution execution = jobLauncher.run(dailySettlementJob, new JobParametersBuilder()
+                .addString("targetDate", TARGET_DATE)
+                .toJobParameters());
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        // then
+        System.out.printf("[Settlement] 정산 Job: settled=%,d, %.1f s (%,.0f rows/s)%n",
+                expected[0], seconds, expected[0] / seconds);
+        assertThat(execution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT total_order_count FROM daily_settlements WHERE settlement_date = DATE '" + TARGET_DATE + "'",
+                Long.class)).isEqualTo(expected[0]);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT total_sales_amount FROM daily_settlements WHERE settlement_date = DATE '" + TARGET_DATE + "'",
+                Long.class)).isEqualTo(expected[1]);
+        assertThat(jdbcTemplate.queryForObject(EXPECTED_TOTAL.replace("WHERE", "WHERE settled = FALSE AND"),
+                (rs, rowNum) -> rs.getLong(1))).isZero();
+    }
+}
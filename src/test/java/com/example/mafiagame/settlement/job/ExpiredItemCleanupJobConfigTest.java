@@ -0,0 +1,91 @@
+package com.example.mafiagame.settlement.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import com.example.mafiagame.inventory.service.InventoryService;
+import com.example.mafiagame.inventory.service.InventoryService.ExpiredCleanupChunk;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiredItemCleanupJobConfigTest {
+
+    private static final String CUTOFF = "2026-10-19T00:00";
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private InventoryService inventoryService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Tasklet tasklet;
+    private StepExecution stepExecution;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tasklet = new ExpiredItemCleanupJobConfig(inventoryService, meterRegistry)
+                .expiredItemCleanupTasklet(CUTOFF, CHUNK_SIZE);
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+    }
+
+    private RepeatStatus runChunk(ChunkContext chunkContext) throws Exception {
+        StepContribution contribution = stepExecution.createStepContribution();
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+        stepExecution.apply(contribution);
+        return status;
+    }
+
+    @Test
+    @DisplayName("Chunk 가 가득 차면 다음 Chunk 를 이어서 실행한다")
+    void fullChunk_continues() throws Exception {
+        // given
+        when(inventoryService.deactivateExpiredChunk(eq(LocalDateTime.parse(CUTOFF)), eq(CHUNK_SIZE)))
+                .thenReturn(new ExpiredCleanupChunk(2, 2));
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+
+        // when
+        RepeatStatus status = runChunk(chunkContext);
+
+        // then
+        assertThat(status).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(chunkContext.hasAttribute("lastChunk")).isFalse();
+        assertThat(stepExecution.getWriteCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("남은 대상이 Chunk 크기보다 적으면 종료하고 진행 건수를 누적한다")
+    void partialChunk_finishes() throws Exception {
+        // given
+        when(inventoryService.deactivateExpiredChunk(eq(LocalDateTime.parse(CUTOFF)), eq(CHUNK_SIZE)))
+                .thenReturn(new ExpiredCleanupChunk(2, 2), new ExpiredCleanupChunk(1, 1));
+        runChunk(new ChunkContext(new StepContext(stepExecution)));
+        ChunkContext lastChunk = new ChunkContext(new StepContext(stepExecution));
+
+        // when
+        RepeatStatus status = runChunk(lastChunk);
+
+        // then
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        assertThat(lastChunk.hasAttribute("lastChunk")).isTrue();
+        assertThat(stepExecution.getWriteCount()).isEqualTo(3);
+        assertThat(meterRegistry.counter("inventory.expired.deactivated").count()).isEqualTo(3.0);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.mafiagame.settlement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.mafiagame.kafka.event.PaymentEvent;
+import com.example.mafiagame.settlement.dto.IntradayRevenueResponse;
+import com.example.mafiagame.settlement.repository.SettlementJdbcRepository;
+import com.example.mafiagame.settlement.repository.SettlementJdbcRepository.HourlyBucket;
+import com.example.mafiagame.settlement.repository.SettlementJdbcRepository.UnsettledPayment;
+
+@ExtendWith(MockitoExtension.class)
+class HourlySettlementServiceTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+    @Mock
+    private SettlementJdbcRepository settlementJdbcRepository;
+
+    private HourlySettlementService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new HourlySettlementService(settlementJdbcRepository);
+    }
+
+    private static PaymentEvent cancelled(String paymentId, int amount, LocalDateTime occurredAt) {
+        return PaymentEvent.builder()
+                .eventId("evt-" + paymentId)
+                .paymentId(paymentId)
+                .eventType(PaymentEvent.EventType.PAYMENT_CANCELLED)
+                .amount(amount)
+                .occurredAt(occurredAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("승인 결제는 승인 시각의 시간대별로 합산되고 시간 순으로 정렬된다")
+    void completedBuckets_groupsByApprovedHour() {
+        // given
+        List<UnsettledPayment> payments = List.of(
+                new UnsettledPayment("p1", 1000, DAY.plusHours(13).plusMinutes(59)),
+                new UnsettledPayment("p2", 2000, DAY.plusHours(9).plusMinutes(5)),
+                new UnsettledPayment("p3", 3000, DAY.plusHours(13)));
+
+        // when
+        List<HourlyBucket> buckets = HourlySettlementService.completedBuckets(payments);
+
+        // then
+        assertThat(buckets).containsExactly(
+                new HourlyBucket(DAY.plusHours(9), 1, 2000, 0, 0),
+                new HourlyBucket(DAY.plusHours(13), 2, 4000, 0, 0));
+    }
+
+    @Test
+    @DisplayName("같은 결제의 취소 이벤트가 한 배치에 여러 번 와도 환불은 한 번만 합산된다")
+    void refundBuckets_deduplicatesPayment() {
+        // given
+        List<PaymentEvent> events = List.of(
+                cancelled("p1", 1000, DAY.plusHours(10).plusMinutes(1)),
+                cancelled("p1", 1000, DAY.plusHours(10).plusMinutes(2)),
+                cancelled("p2", 500, null));
+
+        // when
+        List<HourlyBucket> buckets = HourlySettlementService.refundBuckets(events, DAY.plusHours(11).plusMinutes(30));
+
+        // then
+        assertThat(buckets).containsExactly(
+                new HourlyBucket(DAY.plusHours(10), 0, 0, 1, 1000),
+                new HourlyBucket(DAY.plusHours(11), 0, 0, 1, 500));
+    }
+
+    @Test
+    @DisplayName("이미 반영된 결제만 들어오면 버킷을 갱신하지 않는다")
+    void settleCompleted_skipsAlreadySettled() {
+        // given
+        when(settlementJdbcRepository.lockUnsettled(any())).thenReturn(List.of());
+
+        // when
+        int settled = service.settleCompleted(List.of("p1", "p2"));
+
+        // then
+        assertThat(settled).isZero();
+        verify(settlementJdbcRepository, never()).markSettled(any());
+        verify(settlementJdbcRepository, never()).addToBuckets(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("미반영 결제만 settled 로 표시하고 버킷에 누적한다")
+    void settleCompleted_marksAndAccumulates() {
+        // given
+        when(settlementJdbcRepository.lockUnsettled(any())).thenReturn(List.of(
+                new UnsettledPayment("p2", 2000, DAY.plusHours(9))));
+
+        // when
+        int settled = service.settleCompleted(List.of("p1", "p2"));
+
+        // then
+        assertThat(settled).isEqualTo(1);
+        verify(settlementJdbcRepository).markSettled(List.of("p2"));
+        verify(settlementJdbcRepository).addToBuckets(
+                eq(List.of(new HourlyBucket(DAY.plusHours(9), 1, 2000, 0, 0))), any());
+    }
+
+    @Test
+    @DisplayName("당일 매출은 24개 시간대로 채워지고 합계에서 환불을 뺀다")
+    void intraday_fillsEmptyHours() {
+        // given
+        when(settlementJdbcRepository.findBuckets(DAY, DAY.plusDays(1))).thenReturn(List.of(
+                new HourlyBucket(DAY.plusHours(1), 2, 3000, 0, 0),
+                new HourlyBucket(DAY.plusHours(20), 1, 1000, 1, 500)));
+
+        // when
+        IntradayRevenueResponse response = service.intraday(LocalDate.of(2026, 3, 1));
+
+        // then
+        assertThat(response.hours()).hasSize(24);
+        assertThat(response.hours().get(0).salesAmount()).isZero();
+        assertThat(response.hours().get(20).refundAmount()).isEqualTo(500);
+        assertThat(response.orderCount()).isEqualTo(3);
+        assertThat(response.salesAmount()).isEqualTo(4000);
+        assertThat(response.refundAmount()).isEqualTo(500);
+        assertThat(response.netSalesAmount()).isEqualTo(3500);
+    }
+}